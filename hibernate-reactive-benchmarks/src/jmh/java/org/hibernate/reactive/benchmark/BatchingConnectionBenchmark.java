@@ -0,0 +1,80 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The cost of queueing insert statements in a {@link BatchingConnection}
+ * and flushing them, for a flush of {@link #statements} inserts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchingConnectionBenchmark {
+
+	private static final String INSERT = "insert into Book (title, isbn, published, id) values ($1, $2, $3, $4)";
+	private static final String OTHER_INSERT = "insert into Author (name, id) values ($1, $2)";
+	private static final ReactiveConnection.Expectation EXPECTATION = (rowCount, batchPosition, sql) -> {
+		if ( rowCount != 1 ) {
+			throw new IllegalStateException( "Unexpected row count: " + rowCount );
+		}
+	};
+
+	@Param({ "0", "10", "50" })
+	int batchSize;
+
+	@Param({ "100" })
+	int statements;
+
+	private Object[][] parameters;
+
+	@Setup
+	public void setup() {
+		parameters = new Object[statements][];
+		for ( int i = 0; i < statements; i++ ) {
+			parameters[i] = new Object[] { "Title " + i, "ISBN-" + i, i, (long) i };
+		}
+	}
+
+	@Benchmark
+	public void sameStatement(Blackhole blackhole) {
+		final InMemoryConnection delegate = new InMemoryConnection();
+		final ReactiveConnection connection = new BatchingConnection( delegate, batchSize );
+		for ( Object[] params : parameters ) {
+			connection.update( INSERT, params, true, EXPECTATION ).toCompletableFuture().join();
+		}
+		connection.executeBatch().toCompletableFuture().join();
+		blackhole.consume( delegate.getExecutionCount() );
+	}
+
+	@Benchmark
+	public void alternatingStatements(Blackhole blackhole) {
+		// every other statement is different, so no batch
+		// ever has more than one element
+		final InMemoryConnection delegate = new InMemoryConnection();
+		final ReactiveConnection connection = new BatchingConnection( delegate, batchSize );
+		for ( int i = 0; i < parameters.length; i++ ) {
+			final String sql = i % 2 == 0 ? INSERT : OTHER_INSERT;
+			connection.update( sql, parameters[i], true, EXPECTATION ).toCompletableFuture().join();
+		}
+		connection.executeBatch().toCompletableFuture().join();
+		blackhole.consume( delegate.getExecutionCount() );
+	}
+}
@@ -0,0 +1,78 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.id.impl.BlockingIdentifierGenerator;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+
+/**
+ * The cost of generating an id with a {@link BlockingIdentifierGenerator},
+ * for a sequence or table generator with the given allocation size, when
+ * the next "hi" value is returned at once, rather than by the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BlockingIdentifierGeneratorBenchmark {
+
+	@Param({ "1", "50" })
+	int blockSize;
+
+	private BlockingIdentifierGenerator generator;
+
+	@Setup
+	public void setup() {
+		generator = new InMemoryGenerator( blockSize );
+	}
+
+	@Benchmark
+	public Long generate() {
+		return generator.generate( null, null ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Long generateContended() {
+		return generator.generate( null, null ).toCompletableFuture().join();
+	}
+
+	private static class InMemoryGenerator extends BlockingIdentifierGenerator {
+
+		private final int blockSize;
+		private long hi;
+
+		InMemoryGenerator(int blockSize) {
+			this.blockSize = blockSize;
+		}
+
+		@Override
+		protected int getBlockSize() {
+			return blockSize;
+		}
+
+		@Override
+		protected synchronized CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
+			final long next = hi;
+			hi += blockSize;
+			return completedFuture( next );
+		}
+	}
+}
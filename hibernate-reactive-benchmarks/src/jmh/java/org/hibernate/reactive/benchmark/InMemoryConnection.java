@@ -0,0 +1,212 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.common.RowMapper;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.testing.InMemoryRowSet;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A {@link ReactiveConnection} which doesn't talk to any database:
+ * every statement affects exactly one row, every query returns no
+ * rows, and every operation completes immediately. It only counts
+ * the statements, so that the benchmarks measure the cost of the
+ * code above the connection.
+ */
+public class InMemoryConnection implements ReactiveConnection {
+
+	private static final Result EMPTY_RESULT = new Result() {
+		@Override
+		public int size() {
+			return 0;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return false;
+		}
+
+		@Override
+		public Object[] next() {
+			throw new NoSuchElementException();
+		}
+	};
+
+	private long statements;
+	private long executions;
+
+	/**
+	 * @return the number of statements executed, counting each element
+	 *         of a batch
+	 */
+	public long getStatementCount() {
+		return statements;
+	}
+
+	/**
+	 * @return the number of round trips to the (absent) database
+	 */
+	public long getExecutionCount() {
+		return executions;
+	}
+
+	private CompletionStage<Integer> oneRow() {
+		statements++;
+		executions++;
+		return completedFuture( 1 );
+	}
+
+	private CompletionStage<int[]> oneRowEach(List<Object[]> paramValues) {
+		statements += paramValues.size();
+		executions++;
+		final int[] rowCounts = new int[paramValues.size()];
+		Arrays.fill( rowCounts, 1 );
+		return completedFuture( rowCounts );
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		statements++;
+		executions++;
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return execute( sql );
+	}
+
+	@Override
+	public CompletionStage<Void> executeUnprepared(String sql) {
+		return execute( sql );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return oneRow();
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return oneRow();
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		return oneRow().thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		return oneRowEach( paramValues );
+	}
+
+	@Override
+	public CompletionStage<Void> update(
+			String sql,
+			Object[] paramValues,
+			boolean allowBatching,
+			Expectation expectation,
+			ReturnedValues returnedValues) {
+		return update( sql, paramValues, allowBatching, expectation );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues, List<ReturnedValues> returnedValues) {
+		return oneRowEach( paramValues );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return select( sql, null );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		statements++;
+		executions++;
+		return completedFuture( EMPTY_RESULT );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		statements++;
+		executions++;
+		return completedFuture( new ResultSetAdaptor( new InMemoryRowSet( List.of(), List.of() ) ) );
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> select(String sql, Object[] paramValues, RowMapper<T> rowMapper) {
+		statements++;
+		executions++;
+		return completedFuture( List.of() );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
+		return selectJdbc( sql, paramValues );
+	}
+
+	@Override
+	public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] paramValues, Class<T> idClass, String idColumnName) {
+		statements++;
+		executions++;
+		return nullFuture();
+	}
+
+	@Override
+	public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
+		statements++;
+		executions++;
+		return nullFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return voidFuture();
+	}
+
+	@Override
+	public ReactiveConnection withBatchSize(int batchSize) {
+		return this;
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> cancel() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> close() {
+		return voidFuture();
+	}
+}
@@ -0,0 +1,98 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * The cost of {@code CompletionStages.loop()}, when the body returns
+ * stages which are already complete, which is the usual case when
+ * nothing needs to be fetched from the database, and when the body
+ * returns stages which are completed later, as if by the event loop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoopBenchmark {
+
+	@Param({ "10", "1000" })
+	int size;
+
+	private Integer[] array;
+	private List<Integer> list;
+
+	// the stages returned by the body, and not yet completed
+	private final Queue<CompletableFuture<Void>> pending = new ArrayDeque<>();
+
+	@Setup
+	public void setup() {
+		array = new Integer[size];
+		list = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			array[i] = i;
+			list.add( i );
+		}
+	}
+
+	@Benchmark
+	public void synchronousArray(Blackhole blackhole) {
+		loop( array, value -> {
+			blackhole.consume( value );
+			return voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public void synchronousList(Blackhole blackhole) {
+		loop( list, value -> {
+			blackhole.consume( value );
+			return voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public void synchronousRange(Blackhole blackhole) {
+		loop( 0, size, index -> {
+			blackhole.consume( index );
+			return voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public void asynchronousArray(Blackhole blackhole) {
+		final CompletionStage<Void> loop = loop( array, value -> {
+			blackhole.consume( value );
+			final CompletableFuture<Void> stage = new CompletableFuture<>();
+			pending.add( stage );
+			return stage;
+		} );
+		// completing a stage runs the next iteration, which adds a new stage
+		CompletableFuture<Void> stage;
+		while ( ( stage = pending.poll() ) != null ) {
+			stage.complete( null );
+		}
+		loop.toCompletableFuture().join();
+	}
+}
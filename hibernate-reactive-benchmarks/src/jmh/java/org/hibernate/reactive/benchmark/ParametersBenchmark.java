@@ -0,0 +1,64 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.pool.impl.PostgresParameters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The cost of converting the JDBC-style {@code ?} parameters in the
+ * SQL generated by Hibernate ORM to the {@code $n} parameters of
+ * PostgreSQL, which happens for every statement that isn't cached.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParametersBenchmark {
+
+	@Param({ "insert", "select", "quoted" })
+	String statement;
+
+	private String sql;
+
+	private final Parameters parameters = PostgresParameters.INSTANCE;
+
+	@Setup
+	public void setup() {
+		switch ( statement ) {
+			case "insert":
+				sql = "insert into Book (title, isbn, published, author_id, id) values (?, ?, ?, ?, ?)";
+				break;
+			case "select":
+				sql = "select book0_.id as id1_0_0_, book0_.title as title2_0_0_, book0_.isbn as isbn3_0_0_,"
+						+ " book0_.published as publishe4_0_0_, author1_.id as id1_1_1_, author1_.name as name2_1_1_"
+						+ " from Book book0_ left outer join Author author1_ on book0_.author_id=author1_.id"
+						+ " where book0_.published between ? and ? and (book0_.title like ? or book0_.isbn in (?, ?, ?, ?, ?))"
+						+ " order by book0_.title limit ? offset ?";
+				break;
+			case "quoted":
+				sql = "update Book set title = ?, notes = 'what? why? ''really?''' where id = ? and \"weird?name\" = ?";
+				break;
+			default:
+				throw new IllegalArgumentException( statement );
+		}
+	}
+
+	@Benchmark
+	public String process() {
+		return parameters.process( sql );
+	}
+}
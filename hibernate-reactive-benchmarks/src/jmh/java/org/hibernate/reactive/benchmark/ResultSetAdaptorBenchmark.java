@@ -0,0 +1,99 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.testing.InMemoryRowSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.vertx.sqlclient.Row;
+
+/**
+ * The cost of reading a result set through a {@link ResultSetAdaptor},
+ * the way Hibernate ORM does: by column label, for every column of
+ * every row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResultSetAdaptorBenchmark {
+
+	@Param({ "1", "100" })
+	int rows;
+
+	@Param({ "5", "30" })
+	int columns;
+
+	private List<String> columnNames;
+	private InMemoryRowSet rowSet;
+
+	@Setup
+	public void setup() {
+		columnNames = new ArrayList<>( columns );
+		// the column aliases generated by Hibernate ORM look like this
+		columnNames.add( "id1_0_0_" );
+		for ( int i = 1; i < columns; i++ ) {
+			columnNames.add( "column" + i + "_0_0_" );
+		}
+		final List<Row> rowList = new ArrayList<>( rows );
+		for ( int r = 0; r < rows; r++ ) {
+			final Object[] values = new Object[columns];
+			values[0] = (long) r;
+			for ( int c = 1; c < columns; c++ ) {
+				switch ( c % 3 ) {
+					case 0:
+						values[c] = "value " + r + "," + c;
+						break;
+					case 1:
+						values[c] = c * r;
+						break;
+					default:
+						values[c] = c % 2 == 0 ? null : LocalDate.ofEpochDay( r );
+				}
+			}
+			rowList.add( InMemoryRowSet.row( columnNames, values ) );
+		}
+		rowSet = new InMemoryRowSet( columnNames, rowList );
+	}
+
+	@Benchmark
+	public void readByLabel(Blackhole blackhole) throws SQLException {
+		final ResultSet resultSet = new ResultSetAdaptor( rowSet );
+		while ( resultSet.next() ) {
+			blackhole.consume( resultSet.getLong( columnNames.get( 0 ) ) );
+			for ( int c = 1; c < columns; c++ ) {
+				final String label = columnNames.get( c );
+				switch ( c % 3 ) {
+					case 0:
+						blackhole.consume( resultSet.getString( label ) );
+						break;
+					case 1:
+						blackhole.consume( resultSet.getInt( label ) );
+						break;
+					default:
+						blackhole.consume( resultSet.getDate( label ) );
+				}
+			}
+			blackhole.consume( resultSet.wasNull() );
+		}
+	}
+}
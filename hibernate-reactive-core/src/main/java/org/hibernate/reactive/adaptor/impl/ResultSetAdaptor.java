@@ -37,7 +37,10 @@
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * An adaptor that allows Hibenate core code which expects a JDBC
@@ -50,6 +53,11 @@ public class ResultSetAdaptor implements ResultSet {
 	private Row row;
 	private boolean wasNull;
 
+	// Hibernate reads every value by column label, and a lookup by label
+	// in a Row is a linear search of the column names, so we compute the
+	// position of each column just once for the whole result set
+	private Map<String, Integer> columnIndexes;
+
 	public ResultSetAdaptor(RowSet<Row> rows) {
 		this.iterator = rows.iterator();
 		this.rows = rows;
@@ -67,6 +75,33 @@ public boolean next() {
 	@Override
 	public void close() {}
 
+	private Map<String, Integer> columnIndexes() {
+		if ( columnIndexes == null ) {
+			final List<String> names = rows.columnsNames();
+			columnIndexes = new HashMap<>( names.size() * 4 / 3 + 1 );
+			for ( int i = 0; i < names.size(); i++ ) {
+				// the first column with a given label wins, as in JDBC
+				columnIndexes.putIfAbsent( names.get( i ), i );
+			}
+		}
+		return columnIndexes;
+	}
+
+	private int columnIndex(String columnLabel) {
+		final Integer index = columnIndexes().get( columnLabel );
+		if ( index != null ) {
+			return index;
+		}
+		// not an exact match: the driver might have its own rules
+		// for matching labels, for example, ignoring the case
+		final int position = row.getColumnIndex( columnLabel );
+		if ( position == -1 ) {
+			throw new NoSuchElementException( "Column " + columnLabel + " does not exist" );
+		}
+		columnIndexes.put( columnLabel, position );
+		return position;
+	}
+
 	@Override
 	public boolean wasNull() {
 		return wasNull;
@@ -180,14 +215,14 @@ public InputStream getBinaryStream(int columnIndex) {
 
 	@Override
 	public String getString(String columnLabel) {
-		String string = row.getString(columnLabel);
+		String string = row.getString( columnIndex( columnLabel ) );
 		return (wasNull=string==null) ? null : string;
 	}
 
 	@Override
 	public boolean getBoolean(String columnLabel) {
 		try {
-			Boolean bool = row.getBoolean( columnLabel );
+			Boolean bool = row.getBoolean( columnIndex( columnLabel ) );
 			wasNull = bool == null;
 			return !wasNull && bool;
 		}
@@ -207,42 +242,42 @@ public boolean getBoolean(String columnLabel) {
 
 	@Override
 	public byte getByte(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		Integer integer = row.getInteger( columnIndex( columnLabel ) );
 		wasNull = integer == null;
 		return wasNull ? 0 : integer.byteValue();
 	}
 
 	@Override
 	public short getShort(String columnLabel) {
-		Short aShort = row.getShort( columnLabel );
+		Short aShort = row.getShort( columnIndex( columnLabel ) );
 		wasNull = aShort == null;
 		return wasNull ? 0 : aShort;
 	}
 
 	@Override
 	public int getInt(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		Integer integer = row.getInteger( columnIndex( columnLabel ) );
 		wasNull = integer == null;
 		return wasNull ? 0 : integer;
 	}
 
 	@Override
 	public long getLong(String columnLabel) {
-		Long aLong = row.getLong(columnLabel);
+		Long aLong = row.getLong( columnIndex( columnLabel ) );
 		wasNull = aLong == null;
 		return wasNull ? 0 : aLong;
 	}
 
 	@Override
 	public float getFloat(String columnLabel) {
-		Float real = row.getFloat( columnLabel );
+		Float real = row.getFloat( columnIndex( columnLabel ) );
 		wasNull = real == null;
 		return wasNull ? 0 : real;
 	}
 
 	@Override
 	public double getDouble(String columnLabel) {
-		Double real = row.getDouble( columnLabel );
+		Double real = row.getDouble( columnIndex( columnLabel ) );
 		wasNull = real == null;
 		return wasNull ? 0 : real;
 	}
@@ -254,38 +289,38 @@ public BigDecimal getBigDecimal(String columnLabel, int scale) {
 
 	@Override
 	public byte[] getBytes(String columnLabel) {
-		Buffer buffer = row.getBuffer( columnLabel );
+		Buffer buffer = row.getBuffer( columnIndex( columnLabel ) );
 		wasNull = buffer == null;
 		return wasNull ? null : buffer.getBytes();
 	}
 
 	@Override
 	public Date getDate(String columnLabel) {
-		LocalDate localDate = row.getLocalDate(columnLabel);
+		LocalDate localDate = row.getLocalDate( columnIndex( columnLabel ) );
 		return (wasNull=localDate==null) ? null : Date.valueOf(localDate);
 	}
 
 	@Override
 	public Time getTime(String columnLabel) {
-		LocalTime localTime = row.getLocalTime(columnLabel);
+		LocalTime localTime = row.getLocalTime( columnIndex( columnLabel ) );
 		return (wasNull=localTime==null) ? null : Time.valueOf(localTime);
 	}
 
 	@Override
 	public Time getTime(String columnLabel, Calendar cal) {
-		LocalTime localTime = row.getLocalTime( columnLabel );
+		LocalTime localTime = row.getLocalTime( columnIndex( columnLabel ) );
 		return ( wasNull = localTime == null ) ? null : Time.valueOf( localTime );
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel) {
-		Object rawValue = row.getValue(columnLabel);
+		Object rawValue = row.getValue( columnIndex( columnLabel ) );
 		return (wasNull=rawValue==null) ? null : Timestamp.valueOf( toLocalDateTime(rawValue) );
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel, Calendar cal) {
-		Object rawValue = row.getValue(columnLabel);
+		Object rawValue = row.getValue( columnIndex( columnLabel ) );
 		return (wasNull=rawValue==null) ? null : Timestamp.from( toOffsetDateTime(rawValue, cal).toInstant() );
 	}
 
@@ -331,7 +366,7 @@ public <T> T getObject(int columnIndex, Class<T> type) {
 
 	@Override
 	public <T> T getObject(String columnLabel, Class<T> type) {
-		T object = row.get( type, row.getColumnIndex(columnLabel) );
+		T object = row.get( type, columnIndex( columnLabel ) );
 		return (wasNull=object==null) ? null : object;
 	}
 
@@ -489,14 +524,14 @@ public Object getObject(int columnIndex) {
 
 	@Override
 	public Object getObject(String columnLabel) {
-		Object object = row.getValue( columnLabel );
+		Object object = row.getValue( columnIndex( columnLabel ) );
 		return (wasNull=object==null) ? null : object;
 	}
 
 	@Override
 	public int findColumn(String columnLabel) {
-		return rows.columnsNames().indexOf(columnLabel)+1;
-//		return row.getColumnIndex( columnLabel );
+		final Integer index = columnIndexes().get( columnLabel );
+		return index == null ? 0 : index + 1;
 	}
 
 	@Override
@@ -507,7 +542,7 @@ public BigDecimal getBigDecimal(int columnIndex) {
 
 	@Override
 	public BigDecimal getBigDecimal(String columnLabel) {
-		BigDecimal decimal = row.getBigDecimal(columnLabel);
+		BigDecimal decimal = row.getBigDecimal( columnIndex( columnLabel ) );
 		return (wasNull=decimal==null) ? null : decimal;
 	}
 
@@ -714,7 +749,7 @@ public Ref getRef(String columnLabel) {
 
 	@Override
 	public Blob getBlob(String columnLabel) {
-		final Object value = row.getValue( columnLabel );
+		final Object value = row.getValue( columnIndex( columnLabel ) );
 		wasNull = value == null;
 		if ( wasNull ) {
 			return null;
@@ -727,7 +762,7 @@ public Blob getBlob(String columnLabel) {
 			return BlobProxy.generateProxy( (byte[]) value );
 		}
 
-		return BlobProxy.generateProxy( row.getBuffer( columnLabel ).getBytes() );
+		return BlobProxy.generateProxy( row.getBuffer( columnIndex( columnLabel ) ).getBytes() );
 	}
 
 	@Override
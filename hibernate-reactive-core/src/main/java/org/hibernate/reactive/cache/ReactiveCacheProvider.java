@@ -0,0 +1,41 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import org.hibernate.Incubating;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.service.Service;
+
+/**
+ * A Hibernate {@link Service} that provides the
+ * {@link ReactiveCacheRegion regions} of the second-level cache when
+ * the {@link org.hibernate.reactive.cache.impl.ReactiveRegionFactory}
+ * is enabled by setting {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_FACTORY}.
+ * <p>
+ * By default, the regions hold their data in process. A custom
+ * implementation of {@link ReactiveCacheProvider}, for example, one
+ * backed by a remote cache, may be selected by setting the configuration
+ * property {@link org.hibernate.reactive.provider.Settings#CACHE_PROVIDER},
+ * or by calling {@link ReactiveServiceRegistryBuilder#addService}.
+ *
+ * <pre>
+ * new ReactiveServiceRegistryBuilder()
+ *     .applySettings( properties )
+ *     .addService( ReactiveCacheProvider.class, new MyReactiveCacheProvider() )
+ *     .build();
+ * </pre>
+ *
+ * @see org.hibernate.reactive.cache.impl.InProcessCacheProvider
+ */
+@Incubating
+public interface ReactiveCacheProvider extends Service {
+
+	/**
+	 * Create the region with the given name. This is called once for
+	 * each region used by the session factory.
+	 */
+	ReactiveCacheRegion buildRegion(String regionName);
+}
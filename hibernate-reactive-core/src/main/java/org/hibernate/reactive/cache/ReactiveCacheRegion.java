@@ -0,0 +1,63 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.Incubating;
+
+/**
+ * A region of a second-level cache whose operations don't block the
+ * caller, but return their results via a {@link CompletionStage}.
+ * <p>
+ * A region holding its data in process should return completed stages.
+ * A region backed by a remote cache must complete its stages on the
+ * Vert.x context of the caller, since the reactive session resumes
+ * its work from the completion of the stage.
+ * <p>
+ * The keys and values are the objects created by Hibernate's own
+ * cache access strategies, which are {@link java.io.Serializable}.
+ *
+ * @see ReactiveCacheProvider
+ */
+@Incubating
+public interface ReactiveCacheRegion {
+
+	/**
+	 * @return the name of the region
+	 */
+	String getName();
+
+	/**
+	 * Obtain the value cached for the given key.
+	 *
+	 * @return the value, or {@code null} if nothing is cached for the key
+	 */
+	CompletionStage<Object> get(Object key);
+
+	/**
+	 * Cache the given value for the given key, replacing the value
+	 * previously cached for the key, if any.
+	 */
+	CompletionStage<Void> put(Object key, Object value);
+
+	/**
+	 * Remove the value cached for the given key, if any.
+	 */
+	CompletionStage<Void> evict(Object key);
+
+	/**
+	 * Remove every value cached in the region.
+	 */
+	CompletionStage<Void> evictAll();
+
+	/**
+	 * Release the resources held by the region, when the session
+	 * factory is closed.
+	 */
+	default void release() {
+	}
+}
@@ -0,0 +1,163 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+
+/**
+ * Obtains entries from the regions of the {@link ReactiveRegionFactory}
+ * without blocking, before the reactive session calls code in Hibernate
+ * ORM which reads the same entries synchronously. For example:
+ * <pre>
+ * CachePrefetch.entity( session, persister, id )
+ *     .then( () -> CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, key ) )
+ * </pre>
+ * When the second-level cache isn't provided by the
+ * {@code ReactiveRegionFactory}, nothing is prefetched, and the work
+ * is done immediately.
+ */
+public final class CachePrefetch {
+
+	private static final CachePrefetch NONE = new CachePrefetch( null );
+
+	private final ReactiveRegionFactory regionFactory;
+	private final List<ReactiveStorageAccess> storageAccesses = new ArrayList<>( 1 );
+	private final List<Object> keys = new ArrayList<>( 1 );
+
+	private CachePrefetch(ReactiveRegionFactory regionFactory) {
+		this.regionFactory = regionFactory;
+	}
+
+	private static CachePrefetch of(SharedSessionContractImplementor session) {
+		final RegionFactory regionFactory = session.getFactory().getCache().getRegionFactory();
+		return regionFactory instanceof ReactiveRegionFactory && session.getCacheMode().isGetEnabled()
+				? new CachePrefetch( (ReactiveRegionFactory) regionFactory )
+				: NONE;
+	}
+
+	/**
+	 * Prefetch the cached state of an entity.
+	 */
+	public static CachePrefetch entity(SharedSessionContractImplementor session, EntityPersister persister, Serializable id) {
+		final CachePrefetch prefetch = of( session );
+		if ( prefetch != NONE && persister.canReadFromCache() ) {
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final SessionFactoryImplementor factory = session.getFactory();
+			prefetch.add(
+					cache.getRegion().getName(),
+					cache.generateCacheKey( id, persister, factory, session.getTenantIdentifier() )
+			);
+		}
+		return prefetch;
+	}
+
+	/**
+	 * Prefetch the cached state of a collection.
+	 */
+	public static CachePrefetch collection(SharedSessionContractImplementor session, CollectionPersister persister, Serializable key) {
+		final CachePrefetch prefetch = of( session );
+		if ( prefetch != NONE && persister.hasCache() ) {
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			final SessionFactoryImplementor factory = session.getFactory();
+			prefetch.add(
+					cache.getRegion().getName(),
+					cache.generateCacheKey( key, persister, factory, session.getTenantIdentifier() )
+			);
+		}
+		return prefetch;
+	}
+
+	/**
+	 * Prefetch the cached resolution of a natural id.
+	 */
+	public static CachePrefetch naturalId(SharedSessionContractImplementor session, EntityPersister persister, Object[] naturalIdValues) {
+		final CachePrefetch prefetch = of( session );
+		if ( prefetch != NONE && persister.hasNaturalIdCache() ) {
+			final NaturalIdDataAccess cache = persister.getNaturalIdCacheAccessStrategy();
+			prefetch.add(
+					cache.getRegion().getName(),
+					cache.generateCacheKey( naturalIdValues, persister, session )
+			);
+		}
+		return prefetch;
+	}
+
+	/**
+	 * Prefetch the cached results of a query, along with the timestamps
+	 * of the last updates to the query spaces.
+	 */
+	public static CachePrefetch queryResults(
+			SharedSessionContractImplementor session,
+			QueryResultsCache queryCache,
+			QueryKey key,
+			Set<Serializable> querySpaces) {
+		final CachePrefetch prefetch = of( session );
+		if ( prefetch != NONE ) {
+			prefetch.add( queryCache.getRegion().getName(), key );
+			final String timestampsRegionName = session.getFactory().getCache()
+					.getTimestampsCache().getRegion().getName();
+			for ( Serializable space : querySpaces ) {
+				prefetch.add( timestampsRegionName, space );
+			}
+		}
+		return prefetch;
+	}
+
+	private void add(String regionName, Object key) {
+		final ReactiveStorageAccess storageAccess = regionFactory.getStorageAccess( regionName );
+		if ( storageAccess != null ) {
+			storageAccesses.add( storageAccess );
+			keys.add( key );
+		}
+	}
+
+	/**
+	 * Do the given work once the entries have been fetched, with the
+	 * entries visible to the synchronous reads of the work.
+	 */
+	public <T> CompletionStage<T> then(Supplier<T> work) {
+		if ( keys.isEmpty() ) {
+			return completedFuture( work.get() );
+		}
+		final CompletableFuture<?>[] values = new CompletableFuture<?>[keys.size()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = storageAccesses.get( i ).fetch( keys.get( i ) );
+		}
+		// if every region is in process, this all happens right now
+		return CompletableFuture.allOf( values ).thenApply( v -> {
+			for ( int i = 0; i < values.length; i++ ) {
+				storageAccesses.get( i ).setPrefetched( keys.get( i ), values[i].join() );
+			}
+			try {
+				return work.get();
+			}
+			finally {
+				for ( ReactiveStorageAccess storageAccess : storageAccesses ) {
+					storageAccess.clearPrefetched();
+				}
+			}
+		} );
+	}
+}
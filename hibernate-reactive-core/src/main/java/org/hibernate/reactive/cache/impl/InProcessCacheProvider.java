@@ -0,0 +1,43 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.cache.ReactiveCacheProvider;
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.Configurable;
+
+/**
+ * The default {@link ReactiveCacheProvider}, which holds the data of
+ * each region in process, in an {@link InProcessCacheRegion}.
+ *
+ * @see Settings#CACHE_MAX_ENTRIES
+ * @see Settings#CACHE_TIME_TO_LIVE
+ */
+public class InProcessCacheProvider implements ReactiveCacheProvider, Configurable {
+
+	/**
+	 * The default maximum number of entries in each region
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private int maxEntries = DEFAULT_MAX_ENTRIES;
+	private long timeToLive;
+
+	@Override
+	public void configure(Map configuration) {
+		maxEntries = ConfigurationHelper.getInt( Settings.CACHE_MAX_ENTRIES, configuration, DEFAULT_MAX_ENTRIES );
+		timeToLive = ConfigurationHelper.getLong( Settings.CACHE_TIME_TO_LIVE, configuration, 0 );
+	}
+
+	@Override
+	public ReactiveCacheRegion buildRegion(String regionName) {
+		return new InProcessCacheRegion( regionName, maxEntries, timeToLive );
+	}
+}
@@ -0,0 +1,158 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A {@link ReactiveCacheRegion} which holds its data in process, and
+ * so always returns completed stages.
+ * <p>
+ * The entries are split between a number of segments, each guarded
+ * by its own lock, so that sessions on different event loops rarely
+ * contend. Each segment evicts its least recently used entry when
+ * it's full, and an entry expires after the time to live, if any.
+ */
+public class InProcessCacheRegion implements ReactiveCacheRegion {
+
+	private static final int SEGMENTS = 16;
+
+	private final String name;
+	private final long timeToLiveNanos;
+	private final Segment[] segments = new Segment[SEGMENTS];
+
+	/**
+	 * @param name the name of the region
+	 * @param maxEntries the maximum number of entries in the region
+	 * @param timeToLiveMillis the time after which an entry expires,
+	 *                         or zero if entries never expire
+	 */
+	public InProcessCacheRegion(String name, int maxEntries, long timeToLiveMillis) {
+		this.name = name;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLiveMillis );
+		final int maxSegmentEntries = Math.max( 1, maxEntries / SEGMENTS );
+		for ( int i = 0; i < SEGMENTS; i++ ) {
+			segments[i] = new Segment( maxSegmentEntries );
+		}
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public CompletionStage<Object> get(Object key) {
+		final Segment segment = segment( key );
+		synchronized ( segment ) {
+			final Entry entry = segment.get( key );
+			if ( entry == null ) {
+				return nullFuture();
+			}
+			if ( entry.isExpired( System.nanoTime() ) ) {
+				segment.remove( key );
+				return nullFuture();
+			}
+			return completedFuture( entry.value );
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> put(Object key, Object value) {
+		final long expiry = timeToLiveNanos > 0 ? System.nanoTime() + timeToLiveNanos : 0;
+		final Segment segment = segment( key );
+		synchronized ( segment ) {
+			segment.put( key, new Entry( value, expiry ) );
+		}
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> evict(Object key) {
+		final Segment segment = segment( key );
+		synchronized ( segment ) {
+			segment.remove( key );
+		}
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> evictAll() {
+		for ( Segment segment : segments ) {
+			synchronized ( segment ) {
+				segment.clear();
+			}
+		}
+		return voidFuture();
+	}
+
+	@Override
+	public void release() {
+		evictAll();
+	}
+
+	/**
+	 * @return the number of entries in the region, including any which
+	 *         have expired but haven't been removed yet
+	 */
+	public int size() {
+		int size = 0;
+		for ( Segment segment : segments ) {
+			synchronized ( segment ) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	private Segment segment(Object key) {
+		final int hash = key.hashCode();
+		// spread the high bits, since the low bits of the hash codes of
+		// the cache keys are often similar
+		return segments[( hash ^ ( hash >>> 16 ) ) & ( SEGMENTS - 1 )];
+	}
+
+	private static final class Entry {
+		final Object value;
+		final long expiry;
+
+		Entry(Object value, long expiry) {
+			this.value = value;
+			this.expiry = expiry;
+		}
+
+		boolean isExpired(long now) {
+			return expiry != 0 && now - expiry >= 0;
+		}
+	}
+
+	/**
+	 * A map in access order, which removes its least recently used
+	 * entry when it's full.
+	 */
+	private static final class Segment extends LinkedHashMap<Object, Entry> {
+		private final int maxEntries;
+
+		Segment(int maxEntries) {
+			super( 16, 0.75f, true );
+			this.maxEntries = maxEntries;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+			return size() > maxEntries;
+		}
+	}
+}
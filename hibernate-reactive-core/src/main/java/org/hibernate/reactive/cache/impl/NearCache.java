@@ -0,0 +1,304 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.service.Service;
+import org.hibernate.tuple.entity.EntityMetamodel;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+
+/**
+ * A cache of {@code @Immutable} entity instances, shared by the sessions
+ * of a session factory, and split into one shard per Vert.x event loop.
+ * Each shard is only ever accessed from the event loop that owns it, so
+ * reads and writes don't need any locking. An instance found in the cache
+ * is added to the persistence context as read-only, without any access to
+ * the database or to the second-level cache.
+ * <p>
+ * Since the instances are shared, only entities whose state can't change
+ * are cached: immutable entities with no associations, no inheritance
+ * hierarchy, and no bytecode enhancement. The entity classes themselves
+ * must not be modified by the program.
+ * <p>
+ * Each shard holds at most {@code maxEntries / eventLoops} instances, and
+ * evicts the least recently used instance when it's full. The cached
+ * instances of an entity are invalidated, in every shard, whenever an
+ * instance is deleted, or an HQL or native {@code update} or {@code delete}
+ * affects its table.
+ *
+ * @see org.hibernate.reactive.provider.Settings#NEAR_CACHE_MAX_ENTRIES
+ */
+public class NearCache implements Service {
+
+	/**
+	 * A near cache which never caches anything
+	 */
+	public static final NearCache DISABLED = new NearCache( 0 );
+
+	private final int maxEntries;
+
+	// The state of each entity type, by root entity name, which tells us
+	// if the entity may be cached and if the cached instances are stale
+	private final ConcurrentHashMap<String, EntityState> entityStates = new ConcurrentHashMap<>();
+
+	// Never modified after creation, so reads don't need any locking
+	private volatile Map<EventExecutor, Shard> shardsByEventLoop;
+
+	/**
+	 * @param maxEntries the maximum number of instances cached, zero disables
+	 *                   the cache
+	 */
+	public NearCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+	}
+
+	public boolean isEnabled() {
+		return maxEntries > 0;
+	}
+
+	/**
+	 * @return the generation of the cached instances of the entity, which must
+	 *         be obtained <em>before</em> an instance is loaded, and passed to
+	 *         {@link #put(LoadEvent, EntityPersister, EntityKey, Object, long)},
+	 *         or -1 if the instances of the entity aren't cached
+	 */
+	public long generation(LoadEvent event, EntityPersister persister) {
+		if ( !isEnabled() || !isCacheable( event ) ) {
+			return -1;
+		}
+		final EntityState state = entityState( persister );
+		return state.cacheable ? state.generation.get() : -1;
+	}
+
+	/**
+	 * Look for the entity in the shard of the current event loop, and if it's
+	 * found, add it to the persistence context as a read-only instance.
+	 *
+	 * @return the entity, or {@code null} if it isn't cached
+	 */
+	public Object get(LoadEvent event, EntityPersister persister, EntityKey key) {
+		final long generation = generation( event, persister );
+		if ( generation < 0 || !event.getSession().getCacheMode().isGetEnabled() ) {
+			return null;
+		}
+		final Shard shard = localShard();
+		if ( shard == null ) {
+			return null;
+		}
+		final Entry entry = shard.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		if ( entry.generation != generation ) {
+			// the instances of the entity were invalidated since it was cached
+			shard.remove( key );
+			return null;
+		}
+		addToPersistenceContext( event.getSession(), persister, key, entry.entity );
+		return entry.entity;
+	}
+
+	/**
+	 * Add an entity, which was loaded from the second-level cache or from the
+	 * database, to the shard of the current event loop.
+	 *
+	 * @param generation the value returned by {@link #generation(LoadEvent, EntityPersister)}
+	 *                   before the entity was loaded
+	 */
+	public void put(LoadEvent event, EntityPersister persister, EntityKey key, Object entity, long generation) {
+		if ( generation >= 0
+				&& entity != null
+				&& !( entity instanceof HibernateProxy )
+				&& !( entity instanceof ManagedEntity )
+				&& event.getSession().getCacheMode().isPutEnabled() ) {
+			final Shard shard = localShard();
+			if ( shard != null ) {
+				shard.put( key, new Entry( entity, generation ) );
+			}
+		}
+	}
+
+	/**
+	 * Invalidate the cached instances of the given entity, in every shard.
+	 */
+	public void invalidate(EntityPersister persister) {
+		if ( isEnabled() ) {
+			final EntityState state = entityStates.get( persister.getRootEntityName() );
+			if ( state != null ) {
+				state.generation.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Invalidate the cached instances of every entity mapped to one of the
+	 * given tables, in every shard.
+	 */
+	public void invalidate(Serializable[] spaces) {
+		if ( isEnabled() ) {
+			for ( EntityState state : entityStates.values() ) {
+				if ( state.cacheable && state.isMappedTo( spaces ) ) {
+					state.generation.incrementAndGet();
+				}
+			}
+		}
+	}
+
+	private static boolean isCacheable(LoadEvent event) {
+		final SharedSessionContractImplementor session = event.getSession();
+		return event.getInstanceToLoad() == null
+				&& !event.getLockMode().greaterThan( LockMode.READ )
+				// the same identifier may refer to a different row in another tenant
+				&& session.getTenantIdentifier() == null;
+	}
+
+	private EntityState entityState(EntityPersister persister) {
+		final EntityState state = entityStates.get( persister.getRootEntityName() );
+		return state == null
+				? entityStates.computeIfAbsent( persister.getRootEntityName(), name -> new EntityState( persister ) )
+				: state;
+	}
+
+	private static void addToPersistenceContext(
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			EntityKey key,
+			Object entity) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		persistenceContext.addEntity(
+				entity,
+				Status.READ_ONLY,
+				persister.getPropertyValues( entity ),
+				key,
+				persister.getVersion( entity ),
+				LockMode.NONE,
+				true,
+				persister,
+				false
+		);
+	}
+
+	private Shard localShard() {
+		final Context context = Vertx.currentContext();
+		if ( context == null || !Context.isOnEventLoopThread() ) {
+			return null;
+		}
+		Map<EventExecutor, Shard> shards = shardsByEventLoop;
+		if ( shards == null ) {
+			shards = createShards( context.owner() );
+		}
+		return shards.get( ( (ContextInternal) context ).nettyEventLoop() );
+	}
+
+	private synchronized Map<EventExecutor, Shard> createShards(Vertx vertx) {
+		if ( shardsByEventLoop == null ) {
+			final List<EventExecutor> eventLoops = new ArrayList<>();
+			for ( EventExecutor eventLoop : ( (VertxInternal) vertx ).getEventLoopGroup() ) {
+				eventLoops.add( eventLoop );
+			}
+			final int shardSize = Math.max( 1, maxEntries / eventLoops.size() );
+			final Map<EventExecutor, Shard> shards = new IdentityHashMap<>( eventLoops.size() );
+			for ( EventExecutor eventLoop : eventLoops ) {
+				shards.put( eventLoop, new Shard( shardSize ) );
+			}
+			shardsByEventLoop = Collections.unmodifiableMap( shards );
+		}
+		return shardsByEventLoop;
+	}
+
+	private static final class EntityState {
+		private final boolean cacheable;
+		private final Serializable[] spaces;
+		private final AtomicLong generation = new AtomicLong();
+
+		private EntityState(EntityPersister persister) {
+			this.cacheable = isShareable( persister );
+			this.spaces = persister.getQuerySpaces();
+		}
+
+		private boolean isMappedTo(Serializable[] tables) {
+			for ( Serializable table : tables ) {
+				for ( Serializable space : spaces ) {
+					if ( space.equals( table ) ) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		private static boolean isShareable(EntityPersister persister) {
+			final EntityMetamodel metamodel = persister.getEntityMetamodel();
+			return !metamodel.isMutable()
+					&& !metamodel.isInherited()
+					&& !metamodel.hasSubclasses()
+					&& !metamodel.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading()
+					&& !hasAssociations( persister.getPropertyTypes() );
+		}
+
+		private static boolean hasAssociations(Type[] types) {
+			for ( Type type : types ) {
+				if ( type.isAssociationType()
+						|| type.isComponentType() && hasAssociations( ( (CompositeType) type ).getSubtypes() ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final class Entry {
+		private final Object entity;
+		private final long generation;
+
+		private Entry(Object entity, long generation) {
+			this.entity = entity;
+			this.generation = generation;
+		}
+	}
+
+	/**
+	 * The instances cached for one event loop, in access order
+	 */
+	private static final class Shard extends LinkedHashMap<EntityKey, Entry> {
+		private final int maxSize;
+
+		private Shard(int maxSize) {
+			super( 16, 0.75f, true );
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<EntityKey, Entry> eldest) {
+			return size() > maxSize;
+		}
+	}
+}
@@ -0,0 +1,34 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} for
+ * the {@link NearCache}, which is disabled unless
+ * {@link Settings#NEAR_CACHE_MAX_ENTRIES} is set.
+ */
+public class NearCacheInitiator implements StandardServiceInitiator<NearCache> {
+
+	public static final NearCacheInitiator INSTANCE = new NearCacheInitiator();
+
+	@Override
+	public NearCache initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		final int maxEntries = ConfigurationHelper.getInt( Settings.NEAR_CACHE_MAX_ENTRIES, configurationValues, 0 );
+		return maxEntries > 0 ? new NearCache( maxEntries ) : NearCache.DISABLED;
+	}
+
+	@Override
+	public Class<NearCache> getServiceInitiated() {
+		return NearCache.class;
+	}
+}
@@ -0,0 +1,68 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.reactive.cache.ReactiveCacheProvider;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceException;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} for
+ * {@link ReactiveCacheProvider}. A custom implementation of the service
+ * may be specified via {@link Settings#CACHE_PROVIDER}.
+ *
+ * @see InProcessCacheProvider the default implementation
+ */
+public class ReactiveCacheProviderInitiator implements StandardServiceInitiator<ReactiveCacheProvider> {
+
+	public static final ReactiveCacheProviderInitiator INSTANCE = new ReactiveCacheProviderInitiator();
+
+	@Override
+	public ReactiveCacheProvider initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		final Object configValue = configurationValues.get( Settings.CACHE_PROVIDER );
+		if ( configValue == null ) {
+			return new InProcessCacheProvider();
+		}
+
+		if ( configValue instanceof ReactiveCacheProvider ) {
+			return (ReactiveCacheProvider) configValue;
+		}
+		else {
+			final Class<ReactiveCacheProvider> implClass;
+			if ( configValue instanceof Class ) {
+				implClass = (Class) configValue;
+			}
+			else {
+				final String className = configValue.toString();
+				final ClassLoaderService classLoaderService = registry.getService( ClassLoaderService.class );
+				try {
+					implClass = classLoaderService.classForName( className );
+				}
+				catch (ClassLoadingException cle) {
+					throw new ServiceException( "Unable to locate specified reactive cache provider [" + className + "]" );
+				}
+			}
+
+			try {
+				return implClass.newInstance();
+			}
+			catch (Exception e) {
+				throw new ServiceException( "Unable to instantiate specified reactive cache provider [" + implClass.getName() + "]" );
+			}
+		}
+	}
+
+	@Override
+	public Class<ReactiveCacheProvider> getServiceInitiated() {
+		return ReactiveCacheProvider.class;
+	}
+}
@@ -0,0 +1,81 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.cache.ReactiveCacheProvider;
+
+/**
+ * A Hibernate ORM {@link org.hibernate.cache.spi.RegionFactory} whose
+ * regions are obtained from the {@link ReactiveCacheProvider} service,
+ * and accessed without blocking. It's enabled by setting:
+ * <pre>
+ * hibernate.cache.region.factory_class=org.hibernate.reactive.cache.impl.ReactiveRegionFactory
+ * </pre>
+ * Entities, collections, natural ids, and query results are cached
+ * using the usual {@code @Cache} annotations and cache settings.
+ *
+ * @see ReactiveStorageAccess
+ * @see CachePrefetch
+ */
+public class ReactiveRegionFactory extends RegionFactoryTemplate {
+
+	private final Map<String, ReactiveStorageAccess> storageAccesses = new ConcurrentHashMap<>();
+	private volatile ReactiveCacheProvider provider;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		provider = settings.getServiceRegistry().getService( ReactiveCacheProvider.class );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		storageAccesses.values().forEach( ReactiveStorageAccess::release );
+		storageAccesses.clear();
+		provider = null;
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return storageAccess( regionConfig.getRegionName() );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+		return storageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+		return storageAccess( regionName );
+	}
+
+	private ReactiveStorageAccess storageAccess(String regionName) {
+		return storageAccesses.computeIfAbsent(
+				regionName,
+				name -> new ReactiveStorageAccess( provider.buildRegion( name ) )
+		);
+	}
+
+	/**
+	 * @return the storage of the region with the given name, or
+	 *         {@code null} if there's no such region
+	 */
+	public ReactiveStorageAccess getStorageAccess(String regionName) {
+		return storageAccesses.get( regionName );
+	}
+}
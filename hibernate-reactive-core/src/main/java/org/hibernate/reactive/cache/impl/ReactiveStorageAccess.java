@@ -0,0 +1,234 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+/**
+ * Adapts a {@link ReactiveCacheRegion} to the synchronous storage
+ * access of Hibernate ORM's cache regions, without ever blocking.
+ * <p>
+ * A read returns the value from a stage which is already complete,
+ * which is always the case for an in-process region. Otherwise, the
+ * read is a miss, unless the value was {@link CachePrefetch prefetched}
+ * by the reactive session before it called into Hibernate ORM, or it
+ * was written through this storage access:
+ * <ul>
+ * <li>the value of a write, or the absence of a value after an eviction,
+ *     is read back until the region has completed the write, and
+ * <li>a {@link SoftLock} is read back until the lock would time out,
+ *     so that Hibernate ORM finds the lock it put in the cache when it
+ *     releases the lock, even if the region doesn't respond immediately.
+ * </ul>
+ * Writes and evictions are started, and don't wait for the region, but
+ * the writes to the same key reach the region in the order they were
+ * made, and after any earlier eviction of every entry.
+ */
+public class ReactiveStorageAccess implements DomainDataStorageAccess {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * How long a soft lock is read back after it was written, which is
+	 * the default lock timeout of Hibernate ORM's cache regions.
+	 */
+	static final long LOCK_RETENTION_NANOS = TimeUnit.SECONDS.toNanos( 60 );
+
+	/**
+	 * The maximum number of soft locks read back once written.
+	 */
+	static final int MAX_RETAINED_LOCKS = 10_000;
+
+	private final ReactiveCacheRegion region;
+
+	// The values obtained by CachePrefetch, visible to the thread
+	// which calls into Hibernate ORM once they've arrived
+	private final ThreadLocal<Map<Object, Object>> prefetched = new ThreadLocal<>();
+
+	// The last write to each key which the region hasn't completed yet,
+	// or which wrote a soft lock which hasn't timed out yet
+	private final ConcurrentHashMap<Object, Write> writes = new ConcurrentHashMap<>();
+
+	// Completes once the last eviction of every entry is done
+	private volatile CompletableFuture<Void> evictedAll = CompletableFuture.completedFuture( null );
+
+	public ReactiveStorageAccess(ReactiveCacheRegion region) {
+		this.region = region;
+	}
+
+	public ReactiveCacheRegion getRegion() {
+		return region;
+	}
+
+	/**
+	 * Obtain the value cached for the key, treating a failure as a miss.
+	 */
+	CompletableFuture<Object> fetch(Object key) {
+		final Write write = writes.get( key );
+		if ( write != null && write.isVisible() ) {
+			return CompletableFuture.completedFuture( write.value );
+		}
+		return region.get( key )
+				.handle( (value, error) -> {
+					if ( error != null ) {
+						LOG.cacheRegionAccessFailed( region.getName(), error );
+						return null;
+					}
+					return value;
+				} )
+				.toCompletableFuture();
+	}
+
+	void setPrefetched(Object key, Object value) {
+		Map<Object, Object> values = prefetched.get();
+		if ( values == null ) {
+			values = new HashMap<>();
+			prefetched.set( values );
+		}
+		values.put( key, value );
+	}
+
+	void clearPrefetched() {
+		prefetched.remove();
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = prefetched.get();
+		if ( values != null && values.containsKey( key ) ) {
+			return values.get( key );
+		}
+		final Write write = writes.get( key );
+		if ( write != null ) {
+			if ( write.isVisible() ) {
+				return write.value;
+			}
+			writes.remove( key, write );
+		}
+		final CompletableFuture<Object> value = region.get( key ).toCompletableFuture();
+		if ( value.isDone() && !value.isCompletedExceptionally() ) {
+			return value.join();
+		}
+		// we never block waiting for the region, so this is a miss
+		LOG.tracef( "Cache region %s did not respond immediately for key %s", region.getName(), key );
+		return null;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		write( key, value, () -> region.put( key, value ) );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return getFromCache( key, null ) != null;
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		evictData( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		evictData();
+	}
+
+	@Override
+	public void evictData() {
+		// wait for the writes in flight, so that none of them
+		// puts an entry back once every entry is evicted
+		final CompletableFuture<?>[] inFlight = writes.values().stream()
+				.map( write -> write.done )
+				.toArray( CompletableFuture<?>[]::new );
+		writes.clear();
+		final CompletableFuture<Void> evicted = new CompletableFuture<>();
+		final CompletableFuture<Void> previous = evictedAll;
+		evictedAll = evicted;
+		CompletableFuture.allOf( inFlight )
+				.handle( (v, error) -> null )
+				.thenCombine( previous, (v, w) -> null )
+				.thenCompose( v -> region.evictAll() )
+				.whenComplete( (v, error) -> {
+					if ( error != null ) {
+						LOG.cacheRegionAccessFailed( region.getName(), error );
+					}
+					evicted.complete( null );
+				} );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		write( key, null, () -> region.evict( key ) );
+	}
+
+	@Override
+	public void release() {
+		region.release();
+	}
+
+	/**
+	 * Start a write to the region once the previous write to the same
+	 * key is done, without waiting for it.
+	 *
+	 * @param value the value written, or {@code null} for an eviction
+	 */
+	private void write(Object key, Object value, Supplier<CompletionStage<Void>> operation) {
+		final Map<Object, Object> values = prefetched.get();
+		if ( values != null && values.containsKey( key ) ) {
+			// later reads by the same work see the write
+			values.put( key, value );
+		}
+		final Write write = new Write( value, isRetained( value ) );
+		final Write previous = writes.put( key, write );
+		final CompletableFuture<Void> after = previous == null ? evictedAll : previous.done;
+		after.thenCompose( v -> operation.get() )
+				.whenComplete( (v, error) -> {
+					if ( error != null ) {
+						LOG.cacheRegionAccessFailed( region.getName(), error );
+					}
+					if ( write.expiry == 0 ) {
+						writes.remove( key, write );
+					}
+					write.done.complete( null );
+				} );
+	}
+
+	private boolean isRetained(Object value) {
+		return value instanceof SoftLock && writes.size() < MAX_RETAINED_LOCKS;
+	}
+
+	private static final class Write {
+		final Object value;
+		// the time until which a soft lock is read back, or zero
+		final long expiry;
+		// completes, successfully, once the region is done with the write
+		final CompletableFuture<Void> done = new CompletableFuture<>();
+
+		Write(Object value, boolean retained) {
+			this.value = value;
+			this.expiry = retained ? System.nanoTime() + LOCK_RETENTION_NANOS : 0;
+		}
+
+		boolean isVisible() {
+			return !done.isDone() || expiry != 0 && System.nanoTime() - expiry < 0;
+		}
+	}
+}
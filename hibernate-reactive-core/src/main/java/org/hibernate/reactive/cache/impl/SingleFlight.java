@@ -0,0 +1,149 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.hibernate.service.Service;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Makes sure that, when the sessions of a session factory miss the same
+ * entry of the second-level cache or of the query cache at the same time,
+ * only the first of them goes to the database.
+ * <p>
+ * The first session to miss an entry performs the load, which puts the
+ * entry in the cache, and every session which misses the same entry while
+ * the load is in flight waits for it to complete. The waiting sessions
+ * then read the entry from the cache again, each obtaining its own copy
+ * of the entities, on its own Vert.x context. If the entry still isn't
+ * in the cache, they go to the database themselves.
+ *
+ * @see org.hibernate.reactive.provider.Settings#CACHE_SINGLE_FLIGHT
+ */
+public class SingleFlight implements Service {
+
+	/**
+	 * Never deduplicates anything
+	 */
+	public static final SingleFlight DISABLED = new SingleFlight( false );
+
+	private final boolean enabled;
+	private final ConcurrentHashMap<Key, CompletableFuture<Void>> flights = new ConcurrentHashMap<>();
+	private final LongAdder coalesced = new LongAdder();
+
+	public SingleFlight(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return the number of loads which waited for the same load by
+	 *         another session, instead of going to the database
+	 */
+	public long getCoalescedLoads() {
+		return coalesced.sum();
+	}
+
+	/**
+	 * Perform the given load, unless the same load is already in flight,
+	 * in which case, wait for it and then perform the given reload.
+	 * Only a load which puts the entry in the cache may be shared, and
+	 * the reload must go to the database, never back to this method, if
+	 * the entry is still missing from the cache.
+	 *
+	 * @param region the name of the cache region holding the entry
+	 * @param key the key of the entry
+	 * @param load loads the entry from the database, and puts it in the cache
+	 * @param reload reads the entry from the cache, once the load in flight
+	 *               has completed
+	 */
+	public <T> CompletionStage<T> execute(
+			String region,
+			Object key,
+			Supplier<CompletionStage<T>> load,
+			Supplier<CompletionStage<T>> reload) {
+		if ( !enabled ) {
+			return load.get();
+		}
+
+		final Key flightKey = new Key( region, key );
+		final CompletableFuture<Void> flight = new CompletableFuture<>();
+		final CompletableFuture<Void> inFlight = flights.putIfAbsent( flightKey, flight );
+		if ( inFlight == null ) {
+			final CompletionStage<T> loaded;
+			try {
+				loaded = load.get();
+			}
+			catch (RuntimeException e) {
+				land( flightKey, flight );
+				throw e;
+			}
+			// whether it succeeds or not, the others may try for themselves
+			return loaded.whenComplete( (result, failure) -> land( flightKey, flight ) );
+		}
+		else {
+			coalesced.increment();
+			return resumeOnCurrentContext( inFlight ).thenCompose( v -> reload.get() );
+		}
+	}
+
+	private void land(Key key, CompletableFuture<Void> flight) {
+		flights.remove( key, flight );
+		flight.complete( null );
+	}
+
+	/**
+	 * The flight completes on the context of the session which performed
+	 * the load, but a waiting session must carry on with its own context.
+	 */
+	private static CompletionStage<Void> resumeOnCurrentContext(CompletionStage<Void> flight) {
+		final Context context = Vertx.currentContext();
+		if ( context == null ) {
+			return flight;
+		}
+		final CompletableFuture<Void> resumed = new CompletableFuture<>();
+		flight.whenComplete( (v, x) -> context.runOnContext( ignored -> resumed.complete( null ) ) );
+		return resumed;
+	}
+
+	private static final class Key {
+		private final String region;
+		private final Object key;
+
+		private Key(String region, Object key) {
+			this.region = region;
+			this.key = key;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if ( this == object ) {
+				return true;
+			}
+			if ( !( object instanceof Key ) ) {
+				return false;
+			}
+			final Key that = (Key) object;
+			return region.equals( that.region ) && key.equals( that.key );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( region, key );
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} for
+ * {@link SingleFlight}, which is enabled unless
+ * {@link Settings#CACHE_SINGLE_FLIGHT} is set to {@code false}.
+ */
+public class SingleFlightInitiator implements StandardServiceInitiator<SingleFlight> {
+
+	public static final SingleFlightInitiator INSTANCE = new SingleFlightInitiator();
+
+	@Override
+	public SingleFlight initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return ConfigurationHelper.getBoolean( Settings.CACHE_SINGLE_FLIGHT, configurationValues, true )
+				? new SingleFlight( true )
+				: SingleFlight.DISABLED;
+	}
+
+	@Override
+	public Class<SingleFlight> getServiceInitiated() {
+		return SingleFlight.class;
+	}
+}
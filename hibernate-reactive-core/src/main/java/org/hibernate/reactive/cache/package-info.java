@@ -0,0 +1,8 @@
+/**
+ * An SPI for second-level cache providers which access their regions
+ * without blocking, via {@link org.hibernate.reactive.cache.ReactiveCacheRegion}
+ * and {@link org.hibernate.reactive.cache.ReactiveCacheProvider}.
+ *
+ * @see org.hibernate.reactive.cache.impl.ReactiveRegionFactory
+ */
+package org.hibernate.reactive.cache;
@@ -0,0 +1,113 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hibernate.Incubating;
+
+/**
+ * Identifies a page of the results of a query by the values of the
+ * sort keys of the last result on the previous page, instead of by
+ * an offset. The database seeks directly to the first result of the
+ * page, using an index on the sort keys, so obtaining a page costs
+ * the same no matter how deep it is.
+ * <p>
+ * Each sort key is a path expression relative to the entity returned
+ * by the query, optionally followed by {@code asc} or {@code desc}.
+ * The sort keys must uniquely determine the order of the results, so
+ * the last sort key is usually the identifier of the entity, and they
+ * must never be null, since a null key can't be compared. For
+ * example:
+ * <pre>{@code
+ * KeysetPage firstPage = KeysetPage.first( 50, "log.timestamp", "log.id" );
+ * }</pre>
+ * A {@code KeysetPage} for the following page is obtained from
+ * {@link KeysetResultList#getNextPage()}, or, given the key of the
+ * last result, from {@link #after(Object...)}. Since instances are
+ * immutable and serializable, a {@code KeysetPage} may be used as a
+ * continuation token.
+ *
+ * @see org.hibernate.reactive.mutiny.Mutiny.Query#getKeysetResultList(KeysetPage)
+ * @see org.hibernate.reactive.stage.Stage.Query#getKeysetResultList(KeysetPage)
+ */
+@Incubating
+public final class KeysetPage implements Serializable {
+
+	private final int size;
+	private final String[] sortKeys;
+	private final Object[] lastKey;
+
+	private KeysetPage(int size, String[] sortKeys, Object[] lastKey) {
+		this.size = size;
+		this.sortKeys = sortKeys;
+		this.lastKey = lastKey;
+	}
+
+	/**
+	 * The first page of results.
+	 *
+	 * @param size the maximum number of results on each page
+	 * @param sortKeys the keys which determine the order of the results
+	 */
+	public static KeysetPage first(int size, String... sortKeys) {
+		if ( size <= 0 ) {
+			throw new IllegalArgumentException( "Page size must be positive: " + size );
+		}
+		if ( sortKeys.length == 0 ) {
+			throw new IllegalArgumentException( "At least one sort key is required" );
+		}
+		return new KeysetPage( size, sortKeys.clone(), null );
+	}
+
+	/**
+	 * The page of results which follows the result with the given key.
+	 *
+	 * @param lastKey the values of the sort keys of the last result
+	 *                on the previous page, in the order of the sort keys,
+	 *                none of which may be null
+	 */
+	public KeysetPage after(Object... lastKey) {
+		if ( lastKey.length != sortKeys.length ) {
+			throw new IllegalArgumentException( "Expected " + sortKeys.length
+					+ " values of sort keys, but got " + lastKey.length );
+		}
+		for ( Object value : lastKey ) {
+			if ( value == null ) {
+				throw new IllegalArgumentException( "Values of sort keys must not be null" );
+			}
+		}
+		return new KeysetPage( size, sortKeys, lastKey.clone() );
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public String[] getSortKeys() {
+		return sortKeys.clone();
+	}
+
+	/**
+	 * @return the values of the sort keys of the last result on the
+	 *         previous page, or {@code null} for the first page
+	 */
+	public Object[] getLastKey() {
+		return lastKey == null ? null : lastKey.clone();
+	}
+
+	public boolean isFirst() {
+		return lastKey == null;
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPage{size=" + size
+				+ ", sortKeys=" + Arrays.toString( sortKeys )
+				+ ", lastKey=" + Arrays.toString( lastKey ) + "}";
+	}
+}
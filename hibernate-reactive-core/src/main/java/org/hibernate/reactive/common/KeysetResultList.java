@@ -0,0 +1,48 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * A page of the results of a query, obtained by keyset pagination,
+ * together with the {@link KeysetPage} which identifies the next page.
+ *
+ * @see KeysetPage
+ *
+ * @param <R> the Java result type of the query
+ */
+@Incubating
+public final class KeysetResultList<R> {
+
+	private final List<R> results;
+	private final KeysetPage nextPage;
+
+	public KeysetResultList(List<R> results, KeysetPage nextPage) {
+		this.results = results;
+		this.nextPage = nextPage;
+	}
+
+	/**
+	 * @return the results on this page
+	 */
+	public List<R> getResults() {
+		return results;
+	}
+
+	/**
+	 * @return the next page, or {@code null} if this is the last page
+	 */
+	public KeysetPage getNextPage() {
+		return nextPage;
+	}
+
+	public boolean hasNextPage() {
+		return nextPage != null;
+	}
+}
@@ -0,0 +1,38 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.common;
+
+import org.hibernate.Incubating;
+
+import io.vertx.sqlclient.Row;
+
+/**
+ * Builds a result of a query directly from a {@link Row} returned
+ * by the Vert.x SQL client, bypassing the persistence context.
+ * The values of the row may be obtained by column index, where the
+ * columns are numbered from 0, in the order of the items of the
+ * {@code select} clause of the query. For example:
+ * <pre>{@code
+ * session.createQuery("select b.isbn, b.title from Book b", Object[].class)
+ *         .setResultMapper( row -> new BookSummary( row.getString(0), row.getString(1) ) )
+ *         .getResultList()
+ * }</pre>
+ *
+ * @see org.hibernate.reactive.mutiny.Mutiny.Query#setResultMapper(RowMapper)
+ * @see org.hibernate.reactive.stage.Stage.Query#setResultMapper(RowMapper)
+ *
+ * @param <R> the Java result type of the query
+ */
+@Incubating
+@FunctionalInterface
+public interface RowMapper<R> {
+	/**
+	 * Build a result from the given row.
+	 *
+	 * @param row a row of the results of the query
+	 */
+	R map(Row row);
+}
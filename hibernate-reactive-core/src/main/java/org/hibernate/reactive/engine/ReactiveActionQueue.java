@@ -52,6 +52,7 @@
 import org.hibernate.reactive.engine.impl.ReactiveEntityRegularInsertAction;
 import org.hibernate.reactive.engine.impl.ReactiveEntityUpdateAction;
 import org.hibernate.reactive.engine.impl.ReactiveOrphanRemovalAction;
+import org.hibernate.reactive.jfr.impl.FlushEvent;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.ReactiveSession;
@@ -584,6 +585,7 @@ public CompletionStage<Void> executeActions() {
 					"About to execute actions, but there are unresolved entity insert actions." ) );
 		}
 
+		final FlushEvent event = FlushEvent.begin( this );
 		CompletionStage<Void> ret = voidFuture();
 		for ( ListProvider<? extends ReactiveExecutable> listProvider : EXECUTABLE_LISTS_MAP.values() ) {
 			ExecutableList<? extends ReactiveExecutable> l = listProvider.get( this );
@@ -591,7 +593,9 @@ public CompletionStage<Void> executeActions() {
 				ret = ret.thenCompose( v -> executeActions( l ) );
 			}
 		}
-		return ret;
+		return event.isEnabled()
+				? ret.whenComplete( (v, e) -> event.complete( e != null ) )
+				: ret;
 	}
 
 	/**
@@ -12,18 +12,28 @@
 import org.hibernate.engine.internal.ManagedTypeHelper;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.persister.entity.impl.ReactiveAbstractEntityPersister;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.*;
@@ -44,6 +54,8 @@ public static class Nullifier {
 		private final SessionImplementor session;
 		private final Object self;
 		private final EntityPersister persister;
+		// null unless the state references entities not associated with the session
+		private BatchedExistenceCheck existenceCheck;
 
 		/**
 		 * Constructs a Nullifier
@@ -74,13 +86,25 @@ public Nullifier(
 		 * @param values The entity attribute values
 		 */
 		public CompletionStage<Void> nullifyTransientReferences(Object[] values) {
-			CompletionStage<Void> result = nullifyTransientReferences(
-					null,
-					values,
-					persister.getPropertyTypes(),
-					persister.getPropertyNames()
-			);
-			return result==null ? voidFuture() : result;
+			return checkReferencedRowsExist( values, persister.getPropertyTypes() )
+					.thenCompose( v -> {
+						CompletionStage<Void> result = nullifyTransientReferences(
+								null,
+								values,
+								persister.getPropertyTypes(),
+								persister.getPropertyNames()
+						);
+						return result==null ? voidFuture() : result;
+					} );
+		}
+
+		/**
+		 * Determine, using one query per entity type, which of the entities
+		 * referenced by the given state have a row in the database.
+		 */
+		private CompletionStage<Void> checkReferencedRowsExist(Object[] values, Type[] types) {
+			existenceCheck = BatchedExistenceCheck.forReferences( session, self, values, types );
+			return existenceCheck == null ? voidFuture() : existenceCheck.execute();
 		}
 
 		/**
@@ -229,7 +253,9 @@ private CompletionStage<Boolean> isNullifiable(final String entityName, Object o
 
 			final EntityEntry entityEntry = session.getPersistenceContextInternal().getEntry( object );
 			if ( entityEntry == null ) {
-				return isTransient( entityName, object, null, session );
+				return existenceCheck == null
+						? isTransient( entityName, object, null, session )
+						: existenceCheck.isTransient( entityName, object );
 			}
 			else {
 				return completedFuture( entityEntry.isNullifiable( isEarlyInsert, session ) );
@@ -306,10 +332,217 @@ public static CompletionStage<Boolean> isTransient(String entityName, Object ent
 		}
 
 		// hit the database, after checking the session cache for a snapshot
+		// or the result of a batched existence check
 		ReactivePersistenceContextAdapter persistenceContext =
 				(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
 		Serializable id = persister.getIdentifier(entity, session);
-		return persistenceContext.reactiveGetDatabaseSnapshot( id, persister).thenApply(Objects::isNull);
+		return persistenceContext.reactiveHasRow( id, persister ).thenApply( hasRow -> !hasRow );
+	}
+
+	/**
+	 * Determines which of a set of entities have a row in the database,
+	 * using one query per entity hierarchy, instead of one query per entity,
+	 * and records the results in the {@link ReactivePersistenceContextAdapter},
+	 * where {@link ForeignKeys#isTransient} finds them.
+	 * <p>
+	 * Only entities for which {@code isTransient()} would need to hit the
+	 * database are checked: that is, entities with an assigned identifier
+	 * and no version, which are not associated with the session. For the
+	 * other entities, the decision of the interceptor or the persister is
+	 * kept, and reused by {@link #isTransient(String, Object)}.
+	 */
+	public static final class BatchedExistenceCheck {
+
+		// a limit on the number of parameters, for databases with no limit of their own
+		private static final int MAX_IDS_PER_QUERY = 500;
+
+		private final SessionImplementor session;
+		private final ReactivePersistenceContextAdapter persistenceContext;
+		private final Map<EntityPersister, Set<Serializable>> idsByPersister = new LinkedHashMap<>();
+		private Map<Object, Boolean> unsavedByEntity;
+
+		public BatchedExistenceCheck(SessionImplementor session) {
+			this.session = session;
+			this.persistenceContext = (ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
+		}
+
+		/**
+		 * Obtain a check for the entities referenced by the given state of
+		 * an entity, including entities referenced by its embeddables.
+		 *
+		 * @param self the entity, which is never checked
+		 * @param values the state of the entity
+		 * @param types the types of the attributes of the entity
+		 *
+		 * @return the check, or {@code null} if the state references no
+		 *         entity which isn't associated with the session
+		 */
+		public static BatchedExistenceCheck forReferences(SessionImplementor session, Object self, Object[] values, Type[] types) {
+			return addReferences( null, session, self, values, types );
+		}
+
+		/**
+		 * Add the entities referenced by the given state of an entity,
+		 * including entities referenced by its embeddables.
+		 *
+		 * @param self the entity, which is never checked
+		 * @param values the state of the entity
+		 * @param types the types of the attributes of the entity
+		 */
+		public BatchedExistenceCheck addReferences(Object self, Object[] values, Type[] types) {
+			return addReferences( this, session, self, values, types );
+		}
+
+		private static BatchedExistenceCheck addReferences(
+				BatchedExistenceCheck check,
+				SessionImplementor session,
+				Object self,
+				Object[] values,
+				Type[] types) {
+			for ( int i = 0; i < types.length; i++ ) {
+				final Object value = values[i];
+				if ( value != null && value != self ) {
+					final Type type = types[i];
+					if ( type.isEntityType() ) {
+						if ( !( (EntityType) type ).isOneToOne() ) {
+							check = add( check, session, ( (EntityType) type ).getAssociatedEntityName(), value );
+						}
+					}
+					else if ( type.isAnyType() ) {
+						check = add( check, session, null, value );
+					}
+					else if ( type.isComponentType() ) {
+						final CompositeType componentType = (CompositeType) type;
+						check = addReferences(
+								check,
+								session,
+								self,
+								componentType.getPropertyValues( value, session ),
+								componentType.getSubtypes()
+						);
+					}
+				}
+			}
+			return check;
+		}
+
+		private static BatchedExistenceCheck add(
+				BatchedExistenceCheck check,
+				SessionImplementor session,
+				String entityName,
+				Object entity) {
+			if ( isAssociated( session, entity ) ) {
+				return check;
+			}
+			return ( check == null ? new BatchedExistenceCheck( session ) : check ).add( entityName, entity );
+		}
+
+		private static boolean isAssociated(SessionImplementor session, Object entity) {
+			return entity == LazyPropertyInitializer.UNFETCHED_PROPERTY
+					|| entity instanceof HibernateProxy
+					|| session.getPersistenceContextInternal().getEntry( entity ) != null;
+		}
+
+		/**
+		 * Add an entity, if {@link ForeignKeys#isTransient} would need to hit the
+		 * database to determine if it has a row.
+		 */
+		public BatchedExistenceCheck add(String entityName, Object entity) {
+			if ( isAssociated( session, entity )
+					|| unsavedByEntity != null && unsavedByEntity.containsKey( entity ) ) {
+				return this;
+			}
+			Boolean isUnsaved = session.getInterceptor().isTransient( entity );
+			if ( isUnsaved != null ) {
+				rememberUnsaved( entity, isUnsaved );
+				return this;
+			}
+			final EntityPersister persister = session.getEntityPersister( entityName, entity );
+			isUnsaved = persister.isTransient( entity, session );
+			if ( isUnsaved != null ) {
+				rememberUnsaved( entity, isUnsaved );
+				return this;
+			}
+			if ( !( persister instanceof ReactiveAbstractEntityPersister )
+					// the root table of a union subclass hierarchy doesn't hold every row
+					|| persister instanceof UnionSubclassEntityPersister
+					|| persister.getIdentifierType().isComponentType() ) {
+				return this;
+			}
+			final Serializable id = persister.getIdentifier( entity, session );
+			if ( id != null && persistenceContext.hasRow( session.generateEntityKey( id, persister ) ) == null ) {
+				final EntityPersister rootPersister = session.getFactory().getMetamodel()
+						.entityPersister( persister.getRootEntityName() );
+				idsByPersister.computeIfAbsent( rootPersister, p -> new LinkedHashSet<>() ).add( id );
+			}
+			return this;
+		}
+
+		private void rememberUnsaved(Object entity, boolean isUnsaved) {
+			if ( unsavedByEntity == null ) {
+				unsavedByEntity = new IdentityHashMap<>();
+			}
+			unsavedByEntity.put( entity, isUnsaved );
+		}
+
+		/**
+		 * Is this entity, which was added to the check, transient? The same
+		 * as {@link ForeignKeys#isTransient}, with no assumed value, except
+		 * that the decision of the interceptor or the persister is reused.
+		 */
+		CompletionStage<Boolean> isTransient(String entityName, Object entity) {
+			final Boolean isUnsaved = unsavedByEntity == null ? null : unsavedByEntity.get( entity );
+			return isUnsaved == null
+					? ForeignKeys.isTransient( entityName, entity, null, session )
+					: completedFuture( isUnsaved );
+		}
+
+		/**
+		 * Query the database for the entities which were added, and
+		 * record the results.
+		 */
+		public CompletionStage<Void> execute() {
+			if ( idsByPersister.isEmpty() ) {
+				return voidFuture();
+			}
+			final int inExpressionLimit = session.getJdbcServices().getDialect().getInExpressionCountLimit();
+			final int batchSize = inExpressionLimit > 0
+					? Math.min( inExpressionLimit, MAX_IDS_PER_QUERY )
+					: MAX_IDS_PER_QUERY;
+			return loop( idsByPersister.entrySet(), entry -> {
+				final Serializable[] ids = entry.getValue().toArray( new Serializable[0] );
+				return loop( 0, ( ids.length + batchSize - 1 ) / batchSize, batch -> {
+					final int start = batch * batchSize;
+					final Serializable[] batchIds = Arrays.copyOfRange( ids, start, Math.min( ids.length, start + batchSize ) );
+					return ( (ReactiveAbstractEntityPersister) entry.getKey() )
+							.reactiveGetExistingIdentifiers( batchIds, session )
+							.thenAccept( existing -> record( entry.getKey(), batchIds, existing ) );
+				} );
+			} );
+		}
+
+		private void record(EntityPersister persister, Serializable[] ids, List<Serializable> existingIds) {
+			final Set<EntityKey> existing = new HashSet<>();
+			for ( Serializable id : existingIds ) {
+				existing.add( session.generateEntityKey( id, persister ) );
+			}
+			final Set<EntityKey> checked = new HashSet<>();
+			for ( Serializable id : ids ) {
+				checked.add( session.generateEntityKey( id, persister ) );
+			}
+			// if the database returned an identifier we didn't ask for, for
+			// example because of a case-insensitive collation, it's not safe
+			// to conclude that the identifiers it didn't return have no row
+			final boolean exact = checked.containsAll( existing );
+			for ( EntityKey key : checked ) {
+				if ( existing.contains( key ) ) {
+					persistenceContext.recordRowExistence( key, true );
+				}
+				else if ( exact ) {
+					persistenceContext.recordRowExistence( key, false );
+				}
+			}
+		}
 	}
 
 	/**
@@ -374,17 +607,18 @@ public static CompletionStage<NonNullableTransientDependencies> findNonNullableT
 		final boolean[] nullability = persister.getPropertyNullability();
 		final NonNullableTransientDependencies nonNullableTransientEntities = new NonNullableTransientDependencies();
 
-		return loop( 0, types.length,
-				i -> collectNonNullableTransientEntities(
-						nullifier,
-						values[i],
-						propertyNames[i],
-						types[i],
-						nullability[i],
-						session,
-						nonNullableTransientEntities
-				)
-		).thenApply( r -> nonNullableTransientEntities.isEmpty() ? null : nonNullableTransientEntities );
+		return nullifier.checkReferencedRowsExist( values, types )
+				.thenCompose( v -> loop( 0, types.length,
+						i -> collectNonNullableTransientEntities(
+								nullifier,
+								values[i],
+								propertyNames[i],
+								types[i],
+								nullability[i],
+								session,
+								nonNullableTransientEntities
+						)
+				) ).thenApply( r -> nonNullableTransientEntities.isEmpty() ? null : nonNullableTransientEntities );
 	}
 
 	private static CompletionStage<Void> collectNonNullableTransientEntities(
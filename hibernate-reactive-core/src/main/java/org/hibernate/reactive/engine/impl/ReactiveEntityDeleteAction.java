@@ -8,6 +8,7 @@
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.action.internal.EntityDeleteAction;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cfg.NotYetImplementedException;
 import org.hibernate.engine.spi.EntityEntry;
@@ -15,8 +16,10 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.impl.NearCache;
 import org.hibernate.reactive.engine.ReactiveExecutable;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import java.io.Serializable;
@@ -94,6 +97,7 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 			if ( persister.canWriteToCache() ) {
 				persister.getCacheAccessStrategy().remove( session, ck );
 			}
+			invalidateNearCache( persister, session );
 
 			persistenceContext.getNaturalIdHelper().removeSharedNaturalIdCrossReference(
 					persister,
@@ -110,4 +114,18 @@ public CompletionStage<Void> reactiveExecute() throws HibernateException {
 		} );
 	}
 
+	/**
+	 * Invalidate the near cache now, and again once the transaction
+	 * completes, in case another session reloaded the deleted row
+	 * before the transaction committed.
+	 */
+	private static void invalidateNearCache(EntityPersister persister, SharedSessionContractImplementor session) {
+		final NearCache nearCache = session.getFactory().getServiceRegistry().getService( NearCache.class );
+		if ( nearCache.isEnabled() ) {
+			nearCache.invalidate( persister );
+			final AfterTransactionCompletionProcess invalidation =
+					(success, s) -> nearCache.invalidate( persister );
+			( (ReactiveSession) session ).getReactiveActionQueue().registerProcess( invalidation );
+		}
+	}
 }
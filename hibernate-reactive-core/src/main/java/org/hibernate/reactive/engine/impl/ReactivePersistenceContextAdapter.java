@@ -19,6 +19,8 @@
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -32,6 +34,9 @@ public class ReactivePersistenceContextAdapter extends StatefulPersistenceContex
 
 	private HashMap<Serializable,Object[]> entitySnapshotsByKey;
 
+	// keys of entities known to have a row, without having obtained a snapshot
+	private HashSet<EntityKey> entityKeysWithRow;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -99,6 +104,62 @@ public CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id, En
 		}
 	}
 
+	/**
+	 * Determine if there is a row in the database for the given entity,
+	 * using the result of a previous {@linkplain #recordRowExistence
+	 * existence check} or snapshot if there is one.
+	 */
+	public CompletionStage<Boolean> reactiveHasRow(Serializable id, EntityPersister persister) {
+		final Boolean known = hasRow( getSession().generateEntityKey( id, persister ) );
+		return known == null
+				? reactiveGetDatabaseSnapshot( id, persister ).thenApply( Objects::nonNull )
+				: CompletionStages.completedFuture( known );
+	}
+
+	/**
+	 * @return {@code true} or {@code false} if it's already known whether
+	 *         the given entity has a row in the database, or {@code null}
+	 *         if it's unknown
+	 */
+	public Boolean hasRow(EntityKey key) {
+		if ( entityKeysWithRow != null && entityKeysWithRow.contains( key ) ) {
+			return true;
+		}
+		final Object[] snapshot = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
+		return snapshot == null ? null : snapshot != NO_ROW;
+	}
+
+	/**
+	 * Record the result of an existence check for the given entity
+	 * performed without obtaining its snapshot.
+	 *
+	 * @see ForeignKeys.BatchedExistenceCheck
+	 */
+	public void recordRowExistence(EntityKey key, boolean exists) {
+		if ( exists ) {
+			if ( entityKeysWithRow == null ) {
+				entityKeysWithRow = new HashSet<>(8);
+			}
+			entityKeysWithRow.add( key );
+		}
+		else {
+			if ( entitySnapshotsByKey == null ) {
+				entitySnapshotsByKey = new HashMap<>(8);
+			}
+			entitySnapshotsByKey.put( key, NO_ROW );
+		}
+	}
+
+	@Override
+	public void addEntity(EntityKey key, Object entity) {
+		super.addEntity( key, entity );
+		// an entity found to have no row by an existence check may
+		// be persisted later in the same session
+		if ( entitySnapshotsByKey != null && entitySnapshotsByKey.get( key ) == NO_ROW ) {
+			entitySnapshotsByKey.remove( key );
+		}
+	}
+
 	//All below methods copy/pasted from superclass because entitySnapshotsByKey is private:
 
 	@Override
@@ -117,6 +178,7 @@ public Object[] getCachedDatabaseSnapshot(EntityKey key) {
 	public void clear() {
 		super.clear();
 		entitySnapshotsByKey = null;
+		entityKeysWithRow = null;
 	}
 
 	@Override
@@ -125,6 +187,9 @@ public Object removeEntity(EntityKey key) {
 		if (entitySnapshotsByKey != null ) {
 			entitySnapshotsByKey.remove(key);
 		}
+		if (entityKeysWithRow != null ) {
+			entityKeysWithRow.remove(key);
+		}
 		return result;
 	}
 }
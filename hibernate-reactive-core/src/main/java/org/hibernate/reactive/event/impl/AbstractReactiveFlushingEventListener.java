@@ -6,6 +6,8 @@
 package org.hibernate.reactive.event.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
@@ -128,10 +130,24 @@ private CompletionStage<Void> prepareEntityFlushes(EventSource session, Persiste
 		IdentitySet copiedAlready = new IdentitySet( 10 );
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		Map.Entry<Object, EntityEntry>[] entries = persistenceContext.reentrantSafeEntityEntries();
-		return loop(
-				entries,
-				index -> flushable( entries[index].getValue() ),
-				index -> cascadeOnFlush( session, entries[index].getValue().getPersister(), entries[index].getKey(), copiedAlready ) );
+		final List<Object> flushables = new ArrayList<>( entries.length );
+		for ( Map.Entry<Object, EntityEntry> entry : entries ) {
+			if ( flushable( entry.getValue() ) ) {
+				flushables.add( entry.getKey() );
+			}
+		}
+		// check the references held by the entities inserted by the
+		// cascade all at once, instead of as each entity is inserted
+		return session.unwrap( ReactiveSession.class )
+				.reactiveCheckReferencedRowsExist(
+						org.hibernate.engine.spi.CascadingActions.PERSIST_ON_FLUSH,
+						flushables.toArray()
+				)
+				.thenCompose( v -> loop(
+						entries,
+						index -> flushable( entries[index].getValue() ),
+						index -> cascadeOnFlush( session, entries[index].getValue().getPersister(), entries[index].getKey(), copiedAlready )
+				) );
 	}
 
 	private static boolean flushable(EntityEntry entry) {
@@ -21,6 +21,7 @@
 import org.hibernate.event.spi.InitializeCollectionEvent;
 import org.hibernate.event.spi.InitializeCollectionEventListener;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.reactive.cache.impl.CachePrefetch;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
@@ -57,29 +58,32 @@ public CompletionStage<Void> onReactiveInitializeCollection(InitializeCollection
 				LOG.trace( "Checking second-level cache" );
 			}
 
-			final boolean foundInCache = initializeCollectionFromCache( ce.getLoadedKey(), loadedPersister, collection, source );
-			if ( foundInCache ) {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection initialized from cache" );
-				}
-				return voidFuture();
-			}
-			else {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection not cached" );
-				}
-				return ( (ReactiveCollectionPersister) loadedPersister ).reactiveInitialize( ce.getLoadedKey(), source )
-						.thenAccept( list -> {
+			return CachePrefetch.collection( source, loadedPersister, ce.getLoadedKey() )
+					.then( () -> initializeCollectionFromCache( ce.getLoadedKey(), loadedPersister, collection, source ) )
+					.thenCompose( foundInCache -> {
+						if ( foundInCache ) {
 							if ( LOG.isTraceEnabled() ) {
-								LOG.trace( "Collection initialized" );
+								LOG.trace( "Collection initialized from cache" );
 							}
-
-							final StatisticsImplementor statistics = source.getFactory().getStatistics();
-							if ( statistics.isStatisticsEnabled() ) {
-								statistics.fetchCollection( loadedPersister.getRole() );
+							return voidFuture();
+						}
+						else {
+							if ( LOG.isTraceEnabled() ) {
+								LOG.trace( "Collection not cached" );
 							}
-						} );
-			}
+							return ( (ReactiveCollectionPersister) loadedPersister ).reactiveInitialize( ce.getLoadedKey(), source )
+									.thenAccept( list -> {
+										if ( LOG.isTraceEnabled() ) {
+											LOG.trace( "Collection initialized" );
+										}
+
+										final StatisticsImplementor statistics = source.getFactory().getStatistics();
+										if ( statistics.isStatisticsEnabled() ) {
+											statistics.fetchCollection( loadedPersister.getRole() );
+										}
+									} );
+						}
+					} );
 		}
 		// Collection was already initialized.
 		return voidFuture();
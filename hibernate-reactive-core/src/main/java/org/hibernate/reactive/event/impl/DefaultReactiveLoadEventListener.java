@@ -10,6 +10,7 @@
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.CacheMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.NonUniqueObjectException;
@@ -18,6 +19,7 @@
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -31,6 +33,9 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.cache.impl.CachePrefetch;
+import org.hibernate.reactive.cache.impl.NearCache;
+import org.hibernate.reactive.cache.impl.SingleFlight;
 import org.hibernate.reactive.event.ReactiveLoadEventListener;
 import org.hibernate.reactive.loader.entity.ReactiveCacheEntityLoaderHelper;
 import org.hibernate.reactive.logging.impl.Log;
@@ -68,6 +73,10 @@ public class DefaultReactiveLoadEventListener implements LoadEventListener, Reac
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	// Each session factory has its own instance of the listener,
+	// so the service is only looked up once
+	private volatile NearCache nearCache;
+
 	/**
 	 * This method is not reactive but we expect it to be called only when a proxy can be returned.
 	 * <p>
@@ -89,6 +98,30 @@ public void onLoad(
 			throw LOG.unableToLocatePersister( event.getEntityClassName() );
 		}
 
+		final UnresolvedEntities unresolvedEntities = UnresolvedEntities.current();
+		if ( unresolvedEntities != null && !unresolvedEntities.isResolving() ) {
+			// We're assembling the results of a query from the query cache,
+			// and this is an entity of the results: rather than trying to load
+			// it if it isn't available without going to the database, record
+			// it, so that it can be loaded later
+			final EventSource session = event.getSession();
+			final EntityKey key = session.generateEntityKey( event.getEntityId(), persister );
+			if ( session.getPersistenceContextInternal().getEntity( key ) == null
+					&& !isCached( event, persister, key ) ) {
+				unresolvedEntities.record( key );
+				event.setResult( UnresolvedEntities.PLACEHOLDER );
+			}
+			else {
+				// the entities it refers to are resolved, or proxied, as usual
+				unresolvedEntities.resolve( () -> loadWithoutBlocking( event, loadType, persister ) );
+			}
+		}
+		else {
+			loadWithoutBlocking( event, loadType, persister );
+		}
+	}
+
+	private void loadWithoutBlocking(LoadEvent event, LoadEventListener.LoadType loadType, EntityPersister persister) {
 		// Since this method is not reactive, we're not expecting to hit the
 		// database here (if we do, it's a bug) and so we can assume the
 		// returned CompletionStage is already completed
@@ -606,32 +639,85 @@ private CompletionStage<Object> doLoad(
 			return completedFuture( managed );
 		}
 
-		entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
-		if ( entity != null ) {
+		final NearCache nearCache = nearCache( session );
+		final Object shared = nearCache.get( event, persister, keyToLoad );
+		if ( shared != null ) {
 			if ( traceEnabled ) {
 				LOG.tracev(
-						"Resolved object in second-level cache: {0}",
+						"Resolved object in near cache: {0}",
 						infoString( persister, event.getEntityId(), session.getFactory() )
 				);
 			}
-			cacheNaturalId( event, persister, session, entity );
-			return completedFuture( entity );
-		}
-		else {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Object not resolved in any cache: {0}",
-						infoString( persister, event.getEntityId(), session.getFactory() )
-				);
-			}
-			return loadFromDatasource( event, persister )
-					.thenApply( optional -> {
-						if ( optional!=null ) {
-							cacheNaturalId( event, persister, session, optional );
+			cacheNaturalId( event, persister, session, shared );
+			return completedFuture( shared );
+		}
+		// obtained before loading, so that an instance loaded concurrently
+		// with an invalidation is never treated as current
+		final long generation = nearCache.generation( event, persister );
+
+		return CachePrefetch.entity( session, persister, event.getEntityId() )
+				.then( () -> CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad ) )
+				.thenCompose( cached -> {
+					if ( cached != null ) {
+						if ( traceEnabled ) {
+							LOG.tracev(
+									"Resolved object in second-level cache: {0}",
+									infoString( persister, event.getEntityId(), session.getFactory() )
+							);
 						}
-						return optional;
-					} );
+						cacheNaturalId( event, persister, session, cached );
+						nearCache.put( event, persister, keyToLoad, cached, generation );
+						return completedFuture( cached );
+					}
+					else {
+						if ( traceEnabled ) {
+							LOG.tracev(
+									"Object not resolved in any cache: {0}",
+									infoString( persister, event.getEntityId(), session.getFactory() )
+							);
+						}
+						return loadFromDatasourceOnce( event, persister, keyToLoad )
+								.thenApply( optional -> {
+									if ( optional!=null ) {
+										cacheNaturalId( event, persister, session, optional );
+										nearCache.put( event, persister, keyToLoad, optional, generation );
+									}
+									return optional;
+								} );
+					}
+				} );
+	}
+
+	/**
+	 * @return {@code true} if the entity can be resolved, right now, from
+	 *         the near cache, which adds it to the persistence context, or
+	 *         from the second-level cache
+	 */
+	private boolean isCached(LoadEvent event, EntityPersister persister, EntityKey key) {
+		final EventSource session = event.getSession();
+		if ( nearCache( session ).get( event, persister, key ) != null ) {
+			return true;
+		}
+		if ( !persister.canReadFromCache() || !session.getCacheMode().isGetEnabled() ) {
+			return false;
+		}
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object ck = cache.generateCacheKey(
+				event.getEntityId(),
+				persister,
+				session.getFactory(),
+				session.getTenantIdentifier()
+		);
+		return CacheHelper.fromSharedCache( session, ck, cache ) != null;
+	}
+
+	private NearCache nearCache(EventSource session) {
+		NearCache cache = nearCache;
+		if ( cache == null ) {
+			cache = session.getFactory().getServiceRegistry().getService( NearCache.class );
+			nearCache = cache;
 		}
+		return cache;
 	}
 
 	private void cacheNaturalId(LoadEvent event, EntityPersister persister, EventSource session, Object entity) {
@@ -649,6 +735,55 @@ private void cacheNaturalId(LoadEvent event, EntityPersister persister, EventSou
 		}
 	}
 
+	/**
+	 * Load an entity which belongs in the second-level cache from the
+	 * datasource, unless another session is already loading it, in which
+	 * case, wait for it to be loaded, and then read it from the cache.
+	 *
+	 * @see SingleFlight
+	 */
+	private CompletionStage<Object> loadFromDatasourceOnce(
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey keyToLoad) {
+		final EventSource session = event.getSession();
+		if ( !isSharedLoad( event, persister ) ) {
+			return loadFromDatasource( event, persister );
+		}
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object cacheKey = cache.generateCacheKey(
+				event.getEntityId(),
+				persister,
+				session.getFactory(),
+				session.getTenantIdentifier()
+		);
+		return session.getFactory().getServiceRegistry().getService( SingleFlight.class ).execute(
+				cache.getRegion().getName(),
+				cacheKey,
+				() -> loadFromDatasource( event, persister ),
+				() -> CachePrefetch.entity( session, persister, event.getEntityId() )
+						.then( () -> CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad ) )
+						.thenCompose( cached -> cached == null
+								// not found, or not cached after all
+								? loadFromDatasource( event, persister )
+								: completedFuture( cached ) )
+		);
+	}
+
+	/**
+	 * @return {@code true} if the result of the load can be read by other
+	 *         sessions from the second-level cache
+	 */
+	private static boolean isSharedLoad(LoadEvent event, EntityPersister persister) {
+		final CacheMode cacheMode = event.getSession().getCacheMode();
+		return persister.canReadFromCache()
+				&& persister.canWriteToCache()
+				&& cacheMode.isGetEnabled()
+				&& cacheMode.isPutEnabled()
+				&& event.getInstanceToLoad() == null
+				&& !event.getLockMode().greaterThan( LockMode.READ );
+	}
+
 	/**
 	 * Performs the process of loading an entity from the configured
 	 * underlying datasource.
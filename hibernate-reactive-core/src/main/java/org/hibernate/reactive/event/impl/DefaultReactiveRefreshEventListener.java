@@ -154,35 +154,7 @@ private CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet
 		return cascadeRefresh(source, persister, entity, refreshedAlready)
 				.thenCompose(v -> {
 
-					if ( e != null ) {
-						final EntityKey key = source.generateEntityKey( id, persister );
-						persistenceContext.removeEntity( key );
-						if ( persister.hasCollections() ) {
-							new EvictVisitor(source, entity ).process( entity, persister );
-						}
-					}
-
-					if ( persister.canWriteToCache() ) {
-						Object previousVersion = null;
-						if ( persister.isVersionPropertyGenerated() ) {
-							// we need to grab the version value from the entity, otherwise
-							// we have issues with generated-version entities that may have
-							// multiple actions queued during the same flush
-							previousVersion = persister.getVersion( entity );
-						}
-						final EntityDataAccess cache = persister.getCacheAccessStrategy();
-						final Object ck = cache.generateCacheKey(
-								id,
-								persister,
-								source.getFactory(),
-								source.getTenantIdentifier()
-						);
-						final SoftLock lock = cache.lockItem(source, ck, previousVersion );
-						cache.remove(source, ck );
-						source.getActionQueue().registerProcess( (success, session) -> cache.unlockItem( session, ck, lock ) );
-					}
-
-					evictCachedCollections( persister, id, source);
+					evict( source, persister, id, entity, e != null );
 
 					String previousFetchProfile = source.getLoadQueryInfluencers().getInternalFetchProfile();
 					source.getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
@@ -257,7 +229,64 @@ private CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet
 				} );
 	}
 
-	private CompletionStage<Void> cascadeRefresh(
+	/**
+	 * Perform the steps of a refresh of a managed entity which precede
+	 * reloading it: cascade the refresh, and evict the entity from the
+	 * persistence context and second-level cache. Used by a refresh of
+	 * many entities which then reloads them all using one query.
+	 *
+	 * @param refreshedAlready the entities being refreshed, including
+	 *                         the given entity
+	 */
+	public static CompletionStage<Void> prepareForReload(
+			EventSource source,
+			EntityEntry entry,
+			Object entity,
+			IdentitySet refreshedAlready) {
+		final EntityPersister persister = entry.getPersister();
+		final Serializable id = entry.getId();
+		return cascadeRefresh( source, persister, entity, refreshedAlready )
+				.thenAccept( v -> evict( source, persister, id, entity, true ) );
+	}
+
+	private static void evict(
+			EventSource source,
+			EntityPersister persister,
+			Serializable id,
+			Object entity,
+			boolean managed) {
+		if ( managed ) {
+			final EntityKey key = source.generateEntityKey( id, persister );
+			source.getPersistenceContextInternal().removeEntity( key );
+			if ( persister.hasCollections() ) {
+				new EvictVisitor( source, entity ).process( entity, persister );
+			}
+		}
+
+		if ( persister.canWriteToCache() ) {
+			Object previousVersion = null;
+			if ( persister.isVersionPropertyGenerated() ) {
+				// we need to grab the version value from the entity, otherwise
+				// we have issues with generated-version entities that may have
+				// multiple actions queued during the same flush
+				previousVersion = persister.getVersion( entity );
+			}
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Object ck = cache.generateCacheKey(
+					id,
+					persister,
+					source.getFactory(),
+					source.getTenantIdentifier()
+			);
+			final SoftLock lock = cache.lockItem(source, ck, previousVersion );
+			cache.remove(source, ck );
+			source.getActionQueue().registerProcess( (success, session) -> cache.unlockItem( session, ck, lock ) );
+		}
+
+		evictCachedCollections( persister, id, source);
+	}
+
+	private static CompletionStage<Void> cascadeRefresh(
 			EventSource source,
 			EntityPersister persister,
 			Object object,
@@ -272,11 +301,11 @@ private CompletionStage<Void> cascadeRefresh(
 		).cascade();
 	}
 
-	private void evictCachedCollections(EntityPersister persister, Serializable id, EventSource source) {
+	private static void evictCachedCollections(EntityPersister persister, Serializable id, EventSource source) {
 		evictCachedCollections( persister.getPropertyTypes(), id, source );
 	}
 
-	private void evictCachedCollections(Type[] types, Serializable id, EventSource source)
+	private static void evictCachedCollections(Type[] types, Serializable id, EventSource source)
 			throws HibernateException {
 		final ActionQueue actionQueue = source.getActionQueue();
 		final SessionFactoryImplementor factory = source.getFactory();
@@ -17,6 +17,7 @@
 import org.hibernate.event.spi.ResolveNaturalIdEventListener;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.reactive.cache.impl.CachePrefetch;
 import org.hibernate.reactive.event.ReactiveResolveNaturalIdEventListener;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
@@ -67,27 +68,30 @@ protected CompletionStage<Serializable> resolveNaturalId(ResolveNaturalIdEvent e
 			);
 		}
 
-		Serializable entityId = resolveFromCache( event );
-		if ( entityId != null ) {
-			if ( LOG.isTraceEnabled() ) {
-				LOG.tracev(
-						"Resolved object in cache: {0}#{1}",
-						MessageHelper.infoString( persister ),
-						event.getNaturalIdValues()
-				);
-			}
-			return completedFuture( entityId );
-		}
+		return CachePrefetch.naturalId( event.getSession(), persister, event.getOrderedNaturalIdValues() )
+				.then( () -> resolveFromCache( event ) )
+				.thenCompose( entityId -> {
+					if ( entityId != null ) {
+						if ( LOG.isTraceEnabled() ) {
+							LOG.tracev(
+									"Resolved object in cache: {0}#{1}",
+									MessageHelper.infoString( persister ),
+									event.getNaturalIdValues()
+							);
+						}
+						return completedFuture( entityId );
+					}
 
-		if ( LOG.isTraceEnabled() ) {
-			LOG.tracev(
-					"Object not resolved in any cache: {0}#{1}",
-					MessageHelper.infoString( persister ),
-					event.getNaturalIdValues()
-			);
-		}
+					if ( LOG.isTraceEnabled() ) {
+						LOG.tracev(
+								"Object not resolved in any cache: {0}#{1}",
+								MessageHelper.infoString( persister ),
+								event.getNaturalIdValues()
+						);
+					}
 
-		return loadFromDatasource( event );
+					return loadFromDatasource( event );
+				} );
 	}
 
 	/**
@@ -0,0 +1,121 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.event.impl;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Collects the entities which Hibernate ORM tries to load while it
+ * assembles the results of a query from the query cache, but which
+ * aren't in the persistence context.
+ * <p>
+ * While the results are assembled, {@link DefaultReactiveLoadEventListener}
+ * records each such entity here, and returns a placeholder instead of
+ * loading it, since it can't load it without blocking. The assembled
+ * results must then be discarded, the recorded entities loaded, and
+ * the results assembled again.
+ * <p>
+ * Only the entities of the results themselves are recorded. The entities
+ * they refer to are loaded while an entity of the results is resolved, and
+ * are resolved, or proxied, as usual, so that a placeholder never ends up
+ * in the state of an entity.
+ */
+public final class UnresolvedEntities {
+
+	private static final ThreadLocal<UnresolvedEntities> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Stands in for an entity which isn't in the persistence context
+	 */
+	static final Object PLACEHOLDER = new Object();
+
+	private final Map<EntityPersister, Set<Serializable>> idsByPersister = new LinkedHashMap<>();
+	private boolean resolving;
+
+	/**
+	 * Perform the given work, recording the entities it tries to load
+	 * which aren't in the persistence context.
+	 */
+	public <T> T collect(Supplier<T> work) {
+		final UnresolvedEntities previous = CURRENT.get();
+		CURRENT.set( this );
+		try {
+			return work.get();
+		}
+		finally {
+			if ( previous == null ) {
+				CURRENT.remove();
+			}
+			else {
+				CURRENT.set( previous );
+			}
+		}
+	}
+
+	/**
+	 * @return the unresolved entities collected by the calling thread,
+	 *         or {@code null} if it isn't collecting them
+	 */
+	static UnresolvedEntities current() {
+		return CURRENT.get();
+	}
+
+	void record(EntityKey key) {
+		idsByPersister
+				.computeIfAbsent( key.getPersister(), p -> new LinkedHashSet<>() )
+				.add( key.getIdentifier() );
+	}
+
+	/**
+	 * Resolve an entity of the results, which is available without going
+	 * to the database. The entities it refers to are never recorded.
+	 */
+	void resolve(Runnable load) {
+		final boolean wasResolving = resolving;
+		resolving = true;
+		try {
+			load.run();
+		}
+		finally {
+			resolving = wasResolving;
+		}
+	}
+
+	/**
+	 * @return {@code true} if an entity of the results is being resolved,
+	 *         so that any entity loaded now is an entity it refers to
+	 */
+	boolean isResolving() {
+		return resolving;
+	}
+
+	public boolean isEmpty() {
+		return idsByPersister.isEmpty();
+	}
+
+	public int size() {
+		int size = 0;
+		for ( Set<Serializable> ids : idsByPersister.values() ) {
+			size += ids.size();
+		}
+		return size;
+	}
+
+	/**
+	 * @return the identifiers of the recorded entities, by entity type
+	 */
+	public Map<EntityPersister, Set<Serializable>> getIdsByPersister() {
+		return idsByPersister;
+	}
+}
@@ -0,0 +1,22 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.exception;
+
+import org.hibernate.HibernateException;
+
+/**
+ * A request for a connection was rejected immediately, without
+ * waiting for a connection to become available, because the
+ * connection pool is overloaded.
+ *
+ * @see org.hibernate.reactive.provider.Settings#POOL_ADMISSION_MAX_WAIT
+ */
+public class ConnectionAcquisitionRejectedException extends HibernateException {
+
+	public ConnectionAcquisitionRejectedException(String message) {
+		super( message );
+	}
+}
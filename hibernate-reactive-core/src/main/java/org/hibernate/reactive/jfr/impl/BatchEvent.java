@@ -0,0 +1,65 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A batch of statements executed by a
+ * {@link org.hibernate.reactive.pool.BatchingConnection}.
+ */
+@Name(BatchEvent.NAME)
+@Label("Statement Batch")
+@Description("A batch of SQL statements executed by Hibernate Reactive")
+@Category({ "Hibernate Reactive", "Database" })
+@Enabled(false)
+@StackTrace(false)
+public class BatchEvent extends Event {
+
+	public static final String NAME = "org.hibernate.reactive.Batch";
+
+	@Label("SQL Hash")
+	@Description("The String.hashCode() of the SQL")
+	public int sqlHash;
+
+	@Label("Batch Size")
+	public int batchSize;
+
+	@Label("Failed")
+	public boolean failed;
+
+	/**
+	 * Start timing a batch
+	 */
+	public static BatchEvent begin(String sql, int batchSize) {
+		final BatchEvent event = new BatchEvent();
+		if ( event.isEnabled() ) {
+			event.sqlHash = sql.hashCode();
+			event.batchSize = batchSize;
+			event.begin();
+		}
+		return event;
+	}
+
+	/**
+	 * Stop timing the batch, and commit the event if it's enabled
+	 */
+	public void complete(boolean failed) {
+		if ( isEnabled() ) {
+			end();
+			if ( shouldCommit() ) {
+				this.failed = failed;
+				commit();
+			}
+		}
+	}
+}
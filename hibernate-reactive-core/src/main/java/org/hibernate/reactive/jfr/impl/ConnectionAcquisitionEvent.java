@@ -0,0 +1,56 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The wait for a connection from the pool.
+ */
+@Name(ConnectionAcquisitionEvent.NAME)
+@Label("Connection Acquisition")
+@Description("The wait for a connection from the Hibernate Reactive connection pool")
+@Category({ "Hibernate Reactive", "Database" })
+@Enabled(false)
+@StackTrace(false)
+public class ConnectionAcquisitionEvent extends Event {
+
+	public static final String NAME = "org.hibernate.reactive.ConnectionAcquisition";
+
+	@Label("Failed")
+	@Description("If no connection was obtained, because of an error or a rejection by admission control")
+	public boolean failed;
+
+	/**
+	 * Start timing the wait for a connection
+	 */
+	public static ConnectionAcquisitionEvent begin() {
+		final ConnectionAcquisitionEvent event = new ConnectionAcquisitionEvent();
+		if ( event.isEnabled() ) {
+			event.begin();
+		}
+		return event;
+	}
+
+	/**
+	 * Stop timing the wait, and commit the event if it's enabled
+	 */
+	public void complete(boolean failed) {
+		if ( isEnabled() ) {
+			end();
+			if ( shouldCommit() ) {
+				this.failed = failed;
+				commit();
+			}
+		}
+	}
+}
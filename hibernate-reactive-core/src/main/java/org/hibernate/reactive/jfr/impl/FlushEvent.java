@@ -0,0 +1,83 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import org.hibernate.reactive.engine.ReactiveActionQueue;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The execution of the actions queued by a reactive session
+ * when it's flushed.
+ */
+@Name(FlushEvent.NAME)
+@Label("Flush")
+@Description("The execution of the actions of a flush of a Hibernate Reactive session")
+@Category("Hibernate Reactive")
+@Enabled(false)
+@StackTrace(false)
+public class FlushEvent extends Event {
+
+	public static final String NAME = "org.hibernate.reactive.Flush";
+
+	@Label("Entity Insertions")
+	public int insertions;
+
+	@Label("Entity Updates")
+	public int updates;
+
+	@Label("Entity Deletions")
+	public int deletions;
+
+	@Label("Collection Creations")
+	public int collectionCreations;
+
+	@Label("Collection Updates")
+	public int collectionUpdates;
+
+	@Label("Collection Removals")
+	public int collectionRemovals;
+
+	@Label("Failed")
+	public boolean failed;
+
+	/**
+	 * Start timing the execution of the queued actions, which
+	 * are counted now, since they're removed as they execute
+	 */
+	public static FlushEvent begin(ReactiveActionQueue actionQueue) {
+		final FlushEvent event = new FlushEvent();
+		if ( event.isEnabled() ) {
+			event.insertions = actionQueue.numberOfInsertions();
+			event.updates = actionQueue.numberOfUpdates();
+			event.deletions = actionQueue.numberOfDeletions();
+			event.collectionCreations = actionQueue.numberOfCollectionCreations();
+			event.collectionUpdates = actionQueue.numberOfCollectionUpdates();
+			event.collectionRemovals = actionQueue.numberOfCollectionRemovals();
+			event.begin();
+		}
+		return event;
+	}
+
+	/**
+	 * Stop timing the execution, and commit the event if it's enabled
+	 */
+	public void complete(boolean failed) {
+		if ( isEnabled() ) {
+			end();
+			if ( shouldCommit() ) {
+				this.failed = failed;
+				commit();
+			}
+		}
+	}
+}
@@ -0,0 +1,45 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A reactive session, or stateless session, being closed.
+ */
+@Name(SessionCloseEvent.NAME)
+@Label("Session Close")
+@Description("A Hibernate Reactive session being closed")
+@Category("Hibernate Reactive")
+@Enabled(false)
+@StackTrace(false)
+public class SessionCloseEvent extends Event {
+
+	public static final String NAME = "org.hibernate.reactive.SessionClose";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Stateless")
+	public boolean stateless;
+
+	public static void emit(SharedSessionContractImplementor session, boolean stateless) {
+		final SessionCloseEvent event = new SessionCloseEvent();
+		if ( event.shouldCommit() ) {
+			event.sessionIdentifier = session.getSessionIdentifier().toString();
+			event.stateless = stateless;
+			event.commit();
+		}
+	}
+}
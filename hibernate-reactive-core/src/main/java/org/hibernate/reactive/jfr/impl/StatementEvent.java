@@ -0,0 +1,81 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import io.vertx.sqlclient.SqlResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import static org.hibernate.reactive.util.impl.StatementKinds.kind;
+
+/**
+ * A statement executed by the Vert.x SQL client.
+ */
+@Name(StatementEvent.NAME)
+@Label("Statement")
+@Description("A SQL statement executed by Hibernate Reactive")
+@Category({ "Hibernate Reactive", "Database" })
+@Enabled(false)
+@StackTrace(false)
+public class StatementEvent extends Event {
+
+	public static final String NAME = "org.hibernate.reactive.Statement";
+
+	@Label("SQL Hash")
+	@Description("The String.hashCode() of the SQL")
+	public int sqlHash;
+
+	@Label("Kind")
+	@Description("The first keyword of the SQL, for example, select or insert")
+	public String kind;
+
+	@Label("Rows")
+	@Description("The number of rows returned or affected, for every statement of a batch")
+	public long rows;
+
+	@Label("Batch Size")
+	public int batchSize;
+
+	@Label("Failed")
+	public boolean failed;
+
+	/**
+	 * Start timing a statement, or a batch of statements
+	 */
+	public static StatementEvent begin(int batchSize) {
+		final StatementEvent event = new StatementEvent();
+		if ( event.isEnabled() ) {
+			event.batchSize = batchSize;
+			event.begin();
+		}
+		return event;
+	}
+
+	/**
+	 * Stop timing the statement, and commit the event if it's enabled
+	 *
+	 * @param result the result, or {@code null} if the statement failed
+	 */
+	public void complete(String sql, SqlResult<?> result) {
+		if ( isEnabled() ) {
+			end();
+			if ( shouldCommit() ) {
+				sqlHash = sql.hashCode();
+				kind = kind( sql );
+				failed = result == null;
+				for ( SqlResult<?> next = result; next != null; next = next.next() ) {
+					rows += next.rowCount();
+				}
+				commit();
+			}
+		}
+	}
+}
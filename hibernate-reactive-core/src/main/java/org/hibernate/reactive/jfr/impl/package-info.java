@@ -0,0 +1,31 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+/**
+ * Java Flight Recorder events emitted by Hibernate Reactive.
+ * <p>
+ * All the events are disabled by default, and are only enabled by
+ * the settings of a recording, for example, on JDK 17 and above:
+ * <pre>
+ * java -XX:StartFlightRecording:+org.hibernate.reactive.Statement#enabled=true ...
+ * </pre>
+ * or, on JDK 11, with a custom {@code .jfc} settings file. When an
+ * event is disabled, emitting it costs a few instructions.
+ * <ul>
+ * <li>{@value org.hibernate.reactive.jfr.impl.StatementEvent#NAME}: a statement
+ * executed by the Vert.x SQL client, with the hash of its SQL, its kind, the
+ * number of rows, and the size of the batch
+ * <li>{@value org.hibernate.reactive.jfr.impl.BatchEvent#NAME}: a batch of
+ * statements executed by a {@link org.hibernate.reactive.pool.BatchingConnection}
+ * <li>{@value org.hibernate.reactive.jfr.impl.ConnectionAcquisitionEvent#NAME}:
+ * the wait for a connection from the pool
+ * <li>{@value org.hibernate.reactive.jfr.impl.FlushEvent#NAME}: the execution of
+ * the actions of a flush, with the number of actions of each type
+ * <li>{@value org.hibernate.reactive.jfr.impl.SessionOpenEvent#NAME} and
+ * {@value org.hibernate.reactive.jfr.impl.SessionCloseEvent#NAME}: a session
+ * being opened or closed
+ * </ul>
+ */
+package org.hibernate.reactive.jfr.impl;
@@ -13,7 +13,9 @@
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+import org.hibernate.CacheMode;
 import org.hibernate.HibernateException;
 import org.hibernate.QueryException;
 import org.hibernate.cache.spi.FilterKey;
@@ -23,9 +25,13 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.cache.impl.CachePrefetch;
+import org.hibernate.reactive.cache.impl.SingleFlight;
 import org.hibernate.reactive.event.impl.UnexpectedAccessToTheDatabase;
+import org.hibernate.reactive.event.impl.UnresolvedEntities;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.transform.CacheableResultTransformer;
 import org.hibernate.transform.ResultTransformer;
@@ -94,9 +100,58 @@ default CompletionStage<List<T>> reactiveListUsingQueryCache(
 
 		QueryKey key = queryKey( sql, session, queryParameters );
 
+		return reactiveListUsingQueryCache( sql, queryIdentifier, session, queryParameters, querySpaces, resultTypes, queryCache, key, true, true );
+	}
+
+	/**
+	 * @param firstAttempt {@code false} if the cached results are being
+	 *                     assembled again, after loading the entities missing
+	 *                     from them, in which case the query is executed right
+	 *                     away if the results still can't be used
+	 * @param mayCoalesce {@code false} if this session already waited for
+	 *                    another session to execute the same query, in which
+	 *                    case it executes the query itself if the results are
+	 *                    still missing from the cache
+	 */
+	default CompletionStage<List<T>> reactiveListUsingQueryCache(
+			final String sql,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final Set<Serializable> querySpaces,
+			final Type[] resultTypes,
+			final QueryResultsCache queryCache,
+			final QueryKey key,
+			final boolean firstAttempt,
+			final boolean mayCoalesce) {
+
+		// the cached results, and the timestamps of the query spaces, are read
+		// synchronously by Hibernate ORM, so obtain them from the cache first
+		return CachePrefetch.queryResults( session, queryCache, key, querySpaces )
+				.then( () -> reactiveListFromQueryCache( sql, queryIdentifier, session, queryParameters, querySpaces, resultTypes, queryCache, key, firstAttempt, mayCoalesce ) )
+				.thenCompose( Function.identity() );
+	}
+
+	default CompletionStage<List<T>> reactiveListFromQueryCache(
+			final String sql,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final Set<Serializable> querySpaces,
+			final Type[] resultTypes,
+			final QueryResultsCache queryCache,
+			final QueryKey key,
+			final boolean firstAttempt,
+			final boolean mayCoalesce) {
+
+		final UnresolvedEntities unresolvedEntities = new UnresolvedEntities();
 		final List<Object> cachedList;
 		try {
-			cachedList = getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
+			cachedList = session instanceof ReactiveSession
+					// the entities in the cached results which aren't in the persistence
+					// context can't be loaded without blocking, so record them instead
+					? unresolvedEntities.collect( () -> getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key ) )
+					: getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
 		}
 		catch (UnexpectedAccessToTheDatabase e) {
 			LOG.debugf( "Some of the entities are not in the cache. The cache will be ignored for query: %s ", sql );
@@ -107,25 +162,76 @@ default CompletionStage<List<T>> reactiveListUsingQueryCache(
 			return reactiveListIgnoreQueryCache( sql, queryIdentifier, session, queryParameters );
 		}
 
-		CompletionStage<List<Object>> list;
-		if ( cachedList == null ) {
-			list = doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
-					.thenApply( cachableList -> {
-						putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
-						return cachableList;
-					} );
+		if ( !unresolvedEntities.isEmpty() ) {
+			// the results we got contain placeholders for the unresolved entities
+			if ( firstAttempt ) {
+				// keep the cached results: load just the missing entities,
+				// in batches, and then assemble the results again
+				LOG.debugf( "Loading %s entities missing from the cached results of query: %s", unresolvedEntities.size(), sql );
+				return ( (ReactiveSession) session ).reactivePreload( unresolvedEntities.getIdsByPersister() )
+						.thenCompose( v -> reactiveListUsingQueryCache( sql, queryIdentifier, session, queryParameters, querySpaces, resultTypes, queryCache, key, false, false ) );
+			}
+			else {
+				// some entities are still missing, so they must have been deleted
+				LOG.debugf( "Some of the entities are not in the database. The cache will be ignored for query: %s ", sql );
+				return reactiveListIgnoreQueryCache( sql, queryIdentifier, session, queryParameters );
+			}
 		}
-		else {
-			list = completedFuture( cachedList );
+
+		if ( cachedList == null ) {
+			if ( mayCoalesce && isSharedQuery( session ) ) {
+				// if another session is already executing the same query, wait for
+				// it to put the results in the cache, and assemble them from there
+				return session.getFactory().getServiceRegistry().getService( SingleFlight.class ).execute(
+						queryCache.getRegion().getName(),
+						key,
+						() -> reactiveListUsingDatabase( sql, queryIdentifier, session, queryParameters, resultTypes, queryCache, key ),
+						// the entities in the results are loaded by the other session,
+						// so they are usually missing from this persistence context, but if
+						// the results themselves are still missing, because the other session
+						// failed, or they're already stale, execute the query right away
+						() -> reactiveListUsingQueryCache( sql, queryIdentifier, session, queryParameters, querySpaces, resultTypes, queryCache, key, true, false )
+				);
+			}
+			return reactiveListUsingDatabase( sql, queryIdentifier, session, queryParameters, resultTypes, queryCache, key );
 		}
 
-		return list.thenApply(
-				result -> getResultList(
-						transform( queryParameters, key, result,
-								resolveResultTransformer( queryParameters.getResultTransformer() ) ),
-						queryParameters.getResultTransformer()
-				)
-		);
+		return completedFuture( getResultList(
+				transform( queryParameters, key, cachedList,
+						resolveResultTransformer( queryParameters.getResultTransformer() ) ),
+				queryParameters.getResultTransformer()
+		) );
+	}
+
+	/**
+	 * @return {@code true} if the results of the query, once executed by
+	 *         this session, can be read by other sessions from the query cache
+	 */
+	private static boolean isSharedQuery(SharedSessionContractImplementor session) {
+		final CacheMode cacheMode = session.getCacheMode();
+		return cacheMode.isGetEnabled() && cacheMode.isPutEnabled();
+	}
+
+	/**
+	 * Execute the query, and put the results in the query cache.
+	 */
+	default CompletionStage<List<T>> reactiveListUsingDatabase(
+			final String sql,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final Type[] resultTypes,
+			final QueryResultsCache queryCache,
+			final QueryKey key) {
+		return doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
+				.thenApply( cachableList -> {
+					putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
+					return getResultList(
+							transform( queryParameters, key, cachableList,
+									resolveResultTransformer( queryParameters.getResultTransformer() ) ),
+							queryParameters.getResultTransformer()
+					);
+				} );
 	}
 
 	default List<?> transform(QueryParameters queryParameters, QueryKey key, List<Object> result,
@@ -17,8 +17,11 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.reactive.adaptor.impl.QueryParametersAdaptor;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.pool.impl.StatementTimeout;
 import org.hibernate.reactive.session.impl.ReactiveQueryExecutorLookup;
 import org.hibernate.transform.ResultTransformer;
 
@@ -103,6 +106,34 @@ default CompletionStage<ResultSet> executeReactiveQueryStatement(
 			QueryParameters queryParameters,
 			List<AfterLoadAction> afterLoadActions,
 			SharedSessionContractImplementor session) {
+		return executeReactiveQueryStatement( sqlStatement, queryParameters, afterLoadActions, session, ReactiveConnection::selectJdbc );
+	}
+
+	/**
+	 * Execute the query, building each result directly from a row returned
+	 * by the database. The persistence context of the session isn't touched,
+	 * and the query cache isn't used.
+	 */
+	default <T> CompletionStage<List<T>> reactiveListUsingRowMapper(
+			String sql,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			RowMapper<T> rowMapper) {
+		return executeReactiveQueryStatement(
+				sql,
+				queryParameters,
+				new ArrayList<>(),
+				session,
+				(connection, sqlToExecute, parameterArray) -> connection.select( sqlToExecute, parameterArray, rowMapper )
+		);
+	}
+
+	default <T> CompletionStage<T> executeReactiveQueryStatement(
+			String sqlStatement,
+			QueryParameters queryParameters,
+			List<AfterLoadAction> afterLoadActions,
+			SharedSessionContractImplementor session,
+			Select<T> select) {
 
 		// Processing query filters.
 		queryParameters.processFilters( sqlStatement, session );
@@ -128,8 +159,21 @@ else if ( LimitHelper.useLimit( limitHandler, queryParameters.getRowSelection()
 			sql = parameters().processLimit( sql, parameterArray, LimitHelper.hasFirstRow( queryParameters.getRowSelection() ) );
 		}
 
-		return ReactiveQueryExecutorLookup.extract( session ).getReactiveConnection()
-				.selectJdbc( sql, parameterArray );
+		final ReactiveConnection connection = ReactiveQueryExecutorLookup.extract( session ).getReactiveConnection();
+		return StatementTimeout.withTimeout(
+				select.execute( connection, sql, parameterArray ),
+				queryParameters.getRowSelection() == null ? null : queryParameters.getRowSelection().getTimeout(),
+				sql,
+				connection
+		);
+	}
+
+	/**
+	 * Executes a query, once all the processing of its SQL is done.
+	 */
+	@FunctionalInterface
+	interface Select<T> {
+		CompletionStage<T> execute(ReactiveConnection connection, String sql, Object[] parameterArray);
 	}
 
 	default LimitHandler limitHandler(RowSelection selection, SharedSessionContractImplementor session) {
@@ -0,0 +1,151 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.custom.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.Service;
+
+/**
+ * A bounded cache of the {@link ReactiveCustomLoader}s for native SQL
+ * queries, keyed by the {@link NativeSQLQuerySpecification}, that is,
+ * by the SQL string, the result set mapping, and the query spaces.
+ * A loader caches the column positions and types it discovers when
+ * the query is first executed, and so later executions of the same
+ * query neither rebuild the loader nor repeat the discovery.
+ * <p>
+ * The discovered types are therefore fixed by the first execution of
+ * the query. A query whose columns change type from one execution to
+ * the next, for example {@code select *} from a table whose definition
+ * is altered, or a column whose type depends on the type of a bound
+ * parameter, must either map its results explicitly, or be excluded
+ * by disabling the cache.
+ * <p>
+ * Since a loader belongs to the session factory which created it, and
+ * the service registry might be shared by several session factories,
+ * each factory has its own {@link Loaders}, which are discarded when
+ * the factory is closed. Once the cache of a factory is full, loaders
+ * for new queries are created on each use, and nothing is evicted:
+ * the most common queries are usually the first to be seen.
+ *
+ * @see org.hibernate.reactive.provider.Settings#NATIVE_QUERY_CACHE_MAX_SIZE
+ */
+public class NativeQueryLoaderCache implements Service {
+
+	/**
+	 * The default maximum number of cached loaders.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 500;
+
+	private final ConcurrentHashMap<SessionFactoryImplementor, Loaders> loadersByFactory =
+			new ConcurrentHashMap<>();
+	private final int maxSize;
+
+	/**
+	 * @param maxSize the maximum number of loaders to cache for each
+	 *                session factory, zero disables the cache
+	 */
+	public NativeQueryLoaderCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @return the loaders cached for the given session factory
+	 */
+	public Loaders forFactory(SessionFactoryImplementor factory) {
+		final Loaders loaders = loadersByFactory.get( factory );
+		return loaders == null
+				? loadersByFactory.computeIfAbsent( factory, f -> new Loaders( maxSize ) )
+				: loaders;
+	}
+
+	/**
+	 * Discard the loaders cached for the given session factory, when
+	 * it's closed.
+	 */
+	public void release(SessionFactoryImplementor factory) {
+		loadersByFactory.remove( factory );
+	}
+
+	/**
+	 * The loaders cached for a single session factory.
+	 */
+	public static final class Loaders {
+
+		private final ConcurrentHashMap<NativeSQLQuerySpecification, ReactiveCustomLoader<?>> cache =
+				new ConcurrentHashMap<>();
+		private final int maxSize;
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+
+		private Loaders(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		/**
+		 * Obtain the loader for the given native query, creating it if
+		 * it's not already cached.
+		 *
+		 * @param spec the native query
+		 * @param creator creates the loader on a cache miss
+		 */
+		@SuppressWarnings("unchecked")
+		public <T> ReactiveCustomLoader<T> get(
+				NativeSQLQuerySpecification spec,
+				Supplier<ReactiveCustomLoader<?>> creator) {
+			final ReactiveCustomLoader<?> cached = cache.get( spec );
+			if ( cached != null ) {
+				hits.increment();
+				return (ReactiveCustomLoader<T>) cached;
+			}
+			misses.increment();
+			final ReactiveCustomLoader<?> loader = creator.get();
+			if ( cache.size() < maxSize ) {
+				cache.putIfAbsent( spec, loader );
+			}
+			return (ReactiveCustomLoader<T>) loader;
+		}
+
+		/**
+		 * @return the number of loaders read from the cache
+		 */
+		public long getHitCount() {
+			return hits.sum();
+		}
+
+		/**
+		 * @return the number of loaders that had to be created
+		 */
+		public long getMissCount() {
+			return misses.sum();
+		}
+
+		/**
+		 * @return the fraction of loaders read from the cache, or zero if
+		 *         no loader has been requested yet
+		 */
+		public double getHitRatio() {
+			final long hitCount = getHitCount();
+			final long total = hitCount + getMissCount();
+			return total == 0 ? 0 : (double) hitCount / total;
+		}
+
+		/**
+		 * @return the number of cached loaders
+		 */
+		public int size() {
+			return cache.size();
+		}
+
+		public void clear() {
+			cache.clear();
+		}
+	}
+}
@@ -0,0 +1,37 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.custom.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} for
+ * the {@link NativeQueryLoaderCache}, whose size is configured by
+ * {@link Settings#NATIVE_QUERY_CACHE_MAX_SIZE}.
+ */
+public class NativeQueryLoaderCacheInitiator implements StandardServiceInitiator<NativeQueryLoaderCache> {
+
+	public static final NativeQueryLoaderCacheInitiator INSTANCE = new NativeQueryLoaderCacheInitiator();
+
+	@Override
+	public NativeQueryLoaderCache initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return new NativeQueryLoaderCache( ConfigurationHelper.getInt(
+				Settings.NATIVE_QUERY_CACHE_MAX_SIZE,
+				configurationValues,
+				NativeQueryLoaderCache.DEFAULT_MAX_SIZE
+		) );
+	}
+
+	@Override
+	public Class<NativeQueryLoaderCache> getServiceInitiated() {
+		return NativeQueryLoaderCache.class;
+	}
+}
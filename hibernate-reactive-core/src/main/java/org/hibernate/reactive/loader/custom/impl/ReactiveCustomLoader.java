@@ -29,6 +29,7 @@
 import org.hibernate.param.ParameterBinder;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.Loadable;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.loader.CachingReactiveLoader;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedLoader;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
@@ -77,6 +78,15 @@ public List<Return> getCustomQueryReturns() {
 	private final ReactiveResultSetProcessor resultSetProcessor;
 	private final Parameters parameters;
 
+	/**
+	 * Set once the column positions and types of the result set have been
+	 * discovered, after which this loader may be reused, by any session,
+	 * without discovering them again.
+	 *
+	 * @see NativeQueryLoaderCache
+	 */
+	private volatile boolean typesDiscovered;
+
 	public ReactiveCustomLoader(CustomQuery customQuery, SessionFactoryImplementor factory) {
 		super( new ProcessedCustomQuery( customQuery, Parameters.instance( factory.getJdbcServices().getDialect() ) ), factory);
 		this.resultSetProcessor = new ReactiveLoaderBasedResultSetProcessor( this );
@@ -94,6 +104,13 @@ public CompletionStage<List<T>> reactiveList(
 		return reactiveListIgnoreQueryCache( getSQLString(), getQueryIdentifier(), session, queryParameters );
 	}
 
+	public <R> CompletionStage<List<R>> reactiveList(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			RowMapper<R> rowMapper) throws HibernateException {
+		return reactiveListUsingRowMapper( getSQLString(), session, queryParameters, rowMapper );
+	}
+
 	@Override
 	public List<Object> processResultSet(ResultSet resultSet,
 										 QueryParameters queryParameters,
@@ -119,8 +136,13 @@ public String preprocessSQL(String sql,
 
 	@Override
 	public void discoverTypes(QueryParameters queryParameters, ResultSet resultSet) {
-		if ( queryParameters.hasAutoDiscoverScalarTypes() ) {
-			super.autoDiscoverTypes(resultSet);
+		if ( queryParameters.hasAutoDiscoverScalarTypes() && !typesDiscovered ) {
+			synchronized (this) {
+				if ( !typesDiscovered ) {
+					super.autoDiscoverTypes( resultSet );
+					typesDiscovered = true;
+				}
+			}
 		}
 	}
 
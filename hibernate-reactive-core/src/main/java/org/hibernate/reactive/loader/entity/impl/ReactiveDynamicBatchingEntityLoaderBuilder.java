@@ -14,6 +14,7 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
@@ -58,11 +59,24 @@ public CompletionStage<List<Object>> multiLoad(
 				performUnorderedMultiLoad(persister, ids, session, loadOptions);
 	}
 
+	/**
+	 * Load the entities with the given identifiers using a single query,
+	 * without looking for them in the persistence context or second-level
+	 * cache first.
+	 */
+	public CompletionStage<List<Object>> loadBatch(
+			OuterJoinLoadable persister,
+			Serializable[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		return performOrderedBatchLoad( new ArrayList<>( Arrays.asList( ids ) ), lockOptions, persister, session );
+	}
+
 	private CompletionStage<List<Object>> performOrderedBatchLoad(
 			List<Serializable> idsInBatch,
 			LockOptions lockOptions,
 			OuterJoinLoadable persister,
-			SessionImplementor session) {
+			SharedSessionContractImplementor session) {
 		final int batchSize =  idsInBatch.size();
 		final ReactiveDynamicBatchingEntityLoader batchingLoader = new ReactiveDynamicBatchingEntityLoader(
 				persister,
@@ -0,0 +1,130 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.hql.impl;
+
+import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.EntityAliases;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Loadable;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.tuple.entity.EntityMetamodel;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Builds the entities returned by a read-only query directly from
+ * the result set, for a session which doesn't keep them in its
+ * persistence context anyway: no {@link org.hibernate.engine.spi.EntityEntry},
+ * no snapshot of the loaded state, and no two-phase load. The only
+ * bookkeeping is an identity map, local to each execution of the
+ * query, so that a row repeated in the result set is returned as
+ * the same instance.
+ * <p>
+ * This only works for a query which returns a single entity and
+ * fetches nothing else, and for an entity whose state is made of
+ * basic values and embeddables, with no associations, inheritance
+ * hierarchy, lazy properties, or bytecode enhancement.
+ */
+final class DetachedEntityHydrator {
+
+	private final Loadable persister;
+	private final String[] keyAliases;
+	private final String[][] propertyAliases;
+	private final Type[] propertyTypes;
+
+	private DetachedEntityHydrator(Loadable persister, EntityAliases aliases) {
+		this.persister = persister;
+		this.keyAliases = aliases.getSuffixedKeyAliases();
+		this.propertyAliases = aliases.getSuffixedPropertyAliases();
+		this.propertyTypes = persister.getPropertyTypes();
+	}
+
+	/**
+	 * @return a hydrator for the entity returned by the query, or
+	 *         {@code null} if the query can't be handled this way
+	 */
+	static DetachedEntityHydrator create(
+			Loadable[] entityPersisters,
+			EntityAliases[] entityAliases,
+			CollectionPersister[] collectionPersisters,
+			Type[] returnTypes) {
+		if ( returnTypes.length != 1
+				|| !returnTypes[0].isEntityType()
+				|| entityPersisters == null || entityPersisters.length != 1
+				|| collectionPersisters != null && collectionPersisters.length > 0
+				|| !isEligible( entityPersisters[0] ) ) {
+			return null;
+		}
+		return new DetachedEntityHydrator( entityPersisters[0], entityAliases[0] );
+	}
+
+	private static boolean isEligible(EntityPersister persister) {
+		final EntityMetamodel metamodel = persister.getEntityMetamodel();
+		return !metamodel.isInherited()
+				&& !metamodel.hasSubclasses()
+				&& !metamodel.hasLazyProperties()
+				&& !metamodel.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading()
+				&& !persister.getIdentifierType().isComponentType()
+				&& !hasAssociations( persister.getPropertyTypes() );
+	}
+
+	private static boolean hasAssociations(Type[] types) {
+		for ( Type type : types ) {
+			if ( type.isAssociationType()
+					|| type.isComponentType() && hasAssociations( ( (CompositeType) type ).getSubtypes() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Read at most {@code maxRows} rows from the result set, which must
+	 * already be positioned before the first row to read.
+	 */
+	List<Object> extract(ResultSet resultSet, int maxRows, SharedSessionContractImplementor session)
+			throws SQLException {
+		final Map<Serializable, Object> instances = new HashMap<>();
+		final List<Object> results = new ArrayList<>();
+		for ( int count = 0; count < maxRows && resultSet.next(); count++ ) {
+			final Serializable id = (Serializable) persister.getIdentifierType()
+					.nullSafeGet( resultSet, keyAliases, session, null );
+			Object instance = instances.get( id );
+			if ( instance == null ) {
+				instance = hydrate( resultSet, id, session );
+				instances.put( id, instance );
+			}
+			results.add( instance );
+		}
+		return results;
+	}
+
+	private Object hydrate(ResultSet resultSet, Serializable id, SharedSessionContractImplementor session)
+			throws SQLException {
+		final Object[] values = new Object[propertyTypes.length];
+		for ( int i = 0; i < values.length; i++ ) {
+			// there are no associations to resolve, so
+			// the values can be read in a single step
+			values[i] = propertyTypes[i].nullSafeGet( resultSet, propertyAliases[i], session, null );
+		}
+		final Object instance = persister.instantiate( id, session );
+		persister.setPropertyValues( instance, values );
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.loadEntity( persister.getEntityName() );
+		}
+		return instance;
+	}
+}
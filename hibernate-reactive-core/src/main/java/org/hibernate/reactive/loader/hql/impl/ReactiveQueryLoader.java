@@ -10,6 +10,7 @@
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.engine.spi.*;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
@@ -17,11 +18,13 @@
 import org.hibernate.loader.plan.exec.query.spi.NamedParameterContext;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedLoader;
 import org.hibernate.reactive.loader.CachingReactiveLoader;
 import org.hibernate.reactive.loader.ReactiveLoaderBasedResultSetProcessor;
 import org.hibernate.reactive.loader.ReactiveResultSetProcessor;
 import org.hibernate.reactive.pool.impl.Parameters;
+import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -29,6 +32,7 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -43,6 +47,7 @@
 	private final SelectClause selectClause;
 	private final ReactiveResultSetProcessor resultSetProcessor;
 	private final Parameters parameters;
+	private final DetachedEntityHydrator detachedEntityHydrator;
 
 	public ReactiveQueryLoader(
 			QueryTranslatorImpl queryTranslator,
@@ -53,6 +58,12 @@ public ReactiveQueryLoader(
 		this.factory = factory;
 		this.parameters = Parameters.instance( factory.getJdbcServices().getDialect() );
 		this.selectClause = selectClause;
+		this.detachedEntityHydrator = DetachedEntityHydrator.create(
+				getEntityPersisters(),
+				getEntityAliases(),
+				getCollectionPersisters(),
+				selectClause.getQueryReturnTypes()
+		);
 		this.resultSetProcessor = new ReactiveLoaderBasedResultSetProcessor( this ) {
 			public CompletionStage<List<Object>> reactiveExtractResults(ResultSet rs,
 																		SharedSessionContractImplementor session,
@@ -100,6 +111,21 @@ public CompletionStage<List<T>> reactiveList(
 		);
 	}
 
+	/**
+	 * Return the query results, as built by the given {@link RowMapper}
+	 * from the rows returned by the database.
+	 */
+	public <R> CompletionStage<List<R>> reactiveList(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			RowMapper<R> rowMapper) throws HibernateException {
+		checkQuery( queryParameters );
+		String sql = hasFilters( session )
+				? getSQLString()
+				: parameters().process( getSQLString() );
+		return reactiveListUsingRowMapper( sql, session, queryParameters, rowMapper );
+	}
+
 	/**
 	 * Return the query results, using the query cache, called
 	 * by subclasses that implement cacheable queries
@@ -125,11 +151,54 @@ protected CompletionStage<List<T>> reactiveList(
 		if ( cacheable ) {
 			return reactiveListUsingQueryCache( sql, getQueryIdentifier(), session, queryParameters, querySpaces, resultTypes );
 		}
+		else if ( isDetachedLoad( session, queryParameters ) ) {
+			return reactiveListDetached( sql, session, queryParameters );
+		}
 		else {
 			return reactiveListIgnoreQueryCache( sql, getQueryIdentifier(), session, queryParameters );
 		}
 	}
 
+	/**
+	 * A stateless session doesn't keep the entities it loads, so, for
+	 * a query explicitly marked read-only, we skip the persistence
+	 * context altogether when possible.
+	 */
+	private boolean isDetachedLoad(SharedSessionContractImplementor session, QueryParameters queryParameters) {
+		return detachedEntityHydrator != null
+				&& session instanceof ReactiveStatelessSession
+				&& queryParameters.isReadOnlyInitialized()
+				&& queryParameters.isReadOnly()
+				&& queryParameters.getResultTransformer() == null
+				&& queryParameters.getOptionalObject() == null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private CompletionStage<List<T>> reactiveListDetached(
+			String sql,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters) {
+		final RowSelection rowSelection = queryParameters.getRowSelection();
+		final int maxRows = LimitHelper.hasMaxRows( rowSelection ) ? rowSelection.getMaxRows() : Integer.MAX_VALUE;
+		return executeReactiveQueryStatement( sql, queryParameters, new ArrayList<>(), session )
+				.thenApply( resultSet -> {
+					try {
+						final ResultSet resultSetPreprocessed = preprocessResultSet(
+								resultSet,
+								rowSelection,
+								getLimitHandler( rowSelection ),
+								false,
+								session
+						);
+						return (List<T>) detachedEntityHydrator.extract( resultSetPreprocessed, maxRows, session );
+					}
+					catch (SQLException sqle) {
+						throw factory.getJdbcServices().getSqlExceptionHelper()
+								.convert( sqle, "could not execute query", sql );
+					}
+				} );
+	}
+
 	private static boolean hasFilters(SharedSessionContractImplementor session) {
 		return session.getLoadQueryInfluencers().hasEnabledFilters();
 	}
@@ -7,12 +7,15 @@
 
 
 import java.io.Serializable;
+import java.util.concurrent.CancellationException;
 
 import javax.persistence.PersistenceException;
+import javax.persistence.QueryTimeoutException;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LazyInitializationException;
 import org.hibernate.cache.CacheException;
+import org.hibernate.reactive.exception.ConnectionAcquisitionRejectedException;
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.annotations.Cause;
@@ -226,6 +229,77 @@ public interface Log extends BasicLogger {
 	@Message(id = 73, value = "%1$s is an invalid identity type when using CockroachDB (entity %2$s) - CockroachDB might generates identifiers that are too big and won't always fit in a %1$s. java.lang.Long is valid replacement")
 	HibernateException invalidIdentifierTypeForCockroachDB(@FormatWith(ClassFormatter.class) Class<?> idType, String entityName);
 
+	@Message(id = 74, value = "Connection request rejected: %1$d requests are already waiting for or holding a connection, and the current limit is %2$d")
+	ConnectionAcquisitionRejectedException connectionAcquisitionRejected(int inFlight, int limit);
+
+	@Message(id = 75, value = "Statement was cancelled before its results were processed: %1$s")
+	CancellationException statementCancelled(String sql);
+
+	@Message(id = 76, value = "Query exceeded its timeout of %1$d seconds: %2$s")
+	QueryTimeoutException queryTimeoutExceeded(int timeout, String sql);
+
+	@Message(id = 77, value = "A result mapper can't be used with a polymorphic query which is split into %1$d SQL queries: %2$s")
+	HibernateException resultMapperWithSplitQuery(int length, String query);
+
+	@Message(id = 78, value = "Keyset pagination requires a query which returns a single entity: %1$s")
+	IllegalArgumentException keysetQueryMustReturnEntity(String query);
+
+	@Message(id = 79, value = "Keyset pagination requires a query with no 'order by', 'group by', or 'having' clause, since the order is given by the sort keys: %1$s")
+	IllegalArgumentException keysetQueryWithOrderOrGroup(String query);
+
+	@LogMessage(level = INFO)
+	@Message(id = 80, value = "Precompiled %1$d query plans in %2$d ms using %3$d threads (slowest took %4$d ms: %5$s)")
+	void precompiledQueryPlans(int count, long millis, int threads, long slowestMillis, String slowestQuery);
+
+	@Message(id = 81, value = "Unable to precompile the plan of query: %1$s")
+	HibernateException unableToPrecompileQueryPlan(String query, @Cause Throwable cause);
+
+	@Message(id = 82, value = "Errors in named queries: %1$s")
+	HibernateException errorsInNamedQueries(String queryNames, @Cause Throwable cause);
+
+	@Message(id = 83, value = "Keyset pagination requires sort keys which are never null, but '%1$s' is null for an instance of '%2$s'")
+	IllegalArgumentException keysetSortKeyIsNull(String property, String entityName);
+
+	@Message(id = 84, value = "Keyset pagination requires a select query: %1$s")
+	UnsupportedOperationException keysetQueryMustBeSelect(String query);
+
+	@Message(id = 85, value = "Keyset pagination can't be used with a result mapper: %1$s")
+	UnsupportedOperationException keysetQueryWithResultMapper(String query);
+
+	@Message(id = 86, value = "Keyset pagination is not supported for native queries: %1$s")
+	UnsupportedOperationException keysetNativeQuery(String query);
+
+	@LogMessage(level = WARN)
+	@Message(id = 87, value = "There are %1$d event loops but the connection pool holds at most %2$d connections, so only %2$d event loops have connections of their own")
+	void moreEventLoopsThanConnections(int eventLoops, int maxSize);
+
+	@LogMessage(level = INFO)
+	@Message(id = 88, value = "Connection pool admission control: max wait %1$d ms, concurrency limit between %2$d and %3$d")
+	void connectionPoolAdmissionControl(int maxWait, int minLimit, int maxLimit);
+
+	@LogMessage(level = WARN)
+	@Message(id = 89, value = "Slow statement took %1$d ms and returned or affected %2$d rows, with parameters %3$s: %4$s")
+	void slowStatement(long millis, long rows, String parameters, String sql);
+
+	@LogMessage(level = INFO)
+	@Message(id = 90, value = "Execution plan of slow statement: %1$s%n%2$s")
+	void slowStatementPlan(String sql, String plan);
+
+	@LogMessage(level = WARN)
+	@Message(id = 91, value = "Could not obtain the execution plan of slow statement: %1$s")
+	void slowStatementPlanFailed(String sql, @Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = 92, value = "Could not access second-level cache region %1$s")
+	void cacheRegionAccessFailed(String regionName, @Cause Throwable cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = 93, value = "Connection pool of %1$d connections split across %2$d event loops")
+	void connectionPoolEventLoopAffinity(int maxSize, int eventLoops);
+
+	@Message(id = 94, value = "The connection can't read the rows returned by the statement: %1$s")
+	UnsupportedOperationException returnedValuesNotSupported(String sql);
+
 	// Same method that exists in CoreMessageLogger
 	@LogMessage(level = WARN)
 	@Message(id = 104, value = "firstResult/maxResults specified with collection fetch; applying in memory!" )
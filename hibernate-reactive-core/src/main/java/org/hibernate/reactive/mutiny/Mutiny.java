@@ -40,10 +40,14 @@
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.reactive.common.AffectedEntities;
 import org.hibernate.reactive.common.Identifier;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 import org.hibernate.reactive.session.impl.ReactiveQueryExecutorLookup;
@@ -184,6 +188,43 @@ public interface Mutiny {
 		 */
 		Uni<List<R>> getResultList();
 
+		/**
+		 * Asynchronously execute this query, returning the page of results
+		 * identified by the given {@link KeysetPage}, together with the
+		 * {@code KeysetPage} which identifies the next page.
+		 * <p>
+		 * Instead of skipping the results on the previous pages with an
+		 * offset, as {@link #setFirstResult(int)} does, the query is
+		 * rewritten to order its results by the sort keys of the page,
+		 * and to restrict them to results which follow the last key of
+		 * the previous page. The cost of obtaining a page therefore
+		 * doesn't depend on its depth.
+		 * <p>
+		 * The query must return a single entity, and may not have an
+		 * {@code order by}, {@code group by}, or {@code having} clause.
+		 *
+		 * @param page the page of results
+		 * @return the results on the page, and the next page
+		 */
+		Uni<KeysetResultList<R>> getKeysetResultList(KeysetPage page);
+
+		/**
+		 * Walk through all the results of this query, starting from the
+		 * given page, executing the query once for each page, as
+		 * {@link #getKeysetResultList(KeysetPage)} does. The next page is
+		 * only requested once the results of the current page have been
+		 * consumed.
+		 * <p>
+		 * Entities obtained in a {@link Session} remain in its persistence
+		 * context, so a {@link StatelessSession} is usually a better choice
+		 * for walking through a large table.
+		 *
+		 * @param firstPage the page from which to start, usually
+		 *                  {@link KeysetPage#first(int, String...)}
+		 * @return all the results, page by page
+		 */
+		Multi<R> getKeysetResultStream(KeysetPage firstPage);
+
 		/**
 		 * Asynchronously execute this delete, update, or insert query,
 		 * returning the updated row count.
@@ -218,6 +259,29 @@ public interface Mutiny {
 		 */
 		Query<R> setComment(String comment);
 
+		/**
+		 * Set a timeout for the execution of this query, or of the
+		 * statement executed by {@link #executeUpdate()}. If it runs for
+		 * longer, it fails with a
+		 * {@link javax.persistence.QueryTimeoutException}, and the
+		 * statement is cancelled. On PostgreSQL, the statement is aborted
+		 * on the server. On other databases, it runs to completion, but
+		 * its results are discarded.
+		 * <p>
+		 * The timeout doesn't apply to the statements executed when the
+		 * session is flushed.
+		 * <p>
+		 * If the subscriber cancels the {@link Uni} returned by a method
+		 * which executes this query, the statement is cancelled in the
+		 * same way, except for {@link #executeUpdate()}, whose statement
+		 * is never cancelled.
+		 *
+		 * @param timeout the timeout in seconds
+		 *
+		 * @see org.hibernate.jpa.QueryHints#SPEC_HINT_TIMEOUT
+		 */
+		Query<R> setTimeout(int timeout);
+
 		/**
 		 * Enable or disable caching of this query result set in the
 		 * second-level query cache.
@@ -352,6 +416,22 @@ default Query<R> setLockMode(String alias, LockModeType lockModeType) {
 		 */
 		Query<R> setPlan(EntityGraph<R> entityGraph);
 
+		/**
+		 * Build each result of this query directly from a row returned by
+		 * the database, using the given {@link RowMapper}, which obtains
+		 * the values of the row by column index. The columns are numbered
+		 * from 0, in the order of the items of the {@code select} clause.
+		 * <p>
+		 * The results are never managed entities: the persistence context
+		 * and the query cache aren't used, and no {@code Object[]} is
+		 * created for each row. This is the most efficient way to obtain
+		 * a list of DTOs from a query which returns scalar values.
+		 *
+		 * @param rowMapper builds a result from a {@link io.vertx.sqlclient.Row}
+		 * @return this query, typed according to the results of the mapper
+		 */
+		<T> Query<T> setResultMapper(RowMapper<T> rowMapper);
+
 	}
 
 	/**
@@ -709,6 +789,25 @@ default Uni<Void> lock(Object entity, LockModeType lockModeType) {
 			return lock( entity, convertToLockMode(lockModeType) );
 		}
 
+		/**
+		 * Obtain the specified lock level upon multiple managed entity instances
+		 * at once. A pessimistic lock is obtained using one {@code select ... for update},
+		 * or its equivalent for the requested lock mode, for each entity type,
+		 * instead of one statement for each instance.
+		 * <p>
+		 * With {@link LockMode#UPGRADE_SKIPLOCKED}, an instance whose row is
+		 * currently locked by another transaction is skipped, and keeps its
+		 * current lock mode.
+		 *
+		 * @param lockMode the lock level
+		 * @param entities managed persistent instances
+		 *
+		 * @throws IllegalArgumentException if a given instance is not managed
+		 *
+		 * @see #lock(Object, LockMode)
+		 */
+		Uni<Void> lockAll(LockMode lockMode, Object... entities);
+
 //		/**
 //		 * Obtain the specified lock level upon the given object, with the given
 //		 * {@link LockOptions}.
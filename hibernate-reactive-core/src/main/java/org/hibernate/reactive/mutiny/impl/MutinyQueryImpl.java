@@ -5,11 +5,15 @@
  */
 package org.hibernate.reactive.mutiny.impl;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.session.ReactiveQuery;
 
@@ -17,6 +21,7 @@
 import javax.persistence.Parameter;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 /**
@@ -37,8 +42,11 @@ public MutinyQueryImpl(ReactiveQuery<R> delegate, String[] querySpaces, MutinySe
 		delegate.setQuerySpaces( querySpaces );
 	}
 
+	/**
+	 * Execute a query, cancelling the statement if the subscriber cancels.
+	 */
 	<T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier) {
-		return factory.uni(stageSupplier);
+		return factory.uni( stageSupplier, delegate );
 	}
 
     @Override
@@ -98,6 +106,12 @@ public Mutiny.Query<R> setComment(String comment) {
 		return this;
 	}
 
+	@Override
+	public Mutiny.Query<R> setTimeout(int timeout) {
+		delegate.setTimeout( timeout );
+		return this;
+	}
+
 //	@Override
 //	public Mutiny.Query<R> setHint(String hintName, Object value) {
 //		delegate.setQueryHint( hintName, value );
@@ -172,9 +186,16 @@ public Mutiny.Query<R> setPlan(EntityGraph<R> entityGraph) {
 		return this;
 	}
 
+	@Override
+	public <T> Mutiny.Query<T> setResultMapper(RowMapper<T> rowMapper) {
+		return new MutinyQueryImpl<>( delegate.setResultMapper( rowMapper ), factory );
+	}
+
 	@Override
 	public Uni<Integer> executeUpdate() {
-		return uni( delegate::executeReactiveUpdate );
+		// cancelling the subscription doesn't cancel a DML statement,
+		// since the subscriber couldn't tell if its changes were made
+		return factory.uni( delegate::executeReactiveUpdate );
 	}
 
 	@Override
@@ -192,4 +213,20 @@ public Uni<List<R>> getResultList() {
 		return uni( delegate::getReactiveResultList );
 	}
 
+	@Override
+	public Uni<KeysetResultList<R>> getKeysetResultList(KeysetPage page) {
+		return uni( () -> delegate.getReactiveKeysetResultList( page ) );
+	}
+
+	@Override
+	public Multi<R> getKeysetResultStream(KeysetPage firstPage) {
+		return Multi.createBy().repeating()
+				.uni( () -> new AtomicReference<>( firstPage ),
+						nextPage -> getKeysetResultList( nextPage.get() )
+								.invoke( results -> nextPage.set( results.getNextPage() ) ) )
+				// the last page, which has no next page, is still emitted
+				.whilst( KeysetResultList::hasNextPage )
+				.onItem().transformToIterable( KeysetResultList::getResults );
+	}
+
 }
@@ -8,6 +8,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -15,6 +16,7 @@
 import javax.persistence.metamodel.Metamodel;
 
 import org.hibernate.Cache;
+import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.common.spi.Implementor;
@@ -27,6 +29,7 @@
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
@@ -36,6 +39,7 @@
 import org.hibernate.stat.Statistics;
 
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 /**
  * Implementation of {@link Mutiny.SessionFactory}.
@@ -49,6 +53,7 @@ public class MutinySessionFactoryImpl implements Mutiny.SessionFactory, Implemen
 	private final SessionFactoryImpl delegate;
 	private final ReactiveConnectionPool connectionPool;
 	private final Context context;
+	private final boolean releaseConnectionAfterStatement;
 
 	/**
 	 * We store the current sessions in the Context for simplified use;
@@ -64,6 +69,8 @@ public MutinySessionFactoryImpl(SessionFactoryImpl delegate) {
 		this.delegate = delegate;
 		context = delegate.getServiceRegistry().getService( Context.class );
 		connectionPool = delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
+		releaseConnectionAfterStatement = delegate.getSessionFactoryOptions().getPhysicalConnectionHandlingMode()
+				.getReleaseMode() == ConnectionReleaseMode.AFTER_STATEMENT;
 		contextKeyForSession = new BaseKey<>( Mutiny.Session.class, delegate.getUuid() );
 		contextKeyForStatelessSession = new BaseKey<>( Mutiny.StatelessSession.class, delegate.getUuid() );
 	}
@@ -72,6 +79,37 @@ <T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier) {
 		return Uni.createFrom().completionStage(stageSupplier).runSubscriptionOn( context );
 	}
 
+	/**
+	 * Like {@link #uni(Supplier)}, but if the subscriber cancels while the
+	 * stage is still running, any statement being executed by the connection
+	 * is cancelled, and the processing of its results is abandoned.
+	 * <p>
+	 * Only the execution of a query may be cancelled, since a cancelled
+	 * DML statement may or may not have made its changes. On PostgreSQL,
+	 * the statement is aborted on the server. On other databases, it runs
+	 * to completion, but its results are discarded.
+	 */
+	<T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier, ReactiveConnectionSupplier connectionSupplier) {
+		// The connection must be obtained from the event loop, but
+		// the cancellation may come from any thread
+		final AtomicReference<ReactiveConnection> connection = new AtomicReference<>();
+		return uni( () -> {
+					connection.set( connectionSupplier.getReactiveConnection() );
+					return stageSupplier.get();
+				} )
+				.onCancellation().invoke( () -> cancel( connection.get() ) );
+	}
+
+	private static void cancel(ReactiveConnection connection) {
+		if ( connection != null ) {
+			connection.cancel().whenComplete( (v, e) -> {
+				if ( e != null ) {
+					LOG.debugf( e, "Failed to cancel statement: %s", connection );
+				}
+			} );
+		}
+	}
+
 	@Override
 	public String getUuid() {
 		return delegate.getUuid();
@@ -175,6 +213,10 @@ private SessionCreationOptions options(String tenantIdentifier) {
 
 	private CompletionStage<ReactiveConnection> connection(String tenantId) {
 		assertUseOnEventLoop();
+		if ( releaseConnectionAfterStatement ) {
+			// an actual connection is obtained for each statement
+			return completedFuture( statementScopedConnection( tenantId ) );
+		}
 		return tenantId == null
 				? connectionPool.getConnection()
 				: connectionPool.getConnection( tenantId );
@@ -182,11 +224,20 @@ private CompletionStage<ReactiveConnection> connection(String tenantId) {
 
 	private ReactiveConnection proxyConnection(String tenantId) {
 		assertUseOnEventLoop();
+		if ( releaseConnectionAfterStatement ) {
+			return statementScopedConnection( tenantId );
+		}
 		return tenantId==null
 				? connectionPool.getProxyConnection()
 				: connectionPool.getProxyConnection( tenantId );
 	}
 
+	private ReactiveConnection statementScopedConnection(String tenantId) {
+		return tenantId == null
+				? connectionPool.getStatementScopedConnection()
+				: connectionPool.getStatementScopedConnection( tenantId );
+	}
+
 	@Override
 	public <T> Uni<T> withSession(Function<Mutiny.Session, Uni<T>> work) {
 		Objects.requireNonNull( work, "parameter 'work' is required" );
@@ -54,7 +54,7 @@ public MutinySessionImpl(ReactiveSession session, MutinySessionFactoryImpl facto
 	}
 
 	<T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier) {
-		return factory.uni(stageSupplier);
+		return factory.uni( stageSupplier );
 	}
 
 	@Override
@@ -142,7 +142,7 @@ public Uni<Void> persist(Object entity) {
 
 	@Override
 	public Uni<Void> persistAll(Object... entity) {
-		return uni( () -> applyToAll( delegate::reactivePersist, entity ) );
+		return uni( () -> delegate.reactivePersistAll( entity ) );
 	}
 
 	@Override
@@ -162,7 +162,7 @@ public <T> Uni<T> merge(T entity) {
 
 	@Override @SafeVarargs
 	public final <T> Uni<Void> mergeAll(T... entity) {
-		return uni( () -> applyToAll( delegate::reactiveMerge, entity ) );
+		return uni( () -> delegate.reactiveMergeAll( entity ) );
 	}
 
 	@Override
@@ -182,7 +182,7 @@ public Uni<Void> refresh(Object entity, LockOptions lockOptions) {
 
 	@Override
 	public Uni<Void> refreshAll(Object... entity) {
-		return uni( () -> applyToAll( e -> delegate.reactiveRefresh(e, LockOptions.NONE), entity ) );
+		return uni( () -> delegate.reactiveRefreshAll( entity ) );
 	}
 
 	@Override
@@ -195,6 +195,11 @@ public Uni<Void> lock(Object entity, LockOptions lockOptions) {
 		return uni( () -> delegate.reactiveLock( entity, lockOptions ) );
 	}
 
+	@Override
+	public Uni<Void> lockAll(LockMode lockMode, Object... entities) {
+		return uni( () -> delegate.reactiveLockAll( new LockOptions(lockMode), entities ) );
+	}
+
 	@Override
 	public <R> Mutiny.Query<R> createQuery(String jpql) {
 		return new MutinyQueryImpl<>( delegate.createReactiveQuery( jpql ), factory );
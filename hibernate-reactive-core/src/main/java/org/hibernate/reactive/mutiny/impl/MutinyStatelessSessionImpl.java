@@ -239,7 +239,9 @@ Uni<T> executeInTransaction(Function<Mutiny.Transaction, Uni<T>> work) {
 					.onCancellation().call( this::rollback )
 					// finally, when there was no exception,
 					// commit or rollback the transaction
-					.call( () -> rollback ? rollback() : commit() );
+					.call( () -> rollback ? rollback() : commit() )
+					.onTermination().invoke( (t, x, cancelled) -> delegate
+							.reactiveAfterTransactionCompletion( !rollback && x == null && !cancelled ) );
 		}
 
 		Uni<Void> begin() {
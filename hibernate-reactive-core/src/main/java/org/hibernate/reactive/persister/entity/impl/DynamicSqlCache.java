@@ -0,0 +1,165 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.impl;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.persister.spi.PersisterCreationContext;
+import org.hibernate.reactive.provider.Settings;
+
+/**
+ * A bounded cache of the SQL generated for {@code @DynamicUpdate} and
+ * {@code @DynamicInsert} entities, after processing by
+ * {@link org.hibernate.reactive.pool.impl.Parameters}. Each entry is
+ * keyed by the kind of statement, the table, and a bitset of the
+ * properties (and, where relevant, the null columns) the statement
+ * was generated for.
+ * <p>
+ * Once the cache is full, statements of a new shape are generated on
+ * each use, and nothing is evicted: the most common shapes are usually
+ * the first to be seen.
+ */
+public final class DynamicSqlCache {
+
+	/**
+	 * The default maximum number of statements cached per entity.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 100;
+
+	static final int UPDATE = 0;
+	static final int INSERT = 1;
+	static final int IDENTITY_INSERT = 2;
+
+	private final ConcurrentHashMap<Key, String> cache = new ConcurrentHashMap<>();
+	private final int maxSize;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param maxSize the maximum number of statements to cache, zero
+	 *                disables the cache
+	 */
+	public DynamicSqlCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	static DynamicSqlCache create(PersisterCreationContext creationContext) {
+		return new DynamicSqlCache( ConfigurationHelper.getInt(
+				Settings.DYNAMIC_SQL_CACHE_MAX_SIZE,
+				creationContext.getSessionFactory().getProperties(),
+				DEFAULT_MAX_SIZE
+		) );
+	}
+
+	String get(Key key, Supplier<String> generator) {
+		final String cached = cache.get( key );
+		if ( cached != null ) {
+			hits.increment();
+			return cached;
+		}
+		misses.increment();
+		final String sql = generator.get();
+		if ( cache.size() < maxSize ) {
+			cache.putIfAbsent( key, sql );
+		}
+		return sql;
+	}
+
+	/**
+	 * @return the number of statements read from the cache
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of statements that had to be generated
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the fraction of statements read from the cache, or zero if
+	 *         no statement has been requested yet
+	 */
+	public double getHitRatio() {
+		final long hitCount = getHitCount();
+		final long total = hitCount + getMissCount();
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+	/**
+	 * @return the number of cached statements
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	public void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * @return a bitset with the bits of the included properties set,
+	 *         to which the caller may add further bits, past the
+	 *         bits of the properties, before building the {@link Key}
+	 */
+	static BitSet bits(boolean[] includeProperty) {
+		final BitSet bits = new BitSet( includeProperty.length );
+		for ( int i = 0; i < includeProperty.length; i++ ) {
+			if ( includeProperty[i] ) {
+				bits.set( i );
+			}
+		}
+		return bits;
+	}
+
+	static Key key(int kind, int table, boolean flag, BitSet bits) {
+		return new Key( kind, table, flag, bits );
+	}
+
+	static final class Key {
+		private final int kind;
+		private final int table;
+		private final boolean flag;
+		private final BitSet bits;
+		private final int hashCode;
+
+		private Key(int kind, int table, boolean flag, BitSet bits) {
+			this.kind = kind;
+			this.table = table;
+			this.flag = flag;
+			this.bits = bits;
+			this.hashCode = Objects.hash( kind, table, flag, bits );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			Key key = (Key) o;
+			return kind == key.kind
+					&& table == key.table
+					&& flag == key.flag
+					&& bits.equals( key.bits );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
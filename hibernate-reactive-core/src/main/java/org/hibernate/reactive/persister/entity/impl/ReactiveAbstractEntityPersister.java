@@ -10,9 +10,15 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import javax.persistence.metamodel.Attribute;
@@ -33,6 +39,7 @@
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.CockroachDB192Dialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.ManagedTypeHelper;
 import org.hibernate.engine.internal.Versioning;
@@ -94,6 +101,8 @@
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor.bind;
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.castToIdentifierType;
+import static org.hibernate.reactive.persister.entity.impl.SelectAliases.EXISTING_ID_ALIAS;
+import static org.hibernate.reactive.persister.entity.impl.SelectAliases.LOCKED_VERSION_ALIAS;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.logSqlException;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
@@ -144,6 +153,132 @@ default ReactiveConnection getReactiveConnection(SharedSessionContractImplemento
 
 	String getSqlUpdateGeneratedValuesSelectString();
 
+	/**
+	 * The {@code returning} clause which reads back the properties generated
+	 * by an insert, or {@code null} if they're read by a separate select.
+	 *
+	 * @see #generateGeneratedValuesReturningClause(GenerationTiming)
+	 */
+	String getSqlInsertGeneratedValuesReturningClause();
+
+	/**
+	 * The {@code returning} clause which reads back the properties generated
+	 * by an update, or {@code null} if they're read by a separate select.
+	 *
+	 * @see #generateGeneratedValuesReturningClause(GenerationTiming)
+	 */
+	String getSqlUpdateGeneratedValuesReturningClause();
+
+	/**
+	 * Generate a {@code returning} clause which reads the generated properties
+	 * back in the same statement as the insert or update, using the same column
+	 * aliases as the select generated by {@link #generateInsertGeneratedValuesSelectString()}
+	 * or {@link #generateUpdateGeneratedValuesSelectString()}.
+	 *
+	 * @return the clause, or {@code null} if the dialect doesn't support
+	 *         {@code returning}, if the entity is mapped to more than one table,
+	 *         or if the insert already returns a generated identifier
+	 */
+	default String generateGeneratedValuesReturningClause(GenerationTiming matchTiming) {
+		final Dialect dialect = getFactory().getJdbcServices().getDialect();
+		if ( !( dialect instanceof PostgreSQL81Dialect || dialect instanceof CockroachDB192Dialect )
+				|| delegate().getTableSpan() > 1
+				|| ( matchTiming == GenerationTiming.INSERT
+					&& getEntityMetamodel().getIdentifierProperty().isIdentifierAssignedByInsert() ) ) {
+			return null;
+		}
+		final StringBuilder clause = new StringBuilder();
+		int propertyIndex = -1;
+		for ( NonIdentifierAttribute attribute : getEntityMetamodel().getProperties() ) {
+			propertyIndex++;
+			if ( isValueGenerationRequired( attribute, matchTiming ) ) {
+				final String[] columns = delegate().getPropertyColumnNames( propertyIndex );
+				final String[] aliases = getPropertyAliases( "", propertyIndex );
+				for ( int k = 0; k < columns.length; k++ ) {
+					if ( columns[k] == null ) {
+						// a formula, which we can't return
+						return null;
+					}
+					clause.append( clause.length() == 0 ? " returning " : ", " )
+							.append( columns[k] ).append( " as " ).append( aliases[k] );
+				}
+			}
+		}
+		return clause.length() == 0 ? null : clause.toString();
+	}
+
+	/**
+	 * The cache of SQL generated for dynamic-update and dynamic-insert.
+	 */
+	DynamicSqlCache dynamicSqlCache();
+
+	/**
+	 * The UPDATE statement for the given table, with dynamic-update,
+	 * reusing a cached statement when one was already generated for
+	 * the same properties.
+	 *
+	 * @see AbstractEntityPersister#generateUpdateString(boolean[], int, Object[], boolean)
+	 */
+	default String generateDynamicUpdateString(boolean[] includeProperty, int j, Object[] oldFields, boolean useRowId) {
+		final BitSet bits = DynamicSqlCache.bits( includeProperty );
+		final OptimisticLockStyle lockStyle = delegate().getEntityMetamodel().getOptimisticLockStyle();
+		final boolean allOrDirty = lockStyle == OptimisticLockStyle.ALL || lockStyle == OptimisticLockStyle.DIRTY;
+		if ( allOrDirty && oldFields != null ) {
+			// the where clause has 'is null' for each null column
+			// of the old state, so we need the nullness in the key
+			final boolean[] includeInWhere = lockStyle == OptimisticLockStyle.ALL
+					? delegate().getPropertyUpdateability()
+					: includeProperty;
+			final boolean[] versionability = delegate().getPropertyVersionability();
+			final Type[] types = delegate().getPropertyTypes();
+			// the first bit after the properties records the presence of the old state
+			int position = includeProperty.length;
+			bits.set( position++ );
+			for ( int i = 0; i < includeProperty.length; i++ ) {
+				if ( includeInWhere[i] && versionability[i] ) {
+					for ( boolean notNull : types[i].toColumnNullness( oldFields[i], getFactory() ) ) {
+						if ( notNull ) {
+							bits.set( position );
+						}
+						position++;
+					}
+				}
+			}
+		}
+		return dynamicSqlCache().get(
+				DynamicSqlCache.key( DynamicSqlCache.UPDATE, j, useRowId, bits ),
+				() -> delegate().generateUpdateString( includeProperty, j, oldFields, useRowId )
+		);
+	}
+
+	/**
+	 * The INSERT statement for the given table, with dynamic-insert,
+	 * reusing a cached statement when one was already generated for
+	 * the same properties.
+	 *
+	 * @see AbstractEntityPersister#generateInsertString(boolean[], int)
+	 */
+	default String generateDynamicInsertString(boolean[] includeProperty, int j) {
+		return dynamicSqlCache().get(
+				DynamicSqlCache.key( DynamicSqlCache.INSERT, j, false, DynamicSqlCache.bits( includeProperty ) ),
+				() -> delegate().generateInsertString( includeProperty, j )
+		);
+	}
+
+	/**
+	 * The INSERT statement for the root table, with dynamic-insert and
+	 * an identity column, reusing a cached statement when one was already
+	 * generated for the same properties.
+	 *
+	 * @see AbstractEntityPersister#generateIdentityInsertString(org.hibernate.boot.model.relational.SqlStringGenerationContext, boolean[])
+	 */
+	default String generateDynamicIdentityInsertString(boolean[] includeProperty) {
+		return dynamicSqlCache().get(
+				DynamicSqlCache.key( DynamicSqlCache.IDENTITY_INSERT, 0, false, DynamicSqlCache.bits( includeProperty ) ),
+				() -> delegate().generateIdentityInsertString( getFactory().getSqlStringGenerationContext(), includeProperty )
+		);
+	}
+
 	/**
 	 * Process properties generated with an insert
 	 *
@@ -155,6 +290,10 @@ default CompletionStage<Void> reactiveProcessInsertGenerated(
 		if ( !hasInsertGeneratedProperties() ) {
 			throw new AssertionFailure( "no insert-generated properties" );
 		}
+		if ( getSqlInsertGeneratedValuesReturningClause() != null ) {
+			// the values were already returned by the insert
+			return voidFuture();
+		}
 		return processGeneratedProperties(
 				id,
 				entity,
@@ -176,6 +315,10 @@ default CompletionStage<Void> reactiveProcessUpdateGenerated(
 		if ( !hasUpdateGeneratedProperties() ) {
 			throw new AssertionFailure( "no update-generated properties" );
 		}
+		if ( getSqlUpdateGeneratedValuesReturningClause() != null ) {
+			// the values were already returned by the update
+			return voidFuture();
+		}
 		return processGeneratedProperties(
 				id,
 				entity,
@@ -203,16 +346,7 @@ default CompletionStage<Void> processGeneratedProperties(
 						if ( !rs.next() ) {
 							throw log.unableToRetrieveGeneratedProperties( infoString( this, id, getFactory() ) );
 						}
-						int propertyIndex = -1;
-						for ( NonIdentifierAttribute attribute : getEntityMetamodel().getProperties() ) {
-							propertyIndex++;
-							if ( isValueGenerationRequired( attribute, matchTiming ) ) {
-								final Object hydratedState = attribute.getType()
-										.hydrate( rs, getPropertyAliases( "", propertyIndex ), session, entity );
-								state[propertyIndex] = attribute.getType().resolve( hydratedState, session, entity );
-								setPropertyValue( entity, propertyIndex, state[propertyIndex] );
-							}
-						}
+						readGeneratedProperties( rs, entity, state, session, matchTiming );
 					}
 					catch (SQLException sqle) {
 						//can never happen
@@ -221,6 +355,52 @@ default CompletionStage<Void> processGeneratedProperties(
 				} );
 	}
 
+	/**
+	 * Read the generated properties from the current row of the given
+	 * result set, and set them on the entity and in its state.
+	 */
+	default void readGeneratedProperties(
+			ResultSet rs,
+			Object entity,
+			Object[] state,
+			SharedSessionContractImplementor session,
+			GenerationTiming matchTiming) throws SQLException {
+		int propertyIndex = -1;
+		for ( NonIdentifierAttribute attribute : getEntityMetamodel().getProperties() ) {
+			propertyIndex++;
+			if ( isValueGenerationRequired( attribute, matchTiming ) ) {
+				final Object hydratedState = attribute.getType()
+						.hydrate( rs, getPropertyAliases( "", propertyIndex ), session, entity );
+				state[propertyIndex] = attribute.getType().resolve( hydratedState, session, entity );
+				setPropertyValue( entity, propertyIndex, state[propertyIndex] );
+			}
+		}
+	}
+
+	/**
+	 * @return a {@link ReactiveConnection.ReturnedValues} which reads the generated
+	 *         properties returned by an insert or update with a {@code returning} clause
+	 */
+	default ReactiveConnection.ReturnedValues generatedPropertiesReader(
+			Object entity,
+			Object[] state,
+			SharedSessionContractImplementor session,
+			GenerationTiming matchTiming,
+			String sql) {
+		return rs -> {
+			try {
+				// no row means the row count was wrong, which the expectation reports
+				if ( rs.next() ) {
+					readGeneratedProperties( rs, entity, state, session, matchTiming );
+				}
+			}
+			catch (SQLException sqle) {
+				//can never happen
+				throw new JDBCException( "unable to read returned generated column values: " + sql, sqle );
+			}
+		};
+	}
+
 	@Override
 	default CompletionStage<Serializable> insertReactive(Object[] fields, Object object, SharedSessionContractImplementor session) {
 		// apply any pre-insert in-memory value generation
@@ -234,7 +414,7 @@ default CompletionStage<Serializable> insertReactive(Object[] fields, Object obj
 								fields,
 								notNull,
 								//this differs from core, but it's core that should be changed:
-								delegate().generateIdentityInsertString( getFactory().getSqlStringGenerationContext(), notNull ),
+								generateDynamicIdentityInsertString( notNull ),
 								session
 						)
 						.thenCompose(
@@ -245,7 +425,7 @@ default CompletionStage<Serializable> insertReactive(Object[] fields, Object obj
 												fields,
 												notNull,
 												table,
-												delegate().generateInsertString( notNull, table ),
+												generateDynamicInsertString( notNull, table ),
 												session
 										)
 								).thenApply( v -> id )
@@ -315,7 +495,8 @@ default CompletionStage<Void> insertReactive(
 										fields,
 										notNull,
 										table,
-										delegate().generateInsertString( notNull, table ),
+										generateDynamicInsertString( notNull, table ),
+										object,
 										session
 								)
 						);
@@ -330,6 +511,7 @@ default CompletionStage<Void> insertReactive(
 										delegate().getPropertyInsertability(),
 										table,
 										delegate().getSQLInsertStrings()[table],
+										object,
 										session
 								)
 						);
@@ -344,6 +526,22 @@ default CompletionStage<Void> insertReactive(
 			int j,
 			String sql,
 			SharedSessionContractImplementor session) {
+		return insertReactive( id, fields, notNull, j, sql, null, session );
+	}
+
+	/**
+	 * Perform an SQL INSERT of the given table. If the entity instance is
+	 * given, and the dialect supports it, the properties generated by the
+	 * insert are read back by the insert statement itself.
+	 */
+	default CompletionStage<Void> insertReactive(
+			Serializable id,
+			Object[] fields,
+			boolean[] notNull,
+			int j,
+			String sql,
+			Object object,
+			SharedSessionContractImplementor session) {
 
 		if ( delegate().isInverseTable( j ) ) {
 			return voidFuture();
@@ -372,6 +570,23 @@ default CompletionStage<Void> insertReactive(
 			int index = delegate().dehydrate( id, fields, notNull, insertable, j, insert, session, false );
 		} );
 
+		final String returning = j == 0 && object != null && hasInsertGeneratedProperties()
+				? getSqlInsertGeneratedValuesReturningClause()
+				: null;
+		if ( returning != null ) {
+			final String insert = sql + returning;
+			return getReactiveConnection( session )
+					.update(
+							insert,
+							params,
+							// values returned by a batch are only read when the batch is
+							// executed, too late for the second-level cache entry
+							useBatch && !canWriteToCache(),
+							new InsertExpectation( expectation, this ),
+							generatedPropertiesReader( object, fields, session, GenerationTiming.INSERT, insert )
+					);
+		}
+
 		return getReactiveConnection( session )
 				.update( sql, params, useBatch, new InsertExpectation( expectation, this ) );
 	}
@@ -594,6 +809,7 @@ default CompletionStage<Boolean> updateReactive(
 			final int j,
 			final Object oldVersion,
 			final String sql,
+			final Object object,
 			final SharedSessionContractImplementor session) {
 
 		final Expectation expectation = appropriateExpectation( delegate().getUpdateResultCheckStyles()[j] );
@@ -658,6 +874,26 @@ else if ( isAllOrDirtyOptimisticLocking() && oldFields != null ) {
 		} );
 
 		UpdateExpectation result = new UpdateExpectation( id, j, expectation, this );
+
+		final String returning = j == 0 && object != null && hasUpdateGeneratedProperties()
+				? getSqlUpdateGeneratedValuesReturningClause()
+				: null;
+		if ( returning != null ) {
+			final String update = sql + returning;
+			// values returned by a batch are only read when the batch is
+			// executed, too late for the second-level cache entry
+			final boolean useReturningBatch = useBatch && !canWriteToCache();
+			return getReactiveConnection( session )
+					.update(
+							update,
+							params,
+							useReturningBatch,
+							result,
+							generatedPropertiesReader( object, fields, session, GenerationTiming.ALWAYS, update )
+					)
+					.thenApply( v -> useReturningBatch || result.isSuccessful() );
+		}
+
 		return getReactiveConnection( session )
 				.update( sql, params, useBatch, result )
 				.thenApply( v -> useBatch || result.isSuccessful() );
@@ -732,7 +968,7 @@ default CompletionStage<Void> updateReactive(
 						for ( int j = 0; j < span; j++ ) {
 							final boolean useRowId = j == 0 && rowId != null;
 							updateStrings[j] = tableUpdateNeeded[j]
-									? delegate().generateUpdateString( propsToUpdate, j, oldFields, useRowId )
+									? generateDynamicUpdateString( propsToUpdate, j, oldFields, useRowId )
 									: null;
 						}
 					}
@@ -753,7 +989,7 @@ else if ( !delegate().isModifiableEntity( entry ) ) {
 						for ( int j = 0; j < span; j++ ) {
 							final boolean useRowId = j == 0 && rowId != null;
 							updateStrings[j] = tableUpdateNeeded[j]
-									? delegate().generateUpdateString( propsToUpdate, j, oldFields, useRowId )
+									? generateDynamicUpdateString( propsToUpdate, j, oldFields, useRowId )
 									: null;
 						}
 					}
@@ -775,6 +1011,7 @@ else if ( !delegate().isModifiableEntity( entry ) ) {
 									table,
 									oldVersion,
 									updateStrings[table],
+									object,
 									session
 							)
 					);
@@ -820,6 +1057,7 @@ default CompletionStage<Void> updateOrInsertReactive(
 			final int j,
 			final Object oldVersion,
 			final String sql,
+			final Object object,
 			final SharedSessionContractImplementor session) {
 
 		if ( !delegate().isInverseTable( j ) ) {
@@ -849,7 +1087,7 @@ else if ( delegate().isNullableTable( j ) && delegate().isAllNull( fields, j ) )
 				);
 			}
 			else {
-				return updateReactive( id, fields, oldFields, rowId, includeProperty, j, oldVersion, sql, session )
+				return updateReactive( id, fields, oldFields, rowId, includeProperty, j, oldVersion, sql, object, session )
 						.thenCompose( updated -> {
 							if ( !updated && !delegate().isAllNull( fields, j ) ) {
 								// Nothing has been updated because the row isn't in the db
@@ -889,6 +1127,23 @@ default String generateSelectLockString(LockOptions lockOptions) {
 		return parameters().process( select.toStatementString() );
 	}
 
+	default String generateSelectLockAllString(LockOptions lockOptions, int count) {
+		final SessionFactoryImplementor factory = getFactory();
+		Dialect dialect = factory.getJdbcServices().getDialect();
+		final SimpleSelect select = new SimpleSelect(dialect)
+				.setLockOptions( lockOptions )
+				.setTableName( getRootTableName() )
+				.addColumn( getRootTableIdentifierColumnNames()[0], EXISTING_ID_ALIAS )
+				.addCondition( getRootTableIdentifierColumnNames()[0], inList( count ) );
+		if ( isVersioned() ) {
+			select.addColumn( getVersionColumnName(), LOCKED_VERSION_ALIAS );
+		}
+		if ( factory.getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( lockOptions.getLockMode() + " lock " + getEntityName() );
+		}
+		return parameters().process( select.toStatementString(), count );
+	}
+
 	default String generateUpdateLockString(LockOptions lockOptions) {
 		final SessionFactoryImplementor factory = getFactory();
 		Dialect dialect = factory.getJdbcServices().getDialect();
@@ -991,6 +1246,106 @@ default CompletionStage<Void> lockReactive(
 		} );
 	}
 
+	/**
+	 * Obtain a pessimistic lock on the rows of many entities without
+	 * blocking, using a single {@code select ... for update}, or its
+	 * equivalent for the requested lock mode.
+	 */
+	@Override
+	default CompletionStage<Set<Serializable>> lockAllReactive(
+			Serializable[] ids,
+			Object[] versions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		switch ( lockOptions.getLockMode() ) {
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case UPGRADE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+				break;
+			default:
+				throw new AssertionFailure( "lock mode is not supported for a batch of entities: " + lockOptions.getLockMode() );
+		}
+
+		final String sql = generateSelectLockAllString( lockOptions, ids.length );
+		final Object[] arguments = PreparedStatementAdaptor.bind( statement -> {
+			for ( int i = 0; i < ids.length; i++ ) {
+				getIdentifierType().nullSafeSet( statement, ids[i], i + 1, session );
+			}
+		} );
+
+		return getReactiveConnection( session )
+				.selectJdbc( sql, arguments )
+				.thenApply( resultSet -> {
+					final Map<Serializable, Object> lockedVersions = new HashMap<>();
+					try {
+						while ( resultSet.next() ) {
+							final Serializable id = (Serializable) getIdentifierType()
+									.nullSafeGet( resultSet, EXISTING_ID_ALIAS, session, null );
+							lockedVersions.put( id, isVersioned()
+									? getVersionType().nullSafeGet( resultSet, LOCKED_VERSION_ALIAS, session, null )
+									: id );
+						}
+					}
+					catch (SQLException e) {
+						//can't actually occur!
+						throw new JDBCException( "error reading locked rows", e );
+					}
+					final List<Serializable> missing = new ArrayList<>();
+					for ( int i = 0; i < ids.length; i++ ) {
+						final Object lockedVersion = lockedVersions.get( ids[i] );
+						if ( lockedVersion == null ) {
+							missing.add( ids[i] );
+						}
+						else if ( isVersioned() && !getVersionType().isEqual( versions[i], lockedVersion ) ) {
+							throw new StaleObjectStateException( getEntityName(), ids[i] );
+						}
+					}
+					return missing;
+				} )
+				.thenCompose( missing -> {
+					if ( missing.isEmpty() ) {
+						return completedFuture( Collections.<Serializable>emptySet() );
+					}
+					if ( lockOptions.getLockMode() != LockMode.UPGRADE_SKIPLOCKED ) {
+						throw new StaleObjectStateException( getEntityName(), missing.get( 0 ) );
+					}
+					// a row missing from the results was skipped because another
+					// transaction holds a lock on it, unless it was deleted
+					return reactiveGetExistingIdentifiers( missing.toArray( new Serializable[0] ), session )
+							.thenApply( existing -> {
+								for ( Serializable id : missing ) {
+									if ( !existing.contains( id ) ) {
+										throw new StaleObjectStateException( getEntityName(), id );
+									}
+								}
+								final Set<Serializable> skipped = new HashSet<>( existing );
+								return skipped;
+							} );
+				} )
+				.handle( (r ,e) -> {
+					logSqlException( e,
+							() -> "could not lock: "
+									+ infoString( this, ids, getFactory() ),
+							sql
+					);
+					return returnOrRethrow( e, r );
+				} );
+	}
+
+	/**
+	 * Load the entities with the given identifiers using a single query,
+	 * ignoring the persistence context and second-level cache.
+	 */
+	@Override
+	default CompletionStage<List<Object>> reactiveLoadBatch(
+			Serializable[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		return ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE.loadBatch( this, ids, lockOptions, session );
+	}
+
 	@Override
 	VersionType<Object> getVersionType();
 
@@ -1120,6 +1475,54 @@ default CompletionStage<Object> reactiveGetCurrentVersion(Serializable id,
 				} );
 	}
 
+	/**
+	 * Determine which of the given identifiers have a row in the root table
+	 * of this entity, using a single query, instead of obtaining a database
+	 * snapshot of each entity.
+	 *
+	 * @return the identifiers which have a row
+	 */
+	default CompletionStage<List<Serializable>> reactiveGetExistingIdentifiers(
+			Serializable[] ids,
+			SharedSessionContractImplementor session) {
+		final String sql = new SimpleSelect( getFactory().getJdbcServices().getDialect() )
+				.setTableName( getRootTableName() )
+				.addColumn( getRootTableIdentifierColumnNames()[0], EXISTING_ID_ALIAS )
+				.addCondition( getRootTableIdentifierColumnNames()[0], inList( ids.length ) )
+				.toStatementString();
+
+		final Object[] params = PreparedStatementAdaptor.bind( statement -> {
+			for ( int i = 0; i < ids.length; i++ ) {
+				getIdentifierType().nullSafeSet( statement, ids[i], i + 1, session );
+			}
+		} );
+
+		return getReactiveConnection( session )
+				.selectJdbc( parameters().process( sql, ids.length ), params )
+				.thenApply( resultSet -> {
+					final List<Serializable> existing = new ArrayList<>( ids.length );
+					try {
+						while ( resultSet.next() ) {
+							existing.add( (Serializable) getIdentifierType()
+									.nullSafeGet( resultSet, EXISTING_ID_ALIAS, session, null ) );
+						}
+					}
+					catch (SQLException e) {
+						//can't actually occur!
+						throw new JDBCException( "error reading identifiers", e );
+					}
+					return existing;
+				} );
+	}
+
+	private static String inList(int parameterCount) {
+		final StringBuilder inList = new StringBuilder( "in (" );
+		for ( int i = 0; i < parameterCount; i++ ) {
+			inList.append( i == 0 ? "?" : ",?" );
+		}
+		return inList.append( ')' ).toString();
+	}
+
 	//would be nice of we could just reuse this code from AbstractEntityPersister
 	default Object[] processSnapshot(SharedSessionContractImplementor session, ResultSet resultSet) {
 		try {
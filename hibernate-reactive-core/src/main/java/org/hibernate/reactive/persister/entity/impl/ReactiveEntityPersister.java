@@ -20,6 +20,7 @@
 import javax.persistence.metamodel.Attribute;
 import java.io.Serializable;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 
@@ -90,6 +91,35 @@ CompletionStage<Void> lockReactive(
 			SharedSessionContractImplementor session)
 			throws HibernateException;
 
+	/**
+	 * Obtain a pessimistic lock on many rows without blocking
+	 *
+	 * @param versions the current versions of the entities, ignored
+	 *                 if the entity is not versioned
+	 *
+	 * @return the identifiers of the rows which weren't locked because
+	 *         another transaction holds a lock on them, which only happens
+	 *         for {@link org.hibernate.LockMode#UPGRADE_SKIPLOCKED}
+	 *
+	 * @throws org.hibernate.StaleObjectStateException if a row was deleted,
+	 *         or its version doesn't match
+	 */
+	CompletionStage<Set<Serializable>> lockAllReactive(
+			Serializable[] ids,
+			Object[] versions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session)
+			throws HibernateException;
+
+	/**
+	 * Load a batch of entities by identifier, ignoring the persistence
+	 * context and second-level cache.
+	 */
+	CompletionStage<List<Object>> reactiveLoadBatch(
+			Serializable[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session);
+
 	CompletionStage<List<Object>> reactiveMultiLoad(
 	 		Serializable[] ids,
 			SessionImplementor session,
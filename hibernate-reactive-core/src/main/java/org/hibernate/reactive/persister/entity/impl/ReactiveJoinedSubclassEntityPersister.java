@@ -30,6 +30,7 @@
 import org.hibernate.reactive.loader.entity.ReactiveUniqueEntityLoader;
 import org.hibernate.reactive.loader.entity.impl.ReactiveBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.loader.entity.impl.ReactiveCascadeEntityLoader;
+import org.hibernate.tuple.GenerationTiming;
 import org.hibernate.type.Type;
 
 /**
@@ -41,6 +42,9 @@ public class ReactiveJoinedSubclassEntityPersister extends JoinedSubclassEntityP
 
 	private String sqlUpdateGeneratedValuesSelectString;
 	private String sqlInsertGeneratedValuesSelectString;
+	private String sqlInsertGeneratedValuesReturningClause;
+	private String sqlUpdateGeneratedValuesReturningClause;
+	private final DynamicSqlCache dynamicSqlCache;
 
 	public ReactiveJoinedSubclassEntityPersister(
 			PersistentClass persistentClass,
@@ -48,6 +52,12 @@ public ReactiveJoinedSubclassEntityPersister(
 			NaturalIdDataAccess naturalIdRegionAccessStrategy,
 			PersisterCreationContext creationContext) throws HibernateException {
 		super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+		dynamicSqlCache = DynamicSqlCache.create( creationContext );
+	}
+
+	@Override
+	public DynamicSqlCache dynamicSqlCache() {
+		return dynamicSqlCache;
 	}
 
 	@Override
@@ -60,6 +70,7 @@ public String generateSelectVersionString() {
 	public String generateUpdateGeneratedValuesSelectString() {
 		sqlUpdateGeneratedValuesSelectString = parameters()
 				.process( super.generateUpdateGeneratedValuesSelectString() );
+		sqlUpdateGeneratedValuesReturningClause = generateGeneratedValuesReturningClause( GenerationTiming.ALWAYS );
 		return sqlUpdateGeneratedValuesSelectString;
 	}
 
@@ -67,6 +78,7 @@ public String generateUpdateGeneratedValuesSelectString() {
 	public String generateInsertGeneratedValuesSelectString() {
 		sqlInsertGeneratedValuesSelectString = parameters()
 				.process( super.generateInsertGeneratedValuesSelectString() );
+		sqlInsertGeneratedValuesReturningClause = generateGeneratedValuesReturningClause( GenerationTiming.INSERT );
 		return sqlInsertGeneratedValuesSelectString;
 	}
 
@@ -274,6 +286,16 @@ public String getSqlUpdateGeneratedValuesSelectString() {
 		return sqlUpdateGeneratedValuesSelectString;
 	}
 
+	@Override
+	public String getSqlInsertGeneratedValuesReturningClause() {
+		return sqlInsertGeneratedValuesReturningClause;
+	}
+
+	@Override
+	public String getSqlUpdateGeneratedValuesReturningClause() {
+		return sqlUpdateGeneratedValuesReturningClause;
+	}
+
 	public ReactiveUniqueEntityLoader getAppropriateUniqueKeyLoader(String propertyName, SharedSessionContractImplementor session) {
 		return (ReactiveUniqueEntityLoader) super.getAppropriateUniqueKeyLoader(propertyName, session);
 	}
@@ -33,6 +33,7 @@
 import org.hibernate.reactive.loader.entity.ReactiveUniqueEntityLoader;
 import org.hibernate.reactive.loader.entity.impl.ReactiveBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.loader.entity.impl.ReactiveCascadeEntityLoader;
+import org.hibernate.tuple.GenerationTiming;
 import org.hibernate.type.Type;
 
 /**
@@ -44,6 +45,9 @@ public class ReactiveSingleTableEntityPersister extends SingleTableEntityPersist
 
 	private String sqlInsertGeneratedValuesSelectString;
 	private String sqlUpdateGeneratedValuesSelectString;
+	private String sqlInsertGeneratedValuesReturningClause;
+	private String sqlUpdateGeneratedValuesReturningClause;
+	private final DynamicSqlCache dynamicSqlCache;
 
 	public ReactiveSingleTableEntityPersister(
 			PersistentClass persistentClass,
@@ -51,6 +55,12 @@ public ReactiveSingleTableEntityPersister(
 			NaturalIdDataAccess naturalIdRegionAccessStrategy,
 			PersisterCreationContext creationContext) throws HibernateException {
 		super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+		dynamicSqlCache = DynamicSqlCache.create( creationContext );
+	}
+
+	@Override
+	public DynamicSqlCache dynamicSqlCache() {
+		return dynamicSqlCache;
 	}
 
 	@Override
@@ -72,6 +82,7 @@ public String generateSelectVersionString() {
 	public String generateUpdateGeneratedValuesSelectString() {
 		sqlUpdateGeneratedValuesSelectString = parameters()
 				.process( super.generateUpdateGeneratedValuesSelectString() );
+		sqlUpdateGeneratedValuesReturningClause = generateGeneratedValuesReturningClause( GenerationTiming.ALWAYS );
 		return sqlUpdateGeneratedValuesSelectString;
 	}
 
@@ -79,6 +90,7 @@ public String generateUpdateGeneratedValuesSelectString() {
 	public String generateInsertGeneratedValuesSelectString() {
 		sqlInsertGeneratedValuesSelectString = parameters()
 				.process( super.generateInsertGeneratedValuesSelectString() );
+		sqlInsertGeneratedValuesReturningClause = generateGeneratedValuesReturningClause( GenerationTiming.INSERT );
 		return sqlInsertGeneratedValuesSelectString;
 	}
 
@@ -291,6 +303,16 @@ public String getSqlUpdateGeneratedValuesSelectString() {
 		return sqlUpdateGeneratedValuesSelectString;
 	}
 
+	@Override
+	public String getSqlInsertGeneratedValuesReturningClause() {
+		return sqlInsertGeneratedValuesReturningClause;
+	}
+
+	@Override
+	public String getSqlUpdateGeneratedValuesReturningClause() {
+		return sqlUpdateGeneratedValuesReturningClause;
+	}
+
 	public ReactiveUniqueEntityLoader getAppropriateUniqueKeyLoader(String propertyName, SharedSessionContractImplementor session) {
 		return (ReactiveUniqueEntityLoader) super.getAppropriateUniqueKeyLoader(propertyName, session);
 	}
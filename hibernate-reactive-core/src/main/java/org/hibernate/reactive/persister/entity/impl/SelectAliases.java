@@ -0,0 +1,23 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.impl;
+
+/**
+ * The column aliases of the statements which select the identifiers,
+ * and possibly the versions, of a batch of rows of the root table of
+ * an entity hierarchy.
+ *
+ * @see ReactiveAbstractEntityPersister#lockAllReactive
+ * @see ReactiveAbstractEntityPersister#reactiveGetExistingIdentifiers
+ */
+final class SelectAliases {
+
+	static final String EXISTING_ID_ALIAS = "id0_";
+	static final String LOCKED_VERSION_ALIAS = "version0_";
+
+	private SelectAliases() {
+	}
+}
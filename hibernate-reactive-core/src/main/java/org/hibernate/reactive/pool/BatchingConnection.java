@@ -11,6 +11,8 @@
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import org.hibernate.reactive.common.RowMapper;
+import org.hibernate.reactive.jfr.impl.BatchEvent;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -37,6 +39,8 @@ public class BatchingConnection implements ReactiveConnection {
 	private String batchedSql;
 	private Expectation batchedExpectation;
 	private List<Object[]> batchParamValues;
+	// null unless the batched statement has a returning clause
+	private List<ReturnedValues> batchReturnedValues;
 
 	public BatchingConnection(ReactiveConnection delegate, int batchSize) {
 		this.delegate = delegate;
@@ -63,22 +67,52 @@ public CompletionStage<Void> executeBatch() {
 			String sql = batchedSql;
 			Expectation expectation = batchedExpectation;
 			List<Object[]> paramValues = batchParamValues;
+			List<ReturnedValues> returnedValues = batchReturnedValues;
 			batchedSql = null;
 			batchParamValues = null;
 			batchedExpectation = null;
+			batchReturnedValues = null;
 
-			if ( paramValues.size() == 1 ) {
-				return update( sql, paramValues.get( 0 ) )
-						.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
-			}
-			else {
-				return update( sql, paramValues )
-						.thenAccept( rowCounts -> {
-							for ( int i = 0; i < rowCounts.length; i++ ) {
-								expectation.verifyOutcome( rowCounts[i], i, sql );
-							}
-						} );
-			}
+			final BatchEvent event = BatchEvent.begin( sql, paramValues.size() );
+			final CompletionStage<Void> result = returnedValues != null
+					? executeBatch( sql, expectation, paramValues, returnedValues )
+					: executeBatch( sql, expectation, paramValues );
+			return event.isEnabled()
+					? result.whenComplete( (v, e) -> event.complete( e != null ) )
+					: result;
+		}
+	}
+
+	private CompletionStage<Void> executeBatch(String sql, Expectation expectation, List<Object[]> paramValues) {
+		if ( paramValues.size() == 1 ) {
+			return update( sql, paramValues.get( 0 ) )
+					.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+		}
+		else {
+			return update( sql, paramValues )
+					.thenAccept( rowCounts -> {
+						for ( int i = 0; i < rowCounts.length; i++ ) {
+							expectation.verifyOutcome( rowCounts[i], i, sql );
+						}
+					} );
+		}
+	}
+
+	private CompletionStage<Void> executeBatch(
+			String sql,
+			Expectation expectation,
+			List<Object[]> paramValues,
+			List<ReturnedValues> returnedValues) {
+		if ( paramValues.size() == 1 ) {
+			return delegate.update( sql, paramValues.get( 0 ), false, expectation, returnedValues.get( 0 ) );
+		}
+		else {
+			return delegate.update( sql, paramValues, returnedValues )
+					.thenAccept( rowCounts -> {
+						for ( int i = 0; i < rowCounts.length; i++ ) {
+							expectation.verifyOutcome( rowCounts[i], i, sql );
+						}
+					} );
 		}
 	}
 
@@ -86,32 +120,61 @@ public CompletionStage<Void> update(
 			String sql, Object[] paramValues,
 			boolean allowBatching, Expectation expectation) {
 		if ( allowBatching && batchSize > 0 ) {
-			if ( !hasBatch() ) {
-				newBatch( sql, paramValues, expectation );
+			return addToBatch( sql, paramValues, expectation, null );
+		}
+		else {
+			return delegate.update( sql, paramValues, false, expectation );
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> update(
+			String sql, Object[] paramValues,
+			boolean allowBatching, Expectation expectation,
+			ReturnedValues returnedValues) {
+		if ( allowBatching && batchSize > 0 ) {
+			return addToBatch( sql, paramValues, expectation, returnedValues );
+		}
+		else {
+			return delegate.update( sql, paramValues, false, expectation, returnedValues );
+		}
+	}
+
+	private CompletionStage<Void> addToBatch(
+			String sql, Object[] paramValues,
+			Expectation expectation, ReturnedValues returnedValues) {
+		if ( !hasBatch() ) {
+			newBatch( sql, paramValues, expectation, returnedValues );
+			return voidFuture();
+		}
+		else {
+			// a statement with a returning clause never has the same
+			// SQL as a statement without one, so each batch is either
+			// entirely with or entirely without returned values
+			if ( batchedSql.equals( sql ) && batchParamValues.size() < batchSize ) {
+				batchParamValues.add( paramValues );
+				if ( returnedValues != null ) {
+					batchReturnedValues.add( returnedValues );
+				}
 				return voidFuture();
 			}
 			else {
-				if ( batchedSql.equals( sql ) && batchParamValues.size() < batchSize ) {
-					batchParamValues.add( paramValues );
-					return voidFuture();
-				}
-				else {
-					CompletionStage<Void> lastBatch = executeBatch();
-					newBatch( sql, paramValues, expectation );
-					return lastBatch;
-				}
+				CompletionStage<Void> lastBatch = executeBatch();
+				newBatch( sql, paramValues, expectation, returnedValues );
+				return lastBatch;
 			}
 		}
-		else {
-			return delegate.update( sql, paramValues, false, expectation );
-		}
 	}
 
-	private void newBatch(String sql, Object[] paramValues, Expectation expectation) {
+	private void newBatch(String sql, Object[] paramValues, Expectation expectation, ReturnedValues returnedValues) {
 		batchedSql = sql;
 		batchedExpectation = expectation;
 		batchParamValues = new ArrayList<>();
 		batchParamValues.add( paramValues );
+		if ( returnedValues != null ) {
+			batchReturnedValues = new ArrayList<>();
+			batchReturnedValues.add( returnedValues );
+		}
 	}
 
 	private boolean hasBatch() {
@@ -149,6 +212,13 @@ public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
 				delegate.update( sql, paramValues );
 	}
 
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues, List<ReturnedValues> returnedValues) {
+		return hasBatch() ?
+				executeBatch().thenCompose( v -> delegate.update( sql, paramValues, returnedValues ) ) :
+				delegate.update( sql, paramValues, returnedValues );
+	}
+
 	public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] paramValues, Class<T> idClass, String idColumnName) {
 		return hasBatch()
 				? executeBatch().thenCompose( v -> delegate.insertAndSelectIdentifier( sql, paramValues, idClass, idColumnName ) )
@@ -173,6 +243,13 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 				delegate.selectJdbc( sql, paramValues );
 	}
 
+	@Override
+	public <T> CompletionStage<List<T>> select(String sql, Object[] paramValues, RowMapper<T> rowMapper) {
+		return hasBatch() ?
+				executeBatch().thenCompose( v -> delegate.select( sql, paramValues, rowMapper ) ) :
+				delegate.select( sql, paramValues, rowMapper );
+	}
+
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
 		return delegate.selectJdbcOutsideTransaction( sql, paramValues );
@@ -198,6 +275,10 @@ public CompletionStage<Void> rollbackTransaction() {
 		return delegate.rollbackTransaction();
 	}
 
+	public CompletionStage<Void> cancel() {
+		return delegate.cancel();
+	}
+
 	public CompletionStage<Void> close() {
 		return delegate.close();
 	}
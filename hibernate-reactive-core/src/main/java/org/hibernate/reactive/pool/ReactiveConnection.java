@@ -6,12 +6,18 @@
 package org.hibernate.reactive.pool;
 
 import org.hibernate.Incubating;
+import org.hibernate.reactive.common.RowMapper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
 
+import java.lang.invoke.MethodHandles;
 import java.sql.ResultSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
 /**
  * Abstracts over reactive database connections, defining
  * operations that allow queries to be executed asynchronously
@@ -34,6 +40,15 @@ interface Expectation {
 		void verifyOutcome(int rowCount, int batchPosition, String sql);
 	}
 
+	/**
+	 * Receives the rows returned by an insert or update statement
+	 * with a {@code returning} clause.
+	 */
+	@FunctionalInterface
+	interface ReturnedValues {
+		void accept(ResultSet resultSet);
+	}
+
 	CompletionStage<Void> execute(String sql);
 
 	CompletionStage<Void> executeOutsideTransaction(String sql);
@@ -51,12 +66,65 @@ interface Expectation {
 
 	CompletionStage<int[]> update(String sql, List<Object[]> paramValues);
 
+	/**
+	 * Execute an insert or update statement with a {@code returning}
+	 * clause, passing the rows it returns to the given
+	 * {@link ReturnedValues}, after verifying the row count. When
+	 * batching is allowed, this happens when the batch is executed.
+	 * <p>
+	 * By default, if {@code returnedValues} is null, this is the same as
+	 * {@link #update(String, Object[], boolean, Expectation)}, and
+	 * otherwise the statement fails, since the connection can't read the
+	 * returned rows.
+	 */
+	default CompletionStage<Void> update(
+			String sql,
+			Object[] paramValues,
+			boolean allowBatching,
+			Expectation expectation,
+			ReturnedValues returnedValues) {
+		return returnedValues == null
+				? update( sql, paramValues, allowBatching, expectation )
+				: failedFuture( returnedValuesNotSupported( sql ) );
+	}
+
+	/**
+	 * Execute a batch of insert or update statements with a {@code returning}
+	 * clause, passing the rows returned for each element of the batch to the
+	 * corresponding {@link ReturnedValues}.
+	 * <p>
+	 * By default, if every element of {@code returnedValues} is null, this
+	 * is the same as {@link #update(String, List)}, and otherwise the batch
+	 * fails, since the connection can't read the returned rows.
+	 *
+	 * @return the row count for each element of the batch
+	 */
+	default CompletionStage<int[]> update(String sql, List<Object[]> paramValues, List<ReturnedValues> returnedValues) {
+		for ( ReturnedValues values : returnedValues ) {
+			if ( values != null ) {
+				return failedFuture( returnedValuesNotSupported( sql ) );
+			}
+		}
+		return update( sql, paramValues );
+	}
+
+	private static UnsupportedOperationException returnedValuesNotSupported(String sql) {
+		return LoggerFactory.make( Log.class, MethodHandles.lookup() ).returnedValuesNotSupported( sql );
+	}
+
 	CompletionStage<Result> select(String sql);
 
 	CompletionStage<Result> select(String sql, Object[] paramValues);
 
 	CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues);
 
+	/**
+	 * Execute a query, building each element of the resulting list
+	 * directly from a row of results, without any intermediate
+	 * {@link ResultSet} or array.
+	 */
+	<T> CompletionStage<List<T>> select(String sql, Object[] paramValues, RowMapper<T> rowMapper);
+
 	/**
 	 * This method is intended to be used only for queries returning
 	 * a ResultSet that must be executed outside of any "current"
@@ -92,5 +160,18 @@ interface Result extends Iterator<Object[]> {
 
 	CompletionStage<Void> executeBatch();
 
+	/**
+	 * Cancel the statements currently being executed by this connection,
+	 * if any. The operations which executed those statements fail with a
+	 * {@link java.util.concurrent.CancellationException}, without processing
+	 * their results. Where the database client supports it, a request to
+	 * abort the statements is also sent to the server.
+	 * <p>
+	 * Unlike every other operation, this may be called while another
+	 * operation is in progress, and from a thread other than the one
+	 * which is using the connection.
+	 */
+	CompletionStage<Void> cancel();
+
 	CompletionStage<Void> close();
 }
@@ -62,6 +62,35 @@ public interface ReactiveConnectionPool extends Service {
 	 */
 	ReactiveConnection getProxyConnection(String tenantId);
 
+	/**
+	 * Obtain a lazily-initializing reactive connection which,
+	 * outside of a transaction, borrows an actual connection from
+	 * the pool for each statement, and returns it to the pool as
+	 * soon as the statement completes. Within a transaction, the
+	 * actual connection is held until the transaction ends.
+	 * <p>
+	 * By default, this is the same as {@link #getProxyConnection()}.
+	 *
+	 * @see org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode#DELAYED_ACQUISITION_AND_RELEASE_AFTER_STATEMENT
+	 */
+	default ReactiveConnection getStatementScopedConnection() {
+		return getProxyConnection();
+	}
+
+	/**
+	 * Obtain a lazily-initializing reactive connection for the
+	 * given tenant id which, outside of a transaction, borrows an
+	 * actual connection from the pool for each statement, and
+	 * returns it to the pool as soon as the statement completes.
+	 * <p>
+	 * By default, this is the same as {@link #getProxyConnection(String)}.
+	 *
+	 * @see #getStatementScopedConnection()
+	 */
+	default ReactiveConnection getStatementScopedConnection(String tenantId) {
+		return getProxyConnection( tenantId );
+	}
+
 	/**
 	 * The shutdown of the pool is actually asynchronous but the
 	 * core service registry won't return the {@link CompletionStage}.
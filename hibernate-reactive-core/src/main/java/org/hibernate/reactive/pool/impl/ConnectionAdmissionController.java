@@ -0,0 +1,120 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.reactive.exception.ConnectionAcquisitionRejectedException;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+/**
+ * Limits the number of concurrent requests for connections,
+ * that is, requests which are either waiting for a connection,
+ * or holding one, so that when the database slows down, new
+ * requests fail fast instead of piling up in the wait queue
+ * of the Vert.x pool.
+ * <p>
+ * The limit is adjusted using an AIMD (additive increase,
+ * multiplicative decrease) algorithm: every time a connection
+ * is obtained after waiting longer than the target wait time,
+ * the limit is reduced by a constant ratio, otherwise, if the
+ * limit is actually being used, it is slowly increased. The
+ * limit never drops below the size of the pool, so that no
+ * connection is ever left idle because of admission control.
+ *
+ * @see org.hibernate.reactive.provider.Settings#POOL_ADMISSION_MAX_WAIT
+ */
+public final class ConnectionAdmissionController {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final double BACKOFF_RATIO = 0.9;
+
+	private final long maxWaitNanos;
+	private final int minLimit;
+	private final int maxLimit;
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	// Concurrent updates might occasionally be lost, which is
+	// harmless, since the limit is only an estimate anyway
+	private volatile double limit;
+
+	/**
+	 * @param maxWait the target maximum time to wait for a connection, in milliseconds
+	 * @param minLimit the minimum concurrency limit, usually the size of the pool
+	 * @param maxLimit the maximum concurrency limit
+	 */
+	public ConnectionAdmissionController(long maxWait, int minLimit, int maxLimit) {
+		this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos( maxWait );
+		this.minLimit = Math.max( 1, minLimit );
+		this.maxLimit = Math.max( this.minLimit, maxLimit );
+		this.limit = this.maxLimit;
+	}
+
+	/**
+	 * Admit a new request for a connection, if the current limit
+	 * allows it.
+	 *
+	 * @return {@code true} if the request was admitted, in which
+	 *         case {@link #release()} must eventually be called
+	 */
+	public boolean tryAdmit() {
+		while ( true ) {
+			final int current = inFlight.get();
+			if ( current >= (int) limit ) {
+				return false;
+			}
+			if ( inFlight.compareAndSet( current, current + 1 ) ) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Record the time a request waited for a connection, and
+	 * adjust the limit accordingly.
+	 */
+	public void acquired(long waitNanos) {
+		final double current = limit;
+		if ( waitNanos > maxWaitNanos ) {
+			limit = Math.max( minLimit, current * BACKOFF_RATIO );
+		}
+		else if ( inFlight.get() * 2 >= current ) {
+			// only grow the limit if we're actually using it
+			limit = Math.min( maxLimit, current + 1 / current );
+		}
+	}
+
+	/**
+	 * A request which was admitted has released its connection,
+	 * or has failed to obtain a connection.
+	 */
+	public void release() {
+		inFlight.decrementAndGet();
+	}
+
+	/**
+	 * @return the current concurrency limit
+	 */
+	public int getLimit() {
+		return (int) limit;
+	}
+
+	/**
+	 * @return the number of requests currently waiting for,
+	 *         or holding, a connection
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	ConnectionAcquisitionRejectedException rejection() {
+		return LOG.connectionAcquisitionRejected( getInFlight(), getLimit() );
+	}
+}
@@ -19,6 +19,7 @@
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.service.spi.Configurable;
@@ -52,6 +53,11 @@
  * destroyed. For cases where the underlying {@code Pool} lifecycle
  * is managed externally to Hibernate, use
  * {@link org.hibernate.reactive.pool.impl.ExternalSqlClientPool}.
+ * <p>
+ * If {@link Settings#POOL_EVENT_LOOP_AFFINITY} is enabled, the pool
+ * is split into one {@code Pool} per event loop, and a connection is
+ * always obtained from the {@code Pool} belonging to the event loop
+ * of the caller, unless it is exhausted.
  *
  * @see SqlClientPoolConfiguration
  */
@@ -60,6 +66,8 @@ public class DefaultSqlClientPool extends SqlClientPool
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final int DEFAULT_ADMISSION_LIMIT_FACTOR = 4;
+
 	private enum VertxDriver {
 		DB2( "io.vertx.db2client.spi.DB2Driver", "db2" ),
 		MYSQL( "io.vertx.mysqlclient.spi.MySQLDriver", "mysql", "mariadb" ),
@@ -107,7 +115,13 @@ public static VertxDriver findByClassName(String className) {
 	}
 
 	private Pool pools;
+	private EventLoopShardedPool shardedPools;
+	private boolean eventLoopAffinity;
+	private Integer admissionMaxWait;
+	private Integer admissionMaxLimit;
+	private ConnectionAdmissionController admissionController;
 	private SqlStatementLogger sqlStatementLogger;
+	private SlowStatementLogger slowStatementLogger = SlowStatementLogger.DISABLED;
 	private URI uri;
 	private ServiceRegistryImplementor serviceRegistry;
 
@@ -126,13 +140,66 @@ public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 	@Override
 	public void configure(Map configuration) {
 		uri = jdbcUrl( configuration );
+		eventLoopAffinity = ConfigurationHelper.getBoolean( Settings.POOL_EVENT_LOOP_AFFINITY, configuration, false );
+		admissionMaxWait = ConfigurationHelper.getInteger( Settings.POOL_ADMISSION_MAX_WAIT, configuration );
+		admissionMaxLimit = ConfigurationHelper.getInteger( Settings.POOL_ADMISSION_MAX_LIMIT, configuration );
+		long slowStatementThreshold = ConfigurationHelper.getLong( Settings.LOG_SLOW_QUERY, configuration, 0 );
+		if ( slowStatementThreshold > 0 ) {
+			slowStatementLogger = createSlowStatementLogger(
+					slowStatementThreshold,
+					ConfigurationHelper.getBoolean( Settings.SLOW_STATEMENT_LOG_PARAMETER_VALUES, configuration, false ),
+					explainSampleRate( configuration ),
+					SlowStatementLogger.explainPrefix( scheme( uri ) )
+			);
+		}
+	}
+
+	private static double explainSampleRate(Map<?,?> configuration) {
+		final Object rate = configuration.get( Settings.SLOW_STATEMENT_EXPLAIN_SAMPLE_RATE );
+		return rate == null ? 0 : Double.parseDouble( rate.toString() );
 	}
 
 	@Override
 	public void start() {
-		if ( pools == null ) {
+		if ( eventLoopAffinity ) {
+			if ( shardedPools == null ) {
+				shardedPools = createShardedPool( uri );
+			}
+		}
+		else if ( pools == null ) {
 			pools = createPool( uri );
 		}
+		if ( admissionMaxWait != null && admissionController == null ) {
+			admissionController = createAdmissionController();
+		}
+	}
+
+	/**
+	 * Create a {@link ConnectionAdmissionController} which never limits
+	 * concurrency to less than the maximum size of the pool, and, by
+	 * default, never to more than the maximum size of the pool plus the
+	 * maximum size of its wait queue.
+	 */
+	private ConnectionAdmissionController createAdmissionController() {
+		PoolOptions poolOptions = serviceRegistry.getService(SqlClientPoolConfiguration.class).poolOptions();
+		int minLimit = poolOptions.getMaxSize();
+		int maxLimit;
+		if ( admissionMaxLimit != null ) {
+			maxLimit = admissionMaxLimit;
+		}
+		else if ( poolOptions.getMaxWaitQueueSize() >= 0 ) {
+			maxLimit = minLimit + poolOptions.getMaxWaitQueueSize();
+		}
+		else {
+			maxLimit = minLimit * DEFAULT_ADMISSION_LIMIT_FACTOR;
+		}
+		LOG.connectionPoolAdmissionControl( admissionMaxWait, minLimit, maxLimit );
+		return new ConnectionAdmissionController( admissionMaxWait, minLimit, maxLimit );
+	}
+
+	@Override
+	protected ConnectionAdmissionController getAdmissionController() {
+		return admissionController;
 	}
 
 	@Override
@@ -142,7 +209,14 @@ public CompletionStage<Void> getCloseFuture() {
 
 	@Override
 	protected Pool getPool() {
-		return pools;
+		return shardedPools == null ? pools : shardedPools.currentPool();
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return shardedPools == null
+				? super.getConnection()
+				: withAdmissionControl( onClose -> shardedPools.getConnection( getSqlStatementLogger(), getSlowStatementLogger(), onClose ) );
 	}
 
 	@Override
@@ -150,6 +224,33 @@ protected SqlStatementLogger getSqlStatementLogger() {
 		return sqlStatementLogger;
 	}
 
+	@Override
+	protected SlowStatementLogger getSlowStatementLogger() {
+		return slowStatementLogger;
+	}
+
+	/**
+	 * Create the {@link SlowStatementLogger} for the given settings, if
+	 * {@link Settings#LOG_SLOW_QUERY} is set.
+	 *
+	 * @param thresholdMillis the minimum duration of a logged statement
+	 * @param logParameterValues if {@code true}, log the values of the
+	 *                           parameters, and not just their types
+	 * @param explainSampleRate the fraction of slow {@code select}s for
+	 *                          which the execution plan is logged
+	 * @param explainPrefix the SQL which turns a {@code select} into a
+	 *                      request for its execution plan, or {@code null}
+	 *
+	 * @return the new {@link SlowStatementLogger}
+	 */
+	protected SlowStatementLogger createSlowStatementLogger(
+			long thresholdMillis,
+			boolean logParameterValues,
+			double explainSampleRate,
+			String explainPrefix) {
+		return new SlowStatementLogger( thresholdMillis, logParameterValues, explainSampleRate, explainPrefix );
+	}
+
 	/**
 	 * Create a new {@link Pool} for the given JDBC URL or database URI,
 	 * using the {@link VertxInstance} service to obtain an instance of
@@ -191,6 +292,29 @@ protected Pool createPool(URI uri, SqlConnectOptions connectOptions, PoolOptions
 		}
 	}
 
+	/**
+	 * Create a {@link Pool} for each event loop of the {@link Vertx}
+	 * instance obtained via the {@link VertxInstance} service, each
+	 * with an even share of the maximum size specified by the options of
+	 * the {@link SqlClientPoolConfiguration} service.
+	 *
+	 * @param uri JDBC URL or database URI
+	 *
+	 * @return the new {@link EventLoopShardedPool}
+	 */
+	private EventLoopShardedPool createShardedPool(URI uri) {
+		SqlClientPoolConfiguration configuration = serviceRegistry.getService(SqlClientPoolConfiguration.class);
+		Vertx vertx = serviceRegistry.getService(VertxInstance.class).getVertx();
+		SqlConnectOptions connectOptions = configuration.connectOptions( uri );
+		EventLoopShardedPool sharded = new EventLoopShardedPool(
+				vertx,
+				configuration.poolOptions(),
+				shardOptions -> createPool( uri, connectOptions, shardOptions, vertx )
+		);
+		LOG.connectionPoolEventLoopAffinity( sharded.maxSize(), sharded.size() );
+		return sharded;
+	}
+
 	/**
 	 * Determine the JDBC URL or database URI from the given configuration.
 	 *
@@ -244,6 +368,9 @@ public void stop() {
 		if ( pools != null ) {
 			this.closeFuture = pools.close();
 		}
+		if ( shardedPools != null ) {
+			this.closeFuture = shardedPools.close();
+		}
 	}
 
 	public static URI parse(String url) {
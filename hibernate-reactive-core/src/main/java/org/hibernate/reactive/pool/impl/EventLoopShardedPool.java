@@ -0,0 +1,193 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+
+/**
+ * A set of Vert.x {@link Pool}s, one for each event loop of a given
+ * instance of {@link Vertx}, used by {@link DefaultSqlClientPool}
+ * when {@link org.hibernate.reactive.provider.Settings#POOL_EVENT_LOOP_AFFINITY}
+ * is enabled.
+ * <p>
+ * The maximum size of the pool is divided between the shards, so each
+ * shard holds at most {@code maxSize / eventLoops} connections, or one
+ * more, and the shards together hold at most {@code maxSize}. If there
+ * are more event loops than connections, only as many shards as there
+ * are connections are created, and the remaining event loops have no
+ * shard of their own.
+ * <p>
+ * A shard is normally only used from the event loop that owns it, so
+ * that its connections are created on, and complete their callbacks
+ * on, that same event loop. Only when the shard of the calling event loop
+ * is exhausted is a connection borrowed from the least loaded shard
+ * which still has spare capacity.
+ */
+final class EventLoopShardedPool {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Shard[] shards;
+
+	// Never modified after construction, so reads don't need any locking
+	private final Map<EventExecutor, Shard> shardsByEventLoop;
+
+	EventLoopShardedPool(Vertx vertx, PoolOptions poolOptions, Function<PoolOptions, Pool> poolFactory) {
+		final List<EventExecutor> eventLoops = new ArrayList<>();
+		for ( EventExecutor eventLoop : ( (VertxInternal) vertx ).getEventLoopGroup() ) {
+			eventLoops.add( eventLoop );
+		}
+		final int maxSize = poolOptions.getMaxSize();
+		if ( eventLoops.size() > maxSize ) {
+			LOG.moreEventLoopsThanConnections( eventLoops.size(), maxSize );
+		}
+		shards = new Shard[Math.min( eventLoops.size(), maxSize )];
+		shardsByEventLoop = new IdentityHashMap<>( shards.length );
+		for ( int i = 0; i < shards.length; i++ ) {
+			// the first shards get one connection each of the remainder
+			final int shardSize = maxSize / shards.length + ( i < maxSize % shards.length ? 1 : 0 );
+			final PoolOptions shardOptions = new PoolOptions( poolOptions ).setMaxSize( shardSize );
+			shards[i] = new Shard( poolFactory.apply( shardOptions ), shardSize );
+			shardsByEventLoop.put( eventLoops.get( i ), shards[i] );
+		}
+	}
+
+	/**
+	 * @return the number of shards, that is, the number of event loops
+	 *         which have a shard of their own
+	 */
+	int size() {
+		return shards.length;
+	}
+
+	/**
+	 * @return the maximum number of connections in all the shards
+	 */
+	int maxSize() {
+		int maxSize = 0;
+		for ( Shard shard : shards ) {
+			maxSize += shard.maxSize;
+		}
+		return maxSize;
+	}
+
+	/**
+	 * @return the {@link Pool} of the shard belonging to the current
+	 *         event loop, or the first shard if not called from an
+	 *         event loop with a shard
+	 */
+	Pool currentPool() {
+		final Shard local = localShard();
+		return local == null ? shards[0].pool : local.pool;
+	}
+
+	/**
+	 * Obtain a connection from the shard of the current event loop,
+	 * or, if that shard is exhausted, from another shard with spare
+	 * capacity.
+	 *
+	 * @param onClose called once the connection has been returned
+	 *                to the pool, or {@code null}
+	 */
+	CompletionStage<ReactiveConnection> getConnection(
+			SqlStatementLogger sqlStatementLogger,
+			SlowStatementLogger slowStatementLogger,
+			Runnable onClose) {
+		final Shard shard = select();
+		shard.leased.incrementAndGet();
+		final Runnable release = onClose == null
+				? shard::release
+				: () -> {
+					shard.release();
+					onClose.run();
+				};
+		return shard.pool.getConnection()
+				.onFailure( x -> shard.release() )
+				.toCompletionStage()
+				.thenApply( connection -> new SqlClientConnection( connection, shard.pool, sqlStatementLogger, slowStatementLogger, release ) );
+	}
+
+	Future<Void> close() {
+		final List<Future> closing = new ArrayList<>( shards.length );
+		for ( Shard shard : shards ) {
+			closing.add( shard.pool.close() );
+		}
+		return CompositeFuture.join( closing ).mapEmpty();
+	}
+
+	private Shard select() {
+		final Shard local = localShard();
+		if ( local != null && local.hasCapacity() ) {
+			// the hot path: the shard is only ever touched from this event loop
+			return local;
+		}
+		final Shard leastLoaded = leastLoaded();
+		if ( local == null || leastLoaded.hasCapacity() ) {
+			return leastLoaded;
+		}
+		// every shard is exhausted: wait in the queue of our own event loop
+		return local;
+	}
+
+	private Shard localShard() {
+		final Context context = Vertx.currentContext();
+		return context == null
+				? null
+				: shardsByEventLoop.get( ( (ContextInternal) context ).nettyEventLoop() );
+	}
+
+	private Shard leastLoaded() {
+		Shard result = shards[0];
+		for ( int i = 1; i < shards.length; i++ ) {
+			if ( shards[i].leased.get() < result.leased.get() ) {
+				result = shards[i];
+			}
+		}
+		return result;
+	}
+
+	private static final class Shard {
+		private final Pool pool;
+		private final int maxSize;
+		// may be updated from another event loop when a connection is stolen
+		private final AtomicInteger leased = new AtomicInteger();
+
+		private Shard(Pool pool, int maxSize) {
+			this.pool = pool;
+			this.maxSize = maxSize;
+		}
+
+		private boolean hasCapacity() {
+			return leased.get() < maxSize;
+		}
+
+		private void release() {
+			leased.decrementAndGet();
+		}
+	}
+}
@@ -12,36 +12,51 @@
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
+import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 
 /**
  * A proxy {@link ReactiveConnection} that initializes the
  * underlying connection lazily.
+ * <p>
+ * A statement-scoped proxy returns the underlying connection
+ * to the pool as soon as each statement completes, unless a
+ * transaction is active, in which case the connection is held
+ * until the end of the transaction.
  */
 final class ProxyConnection implements ReactiveConnection {
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final ReactiveConnectionPool sqlClientPool;
-	private ReactiveConnection connection;
+	private volatile ReactiveConnection connection;
 	private boolean connected;
 	private boolean closed;
+	private boolean inTransaction;
 	private final String tenantId;
+	private final boolean statementScoped;
 
 	public ProxyConnection(ReactiveConnectionPool sqlClientPool) {
-		this.sqlClientPool = sqlClientPool;
-		tenantId = null;
+		this( sqlClientPool, null );
 	}
 
 	public ProxyConnection(ReactiveConnectionPool sqlClientPool, String tenantId) {
+		this( sqlClientPool, tenantId, false );
+	}
+
+	public ProxyConnection(ReactiveConnectionPool sqlClientPool, String tenantId, boolean statementScoped) {
 		this.sqlClientPool = sqlClientPool;
 		this.tenantId = tenantId;
+		this.statementScoped = statementScoped;
 	}
 
 	private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, CompletionStage<T>> operation) {
@@ -55,8 +70,13 @@ private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, Compl
 			connected = true; // we're not allowed to fetch two connections!
 			CompletionStage<ReactiveConnection> connection =
 					tenantId == null ? sqlClientPool.getConnection() : sqlClientPool.getConnection( tenantId );
-			return connection.thenApply( newConnection -> this.connection = newConnection )
+			CompletionStage<T> result = connection.thenApply( newConnection -> this.connection = newConnection )
 					.thenCompose( operation );
+			return releaseAfterStatement()
+					? result.handle( (value, error) -> releaseConnection()
+							.thenApply( v -> returnOrRethrow( error, value ) ) )
+							.thenCompose( Function.identity() )
+					: result;
 		}
 		else {
 			if ( connection == null ) {
@@ -109,6 +129,21 @@ public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
 		return withConnection( conn -> conn.update( sql, paramValues ) );
 	}
 
+	@Override
+	public CompletionStage<Void> update(
+			String sql,
+			Object[] paramValues,
+			boolean allowBatching,
+			Expectation expectation,
+			ReturnedValues returnedValues) {
+		return withConnection( conn -> conn.update( sql, paramValues, allowBatching, expectation, returnedValues ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues, List<ReturnedValues> returnedValues) {
+		return withConnection( conn -> conn.update( sql, paramValues, returnedValues ) );
+	}
+
 	@Override
 	public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] paramValues, Class<T> idClass, String idColumnName) {
 		return withConnection( conn -> conn.insertAndSelectIdentifier( sql, paramValues, idClass, idColumnName ) );
@@ -129,6 +164,11 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 		return withConnection( conn -> conn.selectJdbc( sql, paramValues ) );
 	}
 
+	@Override
+	public <T> CompletionStage<List<T>> select(String sql, Object[] paramValues, RowMapper<T> rowMapper) {
+		return withConnection( conn -> conn.select( sql, paramValues, rowMapper ) );
+	}
+
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
 		return withConnection( conn -> conn.selectJdbcOutsideTransaction( sql, paramValues ) );
@@ -141,21 +181,61 @@ public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues,
 
 	@Override
 	public CompletionStage<Void> beginTransaction() {
-		return withConnection( ReactiveConnection::beginTransaction );
+		// hold on to the connection until the end of the transaction
+		inTransaction = true;
+		return withConnection( ReactiveConnection::beginTransaction )
+				.whenComplete( (v, x) -> {
+					if ( x != null ) {
+						inTransaction = false;
+					}
+				} );
 	}
 
 	@Override
 	public CompletionStage<Void> commitTransaction() {
-		return withConnection( ReactiveConnection::commitTransaction );
+		return endTransaction( withConnection( ReactiveConnection::commitTransaction ) );
 	}
 
 	@Override
 	public CompletionStage<Void> rollbackTransaction() {
-		return withConnection( ReactiveConnection::rollbackTransaction );
+		return endTransaction( withConnection( ReactiveConnection::rollbackTransaction ) );
+	}
+
+	private CompletionStage<Void> endTransaction(CompletionStage<Void> stage) {
+		if ( !statementScoped ) {
+			return stage.whenComplete( (v, x) -> inTransaction = false );
+		}
+		return stage.handle( (v, error) -> {
+					inTransaction = false;
+					return releaseConnection().thenAccept( ignore -> returnNullorRethrow( error ) );
+				} )
+				.thenCompose( Function.identity() );
+	}
+
+	private boolean releaseAfterStatement() {
+		return statementScoped && !inTransaction;
+	}
+
+	/**
+	 * Return the underlying connection to the pool, so that the
+	 * next statement will obtain a new one.
+	 */
+	private CompletionStage<Void> releaseConnection() {
+		final ReactiveConnection released = connection;
+		connection = null;
+		connected = false;
+		return released == null
+				? CompletionStages.voidFuture()
+				: released.close();
 	}
 
 	@Override
 	public ReactiveConnection withBatchSize(int batchSize) {
+		if ( statementScoped ) {
+			// the underlying connection doesn't outlive the statement,
+			// so the batch must be held by a wrapper around the proxy
+			return batchSize <= 1 ? this : new BatchingConnection( this, batchSize );
+		}
 		connection = connection.withBatchSize( batchSize );
 		return this;
 	}
@@ -165,6 +245,17 @@ public CompletionStage<Void> executeBatch() {
 		return withConnection( ReactiveConnection::executeBatch );
 	}
 
+	@Override
+	public CompletionStage<Void> cancel() {
+		// don't use withConnection(): there's nothing to cancel unless
+		// we already hold a connection, and this is not necessarily
+		// called from the event loop
+		final ReactiveConnection current = connection;
+		return current == null
+				? CompletionStages.voidFuture()
+				: current.cancel();
+	}
+
 	@Override
 	public CompletionStage<Void> close() {
 		CompletionStage<Void> stage = CompletionStages.voidFuture();
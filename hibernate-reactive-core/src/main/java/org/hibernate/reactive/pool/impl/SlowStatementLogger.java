@@ -0,0 +1,223 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Tuple;
+
+import static org.hibernate.reactive.util.impl.StatementKinds.isSelect;
+
+/**
+ * Logs the SQL statements which take longer than a given threshold,
+ * along with the types of their parameters, their duration, and the
+ * number of rows they returned or affected.
+ * <p>
+ * The values of the parameters are only logged if this is explicitly
+ * enabled, since they might contain sensitive data.
+ * <p>
+ * For a randomly sampled fraction of the slow {@code select}s, the
+ * execution plan is obtained by running {@code explain} for the same
+ * statement and parameters on another connection from the pool, and
+ * the plan is logged.
+ *
+ * @see org.hibernate.reactive.provider.Settings#LOG_SLOW_QUERY
+ * @see org.hibernate.reactive.provider.Settings#SLOW_STATEMENT_LOG_PARAMETER_VALUES
+ * @see org.hibernate.reactive.provider.Settings#SLOW_STATEMENT_EXPLAIN_SAMPLE_RATE
+ */
+public class SlowStatementLogger {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * A logger which never logs anything
+	 */
+	public static final SlowStatementLogger DISABLED = new SlowStatementLogger( 0, false, 0, null );
+
+	private final long thresholdNanos;
+	private final boolean logParameterValues;
+	private final double explainSampleRate;
+	private final String explainPrefix;
+
+	/**
+	 * @param thresholdMillis the minimum duration of a logged statement,
+	 *                        or zero to disable logging
+	 * @param logParameterValues if {@code true}, log the values of the
+	 *                           parameters, and not just their types
+	 * @param explainSampleRate the fraction of slow {@code select}s for
+	 *                          which the execution plan is logged
+	 * @param explainPrefix the SQL which turns a {@code select} into a
+	 *                      request for its execution plan, or {@code null}
+	 *                      if the database doesn't support this
+	 */
+	public SlowStatementLogger(long thresholdMillis, boolean logParameterValues, double explainSampleRate, String explainPrefix) {
+		this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos( thresholdMillis );
+		this.logParameterValues = logParameterValues;
+		this.explainSampleRate = explainPrefix == null ? 0 : explainSampleRate;
+		this.explainPrefix = explainPrefix;
+	}
+
+	public boolean isEnabled() {
+		return thresholdNanos > 0;
+	}
+
+	/**
+	 * The SQL which turns a {@code select} into a request for its execution
+	 * plan, for the database with the given URI scheme, or {@code null} if
+	 * this isn't supported for the database.
+	 */
+	public static String explainPrefix(String scheme) {
+		switch ( scheme.toLowerCase() ) {
+			case "postgres":
+			case "postgre":
+			case "postgresql":
+			case "cockroachdb":
+			case "mysql":
+			case "mariadb":
+				return "explain ";
+			default:
+				// DB2, SQL Server, and Oracle write the plan to tables,
+				// or need a session option, so it's not worth the bother
+				return null;
+		}
+	}
+
+	/**
+	 * @return the time the statement started, if logging is enabled
+	 */
+	long start() {
+		return isEnabled() ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Log the statement if it took longer than the threshold.
+	 *
+	 * @param start the value returned by {@link #start()}
+	 * @param sql the SQL statement
+	 * @param parameters a {@link Tuple}, a list of tuples for a batch,
+	 *                   or {@code null} if the statement has no parameters
+	 * @param result the result, or {@code null} if the statement failed
+	 * @param pool the pool from which to obtain a connection for running
+	 *             {@code explain}
+	 */
+	void complete(long start, String sql, Object parameters, SqlResult<?> result, Pool pool) {
+		if ( isEnabled() ) {
+			final long elapsed = System.nanoTime() - start;
+			if ( elapsed >= thresholdNanos ) {
+				logStatement(
+						sql,
+						describe( parameters ),
+						TimeUnit.NANOSECONDS.toMillis( elapsed ),
+						rows( result )
+				);
+				if ( result != null && parameters instanceof Tuple && isSampledSelect( sql ) ) {
+					explain( sql, (Tuple) parameters, pool );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Log a slow statement.
+	 *
+	 * @param sql the SQL statement
+	 * @param parameters the types, or values, of the parameters
+	 * @param millis the duration of the statement
+	 * @param rows the number of rows returned or affected
+	 */
+	protected void logStatement(String sql, String parameters, long millis, long rows) {
+		LOG.slowStatement( millis, rows, parameters, sql );
+	}
+
+	/**
+	 * Log the execution plan of a slow statement.
+	 *
+	 * @param sql the SQL statement
+	 * @param plan the execution plan, one row per line
+	 */
+	protected void logPlan(String sql, String plan) {
+		LOG.slowStatementPlan( sql, plan );
+	}
+
+	private boolean isSampledSelect(String sql) {
+		return explainSampleRate > 0
+				&& isSelect( sql )
+				&& ThreadLocalRandom.current().nextDouble() < explainSampleRate;
+	}
+
+	private void explain(String sql, Tuple parameters, Pool pool) {
+		// don't keep the connection running the original statement, and don't
+		// hold up the caller: the plan is logged whenever it arrives
+		pool.preparedQuery( explainPrefix + sql ).execute( parameters )
+				.onSuccess( plan -> logPlan( sql, format( plan ) ) )
+				.onFailure( error -> LOG.slowStatementPlanFailed( sql, error ) );
+	}
+
+	private static long rows(SqlResult<?> result) {
+		long rows = 0;
+		for ( SqlResult<?> next = result; next != null; next = next.next() ) {
+			rows += next.rowCount();
+		}
+		return rows;
+	}
+
+	private String describe(Object parameters) {
+		if ( parameters instanceof Tuple ) {
+			return describe( (Tuple) parameters );
+		}
+		else if ( parameters instanceof List ) {
+			final List<?> batch = (List<?>) parameters;
+			return batch.isEmpty()
+					? "[]"
+					// the elements of a batch have the same types
+					: batch.size() + " x " + describe( batch.get( 0 ) );
+		}
+		else {
+			return "[]";
+		}
+	}
+
+	private String describe(Tuple tuple) {
+		final StringBuilder description = new StringBuilder( "[" );
+		for ( int i = 0; i < tuple.size(); i++ ) {
+			if ( i > 0 ) {
+				description.append( ", " );
+			}
+			final Object value = tuple.getValue( i );
+			if ( logParameterValues ) {
+				description.append( value );
+			}
+			else {
+				description.append( value == null ? "null" : value.getClass().getSimpleName() );
+			}
+		}
+		return description.append( "]" ).toString();
+	}
+
+	private static String format(RowSet<Row> plan) {
+		final StringBuilder text = new StringBuilder();
+		for ( Row row : plan ) {
+			for ( int i = 0; i < row.size(); i++ ) {
+				if ( i > 0 ) {
+					text.append( " | " );
+				}
+				text.append( row.getValue( i ) );
+			}
+			text.append( System.lineSeparator() );
+		}
+		return text.toString();
+	}
+}
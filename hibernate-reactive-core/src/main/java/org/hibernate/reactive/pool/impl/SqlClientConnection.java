@@ -6,6 +6,8 @@
 package org.hibernate.reactive.pool.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
@@ -18,14 +20,17 @@
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.adaptor.impl.JdbcNull;
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.exception.ConstraintViolationException;
 import org.hibernate.reactive.exception.VertxSqlClientException;
+import org.hibernate.reactive.jfr.impl.StatementEvent;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
+import io.vertx.core.Future;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.Pool;
@@ -40,6 +45,7 @@
 import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.Tuple;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -54,17 +60,44 @@ public class SqlClientConnection implements ReactiveConnection {
 	private final static PropertyKind<Long> MYSQL_LAST_INSERTED_ID = PropertyKind.create( "last-inserted-id", Long.class );
 	// See io.vertx.oracleclient.OracleClient#GENERATED_KEYS
 	private final static PropertyKind<Row> ORACLE_GENERATED_KEYS = PropertyKind.create( "generated-keys", Row.class );
+	// See io.vertx.pgclient.PgConnection#cancelRequest()
+	private final static Method PG_CANCEL_REQUEST = findMethod( "io.vertx.pgclient.PgConnection", "cancelRequest" );
 
 	private final SqlStatementLogger sqlStatementLogger;
+	private final SlowStatementLogger slowStatementLogger;
 
 	private final Pool pool;
 	private final SqlConnection connection;
+	private final Runnable onClose;
 	private Transaction transaction;
 
+	// Statements are only ever started and completed on the event loop,
+	// but they may be cancelled from another thread
+	private volatile int statementsInFlight;
+	// The sequence number of the last statement started
+	private volatile long statementsStarted;
+	// Every statement with a sequence number up to this one was cancelled
+	private volatile long statementsCancelled;
+
 	SqlClientConnection(SqlConnection connection, Pool pool, SqlStatementLogger sqlStatementLogger) {
+		this( connection, pool, sqlStatementLogger, SlowStatementLogger.DISABLED, null );
+	}
+
+	/**
+	 * @param onClose called once the connection has been returned to
+	 *                the pool, or {@code null}
+	 */
+	SqlClientConnection(
+			SqlConnection connection,
+			Pool pool,
+			SqlStatementLogger sqlStatementLogger,
+			SlowStatementLogger slowStatementLogger,
+			Runnable onClose) {
 		this.pool = pool;
 		this.sqlStatementLogger = sqlStatementLogger;
+		this.slowStatementLogger = slowStatementLogger;
 		this.connection = connection;
+		this.onClose = onClose;
 		LOG.tracef( "Connection created: %s", connection );
 	}
 
@@ -90,11 +123,50 @@ public CompletionStage<Void> update(String sql, Object[] paramValues, boolean al
 				.thenAccept( rowCount -> expectation.verifyOutcome( rowCount,-1, sql ) );
 	}
 
+	@Override
+	public CompletionStage<Void> update(
+			String sql,
+			Object[] paramValues,
+			boolean allowBatching,
+			Expectation expectation,
+			ReturnedValues returnedValues) {
+		translateNulls( paramValues );
+		return preparedQuery( sql, Tuple.wrap( paramValues ) )
+				.thenAccept( rows -> {
+					expectation.verifyOutcome( rows.rowCount(), -1, sql );
+					returnedValues.accept( new ResultSetAdaptor( rows ) );
+				} );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> batchParamValues, List<ReturnedValues> returnedValues) {
+		final List<Tuple> tuples = new ArrayList<>( batchParamValues.size() );
+		for ( Object[] paramValues : batchParamValues ) {
+			translateNulls( paramValues );
+			tuples.add( Tuple.wrap( paramValues ) );
+		}
+		return preparedQueryBatch( sql, tuples ).thenApply( result -> {
+			// with a returning clause, there's one RowSet per element of the batch
+			final int[] updateCounts = new int[tuples.size()];
+			int i = 0;
+			RowSet<Row> rows = result;
+			while ( rows != null && i < updateCounts.length ) {
+				updateCounts[i] = rows.rowCount();
+				returnedValues.get( i ).accept( new ResultSetAdaptor( rows ) );
+				rows = rows.next();
+				i++;
+			}
+			if ( rows != null || i != updateCounts.length ) {
+				throw LOG.numberOfResultsGreaterThanBatchedParameters();
+			}
+			return updateCounts;
+		} );
+	}
+
 	@Override
 	public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
 		translateNulls( paramValues );
 		return preparedQuery( sql, Tuple.wrap( paramValues ) )
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) )
 				.thenApply( rowSet -> {
 					for (Row row: rowSet) {
 						return row.get(idClass, 0);
@@ -123,6 +195,19 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 				.thenApply( ResultSetAdaptor::new );
 	}
 
+	@Override
+	public <T> CompletionStage<List<T>> select(String sql, Object[] paramValues, RowMapper<T> rowMapper) {
+		translateNulls( paramValues );
+		return preparedQuery( sql, Tuple.wrap( paramValues ) )
+				.thenApply( rowSet -> {
+					final List<T> results = new ArrayList<>( rowSet.size() );
+					for ( Row row : rowSet ) {
+						results.add( rowMapper.map( row ) );
+					}
+					return results;
+				} );
+	}
+
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
 		return preparedQueryOutsideTransaction( sql, Tuple.wrap( paramValues ) )
@@ -137,16 +222,22 @@ public CompletionStage<Void> execute(String sql) {
 
 	@Override
 	public CompletionStage<Void> executeUnprepared(String sql) {
-		feedback( sql );
+		final Execution execution = feedback( sql, null, 1 );
 		return client().query( sql ).execute().toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) )
+				.handle( (rows, throwable) -> convertException( execution, rows, throwable ) )
 				.thenCompose( CompletionStages::voidFuture );
 	}
 
 	/**
 	 * Similar to {@link org.hibernate.exception.internal.SQLExceptionTypeDelegate#convert(SQLException, String, String)}
 	 */
-	private <T> T convertException(T rows, String sql, Throwable sqlException) {
+	private <T extends SqlResult<?>> T convertException(Execution execution, T rows, Throwable sqlException) {
+		final String sql = execution.sql;
+		execution.event.complete( sql, rows );
+		slowStatementLogger.complete( execution.start, sql, execution.parameters, rows, pool );
+		if ( statementCompleted( execution ) ) {
+			throw LOG.statementCancelled( sql );
+		}
 		if ( sqlException == null ) {
 			return rows;
 		}
@@ -225,49 +316,106 @@ public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Tuple parame
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
-		feedback( sql );
+		final Execution execution = feedback( sql, parameters, 1 );
 		return client().preparedQuery( sql ).execute( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+				.handle( (rows, throwable) -> convertException( execution, rows, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters, PrepareOptions options) {
-		feedback( sql );
+		final Execution execution = feedback( sql, parameters, 1 );
 		return client().preparedQuery( sql, options ).execute( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+				.handle( (rows, throwable) -> convertException( execution, rows, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
-		feedback( sql );
+		final Execution execution = feedback( sql, parameters, parameters.size() );
 		return client().preparedQuery( sql ).executeBatch( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+				.handle( (rows, throwable) -> convertException( execution, rows, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
-		feedback( sql );
+		final Execution execution = feedback( sql, null, 1 );
 		return client().preparedQuery( sql ).execute().toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+				.handle( (rows, throwable) -> convertException( execution, rows, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql) {
-		feedback( sql );
+		final Execution execution = feedback( sql, null, 1 );
 		return pool.preparedQuery( sql ).execute().toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+				.handle( (rows, throwable) -> convertException( execution, rows, throwable ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql, Tuple parameters) {
-		feedback( sql );
+		final Execution execution = feedback( sql, parameters, 1 );
 		return pool.preparedQuery( sql ).execute( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, sql, throwable ) );
+				.handle( (rows, throwable) -> convertException( execution, rows, throwable ) );
 	}
 
-	private void feedback(String sql) {
+	/**
+	 * @param parameters a {@link Tuple}, a list of tuples for a batch,
+	 *                   or {@code null} if the statement has no parameters
+	 */
+	private Execution feedback(String sql, Object parameters, int batchSize) {
 		Objects.requireNonNull(sql, "SQL query cannot be null");
+		statementsInFlight++;
+		final long sequence = ++statementsStarted;
 		// DDL already gets formatted by the client, so don't reformat it
 		FormatStyle formatStyle =
 				sqlStatementLogger.isFormat() && !sql.contains( System.lineSeparator() )
 						? FormatStyle.BASIC
 						: FormatStyle.NONE;
 		sqlStatementLogger.logStatement( sql, formatStyle.getFormatter() );
+		return new Execution( sequence, sql, parameters, StatementEvent.begin( batchSize ), slowStatementLogger.start() );
+	}
+
+	/**
+	 * A statement, or batch of statements, which is being executed.
+	 */
+	private static final class Execution {
+		final long sequence;
+		final String sql;
+		final Object parameters;
+		final StatementEvent event;
+		final long start;
+
+		Execution(long sequence, String sql, Object parameters, StatementEvent event, long start) {
+			this.sequence = sequence;
+			this.sql = sql;
+			this.parameters = parameters;
+			this.event = event;
+			this.start = start;
+		}
+	}
+
+	/**
+	 * @return {@code true} if the statement was in flight when
+	 *         {@link #cancel()} was called, and statements started
+	 *         later are never reported as cancelled
+	 */
+	private boolean statementCompleted(Execution execution) {
+		statementsInFlight--;
+		return execution.sequence <= statementsCancelled;
+	}
+
+	@Override
+	public CompletionStage<Void> cancel() {
+		if ( statementsInFlight == 0 ) {
+			return voidFuture();
+		}
+		statementsCancelled = statementsStarted;
+		LOG.tracef( "Cancelling statements in flight: %s", connection );
+		if ( PG_CANCEL_REQUEST != null && PG_CANCEL_REQUEST.getDeclaringClass().isInstance( connection ) ) {
+			try {
+				return ( (Future<?>) PG_CANCEL_REQUEST.invoke( connection ) ).toCompletionStage()
+						.thenCompose( CompletionStages::voidFuture );
+			}
+			catch (IllegalAccessException | InvocationTargetException e) {
+				return failedFuture( e );
+			}
+		}
+		// Other clients have no way to abort a running statement: the
+		// database completes the work, but we don't process the results
+		return voidFuture();
 	}
 
 	private SqlClient client() {
@@ -302,6 +450,11 @@ public CompletionStage<Void> rollbackTransaction() {
 	public CompletionStage<Void> close() {
 		return connection.close()
 				.onSuccess( event -> LOG.tracef( "Connection closed: %s", connection ) )
+				.onComplete( event -> {
+					if ( onClose != null ) {
+						onClose.run();
+					}
+				} )
 				.toCompletionStage();
 	}
 
@@ -363,6 +516,17 @@ public CompletionStage<Void> executeBatch() {
 		return voidFuture();
 	}
 
+	private static Method findMethod(String className, String methodName) {
+		try {
+			return Class.forName( className, false, SqlClientConnection.class.getClassLoader() )
+					.getMethod( methodName );
+		}
+		catch (ClassNotFoundException | NoSuchMethodException e) {
+			// the client for this database is not on the classpath
+			return null;
+		}
+	}
+
 	private static void translateNulls(Object[] paramValues) {
 		for (int i = 0; i < paramValues.length; i++) {
 			Object arg = paramValues[i];
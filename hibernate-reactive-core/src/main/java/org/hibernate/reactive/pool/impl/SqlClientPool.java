@@ -6,14 +6,18 @@
 package org.hibernate.reactive.pool.impl;
 
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.reactive.jfr.impl.ConnectionAcquisitionEvent;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.SqlConnection;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
 /**
  * A pool of reactive connections backed by a supplier of
  * Vert.x {@link Pool} instances.
@@ -44,6 +48,28 @@ public abstract class SqlClientPool implements ReactiveConnectionPool {
 	 */
 	protected abstract SqlStatementLogger getSqlStatementLogger();
 
+	/**
+	 * The {@link SlowStatementLogger} used to log statements which take
+	 * longer than a configured threshold.
+	 * <p>
+	 * By default, slow statements are not logged.
+	 */
+	protected SlowStatementLogger getSlowStatementLogger() {
+		return SlowStatementLogger.DISABLED;
+	}
+
+	/**
+	 * The {@link ConnectionAdmissionController} used to reject requests
+	 * for connections when the pool is overloaded, if any.
+	 * <p>
+	 * By default, there is no admission control.
+	 *
+	 * @return the admission controller, or {@code null}
+	 */
+	protected ConnectionAdmissionController getAdmissionController() {
+		return null;
+	}
+
 	/**
 	 * Get a {@link Pool} for the specified tenant.
 	 * <p>
@@ -71,12 +97,47 @@ public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
 	}
 
 	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
-		return pool.getConnection()
-				.toCompletionStage().thenApply( this::newConnection );
+		return withAdmissionControl( onClose -> pool.getConnection()
+				.toCompletionStage().thenApply( connection -> newConnection( connection, onClose ) ) );
 	}
 
-	private SqlClientConnection newConnection(SqlConnection connection) {
-		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger() );
+	private SqlClientConnection newConnection(SqlConnection connection, Runnable onClose) {
+		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger(), getSlowStatementLogger(), onClose );
+	}
+
+	/**
+	 * Obtain a connection, unless it is rejected by the
+	 * {@link #getAdmissionController() admission controller}.
+	 *
+	 * @param acquire a function which obtains a connection, given
+	 *                a callback to run when the connection is closed
+	 */
+	CompletionStage<ReactiveConnection> withAdmissionControl(Function<Runnable, CompletionStage<ReactiveConnection>> acquire) {
+		final ConnectionAcquisitionEvent event = ConnectionAcquisitionEvent.begin();
+		final CompletionStage<ReactiveConnection> connection = admit( acquire );
+		return event.isEnabled()
+				? connection.whenComplete( (c, error) -> event.complete( error != null ) )
+				: connection;
+	}
+
+	private CompletionStage<ReactiveConnection> admit(Function<Runnable, CompletionStage<ReactiveConnection>> acquire) {
+		final ConnectionAdmissionController admissionController = getAdmissionController();
+		if ( admissionController == null ) {
+			return acquire.apply( null );
+		}
+		if ( !admissionController.tryAdmit() ) {
+			return failedFuture( admissionController.rejection() );
+		}
+		final long start = System.nanoTime();
+		return acquire.apply( admissionController::release )
+				.whenComplete( (connection, error) -> {
+					if ( error == null ) {
+						admissionController.acquired( System.nanoTime() - start );
+					}
+					else {
+						admissionController.release();
+					}
+				} );
 	}
 
 	@Override
@@ -89,4 +150,14 @@ public ReactiveConnection getProxyConnection(String tenantId) {
 		return new ProxyConnection( this, tenantId );
 	}
 
+	@Override
+	public ReactiveConnection getStatementScopedConnection() {
+		return new ProxyConnection( this, null, true );
+	}
+
+	@Override
+	public ReactiveConnection getStatementScopedConnection(String tenantId) {
+		return new ProxyConnection( this, tenantId, true );
+	}
+
 }
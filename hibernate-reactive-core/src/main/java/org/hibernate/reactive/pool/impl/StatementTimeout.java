@@ -0,0 +1,77 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Enforces a query timeout using a Vert.x timer, since the Vert.x SQL
+ * client has no notion of a statement timeout.
+ * <p>
+ * If the timer fires before the statement completes, the returned stage
+ * fails with a {@link javax.persistence.QueryTimeoutException}, and the
+ * statement is {@linkplain ReactiveConnection#cancel() cancelled}.
+ */
+public final class StatementTimeout {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private StatementTimeout() {
+	}
+
+	/**
+	 * @param statement the stage executing the statement
+	 * @param timeout the timeout in seconds, or {@code null} for no timeout
+	 * @param sql the statement, for reporting the timeout
+	 * @param connection the connection executing the statement
+	 */
+	public static <T> CompletionStage<T> withTimeout(
+			CompletionStage<T> statement,
+			Integer timeout,
+			String sql,
+			ReactiveConnection connection) {
+		if ( timeout == null || timeout <= 0 ) {
+			return statement;
+		}
+		final Context context = Vertx.currentContext();
+		if ( context == null ) {
+			// there's no event loop to schedule the timer on
+			return statement;
+		}
+
+		final Vertx vertx = context.owner();
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		final long timerId = vertx.setTimer( TimeUnit.SECONDS.toMillis( timeout ), id -> {
+			if ( result.completeExceptionally( LOG.queryTimeoutExceeded( timeout, sql ) ) ) {
+				connection.cancel().whenComplete( (v, e) -> {
+					if ( e != null ) {
+						LOG.debugf( e, "Failed to cancel statement after timeout: %s", sql );
+					}
+				} );
+			}
+		} );
+		statement.whenComplete( (value, error) -> {
+			vertx.cancelTimer( timerId );
+			if ( error == null ) {
+				result.complete( value );
+			}
+			else {
+				result.completeExceptionally( error );
+			}
+		} );
+		return result;
+	}
+}
@@ -57,6 +57,158 @@ public interface Settings extends AvailableSettings {
 	 */
 	String POOL_CLEANER_PERIOD = "hibernate.vertx.pool.cleaner_period";
 
+	/**
+	 * Property for enabling event loop affinity of the Vert.x connection pool.
+	 * When enabled, the connection pool is split into one shard per event loop,
+	 * each shard holding at most {@code maxSize / eventLoops} connections, and a
+	 * connection is always borrowed from the shard of the calling event loop,
+	 * unless that shard is exhausted and another shard has spare capacity.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.DefaultSqlClientPool
+	 */
+	String POOL_EVENT_LOOP_AFFINITY = "hibernate.vertx.pool.event_loop_affinity";
+
+	/**
+	 * Property for enabling admission control for the Vert.x connection pool,
+	 * specifying the target maximum time, in milliseconds, that a request for a
+	 * connection should wait for a connection to become available. When requests
+	 * wait longer, the number of concurrent requests for connections is reduced,
+	 * and requests beyond the limit fail immediately with a
+	 * {@link org.hibernate.reactive.exception.ConnectionAcquisitionRejectedException}.
+	 * <p>
+	 * Admission control is disabled by default.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.ConnectionAdmissionController
+	 */
+	String POOL_ADMISSION_MAX_WAIT = "hibernate.vertx.pool.admission.max_wait";
+
+	/**
+	 * Property for configuring the maximum number of concurrent requests for
+	 * connections allowed by the admission control of the Vert.x connection pool.
+	 * By default, this is the maximum size of the pool plus the maximum size of
+	 * its wait queue, if any, or four times the maximum size of the pool.
+	 *
+	 * @see #POOL_ADMISSION_MAX_WAIT
+	 */
+	String POOL_ADMISSION_MAX_LIMIT = "hibernate.vertx.pool.admission.max_limit";
+
+	/**
+	 * Property for enabling logging of the values of the parameters of slow
+	 * statements, which are logged when they take longer than the number of
+	 * milliseconds given by {@link #LOG_SLOW_QUERY}. By default, only the
+	 * types of the parameters are logged, since their values might contain
+	 * sensitive data.
+	 *
+	 * @see org.hibernate.reactive.pool.impl.SlowStatementLogger
+	 */
+	String SLOW_STATEMENT_LOG_PARAMETER_VALUES = "hibernate.reactive.slow_statement.log_parameter_values";
+
+	/**
+	 * Property for configuring the fraction, between 0 and 1, of slow
+	 * {@code select} statements for which the execution plan is obtained
+	 * using {@code explain}, and logged. Only supported on PostgreSQL,
+	 * CockroachDB, MySQL, and MariaDB. Defaults to 0.
+	 *
+	 * @see #LOG_SLOW_QUERY
+	 * @see org.hibernate.reactive.pool.impl.SlowStatementLogger
+	 */
+	String SLOW_STATEMENT_EXPLAIN_SAMPLE_RATE = "hibernate.reactive.slow_statement.explain_sample_rate";
+
+	/**
+	 * Property for configuring the maximum number of distinct statements,
+	 * generated for an entity with {@code @DynamicUpdate} or {@code @DynamicInsert},
+	 * that are cached for reuse. Zero disables the cache. Defaults to
+	 * {@value org.hibernate.reactive.persister.entity.impl.DynamicSqlCache#DEFAULT_MAX_SIZE}.
+	 *
+	 * @see org.hibernate.reactive.persister.entity.impl.DynamicSqlCache
+	 */
+	String DYNAMIC_SQL_CACHE_MAX_SIZE = "hibernate.reactive.dynamic_sql_cache.max_size";
+
+	/**
+	 * Property for configuring the maximum number of distinct native SQL
+	 * queries whose loaders, along with the column positions and types
+	 * discovered from the result set, are cached for reuse by each session
+	 * factory. Zero disables the cache. Defaults to
+	 * {@value org.hibernate.reactive.loader.custom.impl.NativeQueryLoaderCache#DEFAULT_MAX_SIZE}.
+	 *
+	 * @see org.hibernate.reactive.loader.custom.impl.NativeQueryLoaderCache
+	 */
+	String NATIVE_QUERY_CACHE_MAX_SIZE = "hibernate.reactive.native_query_cache.max_size";
+
+	/**
+	 * Specifies a {@link org.hibernate.reactive.cache.ReactiveCacheProvider} class,
+	 * providing the regions of the second-level cache when the
+	 * {@link org.hibernate.reactive.cache.impl.ReactiveRegionFactory} is enabled.
+	 * By default, the regions hold their data in process.
+	 *
+	 * @see org.hibernate.reactive.cache.impl.InProcessCacheProvider
+	 */
+	String CACHE_PROVIDER = "hibernate.reactive.cache.provider";
+
+	/**
+	 * Property for configuring the maximum number of entries in each region
+	 * of the built-in in-process second-level cache. Defaults to
+	 * {@value org.hibernate.reactive.cache.impl.InProcessCacheProvider#DEFAULT_MAX_ENTRIES}.
+	 *
+	 * @see org.hibernate.reactive.cache.impl.InProcessCacheProvider
+	 */
+	String CACHE_MAX_ENTRIES = "hibernate.reactive.cache.max_entries";
+
+	/**
+	 * Property for configuring the time, in milliseconds, after which an entry
+	 * of the built-in in-process second-level cache expires. By default,
+	 * entries never expire, but are evicted when a region is full.
+	 *
+	 * @see org.hibernate.reactive.cache.impl.InProcessCacheProvider
+	 */
+	String CACHE_TIME_TO_LIVE = "hibernate.reactive.cache.time_to_live";
+
+	/**
+	 * When enabled, a session which misses an entry of the second-level cache
+	 * or of the query cache, while another session is already loading the same
+	 * entry from the database, waits for that load, and then reads the entry
+	 * from the cache. Enabled by default.
+	 *
+	 * @see org.hibernate.reactive.cache.impl.SingleFlight
+	 */
+	String CACHE_SINGLE_FLIGHT = "hibernate.reactive.cache.single_flight";
+
+	/**
+	 * Property for configuring the maximum number of {@code @Immutable} entity
+	 * instances held by the near cache, which is shared by the sessions of a
+	 * session factory, and split between the Vert.x event loops. By default,
+	 * the near cache is disabled.
+	 *
+	 * @see org.hibernate.reactive.cache.impl.NearCache
+	 */
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.reactive.near_cache.max_entries";
+
+	/**
+	 * When enabled, the query plans of every named HQL query are compiled
+	 * while the session factory is built, in parallel, instead of when each
+	 * query is first executed. Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.session.impl.QueryPlanPrecompiler
+	 */
+	String QUERY_PLAN_PRECOMPILE = "hibernate.reactive.query_plan.precompile";
+
+	/**
+	 * Property for specifying additional HQL queries whose plans are compiled
+	 * while the session factory is built, either as a {@code Collection} of
+	 * strings, or as the name of a resource containing one query per line.
+	 * Setting this property enables {@link #QUERY_PLAN_PRECOMPILE}.
+	 */
+	String QUERY_PLAN_PRECOMPILE_QUERIES = "hibernate.reactive.query_plan.precompile.queries";
+
+	/**
+	 * Property for configuring the number of threads which compile query
+	 * plans while the session factory is built. Defaults to the number of
+	 * available processors.
+	 */
+	String QUERY_PLAN_PRECOMPILE_THREADS = "hibernate.reactive.query_plan.precompile.threads";
+
 	/**
 	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration} class.
 	 */
@@ -21,6 +21,9 @@
 import org.hibernate.jmx.internal.JmxServiceInitiator;
 import org.hibernate.persister.internal.PersisterFactoryInitiator;
 import org.hibernate.property.access.internal.PropertyAccessStrategyResolverInitiator;
+import org.hibernate.reactive.cache.impl.NearCacheInitiator;
+import org.hibernate.reactive.cache.impl.ReactiveCacheProviderInitiator;
+import org.hibernate.reactive.cache.impl.SingleFlightInitiator;
 import org.hibernate.reactive.context.impl.VertxContextInitiator;
 import org.hibernate.reactive.pool.impl.SqlClientPoolConfigurationInitiator;
 import org.hibernate.reactive.provider.service.NoJdbcMultiTenantConnectionProviderInitiator;
@@ -34,6 +37,8 @@
 import org.hibernate.reactive.id.impl.ReactiveIdentifierGeneratorFactoryInitiator;
 import org.hibernate.reactive.provider.service.ReactivePersisterClassResolverInitiator;
 import org.hibernate.reactive.pool.impl.ReactiveConnectionPoolInitiator;
+import org.hibernate.reactive.loader.custom.impl.NativeQueryLoaderCacheInitiator;
+import org.hibernate.reactive.session.impl.QueryPlanPrecompilerInitiator;
 import org.hibernate.reactive.vertx.impl.VertxInstanceInitiator;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistryInitiator;
 import org.hibernate.resource.transaction.internal.TransactionCoordinatorBuilderInitiator;
@@ -72,6 +77,15 @@ private static List<StandardServiceInitiator<?>> buildInitialServiceInitiatorLis
         serviceInitiators.add( SqlClientPoolConfigurationInitiator.INSTANCE );
         serviceInitiators.add( ReactiveConnectionPoolInitiator.INSTANCE );
 
+        // Exclusive to Hibernate Reactive:
+        serviceInitiators.add( ReactiveCacheProviderInitiator.INSTANCE );
+        serviceInitiators.add( NearCacheInitiator.INSTANCE );
+        serviceInitiators.add( SingleFlightInitiator.INSTANCE );
+
+        // Exclusive to Hibernate Reactive:
+        serviceInitiators.add( QueryPlanPrecompilerInitiator.INSTANCE );
+        serviceInitiators.add( NativeQueryLoaderCacheInitiator.INSTANCE );
+
         //Custom for Hibernate Reactive:
         serviceInitiators.add( ReactiveSessionFactoryBuilderInitiator.INSTANCE );
 
@@ -10,6 +10,7 @@
 import org.hibernate.boot.spi.AbstractDelegatingSessionFactoryBuilderImplementor;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryBuilderImplementor;
+import org.hibernate.reactive.session.impl.QueryPlanPrecompiler;
 import org.hibernate.reactive.session.impl.ReactiveSessionFactoryImpl;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.stage.Stage;
@@ -49,7 +50,13 @@ public <T extends SessionFactoryBuilder> T unwrap(Class<T> type) {
 
 	@Override
 	public SessionFactory build() {
-		return new ReactiveSessionFactoryImpl( metadata, delegate.buildSessionFactoryOptions() );
+		final boolean checkNamedQueries = delegate.buildSessionFactoryOptions().isNamedQueryStartupCheckingEnabled();
+		if ( checkNamedQueries && metadata.getMetadataBuildingOptions().getServiceRegistry()
+				.getService( QueryPlanPrecompiler.class ).isEnabled() ) {
+			// named queries are checked after their plans are precompiled
+			delegate.applyNamedQueryCheckingOnStartup( false );
+		}
+		return new ReactiveSessionFactoryImpl( metadata, delegate.buildSessionFactoryOptions(), checkNamedQueries );
 	}
 
 }
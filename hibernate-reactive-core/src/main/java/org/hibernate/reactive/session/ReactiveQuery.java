@@ -15,6 +15,9 @@
 import org.hibernate.hql.internal.QueryExecutionRequestException;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.AbstractProducedQuery;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -34,7 +37,7 @@
  * @see ReactiveSession
  */
 @Incubating
-public interface ReactiveQuery<R> {
+public interface ReactiveQuery<R> extends ReactiveConnectionSupplier {
 
 	void setParameterMetadata(InterpretedParameterMetadata parameterMetadata);
 
@@ -66,6 +69,8 @@
 
 	ReactiveQuery<R> setComment(String comment);
 
+	ReactiveQuery<R> setTimeout(int timeout);
+
 	ReactiveQuery<R> setQueryHint(String hintName, Object value);
 
 	ReactiveQuery<R> setLockMode(LockMode lockMode);
@@ -84,6 +89,18 @@
 
 	ReactiveQuery<R> setResultTransformer(ResultTransformer resultTransformer);
 
+	/**
+	 * Build each result directly from a row returned by the database,
+	 * using the given {@link RowMapper}, instead of the loader.
+	 */
+	<T> ReactiveQuery<T> setResultMapper(RowMapper<T> rowMapper);
+
+	/**
+	 * Obtain the page of results identified by the given {@link KeysetPage},
+	 * along with the page which follows it.
+	 */
+	CompletionStage<KeysetResultList<R>> getReactiveKeysetResultList(KeysetPage page);
+
 	Type[] getReturnTypes();
 
 	static <T> T convertQueryException(T result, Throwable e,
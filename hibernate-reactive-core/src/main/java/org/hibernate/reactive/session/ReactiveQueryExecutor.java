@@ -13,6 +13,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.common.RowMapper;
 
 import javax.persistence.EntityGraph;
 import java.io.Serializable;
@@ -39,6 +40,10 @@ public interface ReactiveQueryExecutor extends ReactiveConnectionSupplier {
 
 	<T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters);
 
+	<T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters, RowMapper<T> rowMapper);
+
+	<T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters, RowMapper<T> rowMapper);
+
 	CompletionStage<Integer> executeReactiveUpdate(String expandedQuery, QueryParameters parameters);
 
 	CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecification specification, QueryParameters parameters);
@@ -13,11 +13,13 @@
 import org.hibernate.LockOptions;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.event.internal.MergeContext;
 import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
 
 import javax.persistence.EntityGraph;
@@ -25,6 +27,7 @@
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -65,6 +68,12 @@ public interface ReactiveSession extends ReactiveQueryExecutor {
 
 	CompletionStage<Void> reactiveMerge(Object object, MergeContext copiedAlready);
 
+	CompletionStage<Void> reactiveMergeAll(Object... entities);
+
+	CompletionStage<Void> reactivePersistAll(Object... entities);
+
+	CompletionStage<Void> reactiveCheckReferencedRowsExist(CascadingAction action, Object... entities);
+
 	CompletionStage<Void> reactiveFlush();
 
 	CompletionStage<Void> reactiveAutoflush();
@@ -77,6 +86,10 @@ public interface ReactiveSession extends ReactiveQueryExecutor {
 
 	CompletionStage<Void> reactiveLock(Object entity, LockOptions lockMode);
 
+	CompletionStage<Void> reactiveRefreshAll(Object... entities);
+
+	CompletionStage<Void> reactiveLockAll(LockOptions lockOptions, Object... entities);
+
 	<T> CompletionStage<T> reactiveGet(Class<T> entityClass, Serializable id);
 
 	<T> CompletionStage<T> reactiveFind(Class<T> entityClass, Object id,
@@ -86,6 +99,13 @@ <T> CompletionStage<T> reactiveFind(Class<T> entityClass, Object id,
 
 	<T> CompletionStage<T> reactiveFind(Class<T> entityClass, Map<String,Object> naturalIds);
 
+	/**
+	 * Load the entities with the given identifiers which aren't already
+	 * in the persistence context or, if the cache mode allows it, in the
+	 * second-level cache, using one batch load per entity type.
+	 */
+	CompletionStage<Void> reactivePreload(Map<EntityPersister, Set<Serializable>> idsByPersister);
+
 	CompletionStage<Object> reactiveImmediateLoad(String entityName, Serializable id);
 
 	CompletionStage<Void> reactiveInitializeCollection(PersistentCollection collection, boolean writing);
@@ -55,6 +55,11 @@ public interface ReactiveStatelessSession extends ReactiveQueryExecutor {
 
 	CompletionStage<Void> reactiveRefreshAll(int batchSize, Object... entities);
 
+	/**
+	 * Called once the current transaction has committed or rolled back.
+	 */
+	void reactiveAfterTransactionCompletion(boolean successful);
+
 	boolean isOpen();
 
 	void close(CompletableFuture<Void> closing);
@@ -41,11 +41,6 @@ public class CriteriaQueryRenderingContext implements RenderingContext, Interpre
 	private final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap = new HashMap<>();
 	private final List<ImplicitParameterBinding> implicitParameterBindings = new ArrayList<>();
 
-	//TODO: roll this back once we have parameters?
-//		final LiteralHandlingMode criteriaLiteralHandlingMode = sessionFactory
-//				.getSessionFactoryOptions()
-//				.getCriteriaLiteralHandlingMode();
-
 	private int aliasCount;
 	private int explicitParameterCount;
 
@@ -55,10 +50,12 @@ public class CriteriaQueryRenderingContext implements RenderingContext, Interpre
 
 	private final Dialect dialect;
 	private final TypeResolver typeResolver;
+	private final LiteralHandlingMode criteriaLiteralHandlingMode;
 
 	public CriteriaQueryRenderingContext(SessionFactoryImplementor sessionFactory) {
 		dialect = sessionFactory.getServiceRegistry().getService( JdbcServices.class ).getDialect();
 		typeResolver = sessionFactory.getTypeResolver();
+		criteriaLiteralHandlingMode = sessionFactory.getSessionFactoryOptions().getCriteriaLiteralHandlingMode();
 	}
 
 	@Override
@@ -66,10 +63,16 @@ public Dialect getDialect() {
 		return dialect;
 	}
 
+	/**
+	 * Literals which are bound as parameters, instead of being inlined,
+	 * don't affect the rendered query string, so criteria queries which
+	 * differ only in such literals share the same query plan.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_LITERAL_HANDLING_MODE
+	 */
 	@Override
 	public LiteralHandlingMode getCriteriaLiteralHandlingMode() {
-		return LiteralHandlingMode.INLINE;
-//				return criteriaLiteralHandlingMode;
+		return criteriaLiteralHandlingMode;
 	}
 	@Override
 	public Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap() {
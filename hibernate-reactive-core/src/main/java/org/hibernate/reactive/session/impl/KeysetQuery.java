@@ -0,0 +1,252 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Rewrites a HQL query which returns an entity so that it returns the
+ * page of results identified by a {@link KeysetPage}: the results are
+ * ordered by the sort keys, and restricted to those which follow the
+ * last key of the previous page.
+ * <p>
+ * The restriction is written as a disjunction, for example
+ * {@code k1 > :k1 or k1 = :k1 and k2 > :k2}, rather than as a row
+ * value comparison, because HQL only translates equality of row
+ * values portably. Since a comparison with null is never true, the
+ * sort keys must never be null.
+ */
+final class KeysetQuery {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String KEY_PARAMETER = "keyset_";
+
+	private final KeysetPage page;
+	private final EntityPersister persister;
+	private final String[] properties;
+	private final boolean[] descending;
+	private final Type[] types;
+	private final String queryString;
+
+	KeysetQuery(KeysetPage page, Type[] returnTypes, String hql, SharedSessionContractImplementor session) {
+		if ( returnTypes.length != 1 || !returnTypes[0].isEntityType() ) {
+			throw LOG.keysetQueryMustReturnEntity( hql );
+		}
+		if ( topLevelClause( hql, "order", "by" ) >= 0
+				|| topLevelClause( hql, "group", "by" ) >= 0
+				|| topLevelClause( hql, "having" ) >= 0 ) {
+			throw LOG.keysetQueryWithOrderOrGroup( hql );
+		}
+
+		final String entityName = ( (EntityType) returnTypes[0] ).getAssociatedEntityName();
+		this.page = page;
+		this.persister = session.getFactory().getMetamodel().entityPersister( entityName );
+
+		final String[] sortKeys = page.getSortKeys();
+		final String[] paths = new String[sortKeys.length];
+		this.properties = new String[sortKeys.length];
+		this.descending = new boolean[sortKeys.length];
+		this.types = new Type[sortKeys.length];
+		for ( int i = 0; i < sortKeys.length; i++ ) {
+			String path = sortKeys[i].trim();
+			final String lowerCase = path.toLowerCase( Locale.ROOT );
+			if ( lowerCase.endsWith( " desc" ) ) {
+				descending[i] = true;
+				path = path.substring( 0, path.length() - 5 ).trim();
+			}
+			else if ( lowerCase.endsWith( " asc" ) ) {
+				path = path.substring( 0, path.length() - 4 ).trim();
+			}
+			paths[i] = path;
+			properties[i] = propertyPath( path );
+			types[i] = persister.getPropertyType( properties[i] );
+		}
+		this.queryString = rewrite( hql, paths );
+	}
+
+	/**
+	 * @return the path relative to the entity, without the alias
+	 */
+	private String propertyPath(String path) {
+		final int dot = path.indexOf( '.' );
+		if ( dot > 0 ) {
+			final String root = path.substring( 0, dot );
+			if ( !root.equals( persister.getIdentifierPropertyName() )
+					&& persister.getEntityMetamodel().getPropertyIndexOrNull( root ) == null ) {
+				return path.substring( dot + 1 );
+			}
+		}
+		return path;
+	}
+
+	private String rewrite(String hql, String[] paths) {
+		final StringBuilder query = new StringBuilder();
+		final String restriction = page.isFirst() ? null : restriction( paths );
+		final int where = topLevelClause( hql, "where" );
+		if ( where < 0 ) {
+			query.append( hql.trim() );
+			if ( restriction != null ) {
+				query.append( " where " ).append( restriction );
+			}
+		}
+		else if ( restriction == null ) {
+			query.append( hql.trim() );
+		}
+		else {
+			// parenthesize the original restriction, since it might be a disjunction
+			query.append( hql, 0, where )
+					.append( "where (" )
+					.append( hql.substring( where + "where".length() ).trim() )
+					.append( ") and " )
+					.append( restriction );
+		}
+		query.append( " order by " );
+		for ( int i = 0; i < paths.length; i++ ) {
+			if ( i > 0 ) {
+				query.append( ", " );
+			}
+			query.append( paths[i] ).append( descending[i] ? " desc" : " asc" );
+		}
+		return query.toString();
+	}
+
+	private String restriction(String[] paths) {
+		final StringBuilder restriction = new StringBuilder( "(" );
+		for ( int i = 0; i < paths.length; i++ ) {
+			if ( i > 0 ) {
+				restriction.append( " or " );
+			}
+			for ( int j = 0; j < i; j++ ) {
+				restriction.append( paths[j] ).append( " = :" ).append( KEY_PARAMETER ).append( j ).append( " and " );
+			}
+			restriction.append( paths[i] )
+					.append( descending[i] ? " < :" : " > :" )
+					.append( KEY_PARAMETER ).append( i );
+		}
+		return restriction.append( ")" ).toString();
+	}
+
+	/**
+	 * @return the position of the given clause, where it occurs outside
+	 *         of any parentheses or string literal, or -1
+	 */
+	private static int topLevelClause(String hql, String... keywords) {
+		int depth = 0;
+		boolean literal = false;
+		for ( int i = 0; i < hql.length(); i++ ) {
+			final char ch = hql.charAt( i );
+			if ( ch == '\'' ) {
+				literal = !literal;
+			}
+			else if ( !literal ) {
+				if ( ch == '(' ) {
+					depth++;
+				}
+				else if ( ch == ')' ) {
+					depth--;
+				}
+				else if ( depth == 0 && ( i == 0 || isDelimiter( hql.charAt( i - 1 ) ) )
+						&& matches( hql, i, keywords ) ) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return true if the keywords, separated by whitespace, occur at
+	 *         the given position
+	 */
+	private static boolean matches(String hql, int position, String... keywords) {
+		int end = position;
+		for ( int k = 0; k < keywords.length; k++ ) {
+			if ( k > 0 ) {
+				final int start = end;
+				while ( end < hql.length() && Character.isWhitespace( hql.charAt( end ) ) ) {
+					end++;
+				}
+				if ( end == start ) {
+					return false;
+				}
+			}
+			final String keyword = keywords[k];
+			if ( !hql.regionMatches( true, end, keyword, 0, keyword.length() ) ) {
+				return false;
+			}
+			end += keyword.length();
+		}
+		return end == hql.length() || isDelimiter( hql.charAt( end ) );
+	}
+
+	private static boolean isDelimiter(char ch) {
+		return Character.isWhitespace( ch ) || ch == '(' || ch == ')';
+	}
+
+	String getQueryString() {
+		return queryString;
+	}
+
+	/**
+	 * Bind the last key of the previous page, and limit the results to
+	 * one more than the size of the page, to find out if there is a
+	 * next page.
+	 */
+	QueryParameters bind(QueryParameters parameters) {
+		if ( !page.isFirst() ) {
+			final Object[] lastKey = page.getLastKey();
+			final Map<String, TypedValue> namedParameters = new HashMap<>( parameters.getNamedParameters() );
+			for ( int i = 0; i < lastKey.length; i++ ) {
+				namedParameters.put( KEY_PARAMETER + i, new TypedValue( types[i], lastKey[i] ) );
+			}
+			parameters.setNamedParameters( namedParameters );
+		}
+		final RowSelection selection = new RowSelection();
+		selection.setMaxRows( page.getSize() + 1 );
+		selection.setTimeout( parameters.getRowSelection().getTimeout() );
+		selection.setFetchSize( parameters.getRowSelection().getFetchSize() );
+		parameters.setRowSelection( selection );
+		return parameters;
+	}
+
+	<R> KeysetResultList<R> results(List<R> list, SharedSessionContractImplementor session) {
+		if ( list.size() <= page.getSize() ) {
+			return new KeysetResultList<>( list, null );
+		}
+		final List<R> results = new ArrayList<>( list.subList( 0, page.getSize() ) );
+		final R last = results.get( results.size() - 1 );
+		final Object[] lastKey = new Object[properties.length];
+		for ( int i = 0; i < properties.length; i++ ) {
+			lastKey[i] = properties[i].equals( persister.getIdentifierPropertyName() )
+					? persister.getIdentifier( last, session )
+					: persister.getPropertyValue( last, properties[i] );
+			if ( lastKey[i] == null ) {
+				// the restriction can't select the results which follow a null
+				// key, so the next page would silently be empty
+				throw LOG.keysetSortKeyIsNull( properties[i], persister.getEntityName() );
+			}
+		}
+		return new KeysetResultList<>( results, page.after( lastKey ) );
+	}
+}
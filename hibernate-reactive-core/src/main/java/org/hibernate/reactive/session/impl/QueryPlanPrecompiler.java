@@ -0,0 +1,222 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.NamedQueryDefinition;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.service.Service;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+/**
+ * Compiles the plans of HQL queries into the {@link QueryPlanCache} while
+ * the session factory is built, so that the first execution of each query
+ * doesn't pay for parsing, translation, and SQL generation. The queries
+ * are the named HQL queries, along with any queries listed by
+ * {@link org.hibernate.reactive.provider.Settings#QUERY_PLAN_PRECOMPILE_QUERIES},
+ * and they're compiled in parallel by a pool of threads which is shut
+ * down as soon as they're all done.
+ * <p>
+ * Hibernate ORM checks named queries one by one while the session factory
+ * is built, so when precompilation is enabled, that check is deferred
+ * until the query plans are already in the cache. If the check is
+ * disabled, by {@value org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECKING},
+ * invalid named queries are ignored, as they would be by Hibernate ORM.
+ *
+ * @see org.hibernate.reactive.provider.Settings#QUERY_PLAN_PRECOMPILE
+ */
+public class QueryPlanPrecompiler implements Service {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * Never compiles anything
+	 */
+	public static final QueryPlanPrecompiler DISABLED = new QueryPlanPrecompiler( false, emptyList(), 1 );
+
+	private final boolean enabled;
+	private final List<String> queries;
+	private final int threads;
+
+	private volatile int compiledQueries;
+	private volatile long compilationTime;
+	private volatile long slowestQueryCompilationTime;
+	private volatile String slowestQuery;
+
+	public QueryPlanPrecompiler(boolean enabled, List<String> queries, int threads) {
+		this.enabled = enabled;
+		this.queries = queries;
+		this.threads = threads;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return the number of query plans compiled while the session factory
+	 *         was built
+	 */
+	public int getCompiledQueries() {
+		return compiledQueries;
+	}
+
+	/**
+	 * @return the elapsed time, in milliseconds, to compile all the query
+	 *         plans
+	 */
+	public long getCompilationTime() {
+		return compilationTime;
+	}
+
+	/**
+	 * @return the time, in milliseconds, to compile the slowest query plan
+	 */
+	public long getSlowestQueryCompilationTime() {
+		return slowestQueryCompilationTime;
+	}
+
+	/**
+	 * @return the query whose plan was the slowest to compile, or
+	 *         {@code null} if no query plan was compiled
+	 */
+	public String getSlowestQuery() {
+		return slowestQuery;
+	}
+
+	/**
+	 * Compile the plans of the named HQL queries and of the listed queries,
+	 * and then check the named queries, if required.
+	 *
+	 * @param factory the session factory being built
+	 * @param namedQueries the named HQL queries
+	 * @param checkNamedQueries whether invalid named queries are errors
+	 *
+	 * @throws HibernateException if a listed query or a named query is invalid
+	 */
+	public void precompile(SessionFactoryImplementor factory, Collection<NamedQueryDefinition> namedQueries,
+			boolean checkNamedQueries) {
+		if ( !enabled ) {
+			return;
+		}
+
+		final Set<String> queryStrings = new LinkedHashSet<>();
+		for ( NamedQueryDefinition namedQuery : namedQueries ) {
+			queryStrings.add( namedQuery.getQueryString() );
+		}
+		queryStrings.addAll( queries );
+
+		if ( !queryStrings.isEmpty() ) {
+			compile( factory.getQueryPlanCache(), queryStrings, namedQueries );
+		}
+
+		if ( checkNamedQueries ) {
+			// the plans of the named queries which compiled are already
+			// in the cache, so this only compiles the invalid ones again
+			final Map<String, HibernateException> errors =
+					factory.getNamedQueryRepository().checkNamedQueries( factory.getQueryPlanCache() );
+			if ( !errors.isEmpty() ) {
+				final Iterator<HibernateException> causes = errors.values().iterator();
+				final HibernateException exception =
+						LOG.errorsInNamedQueries( String.join( ", ", errors.keySet() ), causes.next() );
+				causes.forEachRemaining( exception::addSuppressed );
+				throw exception;
+			}
+		}
+	}
+
+	private void compile(QueryPlanCache queryPlanCache, Set<String> queryStrings,
+			Collection<NamedQueryDefinition> namedQueries) {
+		final int poolSize = Math.min( threads, queryStrings.size() );
+		final ExecutorService executor = Executors.newFixedThreadPool( poolSize, runnable -> {
+			final Thread thread = new Thread( runnable, "hibernate-reactive-query-plan-precompiler" );
+			thread.setDaemon( true );
+			return thread;
+		} );
+
+		final List<String> queryList = new ArrayList<>( queryStrings );
+		final List<Callable<Long>> tasks = new ArrayList<>( queryList.size() );
+		final Map<String, RuntimeException> failures = new ConcurrentHashMap<>();
+		for ( String query : queryList ) {
+			tasks.add( () -> {
+				final long start = System.nanoTime();
+				try {
+					queryPlanCache.getHQLQueryPlan( query, false, emptyMap() );
+				}
+				catch (RuntimeException e) {
+					failures.put( query, e );
+				}
+				return System.nanoTime() - start;
+			} );
+		}
+
+		final long start = System.nanoTime();
+		final List<Future<Long>> results;
+		try {
+			results = executor.invokeAll( tasks );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while precompiling query plans", e );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		final long elapsed = System.nanoTime() - start;
+
+		long slowest = -1;
+		for ( int i = 0; i < results.size(); i++ ) {
+			final long time = nanos( results.get( i ) );
+			if ( time > slowest ) {
+				slowest = time;
+				slowestQuery = queryList.get( i );
+			}
+		}
+		compiledQueries = queryList.size() - failures.size();
+		compilationTime = TimeUnit.NANOSECONDS.toMillis( elapsed );
+		slowestQueryCompilationTime = TimeUnit.NANOSECONDS.toMillis( slowest );
+		LOG.precompiledQueryPlans( compiledQueries, compilationTime, poolSize, slowestQueryCompilationTime, slowestQuery );
+
+		// errors in named queries are reported by the check which follows
+		for ( NamedQueryDefinition namedQuery : namedQueries ) {
+			failures.remove( namedQuery.getQueryString() );
+		}
+		for ( Map.Entry<String, RuntimeException> failure : failures.entrySet() ) {
+			throw LOG.unableToPrecompileQueryPlan( failure.getKey(), failure.getValue() );
+		}
+	}
+
+	private static long nanos(Future<Long> result) {
+		try {
+			return result.get();
+		}
+		catch (InterruptedException | ExecutionException e) {
+			// can't happen, since the task is done and never throws
+			return 0;
+		}
+	}
+}
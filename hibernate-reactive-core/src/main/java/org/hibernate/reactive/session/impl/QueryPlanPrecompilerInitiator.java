@@ -0,0 +1,85 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceException;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} for
+ * {@link QueryPlanPrecompiler}, which is enabled by
+ * {@link Settings#QUERY_PLAN_PRECOMPILE} or by
+ * {@link Settings#QUERY_PLAN_PRECOMPILE_QUERIES}.
+ */
+public class QueryPlanPrecompilerInitiator implements StandardServiceInitiator<QueryPlanPrecompiler> {
+
+	public static final QueryPlanPrecompilerInitiator INSTANCE = new QueryPlanPrecompilerInitiator();
+
+	@Override
+	public QueryPlanPrecompiler initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		final Object queries = configurationValues.get( Settings.QUERY_PLAN_PRECOMPILE_QUERIES );
+		if ( queries == null
+				&& !ConfigurationHelper.getBoolean( Settings.QUERY_PLAN_PRECOMPILE, configurationValues, false ) ) {
+			return QueryPlanPrecompiler.DISABLED;
+		}
+
+		final int threads = ConfigurationHelper.getInt(
+				Settings.QUERY_PLAN_PRECOMPILE_THREADS,
+				configurationValues,
+				Runtime.getRuntime().availableProcessors()
+		);
+		return new QueryPlanPrecompiler( true, queryList( queries, registry ), Math.max( threads, 1 ) );
+	}
+
+	private static List<String> queryList(Object queries, ServiceRegistryImplementor registry) {
+		final List<String> list = new ArrayList<>();
+		if ( queries instanceof Collection ) {
+			for ( Object query : (Collection<?>) queries ) {
+				list.add( query.toString() );
+			}
+		}
+		else if ( queries != null ) {
+			final String resourceName = queries.toString();
+			final InputStream stream = registry.getService( ClassLoaderService.class )
+					.locateResourceStream( resourceName );
+			if ( stream == null ) {
+				throw new ServiceException( "Unable to locate resource listing queries to precompile [" + resourceName + "]" );
+			}
+			try ( BufferedReader reader = new BufferedReader( new InputStreamReader( stream, StandardCharsets.UTF_8 ) ) ) {
+				String line;
+				while ( ( line = reader.readLine() ) != null ) {
+					line = line.trim();
+					if ( !line.isEmpty() && !line.startsWith( "#" ) ) {
+						list.add( line );
+					}
+				}
+			}
+			catch (IOException e) {
+				throw new ServiceException( "Unable to read resource listing queries to precompile [" + resourceName + "]", e );
+			}
+		}
+		return list;
+	}
+
+	@Override
+	public Class<QueryPlanPrecompiler> getServiceInitiated() {
+		return QueryPlanPrecompiler.class;
+	}
+}
@@ -23,6 +23,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.hql.spi.QueryTranslator;
 import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
@@ -133,6 +134,28 @@ public CompletionStage<List<T>> performReactiveList(QueryParameters queryParamet
 		).thenApply( v -> combinedResults );
 	}
 
+	/**
+	 * A version of {@link #performReactiveList(QueryParameters, SharedSessionContractImplementor)}
+	 * which builds each result directly from a row returned by the database, using the given
+	 * {@link RowMapper}.
+	 */
+	public <R> CompletionStage<List<R>> performReactiveList(QueryParameters queryParameters,
+															SharedSessionContractImplementor session,
+															RowMapper<R> rowMapper)
+			throws HibernateException {
+		if ( log.isTraceEnabled() ) {
+			log.tracev( "Find: {0}", getSourceQuery() );
+			queryParameters.traceParameters( session.getFactory() );
+		}
+
+		final QueryTranslator[] translators = getTranslators();
+		if ( translators.length != 1 ) {
+			// the rows of the different SQL queries might not even have the same shape
+			throw log.resultMapperWithSplitQuery( translators.length, getSourceQuery() );
+		}
+		return translator( translators[0] ).reactiveList( session, queryParameters, rowMapper );
+	}
+
 	private void needsLimitLoop(QueryParameters queryParameters,
 								List<T> combinedResults,
 								IdentitySet distinction,
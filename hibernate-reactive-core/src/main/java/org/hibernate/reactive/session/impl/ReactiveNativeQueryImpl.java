@@ -16,19 +16,28 @@
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.NativeQueryImpl;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
+import org.hibernate.reactive.common.RowMapper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.impl.StatementTimeout;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
 import org.hibernate.transform.ResultTransformer;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Parameter;
+import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.reactive.session.ReactiveQuery.convertQueryException;
 import static org.hibernate.reactive.session.ReactiveQuery.extractUniqueResult;
 import static org.hibernate.reactive.session.ReactiveQuery.extractUniqueResultOrNull;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 
 /**
  *  Implementation of {@link ReactiveNativeQuery} by extension of
@@ -38,6 +47,10 @@
  */
 public class ReactiveNativeQueryImpl<R> extends NativeQueryImpl<R> implements ReactiveNativeQuery<R> {
 
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private RowMapper<R> rowMapper;
+
 	public ReactiveNativeQueryImpl(
 			NamedSQLQueryDefinition queryDef,
 			SharedSessionContractImplementor session,
@@ -64,6 +77,19 @@ public ReactiveNativeQueryImpl<R> setResultTransformer(ResultTransformer nativeQ
 		return this;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> ReactiveNativeQueryImpl<T> setResultMapper(RowMapper<T> rowMapper) {
+		final ReactiveNativeQueryImpl<T> query = (ReactiveNativeQueryImpl<T>) this;
+		query.rowMapper = rowMapper;
+		return query;
+	}
+
+	@Override
+	public CompletionStage<KeysetResultList<R>> getReactiveKeysetResultList(KeysetPage page) {
+		return failedFuture( LOG.keysetNativeQuery( getQueryString() ) );
+	}
+
 	@Override
 	public ReactiveNativeQueryImpl<R> addEntity(String alias, String name, LockMode read) {
 		super.addEntity(alias, name, read);
@@ -91,8 +117,13 @@ public CompletionStage<Integer> executeReactiveUpdate() {
 		getProducer().checkTransactionNeededForUpdateOperation( "Executing an update/delete query" );
 
 		beforeQuery();
-		return reactiveProducer()
-				.executeReactiveUpdate( generateQuerySpecification(), getQueryParameters() )
+		return StatementTimeout
+				.withTimeout(
+						reactiveProducer().executeReactiveUpdate( generateQuerySpecification(), getQueryParameters() ),
+						getTimeout(),
+						getQueryString(),
+						getReactiveConnection()
+				)
 				.whenComplete( (count, error) -> afterQuery() )
 				.handle( (count, error) -> convertQueryException( count, error, this ) );
 	}
@@ -100,8 +131,9 @@ public CompletionStage<Integer> executeReactiveUpdate() {
 	@Override
 	public CompletionStage<List<R>> getReactiveResultList() {
 		beforeQuery();
-		return reactiveProducer()
-				.<R>reactiveList( generateQuerySpecification(), getQueryParameters() )
+		return ( rowMapper == null
+					? reactiveProducer().<R>reactiveList( generateQuerySpecification(), getQueryParameters() )
+					: reactiveProducer().reactiveList( generateQuerySpecification(), getQueryParameters(), rowMapper ) )
 				.whenComplete( (list, err) -> afterQuery() )
 				.handle( (list, error) -> convertQueryException( list, error, this ) );
 	}
@@ -118,6 +150,11 @@ private ReactiveQueryExecutor reactiveProducer() {
 		return (ReactiveQueryExecutor) getProducer();
 	}
 
+	@Override
+	public ReactiveConnection getReactiveConnection() {
+		return reactiveProducer().getReactiveConnection();
+	}
+
 	@Override
 	public ReactiveNativeQueryImpl<R> setParameter(int position, Object value) {
 		super.setParameter(position, value);
@@ -160,6 +197,12 @@ public ReactiveNativeQueryImpl<R> setComment(String comment) {
 		return this;
 	}
 
+	@Override
+	public ReactiveNativeQueryImpl<R> setTimeout(int timeout) {
+		super.setTimeout(timeout);
+		return this;
+	}
+
 	@Override
 	public ReactiveQuery<R> setLockMode(LockMode lockMode) {
 		setLockOptions( new LockOptions(lockMode) );
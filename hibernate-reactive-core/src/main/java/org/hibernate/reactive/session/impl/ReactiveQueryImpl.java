@@ -19,6 +19,13 @@
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.internal.QueryImpl;
 import org.hibernate.query.spi.QueryImplementor;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
+import org.hibernate.reactive.common.RowMapper;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.impl.StatementTimeout;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
 import org.hibernate.transform.ResultTransformer;
@@ -27,6 +34,7 @@
 import javax.persistence.Parameter;
 import javax.persistence.criteria.ParameterExpression;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +46,7 @@
 import static org.hibernate.reactive.session.ReactiveQuery.extractUniqueResult;
 import static org.hibernate.reactive.session.ReactiveQuery.extractUniqueResultOrNull;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 
 /**
  * Implementation of {@link ReactiveQuery} by extension of
@@ -45,6 +54,8 @@
  */
 public class ReactiveQueryImpl<R> extends QueryImpl<R> implements ReactiveQuery<R> {
 
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	/**
 	 * Needed once we support query hints.
 	 *
@@ -57,6 +68,7 @@
 	private String optionalEntityName;
 	private Serializable optionalId;
 	private ResultTransformer resultTransformer;
+	private RowMapper<R> rowMapper;
 
 	private final List<String> dbHints = new ArrayList<>();
 
@@ -112,8 +124,13 @@ public CompletionStage<Integer> executeReactiveUpdate() {
 
 		beforeQuery();
 		String expanded = expandedQuery();
-		return reactiveProducer()
-				.executeReactiveUpdate( expanded, makeQueryParametersForExecution( expanded ) )
+		return StatementTimeout
+				.withTimeout(
+						reactiveProducer().executeReactiveUpdate( expanded, makeQueryParametersForExecution( expanded ) ),
+						getTimeout(),
+						expanded,
+						getReactiveConnection()
+				)
 				.whenComplete( (count, error) -> afterQuery() )
 				.handle( (count, error) -> convertQueryException( count, error, this ) );
 	}
@@ -129,6 +146,30 @@ public CompletionStage<List<R>> getReactiveResultList() {
 				.handle( (count, error) -> convertQueryException( count, error, this ) );
 	}
 
+	@Override
+	public CompletionStage<KeysetResultList<R>> getReactiveKeysetResultList(KeysetPage page) {
+		if ( type!=null && type!=QueryType.SELECT ) {
+			return failedFuture( LOG.keysetQueryMustBeSelect( getQueryString() ) );
+		}
+		if ( rowMapper != null ) {
+			return failedFuture( LOG.keysetQueryWithResultMapper( getQueryString() ) );
+		}
+		final KeysetQuery keysetQuery;
+		try {
+			keysetQuery = new KeysetQuery( page, getReturnTypes(), expandedQuery(), getProducer() );
+		}
+		catch (RuntimeException e) {
+			return failedFuture( e );
+		}
+		final String keysetQueryString = keysetQuery.getQueryString();
+		beforeQuery();
+		return reactiveProducer()
+				.<R>reactiveList( keysetQueryString, keysetQuery.bind( makeQueryParametersForExecution( keysetQueryString ) ) )
+				.thenApply( list -> keysetQuery.results( list, getProducer() ) )
+				.whenComplete( (results, err) -> afterQuery() )
+				.handle( (results, error) -> convertQueryException( results, error, this ) );
+	}
+
 	private CompletionStage<List<R>> doReactiveList() {
 		if ( getMaxResults() == 0 ) {
 			return completedFuture( Collections.emptyList() );
@@ -147,8 +188,9 @@ private CompletionStage<List<R>> doReactiveList() {
 	//		}
 
 			String expanded = expandedQuery();
-			return reactiveProducer()
-					.reactiveList( expanded, makeQueryParametersForExecution( expanded ) );
+			return rowMapper == null
+					? reactiveProducer().reactiveList( expanded, makeQueryParametersForExecution( expanded ) )
+					: reactiveProducer().reactiveList( expanded, makeQueryParametersForExecution( expanded ), rowMapper );
 		}
 	}
 
@@ -156,6 +198,11 @@ private ReactiveQueryExecutor reactiveProducer() {
 		return (ReactiveQueryExecutor) getProducer();
 	}
 
+	@Override
+	public ReactiveConnection getReactiveConnection() {
+		return reactiveProducer().getReactiveConnection();
+	}
+
 	@Override
 	public void setOptionalObject(Object optionalObject) {
 		this.optionalObject = optionalObject;
@@ -312,6 +359,12 @@ public ReactiveQueryImpl<R> setComment(String comment) {
 		return this;
 	}
 
+	@Override
+	public ReactiveQueryImpl<R> setTimeout(int timeout) {
+		super.setTimeout(timeout);
+		return this;
+	}
+
 	@Override
 	public ReactiveQuery<R> setLockMode(LockMode lockMode) {
 		getProducer().checkOpen();
@@ -370,6 +423,14 @@ public ReactiveQueryImpl<R> setResultTransformer(ResultTransformer resultTransfo
 		return this;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> ReactiveQueryImpl<T> setResultMapper(RowMapper<T> rowMapper) {
+		final ReactiveQueryImpl<T> query = (ReactiveQueryImpl<T>) this;
+		query.rowMapper = rowMapper;
+		return query;
+	}
+
 	@Override
 	public void setPlan(EntityGraph<R> entityGraph) {
 		applyGraph( (RootGraph<?>) entityGraph, GraphSemantic.FETCH );
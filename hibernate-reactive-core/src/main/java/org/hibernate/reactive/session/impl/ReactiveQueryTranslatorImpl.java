@@ -31,6 +31,7 @@
 import org.hibernate.loader.hql.QueryLoader;
 import org.hibernate.param.ParameterSpecification;
 import org.hibernate.reactive.bulk.StatementsWithParameters;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.loader.hql.impl.ReactiveQueryLoader;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
@@ -162,6 +163,20 @@ public CompletionStage<List<T>> reactiveList(SharedSessionContractImplementor se
 				} );
 	}
 
+	/**
+	 * A version of {@link #reactiveList(SharedSessionContractImplementor, QueryParameters)}
+	 * which builds each result directly from a row returned by the database, using the
+	 * given {@link RowMapper}. Since no entity is instantiated, no distinct filtering or
+	 * in-memory pagination is performed.
+	 */
+	public <R> CompletionStage<List<R>> reactiveList(SharedSessionContractImplementor session,
+													 QueryParameters queryParameters,
+													 RowMapper<R> rowMapper)
+			throws HibernateException {
+		errorIfDML();
+		return queryLoader.reactiveList( session, queryParameters, rowMapper );
+	}
+
 	/**
 	 * The reactive version of
 	 * {@link QueryTranslatorImpl#executeUpdate(QueryParameters, SharedSessionContractImplementor)}.
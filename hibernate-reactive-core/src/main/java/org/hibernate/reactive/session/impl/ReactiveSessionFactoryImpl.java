@@ -6,12 +6,14 @@
 package org.hibernate.reactive.session.impl;
 
 import org.hibernate.Filter;
+import org.hibernate.HibernateException;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.reactive.loader.custom.impl.NativeQueryLoaderCache;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
 import org.hibernate.reactive.stage.Stage;
@@ -35,6 +37,16 @@
 public class ReactiveSessionFactoryImpl extends SessionFactoryImpl {
 
 	public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOptions options) {
+		this( metadata, options, options.isNamedQueryStartupCheckingEnabled() );
+	}
+
+	/**
+	 * @param checkNamedQueries whether named queries should be checked
+	 *                          once their plans are precompiled, since
+	 *                          the check by Hibernate ORM is disabled
+	 *                          when query plans are precompiled
+	 */
+	public ReactiveSessionFactoryImpl(MetadataImplementor metadata, SessionFactoryOptions options, boolean checkNamedQueries) {
 		// We aren't using lambdas or method reference because of a bug in the JVM:
 		// https://bugs.openjdk.java.net/browse/JDK-8161588
 		// Please, don't change this unless you've tested it with Quarkus
@@ -54,6 +66,24 @@ public HQLQueryPlan createQueryPlan(String queryString, boolean shallow, Map<Str
 		contributions.put( Types.TIME, singleton( LocalTimeType.class.getName() ) );
 		contributions.put( Types.DATE, singleton( LocalDateType.class.getName() ) );
 		contributions.put( Types.JAVA_OBJECT, singleton( ObjectType.class.getName() ) );
+
+		try {
+			getServiceRegistry().getService( QueryPlanPrecompiler.class )
+					.precompile( this, metadata.getNamedQueryDefinitions(), checkNamedQueries );
+		}
+		catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() throws HibernateException {
+		if ( !isClosed() ) {
+			// the service registry might outlive this factory
+			getServiceRegistry().getService( NativeQueryLoaderCache.class ).release( this );
+		}
+		super.close();
 	}
 
 	@Override
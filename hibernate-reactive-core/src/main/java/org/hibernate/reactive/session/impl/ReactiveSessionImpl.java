@@ -7,11 +7,19 @@
 
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.persistence.EntityGraph;
 import javax.persistence.EntityNotFoundException;
@@ -30,12 +38,19 @@
 import org.hibernate.TypeMismatchException;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingAction;
+import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -77,9 +92,12 @@
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.ParameterMetadata;
+import org.hibernate.reactive.cache.impl.NearCache;
 import org.hibernate.reactive.common.InternalStateAssertions;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
+import org.hibernate.reactive.engine.impl.ForeignKeys;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveDeleteEventListener;
 import org.hibernate.reactive.event.ReactiveFlushEventListener;
@@ -91,6 +109,10 @@
 import org.hibernate.reactive.event.ReactiveResolveNaturalIdEventListener;
 import org.hibernate.reactive.event.impl.DefaultReactiveAutoFlushEventListener;
 import org.hibernate.reactive.event.impl.DefaultReactiveInitializeCollectionEventListener;
+import org.hibernate.reactive.event.impl.DefaultReactiveRefreshEventListener;
+import org.hibernate.reactive.jfr.impl.SessionCloseEvent;
+import org.hibernate.reactive.jfr.impl.SessionOpenEvent;
+import org.hibernate.reactive.loader.custom.impl.NativeQueryLoaderCache;
 import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
@@ -103,6 +125,8 @@
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
 
 
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
@@ -111,6 +135,7 @@
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
 import static org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister.forceInitialize;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
+import static org.hibernate.reactive.util.impl.CompletionStages.applyToAll;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
@@ -133,6 +158,9 @@ public class ReactiveSessionImpl extends SessionImpl implements ReactiveSession,
 	//Lazily initialized
 	private transient ExceptionConverter exceptionConverter;
 
+	// the managed instances being reloaded by reactiveRefreshAll()
+	private final transient RefreshTargets refreshTargets = new RefreshTargets();
+
 	public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions options,
 							   ReactiveConnection connection) {
 		super( delegate, options );
@@ -143,6 +171,7 @@ public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions o
 		reactiveConnection = batchSize == null || batchSize < 2
 				? connection
 				: new BatchingConnection( connection, batchSize );
+		SessionOpenEvent.emit( this, false );
 	}
 
 	@Override
@@ -473,8 +502,7 @@ public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spe
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
 
-		ReactiveCustomLoader<T> loader =
-				new ReactiveCustomLoader<>( getNativeQueryPlan( spec ).getCustomQuery(), getFactory() );
+		ReactiveCustomLoader<T> loader = customLoader( spec );
 //		dontFlushFromFind++;  //stops flush being called multiple times if this method is recursively called
 		return reactiveAutoFlushIfRequired( loader.getQuerySpaces() )
 				.thenCompose( v -> loader.reactiveList(this, parameters) )
@@ -485,6 +513,44 @@ public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spe
 				} );
 	}
 
+	@Override
+	public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters, RowMapper<T> rowMapper) {
+		checkOpenOrWaitingForAutoClose();
+		pulseTransactionCoordinator();
+		parameters.validateParameters();
+
+		ReactiveHQLQueryPlan<?> reactivePlan = getReactivePlan( query, parameters );
+		return reactiveAutoFlushIfRequired( reactivePlan.getQuerySpaces() )
+				.thenCompose( v -> reactivePlan.performReactiveList( parameters, this, rowMapper ) )
+				.whenComplete( (list, x) -> {
+					afterOperation( x == null );
+					delayedAfterCompletion();
+				} );
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters, RowMapper<T> rowMapper) {
+		checkOpenOrWaitingForAutoClose();
+		checkTransactionSynchStatus();
+
+		ReactiveCustomLoader<?> loader = customLoader( spec );
+		return reactiveAutoFlushIfRequired( loader.getQuerySpaces() )
+				.thenCompose( v -> loader.reactiveList( this, parameters, rowMapper ) )
+				.whenComplete( (r, e) -> {
+					afterOperation( e == null );
+					delayedAfterCompletion();
+				} );
+	}
+
+	private <T> ReactiveCustomLoader<T> customLoader(NativeSQLQuerySpecification spec) {
+		return getFactory().getServiceRegistry().getService( NativeQueryLoaderCache.class )
+				.forFactory( getFactory() )
+				.get( spec, () -> new ReactiveCustomLoader<>(
+						getNativeQueryPlan( spec ).getCustomQuery(),
+						getFactory()
+				) );
+	}
+
 	@Override
 	public <R> ReactiveQuery<R> createReactiveNamedQuery(String name) {
 		return buildReactiveQueryFromName( name, null );
@@ -679,12 +745,62 @@ public CompletionStage<Integer> executeReactiveUpdate(NativeSQLQuerySpecificatio
 	@Override
 	public void addBulkCleanupAction(BulkOperationCleanupAction action) {
 		getReactiveActionQueue().addAction( action );
+		// invalidate the near cache now, and again once the transaction
+		// completes, in case another session reloaded the old state
+		final NearCache nearCache = getFactory().getServiceRegistry().getService( NearCache.class );
+		final Serializable[] spaces = action.getPropertySpaces();
+		nearCache.invalidate( spaces );
+		final AfterTransactionCompletionProcess invalidation = (success, session) -> nearCache.invalidate( spaces );
+		getReactiveActionQueue().registerProcess( invalidation );
 	}
 
 	@Override
 	public CompletionStage<Void> reactivePersist(Object entity) {
 		checkOpen();
-		return firePersist( new PersistEvent( null, entity, this ) );
+		return reactiveCheckReferencedRowsExist( CascadingActions.PERSIST, entity )
+				.thenCompose( v -> firePersist( new PersistEvent( null, entity, this ) ) );
+	}
+
+	@Override
+	public CompletionStage<Void> reactivePersistAll(Object... entities) {
+		checkOpen();
+		return reactiveCheckReferencedRowsExist( CascadingActions.PERSIST, entities )
+				.thenCompose( v -> applyToAll( entity -> firePersist( new PersistEvent( null, entity, this ) ), entities ) );
+	}
+
+	/**
+	 * Determine which of the entities referenced by the given transient
+	 * entities, and by the transient entities reachable from the given
+	 * entities via associations which cascade the given action, already
+	 * exist in the database, using one query per entity type, instead of
+	 * one query per reference.
+	 *
+	 * @see ForeignKeys.BatchedExistenceCheck
+	 */
+	@Override
+	public CompletionStage<Void> reactiveCheckReferencedRowsExist(CascadingAction action, Object... entities) {
+		final ForeignKeys.BatchedExistenceCheck check = new ForeignKeys.BatchedExistenceCheck( this );
+		final IdentitySet visited = new IdentitySet();
+		final Deque<Object> pending = new ArrayDeque<>( entities.length );
+		for ( Object entity : entities ) {
+			if ( entity != null ) {
+				pending.add( entity );
+			}
+		}
+		while ( !pending.isEmpty() ) {
+			final Object entity = pending.poll();
+			if ( visited.add( entity ) ) {
+				final EntityPersister persister = persisterIfEntity( entity );
+				if ( persister != null ) {
+					if ( getPersistenceContextInternal().getEntry( entity ) == null ) {
+						check.addReferences( entity, persister.getPropertyValues( entity ), persister.getPropertyTypes() );
+					}
+					// the action also cascades from a managed entity to its children
+					addCascadedChildren( persister, entity, action, pending );
+				}
+			}
+		}
+		return check.execute();
 	}
 
 	@Override
@@ -843,6 +959,159 @@ public CompletionStage<Void> reactiveMerge(Object object, MergeContext copiedAlr
 		return fireMerge( copiedAlready, new MergeEvent( null, object, this ) );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveMergeAll(Object... entities) {
+		checkOpen();
+		if ( entities.length < 2 ) {
+			return applyToAll( this::reactiveMerge, entities );
+		}
+		return preloadDetached( entities )
+				.thenCompose( v -> applyToAll( this::reactiveMerge, entities ) );
+	}
+
+	/**
+	 * Load the current state of every detached entity passed to
+	 * {@link #reactiveMergeAll(Object...)}, and of every detached entity
+	 * reachable from them via associations which cascade merge, using
+	 * one batch load per entity type instead of one select per entity.
+	 * The merge listener then finds them in the persistence context.
+	 * <p>
+	 * Associations held by embeddables are not followed: entities
+	 * reachable only via embeddables are loaded one at a time, as usual.
+	 */
+	private CompletionStage<Void> preloadDetached(Object[] entities) {
+		final Map<EntityPersister, Set<Serializable>> idsByPersister = new LinkedHashMap<>();
+		final IdentitySet visited = new IdentitySet();
+		final Deque<Object> pending = new ArrayDeque<>( entities.length );
+		for ( Object entity : entities ) {
+			if ( entity != null ) {
+				pending.add( entity );
+			}
+		}
+		while ( !pending.isEmpty() ) {
+			final Object entity = pending.poll();
+			if ( visited.add( entity ) ) {
+				final EntityPersister persister = persisterIfEntity( entity );
+				if ( persister != null ) {
+					final Serializable id = detachedId( persister, entity );
+					if ( id != null ) {
+						idsByPersister.computeIfAbsent( persister, p -> new LinkedHashSet<>() ).add( id );
+					}
+					addCascadedChildren( persister, entity, CascadingActions.MERGE, pending );
+				}
+			}
+		}
+
+		if ( idsByPersister.isEmpty() ) {
+			return voidFuture();
+		}
+
+		// load the same associations as DefaultReactiveMergeEventListener would
+		final String previousFetchProfile = getLoadQueryInfluencers().getInternalFetchProfile();
+		getLoadQueryInfluencers().setInternalFetchProfile( "merge" );
+		return CompletionStages.loop( idsByPersister.entrySet(), entry -> {
+					// entities loaded in a previous batch as associations don't need loading again
+					final Object[] ids = entry.getValue().stream()
+							.filter( id -> getPersistenceContextInternal().getEntity( generateEntityKey( id, entry.getKey() ) ) == null )
+							.toArray();
+					return ids.length == 0
+							? voidFuture()
+							: new ReactiveMultiIdentifierLoadAccessImpl<>( entry.getKey() ).multiLoad( ids );
+				} )
+				.whenComplete( (v, e) -> getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile ) );
+	}
+
+	@Override
+	public CompletionStage<Void> reactivePreload(Map<EntityPersister, Set<Serializable>> idsByPersister) {
+		checkOpen();
+		return CompletionStages.loop( idsByPersister.entrySet(), entry -> {
+			final Object[] ids = entry.getValue().stream()
+					.filter( id -> getPersistenceContextInternal().getEntity( generateEntityKey( id, entry.getKey() ) ) == null )
+					.toArray();
+			// the entities in the second-level cache aren't loaded from the database
+			return ids.length == 0
+					? voidFuture()
+					: new ReactiveMultiIdentifierLoadAccessImpl<>( entry.getKey() ).with( getCacheMode() ).multiLoad( ids );
+		} );
+	}
+
+	/**
+	 * @return the persister for an unproxied entity instance, or {@code null}
+	 *         if the object is a proxy, or isn't an entity
+	 */
+	private EntityPersister persisterIfEntity(Object object) {
+		if ( object instanceof HibernateProxy ) {
+			return null;
+		}
+		try {
+			return getEntityPersister( null, object );
+		}
+		catch (HibernateException e) {
+			// not an entity: let merge() report the problem
+			return null;
+		}
+	}
+
+	/**
+	 * @return the identifier of an entity which is not associated with the
+	 *         session, but might exist in the database, or {@code null}
+	 */
+	private Serializable detachedId(EntityPersister persister, Object entity) {
+		if ( getPersistenceContextInternal().getEntry( entity ) != null
+				|| persister.getIdentifierType().isComponentType() ) {
+			return null;
+		}
+		final Serializable id = persister.getIdentifier( entity, this );
+		if ( id == null
+				|| Boolean.TRUE.equals( persister.isTransient( entity, this ) )
+				|| getPersistenceContextInternal().getEntity( generateEntityKey( id, persister ) ) != null ) {
+			return null;
+		}
+		return id;
+	}
+
+	private void addCascadedChildren(
+			EntityPersister persister,
+			Object entity,
+			CascadingAction action,
+			Deque<Object> pending) {
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		final Type[] types = persister.getPropertyTypes();
+		final String[] names = persister.getPropertyNames();
+		final BytecodeEnhancementMetadata enhancementMetadata = persister.getBytecodeEnhancementMetadata();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( cascadeStyles[i].doCascade( action )
+					// an unfetched lazy attribute can't hold a new child
+					&& ( !enhancementMetadata.isEnhancedForLazyLoading()
+							|| enhancementMetadata.isAttributeLoaded( entity, names[i] ) ) ) {
+				final Type type = types[i];
+				if ( type.isEntityType() ) {
+					final Object child = persister.getPropertyValue( entity, i );
+					if ( child != null ) {
+						pending.add( child );
+					}
+				}
+				else if ( type.isCollectionType() ) {
+					final CollectionType collectionType = (CollectionType) type;
+					if ( collectionType.getElementType( getFactory() ).isEntityType() ) {
+						final Object collection = persister.getPropertyValue( entity, i );
+						if ( collection != null
+								&& !( collection instanceof PersistentCollection
+										&& !( (PersistentCollection) collection ).wasInitialized() ) ) {
+							final Iterator<?> elements = collectionType.getElementsIterator( collection );
+							while ( elements.hasNext() ) {
+								final Object child = elements.next();
+								if ( child != null ) {
+									pending.add( child );
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> CompletionStage<T> fireMerge(MergeEvent event) {
 		checkTransactionSynchStatus();
@@ -1012,12 +1281,241 @@ private CompletionStage<Void> fireRefresh(IdentitySet refreshedAlready, RefreshE
 				});
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveRefreshAll(Object... entities) {
+		checkOpen();
+		if ( entities.length < 2 ) {
+			return applyToAll( entity -> reactiveRefresh( entity, LockOptions.NONE ), entities );
+		}
+		return unproxyAll( entities ).thenCompose( unproxied -> {
+			final Map<EntityPersister, List<EntityEntry>> batchable = new LinkedHashMap<>();
+			final List<Object> others = new ArrayList<>();
+			final IdentitySet refreshedAlready = new IdentitySet( unproxied.size() );
+			for ( Object entity : unproxied ) {
+				final EntityEntry entry = entity == null ? null : getPersistenceContextInternal().getEntry( entity );
+				if ( entry != null
+						&& entry.getStatus() == Status.MANAGED
+						&& entry.isExistsInDatabase()
+						// entities holding a pessimistic lock need special handling
+						&& !entry.getLockMode().greaterThan( LockMode.READ )
+						&& refreshedAlready.add( entity ) ) {
+					batchable.computeIfAbsent( entry.getPersister(), p -> new ArrayList<>() ).add( entry );
+				}
+				else {
+					// let refresh() handle it, or report the problem
+					others.add( entity );
+				}
+			}
+			return CompletionStages.loop(
+					batchable.entrySet(),
+					group -> inBatches( group.getKey(), group.getValue(), batch -> refreshBatch( group.getKey(), batch, refreshedAlready ) )
+			).thenCompose( v -> CompletionStages.loop( others, entity -> reactiveRefresh( entity, LockOptions.NONE ) ) );
+		} );
+	}
+
+	/**
+	 * Refresh a batch of managed entities of the same type using one query,
+	 * which hydrates the existing instances, since {@link #instantiate} hands
+	 * them to the loader.
+	 */
+	private CompletionStage<Void> refreshBatch(EntityPersister persister, List<EntityEntry> entries, IdentitySet refreshedAlready) {
+		final Map<EntityKey, Object> targets = new HashMap<>();
+		final Serializable[] ids = new Serializable[entries.size()];
+		final Object[] entities = new Object[entries.size()];
+		final boolean[] readOnly = new boolean[entries.size()];
+		for ( int i = 0; i < ids.length; i++ ) {
+			final EntityEntry entry = entries.get( i );
+			ids[i] = entry.getId();
+			entities[i] = getPersistenceContextInternal().getEntity( entry.getEntityKey() );
+			readOnly[i] = entry.isReadOnly();
+			targets.put( entry.getEntityKey(), entities[i] );
+		}
+		return CompletionStages
+				.loop( 0, ids.length, i -> DefaultReactiveRefreshEventListener
+						.prepareForReload( this, entries.get( i ), entities[i], refreshedAlready ) )
+				.thenCompose( v -> refreshTargets.reload( targets, getLoadQueryInfluencers(),
+						() -> ( (ReactiveEntityPersister) persister )
+								.reactiveLoadBatch( ids, new LockOptions( LockMode.READ ), this ) ) )
+				.thenAccept( loaded -> {
+					for ( int i = 0; i < ids.length; i++ ) {
+						if ( targets.containsKey( entries.get( i ).getEntityKey() ) ) {
+							// the loader didn't find the row
+							throw new UnresolvableObjectException( ids[i], persister.getEntityName() );
+						}
+						setReadOnly( entities[i], !persister.isMutable() || readOnly[i] );
+					}
+				} );
+	}
+
+	@Override
+	public Object instantiate(EntityPersister persister, Serializable id) throws HibernateException {
+		if ( !refreshTargets.isEmpty() ) {
+			final Object target = refreshTargets.remove( generateEntityKey( id, persister ) );
+			if ( target != null ) {
+				return target;
+			}
+		}
+		return super.instantiate( persister, id );
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveLock(Object object, LockOptions lockOptions) {
 		checkOpen();
 		return fireLock( new LockEvent( object, lockOptions, this ) );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveLockAll(LockOptions lockOptions, Object... entities) {
+		checkOpen();
+		if ( entities.length < 2 || !isSelectLock( lockOptions.getLockMode() ) ) {
+			return applyToAll( entity -> reactiveLock( entity, lockOptions ), entities );
+		}
+		return unproxyAll( entities ).thenCompose( unproxied -> {
+			final Map<EntityPersister, List<EntityEntry>> batchable = new LinkedHashMap<>();
+			final List<Object> others = new ArrayList<>();
+			for ( Object entity : unproxied ) {
+				final EntityEntry entry = entity == null ? null : getPersistenceContextInternal().getEntry( entity );
+				if ( entry == null || entry.getStatus() != Status.MANAGED ) {
+					// let lock() report the problem
+					others.add( entity );
+				}
+				else if ( lockOptions.getLockMode().greaterThan( entry.getLockMode() ) ) {
+					final EntityPersister rootPersister = getFactory().getMetamodel()
+							.entityPersister( entry.getPersister().getRootEntityName() );
+					batchable.computeIfAbsent( rootPersister, p -> new ArrayList<>() ).add( entry );
+				}
+			}
+			return CompletionStages.loop(
+					batchable.entrySet(),
+					group -> inBatches( group.getKey(), group.getValue(), batch -> lockBatch( group.getKey(), batch, lockOptions ) )
+			).thenCompose( v -> CompletionStages.loop( others, entity -> reactiveLock( entity, lockOptions ) ) );
+		} );
+	}
+
+	private static boolean isSelectLock(LockMode lockMode) {
+		switch ( lockMode ) {
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case UPGRADE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Lock a batch of managed entities of the same hierarchy using one
+	 * {@code select ... for update}, as {@code DefaultReactiveLockEventListener}
+	 * would lock each entity.
+	 */
+	private CompletionStage<Void> lockBatch(EntityPersister persister, List<EntityEntry> entries, LockOptions lockOptions) {
+		final Serializable[] ids = new Serializable[entries.size()];
+		final Object[] versions = new Object[entries.size()];
+		final Object[] cacheKeys = new Object[entries.size()];
+		final SoftLock[] softLocks = new SoftLock[entries.size()];
+		for ( int i = 0; i < ids.length; i++ ) {
+			final EntityEntry entry = entries.get( i );
+			ids[i] = entry.getId();
+			versions[i] = entry.getVersion();
+			if ( entry.getPersister().canWriteToCache() ) {
+				final EntityDataAccess cache = entry.getPersister().getCacheAccessStrategy();
+				cacheKeys[i] = cache.generateCacheKey( ids[i], entry.getPersister(), getFactory(), getTenantIdentifier() );
+				softLocks[i] = cache.lockItem( this, cacheKeys[i], versions[i] );
+			}
+		}
+		return ( (ReactiveEntityPersister) persister )
+				.lockAllReactive( ids, versions, lockOptions, this )
+				.thenAccept( skipped -> {
+					for ( EntityEntry entry : entries ) {
+						// with UPGRADE_SKIPLOCKED, rows locked by another transaction are skipped
+						if ( !skipped.contains( entry.getId() ) ) {
+							entry.setLockMode( lockOptions.getLockMode() );
+						}
+					}
+				} )
+				.whenComplete( (v, e) -> {
+					// the database now holds the locks + the objects are flushed
+					// from the cache, so release the soft locks
+					for ( int i = 0; i < cacheKeys.length; i++ ) {
+						if ( cacheKeys[i] != null ) {
+							entries.get( i ).getPersister().getCacheAccessStrategy()
+									.unlockItem( this, cacheKeys[i], softLocks[i] );
+						}
+					}
+				} );
+	}
+
+	/**
+	 * Unwrap the given entities, first initializing the uninitialized proxies
+	 * among them using one query for each batch of proxies of the same type.
+	 */
+	private CompletionStage<List<Object>> unproxyAll(Object[] entities) {
+		final Map<EntityPersister, Set<Serializable>> unloaded = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			final LazyInitializer initializer = uninitializedProxy( entity );
+			if ( initializer != null ) {
+				final EntityPersister persister = getFactory().getMetamodel()
+						.entityPersister( initializer.getEntityName() );
+				final Serializable id = initializer.getIdentifier();
+				if ( getPersistenceContextInternal().getEntity( generateEntityKey( id, persister ) ) == null ) {
+					unloaded.computeIfAbsent( persister, p -> new LinkedHashSet<>() ).add( id );
+				}
+			}
+		}
+		return CompletionStages
+				.loop( unloaded.entrySet(), group -> inBatches(
+						group.getKey(),
+						new ArrayList<>( group.getValue() ),
+						ids -> ( (ReactiveEntityPersister) group.getKey() )
+								.reactiveLoadBatch( ids.toArray( new Serializable[0] ), LockOptions.NONE, this )
+								.thenCompose( CompletionStages::voidFuture )
+				) )
+				.thenCompose( v -> {
+					final List<Object> unproxied = new ArrayList<>( entities.length );
+					for ( Object entity : entities ) {
+						final LazyInitializer initializer = uninitializedProxy( entity );
+						if ( initializer != null ) {
+							final Object loaded = getPersistenceContextInternal().getEntity( generateEntityKey(
+									initializer.getIdentifier(),
+									getFactory().getMetamodel().entityPersister( initializer.getEntityName() )
+							) );
+							// a proxy of a row which no longer exists is left
+							// uninitialized, so that reactiveFetch() reports it
+							if ( loaded != null ) {
+								initializer.setSession( this );
+								initializer.setImplementation( loaded );
+							}
+						}
+					}
+					return CompletionStages.loop( entities, entity -> reactiveFetch( entity, true ).thenAccept( unproxied::add ) )
+							.thenApply( vv -> unproxied );
+				} );
+	}
+
+	private static LazyInitializer uninitializedProxy(Object entity) {
+		if ( entity instanceof HibernateProxy ) {
+			final LazyInitializer initializer = ( (HibernateProxy) entity ).getHibernateLazyInitializer();
+			return initializer.isUninitialized() ? initializer : null;
+		}
+		return null;
+	}
+
+	/**
+	 * Split the given entries into batches sized by the dialect's strategy
+	 * for batch loading, and process each batch in turn.
+	 */
+	private <T> CompletionStage<Void> inBatches(
+			EntityPersister persister,
+			List<T> entries,
+			Function<List<T>, CompletionStage<Void>> action) {
+		final int batchSize = getJdbcServices().getDialect().getDefaultBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize( persister.getIdentifierType().getColumnSpan( getFactory() ), entries.size() );
+		return CompletionStages.loop( 0, ( entries.size() + batchSize - 1 ) / batchSize,
+				batch -> action.apply( entries.subList( batch * batchSize, Math.min( entries.size(), ( batch + 1 ) * batchSize ) ) ) );
+	}
+
 	private CompletionStage<Void> fireLock(LockEvent event) {
 		pulseTransactionCoordinator();
 
@@ -1531,6 +2029,7 @@ public void close() throws HibernateException {
 
 	@Override
 	public CompletionStage<Void> reactiveClose() {
+		SessionCloseEvent.emit( this, false );
 		super.close();
 		return reactiveConnection != null
 				? reactiveConnection.close()
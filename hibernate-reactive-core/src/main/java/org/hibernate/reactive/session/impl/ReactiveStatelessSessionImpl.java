@@ -41,8 +41,13 @@
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.ParameterMetadata;
+import org.hibernate.reactive.cache.impl.NearCache;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.jfr.impl.SessionCloseEvent;
+import org.hibernate.reactive.jfr.impl.SessionOpenEvent;
+import org.hibernate.reactive.loader.custom.impl.NativeQueryLoaderCache;
 import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
@@ -62,7 +67,13 @@
 import javax.persistence.Tuple;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -93,6 +104,13 @@ public class ReactiveStatelessSessionImpl extends StatelessSessionImpl
 
 	private final PersistenceContext persistenceContext;
 
+	// the instances being reloaded by reactiveRefreshAll()
+	private final RefreshTargets refreshTargets = new RefreshTargets();
+
+	// the entities deleted in the current transaction, whose instances
+	// are invalidated in the near cache again once it completes
+	private final Set<EntityPersister> deletedEntities;
+
 	public ReactiveStatelessSessionImpl(
 			SessionFactoryImpl factory,
 			SessionCreationOptions options,
@@ -100,7 +118,15 @@ public ReactiveStatelessSessionImpl(
 		super( factory, options );
 		reactiveConnection = connection;
 		persistenceContext = new ReactivePersistenceContextAdapter( this );
-		batchingHelperSession = new ReactiveStatelessSessionImpl( factory, options, reactiveConnection, persistenceContext );
+		deletedEntities = new HashSet<>();
+		batchingHelperSession = new ReactiveStatelessSessionImpl(
+				factory,
+				options,
+				reactiveConnection,
+				persistenceContext,
+				deletedEntities
+		);
+		SessionOpenEvent.emit( this, true );
 	}
 
 	/**
@@ -110,9 +136,11 @@ private ReactiveStatelessSessionImpl(
 			SessionFactoryImpl factory,
 			SessionCreationOptions options,
 			ReactiveConnection connection,
-			PersistenceContext persistenceContext) {
+			PersistenceContext persistenceContext,
+			Set<EntityPersister> deletedEntities) {
 		super( factory, options );
 		this.persistenceContext = persistenceContext;
+		this.deletedEntities = deletedEntities;
 		Integer batchSize = getConfiguredJdbcBatchSize();
 		reactiveConnection = batchSize == null || batchSize < 2
 				? connection
@@ -231,7 +259,32 @@ public CompletionStage<Void> reactiveDelete(Object entity) {
 		ReactiveEntityPersister persister = getEntityPersister( null, entity );
 		Serializable id = persister.getIdentifier( entity, this );
 		Object version = persister.getVersion( entity );
-		return persister.deleteReactive( id, version, entity, this );
+		return persister.deleteReactive( id, version, entity, this )
+				.thenAccept( v -> invalidateNearCache( persister ) );
+	}
+
+	/**
+	 * Invalidate the near cache now, and again once the transaction
+	 * completes, in case another session reloaded the deleted row
+	 * before the transaction committed.
+	 */
+	private void invalidateNearCache(EntityPersister persister) {
+		final NearCache nearCache = getFactory().getServiceRegistry().getService( NearCache.class );
+		if ( nearCache.isEnabled() ) {
+			nearCache.invalidate( persister );
+			deletedEntities.add( persister );
+		}
+	}
+
+	@Override
+	public void reactiveAfterTransactionCompletion(boolean successful) {
+		if ( !deletedEntities.isEmpty() ) {
+			final NearCache nearCache = getFactory().getServiceRegistry().getService( NearCache.class );
+			for ( EntityPersister persister : deletedEntities ) {
+				nearCache.invalidate( persister );
+			}
+			deletedEntities.clear();
+		}
 	}
 
 	@Override
@@ -279,18 +332,7 @@ public CompletionStage<Void> reactiveRefresh(Object entity, LockMode lockMode) {
 		final ReactiveEntityPersister persister = getEntityPersister( null, entity );
 		final Serializable id = persister.getIdentifier( entity, this );
 
-		if ( persister.canWriteToCache() ) {
-			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
-			if ( cacheAccess != null ) {
-				final Object ck = cacheAccess.generateCacheKey(
-						id,
-						persister,
-						getFactory(),
-						getTenantIdentifier()
-				);
-				cacheAccess.evict( ck );
-			}
-		}
+		evictFromCache( persister, id );
 
 		String previousFetchProfile = getLoadQueryInfluencers().getInternalFetchProfile();
 		getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
@@ -344,17 +386,96 @@ public CompletionStage<Void> reactiveDeleteAll(int batchSize, Object... entities
 	}
 
 
+	private void evictFromCache(ReactiveEntityPersister persister, Serializable id) {
+		if ( persister.canWriteToCache() ) {
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			if ( cacheAccess != null ) {
+				final Object ck = cacheAccess.generateCacheKey(
+						id,
+						persister,
+						getFactory(),
+						getTenantIdentifier()
+				);
+				cacheAccess.evict( ck );
+			}
+		}
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveRefreshAll(Object... entities) {
-		return loop( entities, batchingHelperSession::reactiveRefresh )
-				.thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
+		return reactiveRefreshAll( 0, entities );
 	}
 
+	/**
+	 * Refresh the given entities using one query for each batch of
+	 * entities of the same type.
+	 *
+	 * @param batchSize the maximum number of entities refreshed by each
+	 *                  query, or 0 to let the dialect decide
+	 */
 	@Override
 	public CompletionStage<Void> reactiveRefreshAll(int batchSize, Object... entities) {
-		final ReactiveConnection connection = batchingConnection( batchSize );
-		return loop( entities, batchingHelperSession::reactiveRefresh )
-				.thenCompose( v -> connection.executeBatch() );
+		checkOpen();
+		if ( entities.length < 2 ) {
+			return loop( entities, this::reactiveRefresh );
+		}
+		final Map<ReactiveEntityPersister, List<Object>> entitiesByPersister = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			entitiesByPersister.computeIfAbsent( getEntityPersister( null, entity ), p -> new ArrayList<>() )
+					.add( entity );
+		}
+		return loop( entitiesByPersister.entrySet(), group -> {
+			final ReactiveEntityPersister persister = group.getKey();
+			final List<Object> list = group.getValue();
+			final int size = batchSize > 0
+					? batchSize
+					: getJdbcServices().getDialect().getDefaultBatchLoadSizingStrategy()
+							.determineOptimalBatchLoadSize( persister.getIdentifierType().getColumnSpan( getFactory() ), list.size() );
+			return loop( 0, ( list.size() + size - 1 ) / size,
+					batch -> refreshBatch( persister, list.subList( batch * size, Math.min( list.size(), ( batch + 1 ) * size ) ) ) );
+		} );
+	}
+
+	/**
+	 * Refresh a batch of entities of the same type using one query, which
+	 * hydrates the given instances, since {@link #instantiate} hands them
+	 * to the loader.
+	 */
+	private CompletionStage<Void> refreshBatch(ReactiveEntityPersister persister, List<Object> entities) {
+		final Map<EntityKey, Object> targets = new HashMap<>();
+		final Serializable[] ids = new Serializable[entities.size()];
+		for ( int i = 0; i < ids.length; i++ ) {
+			ids[i] = persister.getIdentifier( entities.get( i ), this );
+			evictFromCache( persister, ids[i] );
+			targets.put( generateEntityKey( ids[i], persister ), entities.get( i ) );
+		}
+
+		return refreshTargets
+				.reload( targets, getLoadQueryInfluencers(),
+						() -> persister.reactiveLoadBatch( ids, getNullSafeLockOptions( LockMode.NONE ), this ) )
+				.thenAccept( loaded -> {
+					if ( getPersistenceContext().isLoadFinished() ) {
+						getPersistenceContext().clear();
+					}
+					for ( Serializable id : ids ) {
+						if ( targets.containsKey( generateEntityKey( id, persister ) ) ) {
+							// the loader didn't find the row
+							throw new UnresolvableObjectException( id, persister.getEntityName() );
+						}
+					}
+				} );
+	}
+
+	@Override
+	public Object instantiate(String entityName, Serializable id) throws HibernateException {
+		if ( !refreshTargets.isEmpty() ) {
+			final EntityPersister persister = getFactory().getMetamodel().entityPersister( entityName );
+			final Object target = refreshTargets.remove( generateEntityKey( id, persister ) );
+			if ( target != null ) {
+				return target;
+			}
+		}
+		return super.instantiate( entityName, id );
 	}
 
 	private ReactiveConnection batchingConnection(int batchSize) {
@@ -570,10 +691,7 @@ public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters p
 	public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters) {
 		checkOpen();
 
-		ReactiveCustomLoader<T> loader = new ReactiveCustomLoader<>(
-				getNativeQueryPlan( spec ).getCustomQuery(),
-				getFactory()
-		);
+		ReactiveCustomLoader<T> loader = customLoader( spec );
 
 		return loader.reactiveList( this, parameters )
 				.whenComplete( (r, x) -> {
@@ -582,6 +700,35 @@ public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spe
 				} );
 	}
 
+	@Override
+	public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters, RowMapper<T> rowMapper) {
+		checkOpen();
+		parameters.validateParameters();
+
+		ReactiveHQLQueryPlan<?> reactivePlan = getReactivePlan( query, parameters );
+		return reactivePlan.performReactiveList( parameters, this, rowMapper )
+				.whenComplete( (list, x) -> afterOperation( x == null ) );
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spec, QueryParameters parameters, RowMapper<T> rowMapper) {
+		checkOpen();
+
+		ReactiveCustomLoader<?> loader = customLoader( spec );
+
+		return loader.reactiveList( this, parameters, rowMapper )
+				.whenComplete( (r, x) -> afterOperation( x == null ) );
+	}
+
+	private <T> ReactiveCustomLoader<T> customLoader(NativeSQLQuerySpecification spec) {
+		return getFactory().getServiceRegistry().getService( NativeQueryLoaderCache.class )
+				.forFactory( getFactory() )
+				.get( spec, () -> new ReactiveCustomLoader<>(
+						getNativeQueryPlan( spec ).getCustomQuery(),
+						getFactory()
+				) );
+	}
+
 	private static String comment(NamedQueryDefinition queryDefinition) {
 		return queryDefinition.getComment() != null
 				? queryDefinition.getComment()
@@ -633,6 +780,8 @@ public CompletionStage<Integer> executeReactiveUpdate(
 	public void addBulkCleanupAction(BulkOperationCleanupAction action) {
 		action.getAfterTransactionCompletionProcess()
 				.doAfterTransactionCompletion( true, this );
+		getFactory().getServiceRegistry().getService( NearCache.class )
+				.invalidate( action.getPropertySpaces() );
 	}
 
 	@Override
@@ -919,6 +1068,7 @@ public void close() {
 
 	@Override
 	public void close(CompletableFuture<Void> closing) {
+		SessionCloseEvent.emit( this, true );
 		reactiveConnection.close()
 				.thenAccept( v -> super.close() )
 				.whenComplete( (unused, throwable) -> {
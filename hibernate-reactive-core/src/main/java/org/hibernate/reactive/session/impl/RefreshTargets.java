@@ -0,0 +1,86 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
+/**
+ * The instances reloaded by the batches of {@code refreshAll()} in progress
+ * on a session. The loader of a batch can only be passed one optional
+ * object, so the session hands it the instance to hydrate for each row
+ * when it asks the session to instantiate an entity.
+ * <p>
+ * The instances belong to the call which reloads them, and are discarded
+ * once its load completes, even if it fails, so a refresh triggered while
+ * another one is in progress leaves the instances of the first alone.
+ */
+final class RefreshTargets {
+
+	private final Deque<Map<EntityKey, Object>> reloads = new ArrayDeque<>();
+
+	/**
+	 * Run the given load, which hydrates the given instances instead of
+	 * instantiating new ones, using the {@code refresh} fetch profile.
+	 *
+	 * @param targets the instances to hydrate by their keys, from which
+	 *                each instance is removed once it's been handed out
+	 */
+	<T> CompletionStage<T> reload(
+			Map<EntityKey, Object> targets,
+			LoadQueryInfluencers influencers,
+			Supplier<CompletionStage<T>> load) {
+		final String previousFetchProfile = influencers.getInternalFetchProfile();
+		influencers.setInternalFetchProfile( "refresh" );
+		reloads.push( targets );
+		CompletionStage<T> stage;
+		try {
+			stage = load.get();
+		}
+		catch (RuntimeException e) {
+			stage = failedFuture( e );
+		}
+		return stage.whenComplete( (r, e) -> {
+			discard( targets );
+			influencers.setInternalFetchProfile( previousFetchProfile );
+		} );
+	}
+
+	/**
+	 * @return the instance being reloaded with the given key, or null
+	 */
+	Object remove(EntityKey key) {
+		for ( Map<EntityKey, Object> targets : reloads ) {
+			final Object target = targets.remove( key );
+			if ( target != null ) {
+				return target;
+			}
+		}
+		return null;
+	}
+
+	boolean isEmpty() {
+		return reloads.isEmpty();
+	}
+
+	private void discard(Map<EntityKey, Object> targets) {
+		for ( Iterator<Map<EntityKey, Object>> iterator = reloads.iterator(); iterator.hasNext(); ) {
+			if ( iterator.next() == targets ) {
+				iterator.remove();
+				return;
+			}
+		}
+	}
+}
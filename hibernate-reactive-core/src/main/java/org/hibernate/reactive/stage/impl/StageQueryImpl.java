@@ -14,6 +14,9 @@
 import org.hibernate.FlushMode;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.reactive.common.KeysetPage;
+import org.hibernate.reactive.common.KeysetResultList;
+import org.hibernate.reactive.common.RowMapper;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.stage.Stage;
 
@@ -90,6 +93,12 @@ public Stage.Query<R> setComment(String comment) {
 		return this;
 	}
 
+	@Override
+	public Stage.Query<R> setTimeout(int timeout) {
+		delegate.setTimeout( timeout );
+		return this;
+	}
+
 //	@Override
 //	public Stage.Query<R> setHint(String hintName, Object value) {
 //		delegate.setQueryHint( hintName, value );
@@ -164,6 +173,11 @@ public Stage.Query<R> setPlan(EntityGraph<R> entityGraph) {
 		return this;
 	}
 
+	@Override
+	public <T> Stage.Query<T> setResultMapper(RowMapper<T> rowMapper) {
+		return new StageQueryImpl<>( delegate.setResultMapper( rowMapper ) );
+	}
+
 	@Override
 	public CompletionStage<Integer> executeUpdate() {
 		return delegate.executeReactiveUpdate();
@@ -184,4 +198,9 @@ public CompletionStage<List<R>> getResultList() {
 		return delegate.getReactiveResultList();
 	}
 
+	@Override
+	public CompletionStage<KeysetResultList<R>> getKeysetResultList(KeysetPage page) {
+		return delegate.getReactiveKeysetResultList( page );
+	}
+
 }
@@ -15,6 +15,7 @@
 import javax.persistence.metamodel.Metamodel;
 
 import org.hibernate.Cache;
+import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.common.spi.Implementor;
@@ -48,6 +49,7 @@ public class StageSessionFactoryImpl implements Stage.SessionFactory, Implemento
 	private final SessionFactoryImpl delegate;
 	private final ReactiveConnectionPool connectionPool;
 	private final Context context;
+	private final boolean releaseConnectionAfterStatement;
 	private final BaseKey<Stage.Session> contextKeyForSession;
 	private final BaseKey<Stage.StatelessSession> contextKeyForStatelessSession;
 
@@ -55,6 +57,8 @@ public StageSessionFactoryImpl(SessionFactoryImpl delegate) {
 		this.delegate = delegate;
 		context = delegate.getServiceRegistry().getService( Context.class );
 		connectionPool = delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
+		releaseConnectionAfterStatement = delegate.getSessionFactoryOptions().getPhysicalConnectionHandlingMode()
+				.getReleaseMode() == ConnectionReleaseMode.AFTER_STATEMENT;
 		contextKeyForSession = new BaseKey<>( Stage.Session.class, delegate.getUuid() );
 		contextKeyForStatelessSession = new BaseKey<>( Stage.StatelessSession.class, delegate.getUuid() );
 	}
@@ -134,6 +138,12 @@ private SessionCreationOptions options(String tenantIdentifier) {
 	}
 
 	private CompletionStage<ReactiveConnection> connection(String tenantId) {
+		if ( releaseConnectionAfterStatement ) {
+			// an actual connection is obtained for each statement
+			return completedFuture( tenantId == null
+					? connectionPool.getStatementScopedConnection()
+					: connectionPool.getStatementScopedConnection( tenantId ) );
+		}
 		return tenantId == null
 				? connectionPool.getConnection()
 				: connectionPool.getConnection( tenantId );
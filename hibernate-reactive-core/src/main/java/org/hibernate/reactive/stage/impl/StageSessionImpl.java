@@ -134,7 +134,7 @@ public CompletionStage<Void> persist(Object entity) {
 
 	@Override
 	public CompletionStage<Void> persist(Object... entity) {
-		return applyToAll( delegate::reactivePersist, entity );
+		return delegate.reactivePersistAll( entity );
 	}
 
 	@Override
@@ -154,7 +154,7 @@ public <T> CompletionStage<T> merge(T entity) {
 
 	@Override @SafeVarargs
 	public final <T> CompletionStage<Void> merge(T... entity) {
-		return applyToAll( delegate::reactiveMerge, entity );
+		return delegate.reactiveMergeAll( entity );
 	}
 
 	@Override
@@ -174,7 +174,7 @@ public CompletionStage<Void> refresh(Object entity, LockOptions lockOptions) {
 
 	@Override
 	public CompletionStage<Void> refresh(Object... entity) {
-		return applyToAll( e -> delegate.reactiveRefresh( e, LockOptions.NONE ), entity );
+		return delegate.reactiveRefreshAll( entity );
 	}
 
 	@Override
@@ -187,6 +187,11 @@ public CompletionStage<Void> lock(Object entity, LockOptions lockOptions) {
 		return delegate.reactiveLock( entity, lockOptions );
 	}
 
+	@Override
+	public CompletionStage<Void> lock(LockMode lockMode, Object... entities) {
+		return delegate.reactiveLockAll( new LockOptions(lockMode), entities );
+	}
+
 	@Override
 	public <R> Stage.Query<R> createQuery(String jpql) {
 		return new StageQueryImpl<>( delegate.createReactiveQuery( jpql ) );
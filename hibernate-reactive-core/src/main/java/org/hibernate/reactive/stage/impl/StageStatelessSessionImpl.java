@@ -259,7 +259,8 @@ CompletionStage<Void> begin() {
 
 		CompletionStage<Void> end() {
 			ReactiveConnection c = delegate.getReactiveConnection();
-			return rollback ? c.rollbackTransaction() : c.commitTransaction();
+			return ( rollback ? c.rollbackTransaction() : c.commitTransaction() )
+					.whenComplete( (v, x) -> delegate.reactiveAfterTransactionCompletion( !rollback && x == null ) );
 		}
 
 		<R> R processError(R result, Throwable e) {
@@ -118,7 +118,14 @@ private void unroll(
 				do {
 					try {
 						if ( this.shouldContinue.test( c ) ) {
-							this.f.apply( c ).whenComplete( (next, ex) -> {
+							final CompletionStage<T> stage = this.f.apply( c );
+							if ( CompletionStages.isCompletedNormally( stage ) ) {
+								// the stage is already complete, so there's no need
+								// to register a callback to pass its value back
+								currentPassBack.item = stage.toCompletableFuture().getNow( null );
+								continue;
+							}
+							stage.whenComplete( (next, ex) -> {
 								if ( ex != null ) {
 									completeExceptionally( ex );
 								}
@@ -52,6 +52,19 @@ private static CompletionStage<Boolean> alwaysContinue(Object ignored) {
 		return TRUE;
 	}
 
+	/**
+	 * @return {@code true} if the given stage is a {@link CompletableFuture}
+	 *         which has already completed normally, so that its result may
+	 *         be used without registering a callback
+	 */
+	public static boolean isCompletedNormally(CompletionStage<?> stage) {
+		if ( stage instanceof CompletableFuture ) {
+			final CompletableFuture<?> future = (CompletableFuture<?>) stage;
+			return future.isDone() && !future.isCompletedExceptionally();
+		}
+		return false;
+	}
+
 	public static CompletionStage<Void> voidFuture(Object ignore) {
 		return voidFuture();
 	}
@@ -219,7 +232,7 @@ public static <T> CompletionStage<Void> loop(Iterator<T> iterator, IntBiFunction
 	public static <T> CompletionStage<Void> loop(Iterator<T> iterator, IntBiPredicate<T> filter, IntBiFunction<T, CompletionStage<?>> consumer) {
 		if ( iterator.hasNext() ) {
 			final IndexedIteratorLoop<T> loop = new IndexedIteratorLoop<>( iterator, filter, consumer );
-			return asyncWhile( loop::next );
+			return run( loop::next );
 		}
 		return voidFuture();
 	}
@@ -242,7 +255,9 @@ public static <T> CompletionStage<Void> loop(Iterator<T> iterator, IntBiPredicat
 	 * </p>
 	 * <p>
 	 * This class keeps track of the state of the loop, allowing us to
-	 * use an {@code AsyncTrampoline#asyncWhile} via method reference.
+	 * use an {@code AsyncTrampoline#asyncWhile} via method reference,
+	 * but only once the body of the loop returns a stage that isn't
+	 * already complete.
 	 * </p>
 	 * @see org.hibernate.reactive.util.async.impl.AsyncTrampoline
 	 * @param <T> the class of the elements in the iterator
@@ -260,12 +275,20 @@ public IndexedIteratorLoop(Iterator<T> iterator, IntBiPredicate<T> filter, IntBi
 			this.consumer = consumer;
 		}
 
+		/**
+		 * Run the body of the loop in place for as long as it completes
+		 * synchronously, returning at the first stage which doesn't.
+		 *
+		 * @return {@link #FALSE} if the loop is over, or a stage that
+		 *         completes with {@code true} when the current iteration
+		 *         is complete
+		 */
 		public CompletionStage<Boolean> next() {
-			if ( hasNext() ) {
-				final T entry = currentEntry;
-				final int index = currentIndex;
-				return consumer.apply( entry, index )
-						.thenCompose( CompletionStages::alwaysContinue );
+			while ( hasNext() ) {
+				final CompletionStage<?> stage = consumer.apply( currentEntry, currentIndex );
+				if ( !isCompletedNormally( stage ) ) {
+					return stage.thenCompose( CompletionStages::alwaysContinue );
+				}
 			}
 			return FALSE;
 		}
@@ -353,11 +376,31 @@ public static CompletionStage<Void> loop(int start, int end, IntFunction<Complet
 	public static CompletionStage<Void> loop(int start, int end, IntPredicate filter, IntFunction<CompletionStage<?>> consumer) {
 		if ( start < end ) {
 			final ArrayLoop loop = new ArrayLoop( start, end, filter, consumer);
-			return asyncWhile( loop::next );
+			return run( loop::next );
 		}
 		return voidFuture();
 	}
 
+	/**
+	 * Run a loop in place until the body of the loop returns a stage
+	 * which isn't already complete, and only then fall back to the
+	 * trampoline. If every stage completes synchronously, the loop
+	 * runs to the end without allocating any further stages.
+	 */
+	private static CompletionStage<Void> run(Supplier<CompletionStage<Boolean>> next) {
+		final CompletionStage<Boolean> first;
+		try {
+			first = next.get();
+		}
+		catch (Throwable e) {
+			// the trampoline would have reported it as a failed stage
+			return failedFuture( e );
+		}
+		return first == FALSE
+				? voidFuture()
+				: first.thenCompose( v -> asyncWhile( next ) );
+	}
+
 	/**
 	 * The status of a loop over an array.
 	 * <p>
@@ -372,7 +415,9 @@ public static CompletionStage<Void> loop(int start, int end, IntPredicate filter
 	 * </p>
 	 * <p>
 	 * This class keeps track of the state of the loop, allowing us to
-	 * use an {@code AsyncTrampoline#asyncWhile} via method reference.
+	 * use an {@code AsyncTrampoline#asyncWhile} via method reference,
+	 * but only once the body of the loop returns a stage that isn't
+	 * already complete.
 	 * </p>
 	 */
 	private static class ArrayLoop {
@@ -389,12 +434,20 @@ public ArrayLoop(int start, int end, IntPredicate filter, IntFunction<Completion
 			this.current = start;
 		}
 
+		/**
+		 * Run the body of the loop in place for as long as it completes
+		 * synchronously, returning at the first stage which doesn't.
+		 *
+		 * @return {@link #FALSE} if the loop is over, or a stage that
+		 *         completes with {@code true} when the current iteration
+		 *         is complete
+		 */
 		public CompletionStage<Boolean> next() {
-			current = next( current );
-			if ( current < end ) {
-				final int index = current++;
-				return consumer.apply( index )
-						.thenCompose( CompletionStages::alwaysContinue );
+			while ( ( current = next( current ) ) < end ) {
+				final CompletionStage<?> stage = consumer.apply( current++ );
+				if ( !isCompletedNormally( stage ) ) {
+					return stage.thenCompose( CompletionStages::alwaysContinue );
+				}
 			}
 			return FALSE;
 		}
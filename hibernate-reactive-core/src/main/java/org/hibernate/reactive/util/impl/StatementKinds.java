@@ -0,0 +1,128 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.util.impl;
+
+/**
+ * Classifies SQL statements by their keywords, skipping any whitespace,
+ * and any comments, such as the ones added when
+ * {@code hibernate.use_sql_comments} is enabled.
+ */
+public final class StatementKinds {
+
+	private StatementKinds() {
+	}
+
+	/**
+	 * The first keyword of the SQL, in lower case, or an empty string if
+	 * there is none.
+	 */
+	public static String kind(String sql) {
+		final int start = skipToWord( sql, 0 );
+		return sql.substring( start, wordEnd( sql, start ) ).toLowerCase();
+	}
+
+	/**
+	 * Is the SQL a query, that is, a {@code select}, or a {@code with}
+	 * clause followed by a {@code select}?
+	 */
+	public static boolean isSelect(String sql) {
+		final int start = skipToWord( sql, 0 );
+		final int end = wordEnd( sql, start );
+		final String kind = sql.substring( start, end ).toLowerCase();
+		switch ( kind ) {
+			case "select":
+				return true;
+			case "with":
+				return "select".equals( statementAfterWith( sql, end ) );
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * The keyword of the statement which follows the common table
+	 * expressions of a {@code with} clause: the first one of the
+	 * keywords which start a statement that isn't nested inside the
+	 * parentheses of a common table expression.
+	 */
+	private static String statementAfterWith(String sql, int start) {
+		int depth = 0;
+		int index = start;
+		while ( index < sql.length() ) {
+			final char c = sql.charAt( index );
+			if ( sql.startsWith( "/*", index ) || sql.startsWith( "--", index ) ) {
+				index = skipComment( sql, index );
+			}
+			else if ( c == '\'' || c == '"' || c == '`' ) {
+				// a literal or a quoted identifier, which might contain anything
+				final int end = sql.indexOf( c, index + 1 );
+				index = end < 0 ? sql.length() : end + 1;
+			}
+			else if ( c == '(' ) {
+				depth++;
+				index++;
+			}
+			else if ( c == ')' ) {
+				depth--;
+				index++;
+			}
+			else if ( Character.isJavaIdentifierPart( c ) ) {
+				int end = index + 1;
+				while ( end < sql.length() && Character.isJavaIdentifierPart( sql.charAt( end ) ) ) {
+					end++;
+				}
+				if ( depth == 0 ) {
+					final String word = sql.substring( index, end ).toLowerCase();
+					switch ( word ) {
+						case "select":
+						case "insert":
+						case "update":
+						case "delete":
+						case "merge":
+							return word;
+					}
+				}
+				index = end;
+			}
+			else {
+				index++;
+			}
+		}
+		return "";
+	}
+
+	private static int skipToWord(String sql, int start) {
+		int index = start;
+		while ( index < sql.length() && !Character.isLetter( sql.charAt( index ) ) ) {
+			if ( sql.startsWith( "/*", index ) || sql.startsWith( "--", index ) ) {
+				index = skipComment( sql, index );
+			}
+			else {
+				index++;
+			}
+		}
+		return index;
+	}
+
+	private static int skipComment(String sql, int start) {
+		if ( sql.startsWith( "/*", start ) ) {
+			final int end = sql.indexOf( "*/", start + 2 );
+			return end < 0 ? sql.length() : end + 2;
+		}
+		else {
+			final int end = sql.indexOf( '\n', start + 2 );
+			return end < 0 ? sql.length() : end + 1;
+		}
+	}
+
+	private static int wordEnd(String sql, int start) {
+		int end = start;
+		while ( end < sql.length() && Character.isLetter( sql.charAt( end ) ) ) {
+			end++;
+		}
+		return end;
+	}
+}
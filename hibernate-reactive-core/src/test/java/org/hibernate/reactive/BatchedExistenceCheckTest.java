@@ -0,0 +1,240 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static javax.persistence.CascadeType.PERSIST;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check that the existence of detached entities with assigned identifiers,
+ * referenced by entities being persisted, or inserted by a cascade when the
+ * session is flushed, is checked using one query per entity type, rather
+ * than one query per reference.
+ */
+public class BatchedExistenceCheckTest extends BaseReactiveTest {
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Pet.class, Owner.class, Litter.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( BatchedExistenceCheckTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select " );
+	}
+
+	@Test
+	public void testPersistReferencesToDetachedEntities(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist(
+						new Owner( 10, "Gavin" ),
+						new Owner( 11, "Davide" ),
+						new Owner( 12, "Sanne" )
+				) )
+				.thenAccept( v -> sqlTracker.clear() )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s.persist(
+						new Pet( 1, "Aloi", new Owner( 10, "Gavin" ) ),
+						new Pet( 2, "Bubbles", new Owner( 11, "Davide" ) ),
+						new Pet( 3, "Mibbles", new Owner( 12, "Sanne" ) )
+				) ) )
+				.thenAccept( v -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select p.owner.name from Pet p order by p.id", String.class )
+						.getResultList() ) )
+				.thenAccept( names -> assertThat( names ).containsExactly( "Gavin", "Davide", "Sanne" ) )
+		);
+	}
+
+	@Test
+	public void testPersistCascadesToReferencesToDetachedEntities(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist(
+						new Owner( 10, "Gavin" ),
+						new Owner( 11, "Davide" ),
+						new Owner( 12, "Sanne" )
+				) )
+				.thenAccept( v -> sqlTracker.clear() )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s.persist( new Litter(
+						5,
+						new Pet( 1, "Aloi", new Owner( 10, "Gavin" ) ),
+						new Pet( 2, "Bubbles", new Owner( 11, "Davide" ) ),
+						new Pet( 3, "Mibbles", new Owner( 12, "Sanne" ) )
+				) ) ) )
+				.thenAccept( v -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select p.owner.name from Pet p order by p.id", String.class )
+						.getResultList() ) )
+				.thenAccept( names -> assertThat( names ).containsExactly( "Gavin", "Davide", "Sanne" ) )
+		);
+	}
+
+	@Test
+	public void testFlushCascadesToReferencesToDetachedEntities(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist(
+						new Owner( 10, "Gavin" ),
+						new Owner( 11, "Davide" ),
+						new Owner( 12, "Sanne" ),
+						new Litter( 5 )
+				) )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s
+						.find( Litter.class, 5 )
+						.thenCompose( litter -> s.fetch( litter.getPets() )
+								.thenAccept( pets -> {
+									sqlTracker.clear();
+									pets.add( new Pet( 1, "Aloi", new Owner( 10, "Gavin" ) ) );
+									pets.add( new Pet( 2, "Bubbles", new Owner( 11, "Davide" ) ) );
+									pets.add( new Pet( 3, "Mibbles", new Owner( 12, "Sanne" ) ) );
+								} ) )
+						.thenCompose( vv -> s.flush() ) ) )
+				.thenAccept( v -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select p.owner.name from Pet p order by p.id", String.class )
+						.getResultList() ) )
+				.thenAccept( names -> assertThat( names ).containsExactly( "Gavin", "Davide", "Sanne" ) )
+		);
+	}
+
+	@Entity(name = "Pet")
+	@Table(name = "ExistenceCheckPet")
+	public static class Pet {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+
+		public void setOwner(Owner owner) {
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "ExistenceCheckOwner")
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Litter")
+	@Table(name = "ExistenceCheckLitter")
+	public static class Litter {
+		@Id
+		private Integer id;
+		@OneToMany(cascade = PERSIST)
+		@JoinColumn(name = "litter_id")
+		private List<Pet> pets = new ArrayList<>();
+
+		public Litter() {
+		}
+
+		public Litter(Integer id, Pet... pets) {
+			this.id = id;
+			this.pets.addAll( List.of( pets ) );
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public List<Pet> getPets() {
+			return pets;
+		}
+
+		public void setPets(List<Pet> pets) {
+			this.pets = pets;
+		}
+	}
+}
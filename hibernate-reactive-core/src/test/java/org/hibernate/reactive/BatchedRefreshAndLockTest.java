@@ -0,0 +1,259 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PersistenceException;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockMode;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Check that refreshing or locking many entities of the same type uses
+ * one statement, rather than one statement per entity.
+ */
+public class BatchedRefreshAndLockTest extends BaseReactiveTest {
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( GuineaPig.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( BatchedRefreshAndLockTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select " );
+	}
+
+	private static Object[] pigs() {
+		return new Object[] {
+				new GuineaPig( 1, "Aloi" ),
+				new GuineaPig( 2, "Bubbles" ),
+				new GuineaPig( 3, "Mibbles" )
+		};
+	}
+
+	@Test
+	public void testRefreshAll(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( pigs() ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "from GuineaPig order by id", GuineaPig.class )
+						.getResultList()
+						.thenCompose( pigs -> getSessionFactory()
+								.withTransaction( ss -> ss
+										.createQuery( "update GuineaPig set name = concat(name, ' II')" )
+										.executeUpdate() )
+								.thenAccept( count -> sqlTracker.clear() )
+								.thenCompose( vv -> s.refresh( pigs.toArray() ) )
+								.thenAccept( vv -> {
+									assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+									assertThat( pigs ).extracting( GuineaPig::getName )
+											.containsExactly( "Aloi II", "Bubbles II", "Mibbles II" );
+									pigs.forEach( pig -> context.assertTrue( s.contains( pig ) ) );
+								} ) ) ) )
+		);
+	}
+
+	@Test
+	public void testStatelessRefreshAll(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( pigs() ) )
+				.thenCompose( v -> getSessionFactory().withStatelessSession( s -> s
+						.createQuery( "from GuineaPig order by id", GuineaPig.class )
+						.getResultList()
+						.thenCompose( pigs -> s
+								.createQuery( "update GuineaPig set name = concat(name, ' II')" )
+								.executeUpdate()
+								.thenAccept( count -> sqlTracker.clear() )
+								.thenCompose( vv -> s.refresh( pigs.toArray() ) )
+								.thenAccept( vv -> {
+									assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+									assertThat( pigs ).extracting( GuineaPig::getName )
+											.containsExactly( "Aloi II", "Bubbles II", "Mibbles II" );
+								} ) ) ) )
+		);
+	}
+
+	@Test
+	public void testStatelessRefreshAllAfterFailure(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( pigs() ) )
+				.thenCompose( v -> getSessionFactory().withStatelessSession( s -> s
+						.createQuery( "from GuineaPig order by id", GuineaPig.class )
+						.getResultList()
+						.thenCompose( pigs -> s
+								.createQuery( "delete from GuineaPig where id = 3" )
+								.executeUpdate()
+								// the row of the last pig no longer exists
+								.thenCompose( count -> assertThrown( PersistenceException.class, s.refresh( pigs.toArray() ) ) )
+								.thenCompose( e -> s.insert( new GuineaPig( 3, "Mo" ) ) )
+								.thenCompose( vv -> s
+										.createQuery( "update GuineaPig set name = concat(name, ' II')" )
+										.executeUpdate() )
+								.thenAccept( count -> sqlTracker.clear() )
+								.thenCompose( vv -> s.refresh( pigs.get( 0 ), pigs.get( 1 ) ) )
+								.thenCompose( vv -> s.get( GuineaPig.class, 3 ) )
+								.thenAccept( pig -> {
+									assertThat( sqlTracker.getLoggedQueries() ).hasSize( 2 );
+									assertThat( pigs.subList( 0, 2 ) ).extracting( GuineaPig::getName )
+											.containsExactly( "Aloi II", "Bubbles II" );
+									// the instance left over by the failed refresh isn't reused
+									context.assertFalse( pig == pigs.get( 2 ) );
+									context.assertEquals( "Mo II", pig.getName() );
+								} ) ) ) )
+		);
+	}
+
+	@Test
+	public void testLockAll(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( pigs() ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s
+						.createQuery( "from GuineaPig order by id", GuineaPig.class )
+						.getResultList()
+						.thenCompose( pigs -> {
+							sqlTracker.clear();
+							return s.lock( LockMode.PESSIMISTIC_WRITE, pigs.toArray() )
+									.thenAccept( vv -> {
+										assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+										pigs.forEach( pig -> context.assertEquals( LockMode.PESSIMISTIC_WRITE, s.getLockMode( pig ) ) );
+									} );
+						} ) ) )
+		);
+	}
+
+	@Test
+	public void testMutinyLockAll(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( pigs() ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+						.createQuery( "from GuineaPig order by id", GuineaPig.class )
+						.getResultList()
+						.invoke( pigs -> sqlTracker.clear() )
+						.call( pigs -> s.lockAll( LockMode.PESSIMISTIC_WRITE, pigs.toArray() ) )
+						.invoke( pigs -> {
+							assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+							pigs.forEach( pig -> context.assertEquals( LockMode.PESSIMISTIC_WRITE, s.getLockMode( pig ) ) );
+						} ) ) )
+		);
+	}
+
+	@Test
+	public void testLockAllProxies(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( pigs() ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> {
+					final Object[] proxies = {
+							s.getReference( GuineaPig.class, 1 ),
+							s.getReference( GuineaPig.class, 2 ),
+							s.getReference( GuineaPig.class, 3 )
+					};
+					sqlTracker.clear();
+					return s.lock( LockMode.PESSIMISTIC_WRITE, proxies )
+							.thenAccept( vv -> {
+								// one select initializes the proxies, and another locks the rows
+								assertThat( sqlTracker.getLoggedQueries() ).hasSize( 2 );
+								for ( Object proxy : proxies ) {
+									context.assertTrue( Hibernate.isInitialized( proxy ) );
+									context.assertEquals( LockMode.PESSIMISTIC_WRITE, s.getLockMode( proxy ) );
+								}
+							} );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testLockAllSkipsLockedRows(TestContext context) {
+		// skip locked isn't supported by the dialects of every database
+		assumeTrue( dbType() == POSTGRESQL );
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( pigs() ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( locker -> locker
+						.find( GuineaPig.class, 2 )
+						.thenCompose( pig -> locker.lock( pig, LockMode.PESSIMISTIC_WRITE ) )
+						// the row of the second pig is locked by the outer transaction
+						.thenCompose( vv -> getSessionFactory().withTransaction( s -> s
+								.createQuery( "from GuineaPig order by id", GuineaPig.class )
+								.getResultList()
+								.thenCompose( pigs -> s.lock( LockMode.UPGRADE_SKIPLOCKED, pigs.toArray() )
+										.thenAccept( vvv -> {
+											context.assertEquals( LockMode.UPGRADE_SKIPLOCKED, s.getLockMode( pigs.get( 0 ) ) );
+											context.assertNotEquals( LockMode.UPGRADE_SKIPLOCKED, s.getLockMode( pigs.get( 1 ) ) );
+											context.assertEquals( LockMode.UPGRADE_SKIPLOCKED, s.getLockMode( pigs.get( 2 ) ) );
+										} ) ) ) ) ) )
+		);
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "BatchedRefreshPig")
+	public static class GuineaPig {
+		@Id
+		private Integer id;
+		private String name;
+		@Version
+		private Integer version;
+
+		public GuineaPig() {
+		}
+
+		public GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return id + ": " + name;
+		}
+	}
+}
@@ -12,6 +12,7 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.IntStream;
 
@@ -179,6 +180,40 @@ public void testLoopOnCollectionWithFilter(TestContext context) {
 		).thenAccept( v -> assertThat( looped ).containsExactly( "c" ) ) );
 	}
 
+	@Test
+	public void testSynchronousLoopRunsInPlace(TestContext context) {
+		final int size = 100_000;
+		final int[] count = { 0 };
+		final CompletionStage<Void> loop = loop( 0, size, index -> completedFuture( count[0]++ ) );
+		// every stage was already complete, so there was nothing to wait for
+		assertThat( loop.toCompletableFuture().isDone() ).isTrue();
+		test( context, loop.thenAccept( v -> assertThat( count[0] ).isEqualTo( size ) ) );
+	}
+
+	@Test
+	public void testLoopWithAsynchronousStage(TestContext context) {
+		final CompletableFuture<Void> pending = new CompletableFuture<>();
+		final CompletionStage<Void> loop = loop( iterator( entries ), (entry, index) -> {
+			looped.add( entry );
+			return index == 2 ? pending : voidFuture();
+		} );
+		assertThat( loop.toCompletableFuture().isDone() ).isFalse();
+		assertThat( looped ).containsExactly( "a", "b", "c" );
+		pending.complete( null );
+		test( context, loop.thenAccept( v -> assertThat( looped ).containsExactly( entries ) ) );
+	}
+
+	@Test
+	public void testLoopWithFailingBody(TestContext context) {
+		final CompletionStage<Void> loop = loop( entries, entry -> {
+			throw new IllegalStateException( "failed on " + entry );
+		} );
+		test( context, loop.handle( (v, e) -> {
+			assertThat( e ).isInstanceOf( IllegalStateException.class );
+			return null;
+		} ) );
+	}
+
 	private static Iterator<Object> iterator(Object[] entries) {
 		return asList( entries ).iterator();
 	}
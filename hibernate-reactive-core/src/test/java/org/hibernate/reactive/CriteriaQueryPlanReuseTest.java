@@ -0,0 +1,128 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
+
+/**
+ * Check that criteria queries which differ only in the values of their
+ * literals are rendered to the same query, and so share a query plan.
+ */
+public class CriteriaQueryPlanReuseTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Planet.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll(
+				new Planet( 3, "Earth" ),
+				new Planet( 4, "Mars" )
+		) ) );
+	}
+
+	private static CriteriaQuery<Planet> byName(String name) {
+		final CriteriaBuilder builder = getSessionFactory().getCriteriaBuilder();
+		final CriteriaQuery<Planet> query = builder.createQuery( Planet.class );
+		final Root<Planet> planet = query.from( Planet.class );
+		query.where( builder.equal( planet.get( "name" ), name ) );
+		return query;
+	}
+
+	private static CriteriaUpdate<Planet> rename(String from, String to) {
+		final CriteriaBuilder builder = getSessionFactory().getCriteriaBuilder();
+		final CriteriaUpdate<Planet> update = builder.createCriteriaUpdate( Planet.class );
+		final Root<Planet> planet = update.from( Planet.class );
+		update.set( planet.get( "name" ), to );
+		update.where( builder.equal( planet.get( "name" ), from ) );
+		return update;
+	}
+
+	@Test
+	public void testQueriesWithDifferentLiteralsSharePlan(TestContext context) {
+		final Statistics statistics = getSessionFactory().getStatistics();
+		final AtomicLong misses = new AtomicLong();
+		test( context, getSessionFactory().withSession( s -> s
+				.createQuery( byName( "Earth" ) ).getSingleResult()
+				.thenAccept( planet -> {
+					assertThat( planet.position ).isEqualTo( 3 );
+					misses.set( statistics.getQueryPlanCacheMissCount() );
+				} )
+				.thenCompose( v -> s.createQuery( byName( "Mars" ) ).getSingleResult() )
+				.thenAccept( planet -> {
+					assertThat( planet.position ).isEqualTo( 4 );
+					assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses.get() );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testUpdatesWithDifferentLiteralsSharePlan(TestContext context) {
+		final Statistics statistics = getSessionFactory().getStatistics();
+		final AtomicLong misses = new AtomicLong();
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.createQuery( rename( "Earth", "Terra" ) ).executeUpdate() )
+				.thenAccept( count -> {
+					assertThat( count ).isEqualTo( 1 );
+					misses.set( statistics.getQueryPlanCacheMissCount() );
+				} )
+				.thenCompose( v -> getSessionFactory()
+						.withTransaction( s -> s.createQuery( rename( "Mars", "Ares" ) ).executeUpdate() ) )
+				.thenAccept( count -> {
+					assertThat( count ).isEqualTo( 1 );
+					assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses.get() );
+				} )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Planet.class, 4 ) ) )
+				.thenAccept( planet -> assertThat( planet.name ).isEqualTo( "Ares" ) )
+		);
+	}
+
+	@Entity(name = "Planet")
+	@Table(name = "CriteriaPlanet")
+	static class Planet {
+		@Id
+		Integer position;
+
+		String name;
+
+		Planet() {
+		}
+
+		Planet(Integer position, String name) {
+			this.position = position;
+			this.name = name;
+		}
+	}
+}
@@ -17,6 +17,9 @@
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OptimisticLocking;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.persister.entity.impl.DynamicSqlCache;
+import org.hibernate.reactive.persister.entity.impl.ReactiveAbstractEntityPersister;
 
 import org.junit.Test;
 
@@ -60,6 +63,38 @@ public void test(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testGeneratedSqlIsCached(TestContext context) {
+		DynamicSqlCache cache = ( (ReactiveAbstractEntityPersister) factoryManager.getHibernateSessionFactory()
+				.unwrap( SessionFactoryImplementor.class )
+				.getMetamodel()
+				.entityPersister( Record.class ) )
+				.dynamicSqlCache();
+		Record record = new Record();
+		record.text = "initial text";
+		long[] hits = new long[1];
+		test(
+				context,
+				getMutinySessionFactory()
+						.withSession( session -> session.persist( record )
+								.chain( session::flush )
+								.invoke( () -> record.text = "edited text" )
+								.chain( session::flush )
+								.invoke( () -> {
+									context.assertTrue( cache.size() > 0 );
+									hits[0] = cache.getHitCount();
+								} )
+								// same dirty property, so the same update statement
+								.invoke( () -> record.text = "edited again" )
+								.chain( session::flush )
+								.invoke( () -> context.assertEquals( hits[0] + 1, cache.getHitCount() ) )
+						)
+						.chain( () -> getMutinySessionFactory()
+								.withSession( session -> session.find( Record.class, record.id ) ) )
+						.invoke( result -> context.assertEquals( "edited again", result.text ) )
+		);
+	}
+
 	@Entity
 	@Table(name = "BigRecord")
 	@DynamicInsert
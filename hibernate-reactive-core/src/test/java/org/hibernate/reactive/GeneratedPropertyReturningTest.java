@@ -0,0 +1,148 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.annotations.GenerationTime;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.COCKROACHDB;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.testing.DatabaseSelectionRule.runOnlyFor;
+
+/**
+ * Check that, on databases which support {@code returning}, the values of
+ * {@link Generated} properties are read back by the insert or update
+ * statement itself, rather than by a separate select.
+ */
+public class GeneratedPropertyReturningTest extends BaseReactiveTest {
+
+	@Rule
+	public DatabaseSelectionRule selectionRule = runOnlyFor( POSTGRESQL, COCKROACHDB );
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		sqlTracker = new SqlStatementTracker( GeneratedPropertyReturningTest::isBookStatement, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isBookStatement(String sql) {
+		final String lowerCase = sql.toLowerCase();
+		return lowerCase.contains( "returningbook" )
+				&& ( lowerCase.startsWith( "select " ) || lowerCase.startsWith( "insert " ) || lowerCase.startsWith( "update " ) );
+	}
+
+	@Test
+	public void testInsertAndUpdate(TestContext context) {
+		final Book book = new Book( "Hibernate", "in Action" );
+		sqlTracker.clear();
+		test( context, getMutinySessionFactory()
+				.withSession( session -> session.persist( book )
+						.call( session::flush )
+						.invoke( () -> {
+							context.assertEquals( "Hibernate in Action", book.fullTitle );
+							context.assertNotNull( book.createdAt );
+							assertNoSelects();
+						} )
+						.invoke( () -> book.subtitle = "in Reaction" )
+						.call( session::flush )
+						.invoke( () -> {
+							context.assertEquals( "Hibernate in Reaction", book.fullTitle );
+							assertNoSelects();
+						} ) )
+		);
+	}
+
+	@Test
+	public void testBatchedInsert(TestContext context) {
+		final Book first = new Book( "Java Persistence", "with Hibernate" );
+		final Book second = new Book( "Hibernate", "in Action" );
+		sqlTracker.clear();
+		test( context, getMutinySessionFactory()
+				.withTransaction( session -> session.persistAll( first, second ) )
+				.invoke( () -> {
+					context.assertEquals( "Java Persistence with Hibernate", first.fullTitle );
+					context.assertEquals( "Hibernate in Action", second.fullTitle );
+					context.assertNotNull( first.createdAt );
+					context.assertNotNull( second.createdAt );
+					assertNoSelects();
+				} )
+		);
+	}
+
+	private static void assertNoSelects() {
+		assertThat( sqlTracker.getLoggedQueries() )
+				.isNotEmpty()
+				.allMatch( sql -> sql.contains( " returning " ) );
+		sqlTracker.clear();
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "ReturningBook")
+	static class Book {
+		@Id
+		@GeneratedValue
+		public Long id;
+
+		public String title;
+
+		public String subtitle;
+
+		@Generated(GenerationTime.ALWAYS)
+		@Column(columnDefinition = "varchar(600) generated always as (title || ' ' || subtitle) stored")
+		public String fullTitle;
+
+		@Temporal(value = TemporalType.TIMESTAMP)
+		@Generated(GenerationTime.INSERT)
+		@Column(columnDefinition = "timestamp")
+		@ColumnDefault("current_timestamp")
+		public Date createdAt;
+
+		public Book() {
+		}
+
+		public Book(String title, String subtitle) {
+			this.title = title;
+			this.subtitle = subtitle;
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.testing.InMemoryConnectionPool;
+import org.hibernate.reactive.testing.InMemoryConnectionPool.StatementResult;
+import org.hibernate.reactive.testing.LoadScenario;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static javax.persistence.GenerationType.SEQUENCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Measure the round trips needed by sessions on different event loops,
+ * using an {@link InMemoryConnectionPool} instead of a database.
+ * <p>
+ * This test doesn't require docker, and runs the same way whatever
+ * the selected database.
+ */
+public class InMemoryLoadScenarioTest extends BaseReactiveTest {
+
+	private static final int BATCH_SIZE = 10;
+
+	private static InMemoryConnectionPool pool;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class );
+	}
+
+	@Override
+	protected void setProperties(Configuration configuration) {
+		// The URL is only used to choose the dialect
+		configuration.setProperty( Settings.URL, "jdbc:postgresql://localhost/inmemory" );
+		configuration.setProperty( Settings.HBM2DDL_AUTO, "none" );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf( BATCH_SIZE ) );
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		pool = new InMemoryConnectionPool( vertxContextRule.vertx() )
+				.withLatency( Duration.ofMillis( 1 ), Duration.ofMillis( 2 ) );
+		builder.addService( ReactiveConnectionPool.class, pool );
+	}
+
+	@Override
+	protected void configureServices(StandardServiceRegistry registry) {
+		// There's no schema to export
+	}
+
+	@Override
+	protected CompletionStage<Void> cleanDb() {
+		return voidFuture();
+	}
+
+	@Before
+	public void resetPool(TestContext context) {
+		pool.removeHandlers();
+		pool.clear();
+	}
+
+	private static LoadScenario scenario() {
+		return new LoadScenario( vertxContextRule.vertx(), pool )
+				.eventLoops( 2 )
+				.sessions( 4 )
+				.operationsPerSession( 5 );
+	}
+
+	private static CompletionStage<Void> persistBooks(Stage.Session session, int count) {
+		final Book[] books = new Book[count];
+		for ( int i = 0; i < count; i++ ) {
+			books[i] = new Book( "Book " + i );
+		}
+		return session.persist( (Object[]) books );
+	}
+
+	private static boolean isInsert(String sql) {
+		return sql.startsWith( "insert " );
+	}
+
+	@Test
+	public void testBatchedInserts(TestContext context) {
+		test( context, scenario()
+				.run( (session, operation) -> getSessionFactory()
+						.withTransaction( s -> persistBooks( s, BATCH_SIZE ) ) )
+				.thenAccept( report -> {
+					final List<InMemoryConnectionPool.RoundTrip> inserts = pool.getRoundTrips( InMemoryLoadScenarioTest::isInsert );
+					// one round trip per transaction for the inserts
+					assertThat( inserts ).hasSize( report.getOperations() );
+					assertThat( inserts ).allMatch( insert -> insert.getBatchSize() == BATCH_SIZE );
+					// begin, insert, commit, and now and then the next block of ids
+					assertThat( report.getRoundTripsPerOperation() ).isBetween( 3.0, 4.0 );
+					assertThat( report.getStatementsPerOperation() ).isGreaterThanOrEqualTo( BATCH_SIZE + 2 );
+				} )
+		);
+	}
+
+	@Test
+	public void testUnbatchedInserts(TestContext context) {
+		test( context, scenario()
+				.run( (session, operation) -> getSessionFactory()
+						.withTransaction( s -> persistBooks( s.setBatchSize( 0 ), BATCH_SIZE ) ) )
+				.thenAccept( report -> {
+					final List<InMemoryConnectionPool.RoundTrip> inserts = pool.getRoundTrips( InMemoryLoadScenarioTest::isInsert );
+					// one round trip per insert
+					assertThat( inserts ).hasSize( report.getOperations() * BATCH_SIZE );
+					assertThat( inserts ).allMatch( insert -> insert.getBatchSize() == 1 );
+					assertThat( report.getRoundTripsPerOperation() ).isGreaterThanOrEqualTo( BATCH_SIZE + 2 );
+				} )
+		);
+	}
+
+	@Test
+	public void testFindAndQuery(TestContext context) {
+		pool.addHandler(
+				sql -> sql.startsWith( "select " ) && sql.contains( " where " ),
+				(sql, parameters) -> StatementResult.rows( sql, new Object[] { parameters[0], "Hibernate in Action" } )
+		);
+		pool.addHandler(
+				sql -> sql.startsWith( "select " ),
+				(sql, parameters) -> StatementResult.rows( sql, new Object[] { "Hibernate in Action" }, new Object[] { "Java Persistence with Hibernate" } )
+		);
+		test( context, scenario()
+				.run( (session, operation) -> getSessionFactory()
+						.withSession( s -> s.find( Book.class, (long) operation )
+								.thenAccept( book -> assertThat( book.title ).isEqualTo( "Hibernate in Action" ) )
+								.thenCompose( v -> s.createQuery( "select title from Book", String.class ).getResultList() )
+								.thenAccept( titles -> assertThat( titles ).hasSize( 2 ) ) ) )
+				.thenAccept( report -> {
+					// one select for the find, and one for the query
+					assertThat( report.getRoundTripsPerOperation() ).isEqualTo( 2.0 );
+					assertThat( report.getRoundTrips() ).allMatch( roundTrip -> roundTrip.getSql().startsWith( "select " ) );
+				} )
+		);
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "LoadBook")
+	static class Book {
+		@Id
+		@GeneratedValue(strategy = SEQUENCE, generator = "loadBookSequence")
+		@SequenceGenerator(name = "loadBookSequence", sequenceName = "LoadBookSequence", allocationSize = 50)
+		Long id;
+
+		String title;
+
+		Book() {
+		}
+
+		Book(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.reactive.cache.impl.InProcessCacheRegion;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the eviction of entries by {@link InProcessCacheRegion}
+ */
+public class InProcessCacheRegionTest {
+
+	private static Object get(InProcessCacheRegion region, Object key) {
+		return region.get( key ).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testPutGetAndEvict() {
+		final InProcessCacheRegion region = new InProcessCacheRegion( "test", 100, 0 );
+		region.put( "a", 1 );
+		region.put( "b", 2 );
+		assertThat( get( region, "a" ) ).isEqualTo( 1 );
+		assertThat( get( region, "b" ) ).isEqualTo( 2 );
+		assertThat( get( region, "c" ) ).isNull();
+
+		region.evict( "a" );
+		assertThat( get( region, "a" ) ).isNull();
+		assertThat( get( region, "b" ) ).isEqualTo( 2 );
+
+		region.evictAll();
+		assertThat( get( region, "b" ) ).isNull();
+		assertThat( region.size() ).isZero();
+	}
+
+	@Test
+	public void testMaxEntries() {
+		// one entry per segment
+		final InProcessCacheRegion region = new InProcessCacheRegion( "test", 16, 0 );
+		for ( int i = 0; i < 1000; i++ ) {
+			region.put( i, i );
+		}
+		assertThat( region.size() ).isLessThanOrEqualTo( 16 );
+		// the most recently added entry is never evicted
+		assertThat( get( region, 999 ) ).isEqualTo( 999 );
+	}
+
+	@Test
+	public void testTimeToLive() throws InterruptedException {
+		final InProcessCacheRegion region = new InProcessCacheRegion( "test", 100, 10 );
+		region.put( "a", 1 );
+		assertThat( get( region, "a" ) ).isEqualTo( 1 );
+		Thread.sleep( 50 );
+		assertThat( get( region, "a" ) ).isNull();
+	}
+}
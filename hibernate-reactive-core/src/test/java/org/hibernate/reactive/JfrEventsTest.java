@@ -0,0 +1,175 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.jfr.impl.BatchEvent;
+import org.hibernate.reactive.jfr.impl.ConnectionAcquisitionEvent;
+import org.hibernate.reactive.jfr.impl.FlushEvent;
+import org.hibernate.reactive.jfr.impl.SessionCloseEvent;
+import org.hibernate.reactive.jfr.impl.SessionOpenEvent;
+import org.hibernate.reactive.jfr.impl.StatementEvent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check that the Java Flight Recorder events are emitted when they're
+ * enabled by the settings of a recording.
+ */
+public class JfrEventsTest extends BaseReactiveTest {
+
+	private Recording recording;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( GuineaPig.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		// the kind of a statement is the first keyword after the comment
+		configuration.setProperty( AvailableSettings.USE_SQL_COMMENTS, "true" );
+		return configuration;
+	}
+
+	@Before
+	public void startRecording(TestContext context) {
+		recording = new Recording();
+		recording.enable( StatementEvent.NAME );
+		recording.enable( BatchEvent.NAME );
+		recording.enable( ConnectionAcquisitionEvent.NAME );
+		recording.enable( FlushEvent.NAME );
+		recording.enable( SessionOpenEvent.NAME );
+		recording.enable( SessionCloseEvent.NAME );
+		recording.start();
+	}
+
+	@After
+	public void closeRecording(TestContext context) {
+		recording.close();
+	}
+
+	private List<RecordedEvent> stopRecording() {
+		recording.stop();
+		try {
+			final Path file = Files.createTempFile( "hibernate-reactive", ".jfr" );
+			try {
+				recording.dump( file );
+				return RecordingFile.readAllEvents( file ).stream()
+						.filter( event -> event.getEventType().getName().startsWith( "org.hibernate.reactive." ) )
+						.collect( Collectors.toList() );
+			}
+			finally {
+				Files.delete( file );
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+		return events.stream()
+				.filter( event -> event.getEventType().getName().equals( name ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Test
+	public void testEvents(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( new GuineaPig( 1, "Aloi" ), new GuineaPig( 2, "Bubbles" ) ) )
+				.invoke( () -> {
+					final List<RecordedEvent> events = stopRecording();
+
+					final List<RecordedEvent> flushes = events( events, FlushEvent.NAME );
+					assertThat( flushes ).hasSize( 1 );
+					assertThat( flushes.get( 0 ).getInt( "insertions" ) ).isEqualTo( 2 );
+
+					final List<RecordedEvent> batches = events( events, BatchEvent.NAME );
+					assertThat( batches ).hasSize( 1 );
+					assertThat( batches.get( 0 ).getInt( "batchSize" ) ).isEqualTo( 2 );
+
+					final List<RecordedEvent> inserts = events( events, StatementEvent.NAME ).stream()
+							.filter( event -> "insert".equals( event.getString( "kind" ) ) )
+							.collect( Collectors.toList() );
+					assertThat( inserts ).hasSize( 1 );
+					assertThat( inserts.get( 0 ).getInt( "batchSize" ) ).isEqualTo( 2 );
+					assertThat( inserts.get( 0 ).getLong( "rows" ) ).isEqualTo( 2 );
+					assertThat( inserts.get( 0 ).getBoolean( "failed" ) ).isFalse();
+
+					assertThat( events( events, ConnectionAcquisitionEvent.NAME ) ).isNotEmpty();
+					assertThat( events( events, SessionOpenEvent.NAME ) ).hasSize( 1 );
+					assertThat( events( events, SessionCloseEvent.NAME ) ).hasSize( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testDisabledByDefault(TestContext context) {
+		recording.close();
+		recording = new Recording();
+		recording.start();
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( new GuineaPig( 3, "Mibbles" ) ) )
+				.invoke( () -> assertThat( stopRecording() ).isEmpty() )
+		);
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "JfrPig")
+	public static class GuineaPig {
+		@Id
+		private Integer id;
+		private String name;
+
+		public GuineaPig() {
+		}
+
+		public GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
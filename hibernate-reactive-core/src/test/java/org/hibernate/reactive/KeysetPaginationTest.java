@@ -0,0 +1,167 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.reactive.common.KeysetPage;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Check that the results of a query can be obtained page by page,
+ * using keyset pagination.
+ */
+public class KeysetPaginationTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( AuditEntry.class );
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll(
+				new AuditEntry( 1, "login", 2 ),
+				new AuditEntry( 2, "login", 1 ),
+				new AuditEntry( 3, "logout", 1 ),
+				new AuditEntry( 4, "login", 2 ),
+				new AuditEntry( 5, "login", 1 ),
+				new AuditEntry( 6, "login", 3 )
+		) ) );
+	}
+
+	@Test
+	public void testPages(TestContext context) {
+		final KeysetPage firstPage = KeysetPage.first( 2, "e.severity", "e.id" );
+		test( context, getSessionFactory().withSession( s -> s
+				.createQuery( "from AuditEntry e where e.action = :action", AuditEntry.class )
+				.setParameter( "action", "login" )
+				.getKeysetResultList( firstPage )
+				.thenCompose( page -> {
+					assertThat( page.getResults() ).extracting( entry -> entry.id ).containsExactly( 2, 5 );
+					assertThat( page.hasNextPage() ).isTrue();
+					assertThat( page.getNextPage().getLastKey() ).containsExactly( 1, 5 );
+					return s.createQuery( "from AuditEntry e where e.action = :action", AuditEntry.class )
+							.setParameter( "action", "login" )
+							.getKeysetResultList( page.getNextPage() );
+				} )
+				.thenCompose( page -> {
+					assertThat( page.getResults() ).extracting( entry -> entry.id ).containsExactly( 1, 4 );
+					assertThat( page.hasNextPage() ).isTrue();
+					return s.createQuery( "from AuditEntry e where e.action = :action", AuditEntry.class )
+							.setParameter( "action", "login" )
+							.getKeysetResultList( page.getNextPage() );
+				} )
+				.thenAccept( page -> {
+					assertThat( page.getResults() ).extracting( entry -> entry.id ).containsExactly( 6 );
+					assertThat( page.hasNextPage() ).isFalse();
+				} ) )
+		);
+	}
+
+	@Test
+	public void testDescendingPageFromLastKey(TestContext context) {
+		final KeysetPage page = KeysetPage.first( 10, "severity desc", "id desc" ).after( 2, 4 );
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "from AuditEntry", AuditEntry.class )
+				.getKeysetResultList( page )
+				.invoke( results -> {
+					assertThat( results.getResults() ).extracting( entry -> entry.id ).containsExactly( 1, 5, 3, 2 );
+					assertThat( results.hasNextPage() ).isFalse();
+				} ) )
+		);
+	}
+
+	@Test
+	public void testStreamAllPages(TestContext context) {
+		test( context, getMutinySessionFactory().withStatelessSession( s -> s
+				.createQuery( "from AuditEntry e", AuditEntry.class )
+				.getKeysetResultStream( KeysetPage.first( 4, "e.id" ) )
+				.collect().asList()
+				.invoke( entries -> assertThat( entries ).extracting( entry -> entry.id )
+						.containsExactly( 1, 2, 3, 4, 5, 6 ) ) )
+		);
+	}
+
+	@Test
+	public void testStreamWithExactlyFullPages(TestContext context) {
+		test( context, getMutinySessionFactory().withStatelessSession( s -> s
+				.createQuery( "from AuditEntry e", AuditEntry.class )
+				.getKeysetResultStream( KeysetPage.first( 3, "e.id" ) )
+				.collect().asList()
+				.invoke( entries -> assertThat( entries ).extracting( entry -> entry.id )
+						.containsExactly( 1, 2, 3, 4, 5, 6 ) ) )
+		);
+	}
+
+	@Test
+	public void testQueryWithOrderByIsRejected(TestContext context) {
+		test( context, assertThrown( IllegalArgumentException.class, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "from AuditEntry e order by e.id", AuditEntry.class )
+				.getKeysetResultList( KeysetPage.first( 2, "e.id" ) ) ) )
+		);
+	}
+
+	@Test
+	public void testNativeQueryIsRejected(TestContext context) {
+		test( context, assertThrown( UnsupportedOperationException.class, getSessionFactory().withSession( s -> s
+				.createNativeQuery( "select * from KeysetAuditEntry", AuditEntry.class )
+				.getKeysetResultList( KeysetPage.first( 2, "id" ) ) ) )
+		);
+	}
+
+	@Test
+	public void testNullLastKeyIsRejected() {
+		final KeysetPage firstPage = KeysetPage.first( 2, "e.severity", "e.id" );
+		assertThrows( IllegalArgumentException.class, () -> firstPage.after( null, 1 ) );
+	}
+
+	@Test
+	public void testNullSortKeyIsRejected(TestContext context) {
+		// the stream must fail, instead of stopping at the entry with no severity
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( new AuditEntry( 7, "sudo", null ), new AuditEntry( 8, "sudo", null ) ) )
+				.chain( () -> getMutinySessionFactory().withStatelessSession( s -> assertThrown(
+						IllegalArgumentException.class,
+						s.createQuery( "from AuditEntry e where e.action = 'sudo'", AuditEntry.class )
+								.getKeysetResultStream( KeysetPage.first( 1, "e.severity", "e.id" ) )
+								.collect().asList()
+				) ) )
+		);
+	}
+
+	@Entity(name = "AuditEntry")
+	@Table(name = "KeysetAuditEntry")
+	static class AuditEntry {
+		@Id
+		Integer id;
+
+		String action;
+
+		Integer severity;
+
+		AuditEntry() {
+		}
+
+		AuditEntry(Integer id, String action, Integer severity) {
+			this.id = id;
+			this.action = action;
+			this.severity = severity;
+		}
+	}
+}
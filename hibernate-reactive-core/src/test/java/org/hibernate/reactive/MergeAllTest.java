@@ -0,0 +1,209 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check that {@code mergeAll()} loads the detached entities, and the detached
+ * entities they cascade merge to, in batches rather than one by one.
+ */
+public class MergeAllTest extends BaseReactiveTest {
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( GuineaPig.class, Owner.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( MergeAllTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select " );
+	}
+
+	@Test
+	public void testMergeAllDetachedRoots(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist(
+						new GuineaPig( 1, "Aloi" ),
+						new GuineaPig( 2, "Bubbles" ),
+						new GuineaPig( 3, "Mibbles" )
+				) )
+				.thenAccept( v -> sqlTracker.clear() )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s.merge(
+						new GuineaPig( 1, "Aloi II" ),
+						new GuineaPig( 2, "Bubbles II" ),
+						new GuineaPig( 3, "Mibbles II" )
+				) ) )
+				.thenAccept( v -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select name from GuineaPig order by id", String.class )
+						.getResultList() ) )
+				.thenAccept( names -> assertThat( names ).containsExactly( "Aloi II", "Bubbles II", "Mibbles II" ) )
+		);
+	}
+
+	@Test
+	public void testMergeAllDetachedChildren(TestContext context) {
+		final Owner gavin = new Owner( 10, "Gavin" );
+		final Owner davide = new Owner( 11, "Davide" );
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist(
+						gavin,
+						davide,
+						new GuineaPig( 1, "Aloi", gavin ),
+						new GuineaPig( 2, "Bubbles", davide )
+				) )
+				.thenAccept( v -> sqlTracker.clear() )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s.merge(
+						new GuineaPig( 1, "Aloi", new Owner( 10, "Gavin II" ) ),
+						new GuineaPig( 2, "Bubbles", new Owner( 11, "Davide II" ) )
+				) ) )
+				// one batch for the pigs, and one for their owners
+				.thenAccept( v -> assertThat( sqlTracker.getLoggedQueries() ).hasSizeLessThanOrEqualTo( 2 ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select name from Owner order by id", String.class )
+						.getResultList() ) )
+				.thenAccept( names -> assertThat( names ).containsExactly( "Gavin II", "Davide II" ) )
+		);
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "MergeAllPig")
+	public static class GuineaPig {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.MERGE)
+		private Owner owner;
+
+		public GuineaPig() {
+		}
+
+		public GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public GuineaPig(Integer id, String name, Owner owner) {
+			this( id, name );
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+
+		public void setOwner(Owner owner) {
+			this.owner = owner;
+		}
+
+		@Override
+		public String toString() {
+			return id + ": " + name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			GuineaPig guineaPig = (GuineaPig) o;
+			return Objects.equals( name, guineaPig.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( name );
+		}
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "MergeAllOwner")
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return id + ": " + name;
+		}
+	}
+}
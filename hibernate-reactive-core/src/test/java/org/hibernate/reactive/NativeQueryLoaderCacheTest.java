@@ -0,0 +1,163 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.loader.custom.impl.NativeQueryLoaderCache;
+import org.hibernate.reactive.stage.Stage;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check that the loaders of native queries are reused, along with the
+ * column types they discover, by later executions of the same query.
+ */
+public class NativeQueryLoaderCacheTest extends BaseReactiveTest {
+
+	private static final String SCALAR_QUERY = "select name, population from NativeCity order by name";
+	private static final String EMPTY_QUERY = "select name, population from NativeCity where population < 0";
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( City.class );
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll(
+				new City( 1, "Helsinki", 656000 ),
+				new City( 2, "Tampere", 244000 )
+		) ) );
+	}
+
+	private static NativeQueryLoaderCache.Loaders cache() {
+		return cache( factoryManager.getHibernateSessionFactory() );
+	}
+
+	private static NativeQueryLoaderCache.Loaders cache(SessionFactory sessionFactory) {
+		final SessionFactoryImplementor factory = sessionFactory.unwrap( SessionFactoryImplementor.class );
+		return factory.getServiceRegistry().getService( NativeQueryLoaderCache.class ).forFactory( factory );
+	}
+
+	private static void assertCities(List<Object[]> rows) {
+		assertThat( rows ).hasSize( 2 );
+		assertThat( rows.get( 0 )[0] ).isEqualTo( "Helsinki" );
+		assertThat( ( (Number) rows.get( 0 )[1] ).intValue() ).isEqualTo( 656000 );
+		assertThat( rows.get( 1 )[0] ).isEqualTo( "Tampere" );
+		assertThat( ( (Number) rows.get( 1 )[1] ).intValue() ).isEqualTo( 244000 );
+	}
+
+	@Test
+	public void testScalarQueryLoaderIsReused(TestContext context) {
+		final long hits = cache().getHitCount();
+		test( context, getSessionFactory()
+				.withSession( s -> s.<Object[]>createNativeQuery( SCALAR_QUERY ).getResultList() )
+				.thenAccept( NativeQueryLoaderCacheTest::assertCities )
+				.thenCompose( v -> getSessionFactory()
+						.withSession( s -> s.<Object[]>createNativeQuery( SCALAR_QUERY ).getResultList() ) )
+				.thenAccept( NativeQueryLoaderCacheTest::assertCities )
+				.thenCompose( v -> getSessionFactory()
+						.withStatelessSession( s -> s.<Object[]>createNativeQuery( SCALAR_QUERY ).getResultList() ) )
+				.thenAccept( NativeQueryLoaderCacheTest::assertCities )
+				.thenAccept( v -> assertThat( cache().getHitCount() ).isGreaterThanOrEqualTo( hits + 2 ) )
+		);
+	}
+
+	@Test
+	public void testTypesDiscoveredFromEmptyResult(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.<Object[]>createNativeQuery( EMPTY_QUERY ).getResultList() )
+				.thenAccept( rows -> assertThat( rows ).isEmpty() )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s.persist( new City( 3, "Nowhere", -1 ) ) ) )
+				.thenCompose( v -> getSessionFactory()
+						.withSession( s -> s.<Object[]>createNativeQuery( EMPTY_QUERY ).getResultList() ) )
+				.thenAccept( rows -> {
+					assertThat( rows ).hasSize( 1 );
+					assertThat( rows.get( 0 )[0] ).isEqualTo( "Nowhere" );
+					assertThat( ( (Number) rows.get( 0 )[1] ).intValue() ).isEqualTo( -1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testEntityQueryLoaderIsReused(TestContext context) {
+		final String query = "select * from NativeCity where id = 2";
+		final long hits = cache().getHitCount();
+		test( context, getSessionFactory()
+				.withSession( s -> s.createNativeQuery( query, City.class ).getSingleResult() )
+				.thenAccept( city -> assertThat( city.name ).isEqualTo( "Tampere" ) )
+				.thenCompose( v -> getSessionFactory()
+						.withStatelessSession( s -> s.createNativeQuery( query, City.class ).getSingleResult() ) )
+				.thenAccept( city -> {
+					assertThat( city.name ).isEqualTo( "Tampere" );
+					assertThat( cache().getHitCount() ).isGreaterThanOrEqualTo( hits + 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testFactoriesSharingRegistryHaveTheirOwnLoaders(TestContext context) {
+		// a second factory, built from the same service registry, with no
+		// entities, so that it leaves the schema of the first one alone
+		final SessionFactory other = new MetadataSources( factoryManager.getHibernateSessionFactory()
+				.unwrap( SessionFactoryImplementor.class )
+				.getServiceRegistry()
+				.getParentServiceRegistry() )
+				.buildMetadata()
+				.buildSessionFactory();
+		final Stage.SessionFactory otherFactory = other.unwrap( Stage.SessionFactory.class );
+		final long hits = cache().getHitCount();
+		final long misses = cache().getMissCount();
+		test( context, otherFactory
+				.withSession( s -> s.<Object[]>createNativeQuery( SCALAR_QUERY ).getResultList() )
+				.thenAccept( NativeQueryLoaderCacheTest::assertCities )
+				.thenCompose( v -> otherFactory
+						.withSession( s -> s.<Object[]>createNativeQuery( SCALAR_QUERY ).getResultList() ) )
+				.thenAccept( NativeQueryLoaderCacheTest::assertCities )
+				.thenAccept( v -> {
+					assertThat( cache( other ).getMissCount() ).isEqualTo( 1 );
+					assertThat( cache( other ).getHitCount() ).isEqualTo( 1 );
+					// the counts of the first factory are unaffected
+					assertThat( cache().getHitCount() ).isEqualTo( hits );
+					assertThat( cache().getMissCount() ).isEqualTo( misses );
+				} )
+				.whenComplete( (v, e) -> other.close() )
+		);
+	}
+
+	@Entity(name = "City")
+	@Table(name = "NativeCity")
+	static class City {
+		@Id
+		Integer id;
+
+		String name;
+
+		Integer population;
+
+		City() {
+		}
+
+		City(Integer id, String name, Integer population) {
+			this.id = id;
+			this.name = name;
+			this.population = population;
+		}
+	}
+}
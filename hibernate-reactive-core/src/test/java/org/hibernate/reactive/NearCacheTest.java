@@ -0,0 +1,175 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.COCKROACHDB;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.DB2;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.SQLSERVER;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Check that {@code @Immutable} entities are shared via the near cache
+ * by sessions on the same event loop, and that a bulk update or a delete
+ * invalidates the cached instances.
+ */
+public class NearCacheTest extends BaseReactiveTest {
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Currency.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.NEAR_CACHE_MAX_ENTRIES, "100" );
+		sqlTracker = new SqlStatementTracker( NearCacheTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select" );
+	}
+
+	private CompletionStage<Currency> persistAndFind() {
+		return getSessionFactory()
+				.withTransaction( s -> s.persist( new Currency( 1, "EUR", "Euro" ) ) )
+				.thenAccept( v -> sqlTracker.clear() )
+				// the stages complete on the event loop of the first session,
+				// so the sessions which follow run on the same event loop
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Currency.class, 1 ) ) );
+	}
+
+	@Test
+	public void testFindFromNearCache(TestContext context) {
+		test( context, persistAndFind()
+				.thenCompose( loaded -> {
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					sqlTracker.clear();
+					return getSessionFactory().withSession( s -> s.find( Currency.class, 1 )
+							.thenAccept( shared -> {
+								assertThat( shared ).isSameAs( loaded );
+								assertThat( s.isReadOnly( shared ) ).isTrue();
+								assertThat( sqlTracker.getLoggedQueries() ).isEmpty();
+							} ) );
+				} )
+		);
+	}
+
+	@Test
+	public void testBulkUpdateInvalidatesNearCache(TestContext context) {
+		test( context, persistAndFind()
+				.thenCompose( loaded -> getSessionFactory().withTransaction( s -> s
+						.createQuery( "update Currency set name = :name where id = :id" )
+						.setParameter( "name", "Euro (new)" )
+						.setParameter( "id", 1 )
+						.executeUpdate() ) )
+				.thenAccept( v -> sqlTracker.clear() )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Currency.class, 1 ) ) )
+				.thenAccept( reloaded -> {
+					assertThat( reloaded.name ).isEqualTo( "Euro (new)" );
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testDeleteInvalidatesNearCache(TestContext context) {
+		test( context, persistAndFind()
+				.thenCompose( loaded -> getSessionFactory().withTransaction( s -> s
+						.find( Currency.class, 1 )
+						.thenCompose( s::remove ) ) )
+				.thenAccept( v -> sqlTracker.clear() )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Currency.class, 1 ) ) )
+				.thenAccept( deleted -> {
+					assertThat( deleted ).isNull();
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testStatelessDeleteInvalidatesNearCache(TestContext context) {
+		test( context, persistAndFind()
+				.thenCompose( loaded -> getSessionFactory()
+						.withStatelessTransaction( s -> s.delete( new Currency( 1, "EUR", "Euro" ) ) ) )
+				.thenAccept( v -> sqlTracker.clear() )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Currency.class, 1 ) ) )
+				.thenAccept( deleted -> {
+					assertThat( deleted ).isNull();
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testReloadBeforeCommitIsInvalidated(TestContext context) {
+		// another session must be able to read the deleted row before the
+		// transaction commits, which isn't the case where reads are blocked
+		// by the lock held on the row
+		assumeTrue( dbType() != SQLSERVER && dbType() != DB2 && dbType() != COCKROACHDB );
+		test( context, persistAndFind()
+				.thenCompose( loaded -> getSessionFactory().withTransaction( s -> s
+						.find( Currency.class, 1 )
+						.thenCompose( s::remove )
+						.thenCompose( v -> s.flush() )
+						// a concurrent session reloads the row and caches it again
+						.thenCompose( v -> getSessionFactory().openSession() )
+						.thenCompose( other -> other.find( Currency.class, 1 )
+								.thenAccept( stale -> assertThat( stale ).isNotNull() )
+								.thenCompose( vv -> other.close() ) ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Currency.class, 1 ) ) )
+				.thenAccept( deleted -> assertThat( deleted ).isNull() )
+		);
+	}
+
+	@Entity(name = "Currency")
+	@Table(name = "NearCurrency")
+	@Immutable
+	static class Currency {
+		@Id
+		Integer id;
+
+		String code;
+
+		String name;
+
+		Currency() {
+		}
+
+		Currency(Integer id, String code, String name) {
+			this.id = id;
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
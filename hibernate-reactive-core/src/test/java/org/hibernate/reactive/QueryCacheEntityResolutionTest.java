@@ -0,0 +1,234 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.reactive.cache.impl.ReactiveRegionFactory;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static javax.persistence.FetchType.LAZY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+
+/**
+ * Check that the results of a query read from the query cache are
+ * assembled just once when the entities they refer to are in the
+ * second-level cache, and that only the entities which aren't are
+ * loaded before the results are assembled again. The entities referenced
+ * by the entities of the results are resolved, or proxied, as usual.
+ */
+public class QueryCacheEntityResolutionTest extends BaseReactiveTest {
+
+	private static final String QUERY = "from Author order by id";
+	private static final String BOOK_QUERY = "from Book order by id";
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class, Author.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, ReactiveRegionFactory.class.getName() );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Override
+	protected CompletionStage<Void> cleanDb() {
+		return super.cleanDb()
+				.thenAccept( v -> getSessionFactory().getCache().evictAllRegions() );
+	}
+
+	private CompletionStage<List<Author>> cachedQuery() {
+		return getSessionFactory().withSession( s -> s
+				.createQuery( QUERY, Author.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private CompletionStage<Void> persistAndCache() {
+		return getSessionFactory()
+				.withTransaction( s -> s.persist(
+						new Author( 1, "Andrzej Sapkowski" ),
+						new Author( 2, "Ursula K. Le Guin" )
+				) )
+				.thenCompose( v -> cachedQuery() )
+				.thenAccept( authors -> assertThat( authors ).hasSize( 2 ) );
+	}
+
+	private CompletionStage<Void> persistAndCacheBooks() {
+		final Author sapkowski = new Author( 1, "Andrzej Sapkowski" );
+		final Author leGuin = new Author( 2, "Ursula K. Le Guin" );
+		return getSessionFactory()
+				.withTransaction( s -> s.persist(
+						sapkowski,
+						leGuin,
+						new Book( 1, "The Last Wish", sapkowski ),
+						new Book( 2, "A Wizard of Earthsea", leGuin )
+				) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( BOOK_QUERY, Book.class )
+						.setCacheable( true )
+						.getResultList() ) )
+				.thenAccept( books -> assertThat( books ).hasSize( 2 ) );
+	}
+
+	@Test
+	public void testCachedEntitiesAssembledOnce(TestContext context) {
+		final Statistics statistics = getSessionFactory().getStatistics();
+		final AtomicLong hits = new AtomicLong();
+		test( context, persistAndCache()
+				.thenAccept( v -> hits.set( statistics.getQueryCacheHitCount() ) )
+				.thenCompose( v -> cachedQuery() )
+				.thenAccept( authors -> {
+					assertThat( authors ).extracting( author -> author.name )
+							.containsExactly( "Andrzej Sapkowski", "Ursula K. Le Guin" );
+					// the cached results were read once, since every entity
+					// was resolved from the second-level cache
+					assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( hits.get() + 1 );
+				} )
+		);
+	}
+
+	@Test
+	public void testEvictedEntityLoadedBeforeAssembly(TestContext context) {
+		final Statistics statistics = getSessionFactory().getStatistics();
+		final AtomicLong hits = new AtomicLong();
+		test( context, persistAndCache()
+				.thenAccept( v -> {
+					getSessionFactory().getCache().evict( Author.class, 2 );
+					hits.set( statistics.getQueryCacheHitCount() );
+				} )
+				.thenCompose( v -> cachedQuery() )
+				.thenAccept( authors -> {
+					assertThat( authors ).extracting( author -> author.name )
+							.containsExactly( "Andrzej Sapkowski", "Ursula K. Le Guin" );
+					// the cached results were read again once the evicted
+					// entity was loaded
+					assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( hits.get() + 2 );
+				} )
+		);
+	}
+
+	@Test
+	public void testEvictedEntityWithAssociationLoadedBeforeAssembly(TestContext context) {
+		final Statistics statistics = getSessionFactory().getStatistics();
+		final AtomicLong hits = new AtomicLong();
+		test( context, persistAndCacheBooks()
+				.thenAccept( v -> {
+					getSessionFactory().getCache().evict( Book.class, 2 );
+					hits.set( statistics.getQueryCacheHitCount() );
+				} )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( BOOK_QUERY, Book.class )
+						.setCacheable( true )
+						.getResultList()
+						.thenCompose( books -> {
+							assertThat( books ).extracting( book -> book.title )
+									.containsExactly( "The Last Wish", "A Wizard of Earthsea" );
+							assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( hits.get() + 2 );
+							// the authors weren't loaded along with the books
+							assertThat( books ).allSatisfy( book -> {
+								assertThat( book.author ).isInstanceOf( Author.class );
+								assertThat( Hibernate.isInitialized( book.author ) ).isFalse();
+							} );
+							return s.fetch( books.get( 0 ).author )
+									.thenAccept( author -> assertThat( author.name ).isEqualTo( "Andrzej Sapkowski" ) )
+									.thenCompose( vv -> s.fetch( books.get( 1 ).author ) )
+									.thenAccept( author -> assertThat( author.name ).isEqualTo( "Ursula K. Le Guin" ) );
+						} ) ) )
+		);
+	}
+
+	@Test
+	public void testEvictedAssociatedEntityIsProxied(TestContext context) {
+		final Statistics statistics = getSessionFactory().getStatistics();
+		final AtomicLong hits = new AtomicLong();
+		test( context, persistAndCacheBooks()
+				.thenAccept( v -> {
+					getSessionFactory().getCache().evict( Author.class );
+					hits.set( statistics.getQueryCacheHitCount() );
+				} )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( BOOK_QUERY, Book.class )
+						.setCacheable( true )
+						.getResultList()
+						.thenCompose( books -> {
+							assertThat( books ).extracting( book -> book.title )
+									.containsExactly( "The Last Wish", "A Wizard of Earthsea" );
+							// the evicted authors are referenced by the entities of the
+							// results, so they don't stop the results being assembled
+							assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( hits.get() + 1 );
+							assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isFalse();
+							return s.fetch( books.get( 0 ).author );
+						} ) ) )
+				.thenAccept( author -> assertThat( author.name ).isEqualTo( "Andrzej Sapkowski" ) )
+		);
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "QueryCacheBook")
+	@Cacheable
+	@Cache(usage = READ_WRITE)
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne(fetch = LAZY)
+		Author author;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "QueryCacheAuthor")
+	@Cacheable
+	@Cache(usage = READ_WRITE)
+	public static class Author {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Author() {
+		}
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.QueryTimeoutException;
+import javax.persistence.Table;
+
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MARIA;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MYSQL;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+
+/**
+ * Check that a query timeout, or the cancellation of a {@link io.smallrye.mutiny.Uni}
+ * returned by a query, cancels the statement, leaving the session usable.
+ * <p>
+ * On PostgreSQL, the statement is aborted on the server. On the other
+ * databases, it runs to completion, but its results are discarded.
+ */
+public class QueryCancellationTest extends BaseReactiveTest {
+
+	// The databases with a function which sleeps
+	@Rule
+	public DatabaseSelectionRule selectionRule = DatabaseSelectionRule.runOnlyFor( POSTGRESQL, MYSQL, MARIA );
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Flag.class );
+	}
+
+	/**
+	 * PostgreSQL aborts the statement, so it can sleep for longer than any test
+	 * should take, but on the other databases the statement runs to completion.
+	 */
+	private static int sleepSeconds() {
+		return dbType() == POSTGRESQL ? 30 : 3;
+	}
+
+	private static String sleep() {
+		return dbType() == POSTGRESQL
+				? "select 1 from pg_sleep(" + sleepSeconds() + ")"
+				: "select sleep(" + sleepSeconds() + ")";
+	}
+
+	/**
+	 * @return a condition which holds once the database slept for the given time
+	 */
+	private static String slept(int seconds) {
+		return dbType() == POSTGRESQL
+				? "(select 1 from pg_sleep(" + seconds + ")) = 1"
+				: "sleep(" + seconds + ") = 0";
+	}
+
+	@Test
+	public void testQueryTimeout(TestContext context) {
+		final long start = System.nanoTime();
+		test( context, openSession()
+				.thenCompose( session -> session.createNativeQuery( sleep() )
+						.setTimeout( 1 )
+						.getSingleResult()
+						.handle( (result, e) -> {
+							context.assertNull( result );
+							context.assertTrue( e instanceof QueryTimeoutException || e.getCause() instanceof QueryTimeoutException );
+							assertFailedEarly( context, start );
+							return session;
+						} ) )
+				.thenCompose( session -> session.createNativeQuery( "select 2" ).getSingleResult() )
+				.thenAccept( result -> {
+					context.assertEquals( 2, ( (Number) result ).intValue() );
+					assertAborted( context, start );
+				} )
+		);
+	}
+
+	@Test
+	public void testCancelledUni(TestContext context) {
+		final long start = System.nanoTime();
+		test( context, openMutinySession()
+				.chain( session -> {
+					Mutiny.Query<Object> sleep = session.createNativeQuery( sleep() );
+					Mutiny.Query<Object> next = session.createNativeQuery( "select 2" );
+					return sleep.getSingleResult()
+							// cancels the subscription to the query
+							.ifNoItem().after( Duration.ofMillis( 500 ) ).recoverWithItem( 0 )
+							.chain( next::getSingleResult );
+				} )
+				.invoke( result -> {
+					context.assertEquals( 2, ( (Number) result ).intValue() );
+					assertAborted( context, start );
+				} )
+		);
+	}
+
+	@Test
+	public void testUpdateTimeout(TestContext context) {
+		final long start = System.nanoTime();
+		test( context, getSessionFactory()
+				.withTransaction( session -> session.persist( new Flag( 1 ) ) )
+				.thenCompose( v -> getSessionFactory()
+						.withTransaction( session -> session
+								.createNativeQuery( "update QueryCancellationFlag set raised = true where id = 1 and " + slept( sleepSeconds() ) )
+								.setTimeout( 1 )
+								.executeUpdate() )
+						.handle( (count, e) -> {
+							context.assertNull( count );
+							context.assertTrue( e instanceof QueryTimeoutException || e.getCause() instanceof QueryTimeoutException );
+							assertFailedEarly( context, start );
+							return null;
+						} ) )
+				// the transaction which timed out was rolled back
+				.thenCompose( v -> getSessionFactory().withSession( session -> session.find( Flag.class, 1 ) ) )
+				.thenAccept( flag -> context.assertFalse( flag.isRaised() ) )
+		);
+	}
+
+	@Test
+	public void testCancelledUpdateUni(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( session -> session.persist( new Flag( 1 ) ) )
+				.chain( () -> getMutinySessionFactory().withTransaction( session -> session
+						.createNativeQuery( "update QueryCancellationFlag set raised = true where id = 1 and " + slept( 1 ) )
+						.executeUpdate()
+						// cancelling the subscription doesn't cancel the update
+						.ifNoItem().after( Duration.ofMillis( 200 ) ).recoverWithItem( 0 ) ) )
+				.chain( () -> getMutinySessionFactory().withSession( session -> session.find( Flag.class, 1 ) ) )
+				.invoke( flag -> context.assertTrue( flag.isRaised() ) )
+		);
+	}
+
+	/**
+	 * The statement failed before it could have completed
+	 */
+	private static void assertFailedEarly(TestContext context, long start) {
+		context.assertTrue( System.nanoTime() - start < TimeUnit.SECONDS.toNanos( sleepSeconds() ), "The statement didn't time out" );
+	}
+
+	/**
+	 * The session is usable before the statement could have completed
+	 */
+	private static void assertAborted(TestContext context, long start) {
+		if ( dbType() == POSTGRESQL ) {
+			context.assertTrue( System.nanoTime() - start < TimeUnit.SECONDS.toNanos( 20 ), "The statement wasn't aborted" );
+		}
+	}
+
+	@Entity(name = "Flag")
+	@Table(name = "QueryCancellationFlag")
+	public static class Flag {
+		@Id
+		private Integer id;
+		private boolean raised;
+
+		public Flag() {
+		}
+
+		public Flag(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public boolean isRaised() {
+			return raised;
+		}
+
+		public void setRaised(boolean raised) {
+			this.raised = raised;
+		}
+	}
+}
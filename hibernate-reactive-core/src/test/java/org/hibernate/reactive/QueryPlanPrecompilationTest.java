@@ -0,0 +1,158 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQL9Dialect;
+import org.hibernate.reactive.common.spi.Implementor;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.session.impl.QueryPlanPrecompiler;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Check that the plans of named queries, and of the queries listed in
+ * the configuration, are compiled while the session factory is built.
+ */
+public class QueryPlanPrecompilationTest extends BaseReactiveTest {
+
+	private static final String LISTED_QUERY = "select c.name from Country c where c.code = :code";
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Country.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( GENERATE_STATISTICS, "true" );
+		configuration.getProperties().put( Settings.QUERY_PLAN_PRECOMPILE_QUERIES, List.of( LISTED_QUERY ) );
+		return configuration;
+	}
+
+	private static QueryPlanPrecompiler precompiler() {
+		return ( (Implementor) getSessionFactory() ).getServiceRegistry().getService( QueryPlanPrecompiler.class );
+	}
+
+	@Test
+	public void testPlansArePrecompiled(TestContext context) {
+		assertThat( precompiler().isEnabled() ).isTrue();
+		assertThat( precompiler().getCompiledQueries() ).isEqualTo( 2 );
+		assertThat( precompiler().getSlowestQuery() ).isIn( LISTED_QUERY, "from Country order by name" );
+
+		final Statistics statistics = getSessionFactory().getStatistics();
+		final long missesBefore = statistics.getQueryPlanCacheMissCount();
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( new Country( "FI", "Finland" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( LISTED_QUERY, String.class )
+						.setParameter( "code", "FI" )
+						.getSingleResult()
+						.thenAccept( name -> assertThat( name ).isEqualTo( "Finland" ) )
+						.thenCompose( vv -> s.createNamedQuery( "allCountries", Country.class ).getResultList() )
+						.thenAccept( countries -> assertThat( countries ).hasSize( 1 ) ) ) )
+				.thenAccept( v -> assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( missesBefore ) )
+		);
+	}
+
+	private static StandardServiceRegistry registry(boolean checkNamedQueries) {
+		return new ReactiveServiceRegistryBuilder()
+				.applySetting( Settings.DIALECT, PostgreSQL9Dialect.class.getName() )
+				.applySetting( Settings.URL, "jdbc:postgresql://localhost/hreact?user=none" )
+				.applySetting( Settings.QUERY_PLAN_PRECOMPILE, "true" )
+				.applySetting( QUERY_STARTUP_CHECKING, String.valueOf( checkNamedQueries ) )
+				.build();
+	}
+
+	/**
+	 * Build a session factory, which never connects to the database,
+	 * for an entity with an invalid named query.
+	 */
+	private static SessionFactory buildFactoryWithInvalidNamedQuery(StandardServiceRegistry registry) {
+		return new MetadataSources( registry )
+				.addAnnotatedClass( Capital.class )
+				.buildMetadata()
+				.getSessionFactoryBuilder()
+				.build();
+	}
+
+	@Test
+	public void testInvalidNamedQueryIsReportedWithCause() {
+		final StandardServiceRegistry registry = registry( true );
+		try {
+			final HibernateException error = assertThrows(
+					HibernateException.class,
+					() -> buildFactoryWithInvalidNamedQuery( registry )
+			);
+			assertThat( error.getMessage() ).contains( "missingCapital" );
+			assertThat( error.getCause() ).isNotNull();
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Test
+	public void testStartupCheckCanBeDisabled() {
+		final StandardServiceRegistry registry = registry( false );
+		try {
+			final SessionFactory factory = buildFactoryWithInvalidNamedQuery( registry );
+			assertThat( factory.isOpen() ).isTrue();
+			factory.close();
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Entity(name = "Country")
+	@Table(name = "PrecompiledCountry")
+	@NamedQuery(name = "allCountries", query = "from Country order by name")
+	static class Country {
+		@Id
+		String code;
+
+		String name;
+
+		Country() {
+		}
+
+		Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Capital")
+	@Table(name = "PrecompiledCapital")
+	@NamedQuery(name = "missingCapital", query = "from Capital where nonexistent = 1")
+	static class Capital {
+		@Id
+		String name;
+	}
+}
@@ -0,0 +1,320 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.persistence.Cacheable;
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.reactive.cache.ReactiveCacheProvider;
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+import org.hibernate.reactive.cache.impl.InProcessCacheRegion;
+import org.hibernate.reactive.cache.impl.ReactiveRegionFactory;
+import org.hibernate.reactive.common.Identifier;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+
+/**
+ * Check that the second-level cache works with the {@link ReactiveRegionFactory}
+ * when the regions don't respond immediately, as a remote cache wouldn't.
+ */
+public class ReactiveRegionFactoryTest extends BaseReactiveTest {
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, ReactiveRegionFactory.class.getName() );
+		sqlTracker = new SqlStatementTracker( ReactiveRegionFactoryTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+		builder.addService( ReactiveCacheProvider.class, new DelayedCacheProvider() );
+	}
+
+	@Override
+	protected CompletionStage<Void> cleanDb() {
+		return super.cleanDb()
+				.thenAccept( v -> getSessionFactory().getCache().evictAllRegions() );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select" );
+	}
+
+	private CompletionStage<Void> persistAndLoad() {
+		final Book book = new Book( 1, "9780316029186", "The Last Wish" );
+		book.tags.add( "fantasy" );
+		return getSessionFactory()
+				.withTransaction( s -> s.persist( book ) )
+				// populate the cache
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 1 )
+						.thenCompose( b -> s.fetch( b.tags ) ) ) )
+				.thenAccept( v -> {
+					sqlTracker.clear();
+					DelayedCacheProvider.delayedGets.set( 0 );
+				} );
+	}
+
+	@Test
+	public void testFindFromCache(TestContext context) {
+		test( context, persistAndLoad()
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 1 )
+						.thenCompose( book -> {
+							assertThat( book.title ).isEqualTo( "The Last Wish" );
+							assertThat( Hibernate.isInitialized( book.tags ) ).isFalse();
+							return s.fetch( book.tags );
+						} ) ) )
+				.thenAccept( tags -> {
+					assertThat( tags ).containsExactly( "fantasy" );
+					// neither the entity nor the collection came from the database
+					assertThat( sqlTracker.getLoggedQueries() ).isEmpty();
+					assertThat( DelayedCacheProvider.delayedGets.get() ).isGreaterThanOrEqualTo( 2 );
+				} )
+		);
+	}
+
+	@Test
+	public void testUpdateWithDelayedWrites(TestContext context) {
+		test( context, persistAndLoad()
+				.thenAccept( v -> DelayedCacheProvider.delayedWrites.set( 0 ) )
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s.find( Book.class, 1 )
+						.thenAccept( book -> book.title = "Sword of Destiny" ) ) )
+				.thenAccept( v -> {
+					// the soft lock, and then the new state
+					assertThat( DelayedCacheProvider.delayedWrites.get() ).isGreaterThanOrEqualTo( 2 );
+					sqlTracker.clear();
+				} )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 1 ) ) )
+				.thenAccept( book -> {
+					assertThat( book.title ).isEqualTo( "Sword of Destiny" );
+					// the lock was released, and the new state cached,
+					// even though the region didn't respond immediately
+					assertThat( sqlTracker.getLoggedQueries() ).isEmpty();
+				} )
+		);
+	}
+
+	@Test
+	public void testDeleteWithDelayedWrites(TestContext context) {
+		test( context, persistAndLoad()
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s.find( Book.class, 1 )
+						.thenCompose( s::remove ) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Book.class, 1 ) ) )
+				.thenAccept( book -> assertThat( book ).isNull() )
+		);
+	}
+
+	@Test
+	public void testFindByNaturalIdFromCache(TestContext context) {
+		test( context, persistAndLoad()
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.find( Book.class, Identifier.id( "isbn", "9780316029186" ) ) ) )
+				.thenAccept( book -> {
+					assertThat( book.title ).isEqualTo( "The Last Wish" );
+					assertThat( sqlTracker.getLoggedQueries() ).isEmpty();
+				} )
+		);
+	}
+
+	@Test
+	public void testQueryCache(TestContext context) {
+		test( context, persistAndLoad()
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select title from Book", String.class )
+						.setCacheable( true )
+						.getResultList() ) )
+				.thenAccept( titles -> {
+					assertThat( titles ).containsExactly( "The Last Wish" );
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					sqlTracker.clear();
+				} )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( "select title from Book", String.class )
+						.setCacheable( true )
+						.getResultList() ) )
+				.thenAccept( titles -> {
+					assertThat( titles ).containsExactly( "The Last Wish" );
+					assertThat( sqlTracker.getLoggedQueries() ).isEmpty();
+				} )
+		);
+	}
+
+	@Test
+	public void testQueryCacheWithEvictedEntity(TestContext context) {
+		final String query = "from Book order by id";
+		test( context, persistAndLoad()
+				.thenCompose( v -> getSessionFactory().withTransaction( s -> s.persist(
+						new Book( 2, "9780316029193", "Sword of Destiny" ),
+						new Book( 3, "9780316029209", "Blood of Elves" )
+				) ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( query, Book.class )
+						.setCacheable( true )
+						.getResultList() ) )
+				.thenAccept( books -> {
+					assertThat( books ).hasSize( 3 );
+					getSessionFactory().getCache().evict( Book.class, 2 );
+					sqlTracker.clear();
+				} )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s
+						.createQuery( query, Book.class )
+						.setCacheable( true )
+						.getResultList() ) )
+				.thenAccept( books -> {
+					assertThat( books ).extracting( book -> book.title )
+							.containsExactly( "The Last Wish", "Sword of Destiny", "Blood of Elves" );
+					// the cached results were used, and the entities which weren't
+					// available from the cache were loaded in one batch
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+					assertThat( sqlTracker.getLoggedQueries().get( 0 ) ).doesNotContain( "order by" );
+				} )
+		);
+	}
+
+	/**
+	 * Provides regions which only return what they've cached after
+	 * a timer fires, as a remote cache would.
+	 */
+	private static class DelayedCacheProvider implements ReactiveCacheProvider {
+		static final AtomicInteger delayedGets = new AtomicInteger();
+		static final AtomicInteger delayedWrites = new AtomicInteger();
+
+		@Override
+		public ReactiveCacheRegion buildRegion(String regionName) {
+			return new DelayedRegion( new InProcessCacheRegion( regionName, 1000, 0 ) );
+		}
+	}
+
+	private static class DelayedRegion implements ReactiveCacheRegion {
+		private final ReactiveCacheRegion delegate;
+
+		DelayedRegion(ReactiveCacheRegion delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String getName() {
+			return delegate.getName();
+		}
+
+		@Override
+		public CompletionStage<Object> get(Object key) {
+			final Context context = Vertx.currentContext();
+			if ( context == null ) {
+				return delegate.get( key );
+			}
+			DelayedCacheProvider.delayedGets.incrementAndGet();
+			return delayed( context, () -> delegate.get( key ) );
+		}
+
+		@Override
+		public CompletionStage<Void> put(Object key, Object value) {
+			final Context context = Vertx.currentContext();
+			if ( context == null ) {
+				return delegate.put( key, value );
+			}
+			DelayedCacheProvider.delayedWrites.incrementAndGet();
+			return delayed( context, () -> delegate.put( key, value ) );
+		}
+
+		@Override
+		public CompletionStage<Void> evict(Object key) {
+			final Context context = Vertx.currentContext();
+			if ( context == null ) {
+				return delegate.evict( key );
+			}
+			DelayedCacheProvider.delayedWrites.incrementAndGet();
+			return delayed( context, () -> delegate.evict( key ) );
+		}
+
+		@Override
+		public CompletionStage<Void> evictAll() {
+			return delegate.evictAll();
+		}
+
+		private static <T> CompletionStage<T> delayed(Context context, Supplier<CompletionStage<T>> operation) {
+			final CompletableFuture<T> result = new CompletableFuture<>();
+			// the timer fires on the context of the caller
+			context.owner().setTimer( 1, id -> operation.get()
+					.whenComplete( (value, error) -> {
+						if ( error != null ) {
+							result.completeExceptionally( error );
+						}
+						else {
+							result.complete( value );
+						}
+					} ) );
+			return result;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "CachedBook")
+	@Cacheable
+	@Cache(usage = READ_WRITE)
+	@NaturalIdCache
+	static class Book {
+		@Id
+		Integer id;
+
+		@NaturalId
+		String isbn;
+
+		String title;
+
+		@ElementCollection
+		@CollectionTable(name = "CachedBook_tags")
+		@Cache(usage = READ_WRITE)
+		Set<String> tags = new HashSet<>();
+
+		Book() {
+		}
+
+		Book(Integer id, String isbn, String title) {
+			this.id = id;
+			this.isbn = isbn;
+			this.title = title;
+		}
+	}
+}
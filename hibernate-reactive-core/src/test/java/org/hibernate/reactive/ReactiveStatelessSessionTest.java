@@ -8,6 +8,8 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
@@ -20,17 +22,29 @@
 import javax.persistence.criteria.CriteriaUpdate;
 import javax.persistence.criteria.Root;
 
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
 
 import org.junit.Test;
 
 import io.vertx.ext.unit.TestContext;
 
+import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
+
 
 public class ReactiveStatelessSessionTest extends BaseReactiveTest {
 
 	@Override
 	protected Collection<Class<?>> annotatedEntities() {
-		return List.of( GuineaPig.class );
+		return List.of( GuineaPig.class, Hutch.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		// check that the entities built directly from the result set are counted as loaded
+		configuration.setProperty( GENERATE_STATISTICS, "true" );
+		return configuration;
 	}
 
 	@Test
@@ -182,6 +196,90 @@ public void testTransactionPropagation(TestContext context) {
 		) );
 	}
 
+	@Test
+	public void testStatelessQueryWithPagination(TestContext context) {
+		testStatelessQueryWithPagination( context, false );
+	}
+
+	@Test
+	public void testStatelessReadOnlyQueryWithPagination(TestContext context) {
+		testStatelessQueryWithPagination( context, true );
+	}
+
+	private void testStatelessQueryWithPagination(TestContext context, boolean readOnly) {
+		GuineaPig aloi = new GuineaPig( "Aloi" );
+		GuineaPig bibi = new GuineaPig( "Bibi" );
+		GuineaPig cody = new GuineaPig( "Cody" );
+		test( context, getSessionFactory().withStatelessSession( ss -> ss
+				.insert( aloi, bibi, cody )
+				.thenCompose( v -> ss.createQuery( "from GuineaPig order by name", GuineaPig.class )
+						.setReadOnly( readOnly )
+						.setFirstResult( 1 )
+						.setMaxResults( 1 )
+						.getResultList() )
+				.thenCompose( list -> {
+					context.assertEquals( 1, list.size() );
+					assertThatPigsAreEqual( context, bibi, list.get( 0 ) );
+					context.assertEquals( bibi.version, list.get( 0 ).version );
+					// the version loaded by the query is used by the update
+					list.get( 0 ).name = "Bobo";
+					return ss.update( list.get( 0 ) );
+				} )
+				.thenCompose( v -> ss.get( GuineaPig.class, bibi.id ) )
+				.thenAccept( pig -> {
+					context.assertEquals( "Bobo", pig.name );
+					context.assertEquals( bibi.version + 1, pig.version );
+				} ) )
+		);
+	}
+
+	@Test
+	public void testStatelessReadOnlyQueryWithEmbeddable(TestContext context) {
+		Hutch hutch = new Hutch( "Deluxe", new Dimensions( 120, 60 ) );
+		final Statistics statistics = getSessionFactory().getStatistics();
+		test( context, getSessionFactory().withStatelessSession( ss -> ss
+				.insert( hutch )
+				.thenApply( v -> statistics.getEntityLoadCount() )
+				.thenCompose( loads -> ss.createQuery( "from Hutch", Hutch.class )
+						.setReadOnly( true )
+						.getResultList()
+						.thenAccept( list -> {
+							context.assertEquals( loads + 1, statistics.getEntityLoadCount() );
+							context.assertEquals( 1, list.size() );
+							context.assertEquals( hutch.id, list.get( 0 ).id );
+							context.assertEquals( "Deluxe", list.get( 0 ).name );
+							context.assertEquals( 120, list.get( 0 ).dimensions.width );
+							context.assertEquals( 60, list.get( 0 ).dimensions.depth );
+						} ) ) )
+		);
+	}
+
+	@Test
+	public void testStatelessReadOnlyQueryWithRepeatedRows(TestContext context) {
+		GuineaPig aloi = new GuineaPig( "Aloi" );
+		GuineaPig bibi = new GuineaPig( "Bibi" );
+		final Statistics statistics = getSessionFactory().getStatistics();
+		test( context, getSessionFactory().withStatelessSession( ss -> ss
+				.insert( aloi, bibi )
+				.thenApply( v -> statistics.getEntityLoadCount() )
+				.thenCompose( loads -> ss
+						// every pig occurs once for each pig in the cross join
+						.createQuery( "select p from GuineaPig p, GuineaPig q order by p.name", GuineaPig.class )
+						.setReadOnly( true )
+						.getResultList()
+						.thenAccept( list -> {
+							// each pig is counted once
+							context.assertEquals( loads + 2, statistics.getEntityLoadCount() );
+							context.assertEquals( 4, list.size() );
+							assertThatPigsAreEqual( context, aloi, list.get( 0 ) );
+							assertThatPigsAreEqual( context, bibi, list.get( 2 ) );
+							// a repeated row is the same instance
+							context.assertTrue( list.get( 0 ) == list.get( 1 ) );
+							context.assertTrue( list.get( 2 ) == list.get( 3 ) );
+						} ) ) )
+		);
+	}
+
 	@Test
 	public void testSessionPropagation(TestContext context) {
 		test( context, getSessionFactory().withStatelessSession(
@@ -257,4 +355,38 @@ public int hashCode() {
 			return Objects.hash( name );
 		}
 	}
+
+	@Entity(name = "Hutch")
+	@Table(name = "Hutch")
+	public static class Hutch {
+		@Id @GeneratedValue
+		Integer id;
+
+		String name;
+
+		@Embedded
+		Dimensions dimensions;
+
+		public Hutch() {
+		}
+
+		public Hutch(String name, Dimensions dimensions) {
+			this.name = name;
+			this.dimensions = dimensions;
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		int width;
+		int depth;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int depth) {
+			this.width = width;
+			this.depth = depth;
+		}
+	}
 }
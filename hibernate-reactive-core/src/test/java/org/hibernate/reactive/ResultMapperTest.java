@@ -0,0 +1,151 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.reactive.common.RowMapper;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check that the results of a query can be built directly from the
+ * rows returned by the database, using a {@link RowMapper}.
+ */
+public class ResultMapperTest extends BaseReactiveTest {
+
+	private static final RowMapper<BookSummary> SUMMARY =
+			row -> new BookSummary( row.getInteger( 0 ), row.getString( 1 ) );
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class );
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getMutinySessionFactory().withTransaction( s -> s.persistAll(
+				new Book( 1, "Hibernate in Action", "Manning" ),
+				new Book( 2, "Java Persistence with Hibernate", "Manning" ),
+				new Book( 3, "Hibernate Reactive in Action", "Red Hat" )
+		) ) );
+	}
+
+	@Test
+	public void testHqlResultMapper(TestContext context) {
+		test( context, getSessionFactory().withSession( s -> s
+				.createQuery( "select b.id, b.title from Book b where b.publisher = :publisher order by b.id" )
+				.setParameter( "publisher", "Manning" )
+				.setResultMapper( SUMMARY )
+				.getResultList()
+				.thenAccept( summaries -> assertThat( summaries ).containsExactly(
+						new BookSummary( 1, "Hibernate in Action" ),
+						new BookSummary( 2, "Java Persistence with Hibernate" )
+				) ) )
+		);
+	}
+
+	@Test
+	public void testHqlResultMapperWithLimit(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( s -> s
+				.createQuery( "select b.id, b.title from Book b order by b.id desc" )
+				.setMaxResults( 1 )
+				.setResultMapper( SUMMARY )
+				.getSingleResult()
+				.invoke( summary -> assertThat( summary )
+						.isEqualTo( new BookSummary( 3, "Hibernate Reactive in Action" ) ) ) )
+		);
+	}
+
+	@Test
+	public void testNativeResultMapper(TestContext context) {
+		test( context, getMutinySessionFactory().withStatelessSession( s -> s
+				.createNativeQuery( "select id, title from ResultMapperBook order by id" )
+				.setResultMapper( SUMMARY )
+				.getResultList()
+				.invoke( summaries -> assertThat( summaries ).containsExactly(
+						new BookSummary( 1, "Hibernate in Action" ),
+						new BookSummary( 2, "Java Persistence with Hibernate" ),
+						new BookSummary( 3, "Hibernate Reactive in Action" )
+				) ) )
+		);
+	}
+
+	@Test
+	public void testResultMapperFlushesFirst(TestContext context) {
+		test( context, getSessionFactory().withTransaction( s -> s
+				.persist( new Book( 4, "Hibernate Search in Action", "Manning" ) )
+				.thenCompose( v -> s
+						.createQuery( "select b.id, b.title from Book b where b.id = 4" )
+						.setResultMapper( SUMMARY )
+						.getSingleResult() )
+				.thenAccept( summary -> assertThat( summary )
+						.isEqualTo( new BookSummary( 4, "Hibernate Search in Action" ) ) ) )
+		);
+	}
+
+	static class BookSummary {
+		final Integer id;
+		final String title;
+
+		BookSummary(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			BookSummary that = (BookSummary) o;
+			return Objects.equals( id, that.id ) && Objects.equals( title, that.title );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( id, title );
+		}
+
+		@Override
+		public String toString() {
+			return id + ":" + title;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "ResultMapperBook")
+	static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		String publisher;
+
+		Book() {
+		}
+
+		Book(Integer id, String title, String publisher) {
+			this.id = id;
+			this.title = title;
+			this.publisher = publisher;
+		}
+	}
+}
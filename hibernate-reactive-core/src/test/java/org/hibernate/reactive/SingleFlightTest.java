@@ -0,0 +1,323 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.BiConsumer;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.CacheMode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.reactive.cache.ReactiveCacheProvider;
+import org.hibernate.reactive.cache.ReactiveCacheRegion;
+import org.hibernate.reactive.cache.impl.InProcessCacheRegion;
+import org.hibernate.reactive.cache.impl.ReactiveRegionFactory;
+import org.hibernate.reactive.cache.impl.SingleFlight;
+import org.hibernate.reactive.common.spi.Implementor;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+
+/**
+ * Check that concurrent sessions which miss the same entry of the
+ * second-level cache, or of the query cache, don't all go to the
+ * database.
+ */
+public class SingleFlightTest extends BaseReactiveTest {
+
+	private static final int SESSIONS = 10;
+
+	private static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+	private static SqlStatementTracker sqlTracker;
+
+	private static volatile Gate gate;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Product.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, ReactiveRegionFactory.class.getName() );
+		sqlTracker = new SqlStatementTracker( SingleFlightTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+		builder.addService( ReactiveCacheProvider.class, new GatedCacheProvider() );
+	}
+
+	@Override
+	protected CompletionStage<Void> cleanDb() {
+		gate = null;
+		return super.cleanDb()
+				.thenAccept( v -> getSessionFactory().getCache().evictAllRegions() );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select" );
+	}
+
+	private static SingleFlight singleFlight() {
+		return ( (Implementor) getSessionFactory() ).getServiceRegistry().getService( SingleFlight.class );
+	}
+
+	/**
+	 * Persist the product, and then hold back the reads from the given
+	 * region until every session has started, so that they all miss the
+	 * cache before any of them goes to the database.
+	 */
+	private CompletionStage<Long> persistProduct(String gatedRegion) {
+		return getSessionFactory()
+				.withTransaction( s -> s.persist( new Product( 1, "Hibernate Reactive T-shirt" ) ) )
+				.thenApply( v -> {
+					getSessionFactory().getCache().evictAllRegions();
+					sqlTracker.clear();
+					gate = new Gate( gatedRegion, SESSIONS );
+					return singleFlight().getCoalescedLoads();
+				} );
+	}
+
+	/**
+	 * Start all the sessions at once, without waiting for any of them.
+	 * The work is started outside the Vert.x context, so that each
+	 * session gets a context of its own, instead of sharing a session.
+	 */
+	private static <T> CompletionStage<List<T>> concurrently(Supplier<CompletionStage<T>> work) {
+		final List<CompletableFuture<T>> sessions = new ArrayList<>();
+		for ( int i = 0; i < SESSIONS; i++ ) {
+			sessions.add( CompletableFuture.supplyAsync( work ).thenCompose( Function.identity() ) );
+		}
+		return CompletableFuture.allOf( sessions.toArray( new CompletableFuture[0] ) )
+				.thenApply( v -> {
+					final List<T> results = new ArrayList<>();
+					sessions.forEach( session -> results.add( session.join() ) );
+					return results;
+				} );
+	}
+
+	@Test
+	public void testConcurrentFind(TestContext context) {
+		test( context, persistProduct( Product.class.getName() )
+				.thenCompose( coalescedBefore -> concurrently( () -> getSessionFactory()
+								.withSession( s -> s.find( Product.class, 1 ) ) )
+						.thenAccept( products -> {
+							assertThat( products ).extracting( product -> product.name )
+									.containsOnly( "Hibernate Reactive T-shirt" );
+							// every session has its own copy
+							assertThat( products ).doesNotHaveDuplicates();
+							assertThat( singleFlight().getCoalescedLoads() ).isGreaterThan( coalescedBefore );
+							assertThat( sqlTracker.getLoggedQueries() ).hasSizeLessThan( SESSIONS );
+						} ) )
+		);
+	}
+
+	@Test
+	public void testConcurrentCacheableQuery(TestContext context) {
+		test( context, persistProduct( QUERY_RESULTS_REGION )
+				.thenCompose( coalescedBefore -> concurrently( () -> getSessionFactory()
+								.withSession( s -> s.createQuery( "select name from Product", String.class )
+										.setCacheable( true )
+										.getResultList() ) )
+						.thenAccept( results -> {
+							assertThat( results ).allSatisfy( names -> assertThat( names )
+									.containsExactly( "Hibernate Reactive T-shirt" ) );
+							assertThat( singleFlight().getCoalescedLoads() ).isGreaterThan( coalescedBefore );
+							assertThat( sqlTracker.getLoggedQueries() ).hasSizeLessThan( SESSIONS );
+						} ) )
+		);
+	}
+
+	@Test
+	public void testConcurrentCacheableQueryWithoutPut(TestContext context) {
+		// the results aren't put in the cache, so there's nothing to wait for,
+		// and every session must execute the query itself
+		test( context, persistProduct( QUERY_RESULTS_REGION )
+				.thenCompose( coalescedBefore -> concurrently( () -> getSessionFactory()
+								.withSession( s -> s.setCacheMode( CacheMode.GET )
+										.createQuery( "select name from Product", String.class )
+										.setCacheable( true )
+										.getResultList() ) )
+						.thenAccept( results -> {
+							assertThat( results ).allSatisfy( names -> assertThat( names )
+									.containsExactly( "Hibernate Reactive T-shirt" ) );
+							assertThat( singleFlight().getCoalescedLoads() ).isEqualTo( coalescedBefore );
+							assertThat( sqlTracker.getLoggedQueries() ).hasSize( SESSIONS );
+						} ) )
+		);
+	}
+
+	@Test
+	public void testConcurrentFindWithoutPut(TestContext context) {
+		test( context, persistProduct( Product.class.getName() )
+				.thenCompose( coalescedBefore -> concurrently( () -> getSessionFactory()
+								.withSession( s -> s.setCacheMode( CacheMode.GET ).find( Product.class, 1 ) ) )
+						.thenAccept( products -> {
+							assertThat( products ).extracting( product -> product.name )
+									.containsOnly( "Hibernate Reactive T-shirt" );
+							assertThat( singleFlight().getCoalescedLoads() ).isEqualTo( coalescedBefore );
+							assertThat( sqlTracker.getLoggedQueries() ).hasSize( SESSIONS );
+						} ) )
+		);
+	}
+
+	/**
+	 * Holds back the reads from one region, until the given number of
+	 * sessions are all waiting to read from it, or until a timer fires,
+	 * in case some of them never get there.
+	 */
+	private static class Gate {
+		private static final long TIMEOUT_MILLIS = 5_000;
+
+		private final String region;
+		private final int sessions;
+		private final List<Runnable> held = new ArrayList<>();
+		private boolean open;
+
+		Gate(String region, int sessions) {
+			this.region = region;
+			this.sessions = sessions;
+		}
+
+		<T> CompletionStage<T> pass(Context context, Supplier<CompletionStage<T>> read) {
+			final CompletableFuture<T> result = new CompletableFuture<>();
+			// each session carries on with its own context
+			final Runnable resume = () -> context.runOnContext( ignored -> read.get()
+					.whenComplete( complete( result ) ) );
+			final boolean hold;
+			final boolean last;
+			synchronized ( this ) {
+				hold = !open;
+				if ( hold ) {
+					held.add( resume );
+					if ( held.size() == 1 ) {
+						context.owner().setTimer( TIMEOUT_MILLIS, id -> open() );
+					}
+				}
+				last = hold && held.size() == sessions;
+			}
+			if ( !hold ) {
+				resume.run();
+			}
+			else if ( last ) {
+				open();
+			}
+			return result;
+		}
+
+		private void open() {
+			final List<Runnable> released;
+			synchronized ( this ) {
+				open = true;
+				released = new ArrayList<>( held );
+				held.clear();
+			}
+			released.forEach( Runnable::run );
+		}
+
+		private static <T> BiConsumer<T, Throwable> complete(CompletableFuture<T> result) {
+			return (value, error) -> {
+				if ( error != null ) {
+					result.completeExceptionally( error );
+				}
+				else {
+					result.complete( value );
+				}
+			};
+		}
+	}
+
+	private static class GatedCacheProvider implements ReactiveCacheProvider {
+		@Override
+		public ReactiveCacheRegion buildRegion(String regionName) {
+			return new GatedRegion( new InProcessCacheRegion( regionName, 1000, 0 ) );
+		}
+	}
+
+	private static class GatedRegion implements ReactiveCacheRegion {
+		private final ReactiveCacheRegion delegate;
+
+		GatedRegion(ReactiveCacheRegion delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String getName() {
+			return delegate.getName();
+		}
+
+		@Override
+		public CompletionStage<Object> get(Object key) {
+			final Gate current = gate;
+			final Context context = Vertx.currentContext();
+			if ( current == null || context == null || !current.region.equals( getName() ) ) {
+				return delegate.get( key );
+			}
+			return current.pass( context, () -> delegate.get( key ) );
+		}
+
+		@Override
+		public CompletionStage<Void> put(Object key, Object value) {
+			return delegate.put( key, value );
+		}
+
+		@Override
+		public CompletionStage<Void> evict(Object key) {
+			return delegate.evict( key );
+		}
+
+		@Override
+		public CompletionStage<Void> evictAll() {
+			return delegate.evictAll();
+		}
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "SingleFlightProduct")
+	@Cacheable
+	@Cache(usage = READ_WRITE)
+	static class Product {
+		@Id
+		Integer id;
+
+		String name;
+
+		Product() {
+		}
+
+		Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
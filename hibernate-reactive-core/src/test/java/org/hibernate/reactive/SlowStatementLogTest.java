@@ -0,0 +1,211 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
+import org.hibernate.reactive.pool.impl.SlowStatementLogger;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.testing.DatabaseSelectionRule.runOnlyFor;
+
+/**
+ * Check that statements slower than the threshold are logged with the
+ * types of their parameters, and that the execution plan of a sampled
+ * slow select is logged, when this is enabled by the configuration
+ * properties.
+ */
+public class SlowStatementLogTest extends BaseReactiveTest {
+
+	// We use pg_sleep() to make the query slow
+	@Rule
+	public DatabaseSelectionRule selectionRule = runOnlyFor( POSTGRESQL );
+
+	private static final String SLOW_SELECT = "select p.name from SlowPig p, pg_sleep(0.2) where p.id = :id";
+
+	private static final String SLOW_MULTI_LINE_SELECT = "select\n\tp.name\nfrom SlowPig p, pg_sleep(0.2)\nwhere p.id = :id";
+
+	private static final String FAST_SELECT = "select p.name from SlowPig p where p.id = :id";
+
+	// created by the pool, from the configuration properties
+	private static RecordingSlowStatementLogger logger;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( GuineaPig.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.SQL_CLIENT_POOL, SlowStatementPool.class.getName() );
+		configuration.setProperty( Settings.LOG_SLOW_QUERY, "100" );
+		configuration.setProperty( Settings.SLOW_STATEMENT_EXPLAIN_SAMPLE_RATE, "1.0" );
+		return configuration;
+	}
+
+	@Test
+	public void testConfiguration() {
+		assertThat( logger.thresholdMillis ).isEqualTo( 100 );
+		assertThat( logger.logParameterValues ).isFalse();
+		assertThat( logger.explainSampleRate ).isEqualTo( 1.0 );
+		assertThat( logger.explainPrefix ).isEqualTo( "explain " );
+	}
+
+	@Test
+	public void testFastSelect(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( new GuineaPig( 7, "Bibi" ) ) )
+				.invoke( logger::clear )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createNativeQuery( FAST_SELECT, String.class )
+						.setParameter( "id", 7 )
+						.getSingleResult() ) )
+				.invoke( name -> {
+					assertThat( name ).isEqualTo( "Bibi" );
+					assertThat( logger.statements ).isEmpty();
+				} )
+		);
+	}
+
+	@Test
+	public void testSlowSelect(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( new GuineaPig( 5, "Aloi" ) ) )
+				.invoke( logger::clear )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createNativeQuery( SLOW_SELECT, String.class )
+						.setParameter( "id", 5 )
+						.getSingleResult() ) )
+				.invoke( name -> assertThat( name ).isEqualTo( "Aloi" ) )
+				.chain( () -> Uni.createFrom().completionStage( logger.plan ) )
+				.invoke( plan -> {
+					assertThat( logger.statements ).hasSize( 1 );
+					final String statement = logger.statements.get( 0 );
+					assertThat( statement ).contains( "pg_sleep" );
+					// the type of the parameter is logged, but not its value
+					assertThat( statement ).contains( "[Integer]" );
+					assertThat( statement ).doesNotContain( "[5]" );
+					assertThat( plan ).isNotBlank();
+				} )
+		);
+	}
+
+	@Test
+	public void testSlowMultiLineSelect(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withTransaction( s -> s.persist( new GuineaPig( 6, "Rosie" ) ) )
+				.invoke( logger::clear )
+				.chain( () -> getMutinySessionFactory().withSession( s -> s
+						.createNativeQuery( SLOW_MULTI_LINE_SELECT, String.class )
+						.setParameter( "id", 6 )
+						.getSingleResult() ) )
+				.invoke( name -> assertThat( name ).isEqualTo( "Rosie" ) )
+				// the plan is only logged for a select
+				.chain( () -> Uni.createFrom().completionStage( logger.plan ) )
+				.invoke( plan -> {
+					assertThat( logger.statements ).hasSize( 1 );
+					assertThat( plan ).isNotBlank();
+				} )
+		);
+	}
+
+	public static class SlowStatementPool extends DefaultSqlClientPool {
+		@Override
+		protected SlowStatementLogger createSlowStatementLogger(
+				long thresholdMillis,
+				boolean logParameterValues,
+				double explainSampleRate,
+				String explainPrefix) {
+			logger = new RecordingSlowStatementLogger( thresholdMillis, logParameterValues, explainSampleRate, explainPrefix );
+			return logger;
+		}
+	}
+
+	private static class RecordingSlowStatementLogger extends SlowStatementLogger {
+		final long thresholdMillis;
+		final boolean logParameterValues;
+		final double explainSampleRate;
+		final String explainPrefix;
+
+		final List<String> statements = new ArrayList<>();
+		CompletableFuture<String> plan = new CompletableFuture<>();
+
+		RecordingSlowStatementLogger(long thresholdMillis, boolean logParameterValues, double explainSampleRate, String explainPrefix) {
+			super( thresholdMillis, logParameterValues, explainSampleRate, explainPrefix );
+			this.thresholdMillis = thresholdMillis;
+			this.logParameterValues = logParameterValues;
+			this.explainSampleRate = explainSampleRate;
+			this.explainPrefix = explainPrefix;
+		}
+
+		void clear() {
+			statements.clear();
+			plan = new CompletableFuture<>();
+		}
+
+		@Override
+		protected void logStatement(String sql, String parameters, long millis, long rows) {
+			super.logStatement( sql, parameters, millis, rows );
+			statements.add( parameters + " " + sql );
+		}
+
+		@Override
+		protected void logPlan(String sql, String plan) {
+			super.logPlan( sql, plan );
+			this.plan.complete( plan );
+		}
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "SlowPig")
+	public static class GuineaPig {
+		@Id
+		private Integer id;
+		private String name;
+
+		public GuineaPig() {
+		}
+
+		public GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
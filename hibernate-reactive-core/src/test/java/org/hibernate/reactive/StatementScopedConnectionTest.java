@@ -0,0 +1,135 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Check that, with {@link PhysicalConnectionHandlingMode#DELAYED_ACQUISITION_AND_RELEASE_AFTER_STATEMENT},
+ * a session outside a transaction returns the connection to the pool after each statement,
+ * so that more sessions than connections can be open at the same time.
+ */
+public class StatementScopedConnectionTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( GuineaPig.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.POOL_SIZE, "1" );
+		configuration.setProperty(
+				Settings.CONNECTION_HANDLING,
+				PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_STATEMENT.name()
+		);
+		return configuration;
+	}
+
+	@Test
+	public void testMoreSessionsThanConnections(TestContext context) {
+		final GuineaPig mibbles = new GuineaPig( 22, "Mibbles" );
+		test( context, getSessionFactory()
+				.withTransaction( s -> s.persist( mibbles ) )
+				.thenCompose( v -> getSessionFactory().openSession() )
+				.thenCompose( first -> first.find( GuineaPig.class, mibbles.getId() )
+						// The first session is still open, but it doesn't hold a connection
+						.thenCompose( pig -> getSessionFactory().openSession()
+								.thenCompose( second -> second.find( GuineaPig.class, mibbles.getId() )
+										.thenAccept( found -> context.assertEquals( pig, found ) )
+										.thenCompose( v -> second.close() ) ) )
+						.thenCompose( v -> first.find( GuineaPig.class, mibbles.getId() ) )
+						.thenAccept( context::assertNotNull )
+						.thenCompose( v -> first.close() ) )
+		);
+	}
+
+	@Test
+	public void testConnectionHeldForTransaction(TestContext context) {
+		final GuineaPig mibbles = new GuineaPig( 33, "Mibbles" );
+		test( context, getSessionFactory().openSession()
+				.thenCompose( session -> session
+						.withTransaction( tx -> session.persist( mibbles )
+								.thenCompose( v -> session.flush() )
+								.thenCompose( v -> session.find( GuineaPig.class, mibbles.getId() ) ) )
+						.thenAccept( context::assertNotNull )
+						// The transaction has ended, so the connection is back in the pool
+						.thenCompose( v -> getSessionFactory()
+								.withSession( other -> other.find( GuineaPig.class, mibbles.getId() ) ) )
+						.thenAccept( found -> context.assertEquals( "Mibbles", found.getName() ) )
+						.thenCompose( v -> session.close() ) )
+		);
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "StatementScopedPig")
+	public static class GuineaPig {
+		@Id
+		private Integer id;
+		private String name;
+
+		public GuineaPig() {
+		}
+
+		public GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return id + ": " + name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			GuineaPig guineaPig = (GuineaPig) o;
+			return Objects.equals( name, guineaPig.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( name );
+		}
+	}
+}
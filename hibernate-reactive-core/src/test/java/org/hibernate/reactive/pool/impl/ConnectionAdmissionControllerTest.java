@@ -0,0 +1,118 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.exception.ConnectionAcquisitionRejectedException;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check how {@link ConnectionAdmissionController} grows and shrinks
+ * its limit, and rejects requests beyond it.
+ * <p>
+ * This test doesn't require docker.
+ */
+public class ConnectionAdmissionControllerTest {
+
+	private static final long MAX_WAIT = 10;
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos( MAX_WAIT + 1 );
+	private static final long FAST = 0;
+
+	private static void admit(ConnectionAdmissionController controller, int requests) {
+		for ( int i = 0; i < requests; i++ ) {
+			assertThat( controller.tryAdmit() ).isTrue();
+		}
+	}
+
+	private static void release(ConnectionAdmissionController controller, int requests) {
+		for ( int i = 0; i < requests; i++ ) {
+			controller.release();
+		}
+	}
+
+	@Test
+	public void testRejectionAtLimit() {
+		final ConnectionAdmissionController controller = new ConnectionAdmissionController( MAX_WAIT, 2, 4 );
+		admit( controller, 4 );
+		assertThat( controller.getInFlight() ).isEqualTo( 4 );
+		assertThat( controller.tryAdmit() ).isFalse();
+		// a rejected request isn't in flight
+		assertThat( controller.getInFlight() ).isEqualTo( 4 );
+
+		final ConnectionAcquisitionRejectedException rejection = controller.rejection();
+		assertThat( rejection.getMessage() ).contains( "4 requests", "limit is 4" );
+
+		controller.release();
+		assertThat( controller.tryAdmit() ).isTrue();
+	}
+
+	@Test
+	public void testLimitShrinksWhenWaitsAreSlow() {
+		final ConnectionAdmissionController controller = new ConnectionAdmissionController( MAX_WAIT, 2, 4 );
+		controller.acquired( SLOW );
+		// 4 * 0.9
+		assertThat( controller.getLimit() ).isEqualTo( 3 );
+		controller.acquired( SLOW );
+		controller.acquired( SLOW );
+		controller.acquired( SLOW );
+		// 4 * 0.9^4
+		assertThat( controller.getLimit() ).isEqualTo( 2 );
+
+		admit( controller, 2 );
+		assertThat( controller.tryAdmit() ).isFalse();
+	}
+
+	@Test
+	public void testLimitNeverDropsBelowPoolSize() {
+		final ConnectionAdmissionController controller = new ConnectionAdmissionController( MAX_WAIT, 2, 4 );
+		for ( int i = 0; i < 100; i++ ) {
+			controller.acquired( SLOW );
+		}
+		assertThat( controller.getLimit() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testLimitGrowsWhenWaitsAreFast() {
+		final ConnectionAdmissionController controller = new ConnectionAdmissionController( MAX_WAIT, 2, 4 );
+		for ( int i = 0; i < 100; i++ ) {
+			controller.acquired( SLOW );
+		}
+		admit( controller, 2 );
+
+		// 2 + 1/2 + 1/2.5 + 1/2.9
+		controller.acquired( FAST );
+		controller.acquired( FAST );
+		assertThat( controller.getLimit() ).isEqualTo( 2 );
+		controller.acquired( FAST );
+		assertThat( controller.getLimit() ).isEqualTo( 3 );
+		assertThat( controller.tryAdmit() ).isTrue();
+
+		for ( int i = 0; i < 100; i++ ) {
+			controller.acquired( FAST );
+		}
+		assertThat( controller.getLimit() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testLimitOnlyGrowsWhenUsed() {
+		final ConnectionAdmissionController controller = new ConnectionAdmissionController( MAX_WAIT, 2, 10 );
+		for ( int i = 0; i < 100; i++ ) {
+			controller.acquired( SLOW );
+		}
+		admit( controller, 2 );
+		release( controller, 2 );
+
+		// nothing is in flight, so there's no evidence that a higher limit is needed
+		for ( int i = 0; i < 100; i++ ) {
+			controller.acquired( FAST );
+		}
+		assertThat( controller.getLimit() ).isEqualTo( 2 );
+	}
+}
@@ -0,0 +1,269 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgPool;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check how the maximum size of the pool is divided between the event
+ * loops when {@link org.hibernate.reactive.provider.Settings#POOL_EVENT_LOOP_AFFINITY}
+ * is enabled, and which shard serves the connections requested from
+ * each event loop.
+ * <p>
+ * This test doesn't require docker, since the pools never connect: the
+ * connections are obtained from fake pools, which count them.
+ */
+public class EventLoopShardedPoolTest {
+
+	private Vertx vertx;
+	private EventLoopShardedPool sharded;
+
+	@After
+	public void close() {
+		if ( sharded != null ) {
+			sharded.close().toCompletionStage().toCompletableFuture().join();
+		}
+		if ( vertx != null ) {
+			vertx.close().toCompletionStage().toCompletableFuture().join();
+		}
+	}
+
+	/**
+	 * @return the maximum size of each shard, in the order the shards
+	 *         were created
+	 */
+	private List<Integer> shard(int eventLoops, int maxSize) {
+		vertx = Vertx.vertx( new VertxOptions().setEventLoopPoolSize( eventLoops ) );
+		final List<Integer> shardSizes = new ArrayList<>();
+		sharded = new EventLoopShardedPool(
+				vertx,
+				new PoolOptions().setMaxSize( maxSize ),
+				options -> {
+					shardSizes.add( options.getMaxSize() );
+					return PgPool.pool( vertx, new PgConnectOptions(), options );
+				}
+		);
+		return shardSizes;
+	}
+
+	/**
+	 * Shard a pool of two connections between two event loops, with
+	 * a fake pool for each shard.
+	 *
+	 * @return the fake pools, in the order the shards were created
+	 */
+	private List<FakePool> shardFakePools() {
+		vertx = Vertx.vertx( new VertxOptions().setEventLoopPoolSize( 2 ) );
+		final List<FakePool> pools = new ArrayList<>();
+		sharded = new EventLoopShardedPool(
+				vertx,
+				new PoolOptions().setMaxSize( 2 ),
+				options -> {
+					final FakePool pool = new FakePool();
+					pools.add( pool );
+					return pool.proxy;
+				}
+		);
+		return pools;
+	}
+
+	/**
+	 * @return a new context on each of the two event loops
+	 */
+	private List<Context> contextsOnEachEventLoop() {
+		// the event loops of new contexts are assigned round-robin
+		final ContextInternal first = ( (VertxInternal) vertx ).createEventLoopContext();
+		final ContextInternal second = ( (VertxInternal) vertx ).createEventLoopContext();
+		assertThat( second.nettyEventLoop() ).isNotSameAs( first.nettyEventLoop() );
+		return List.of( first, second );
+	}
+
+	/**
+	 * @return the fake pool of the shard owned by the event loop of the
+	 *         given context
+	 */
+	private FakePool shardOf(Context context, List<FakePool> pools) {
+		final Pool current = on( context, () -> completedFuture( sharded.currentPool() ) );
+		for ( FakePool pool : pools ) {
+			if ( pool.proxy == current ) {
+				return pool;
+			}
+		}
+		throw new AssertionError( "The event loop has no shard" );
+	}
+
+	private ReactiveConnection connect(Context context) {
+		return on( context, this::connect );
+	}
+
+	private CompletionStage<ReactiveConnection> connect() {
+		return sharded.getConnection( new SqlStatementLogger(), SlowStatementLogger.DISABLED, null );
+	}
+
+	/**
+	 * Run the given operation on the given context, and wait for its result
+	 */
+	private static <T> T on(Context context, Supplier<CompletionStage<T>> operation) {
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		context.runOnContext( v -> operation.get().whenComplete( (r, e) -> {
+			if ( e == null ) {
+				result.complete( r );
+			}
+			else {
+				result.completeExceptionally( e );
+			}
+		} ) );
+		return result.join();
+	}
+
+	@Test
+	public void testEvenSplit() {
+		assertThat( shard( 4, 20 ) ).containsExactly( 5, 5, 5, 5 );
+		assertThat( sharded.size() ).isEqualTo( 4 );
+		assertThat( sharded.maxSize() ).isEqualTo( 20 );
+	}
+
+	@Test
+	public void testRemainderIsSpreadAcrossShards() {
+		assertThat( shard( 4, 10 ) ).containsExactly( 3, 3, 2, 2 );
+		assertThat( sharded.size() ).isEqualTo( 4 );
+		assertThat( sharded.maxSize() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void testMoreEventLoopsThanConnections() {
+		assertThat( shard( 4, 3 ) ).containsExactly( 1, 1, 1 );
+		assertThat( sharded.size() ).isEqualTo( 3 );
+		assertThat( sharded.maxSize() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testEachEventLoopUsesItsOwnShard() {
+		final List<FakePool> pools = shardFakePools();
+		final List<Context> contexts = contextsOnEachEventLoop();
+		final FakePool first = shardOf( contexts.get( 0 ), pools );
+		final FakePool second = shardOf( contexts.get( 1 ), pools );
+		assertThat( first ).isNotSameAs( second );
+
+		connect( contexts.get( 0 ) );
+		assertThat( first.connections ).isEqualTo( 1 );
+		assertThat( second.connections ).isEqualTo( 0 );
+
+		connect( contexts.get( 1 ) );
+		assertThat( first.connections ).isEqualTo( 1 );
+		assertThat( second.connections ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testConnectionIsStolenFromAnotherShardWhenExhausted() {
+		final List<FakePool> pools = shardFakePools();
+		final List<Context> contexts = contextsOnEachEventLoop();
+		final FakePool local = shardOf( contexts.get( 0 ), pools );
+		final FakePool other = shardOf( contexts.get( 1 ), pools );
+
+		// exhausts the shard of the first event loop, which has one connection
+		connect( contexts.get( 0 ) );
+		assertThat( local.connections ).isEqualTo( 1 );
+
+		final ReactiveConnection stolen = connect( contexts.get( 0 ) );
+		assertThat( local.connections ).isEqualTo( 1 );
+		assertThat( other.connections ).isEqualTo( 1 );
+
+		// every shard is exhausted, so the request waits on the local shard
+		connect( contexts.get( 0 ) );
+		assertThat( local.connections ).isEqualTo( 2 );
+		assertThat( other.connections ).isEqualTo( 1 );
+
+		// once the stolen connection is returned, the other shard has spare capacity again
+		on( contexts.get( 0 ), stolen::close );
+		connect( contexts.get( 0 ) );
+		assertThat( local.connections ).isEqualTo( 2 );
+		assertThat( other.connections ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testLeastLoadedShardIsUsedOffTheEventLoop() {
+		final List<FakePool> pools = shardFakePools();
+
+		connect().toCompletableFuture().join();
+		connect().toCompletableFuture().join();
+		assertThat( pools.get( 0 ).connections ).isEqualTo( 1 );
+		assertThat( pools.get( 1 ).connections ).isEqualTo( 1 );
+	}
+
+	/**
+	 * A {@link Pool} which hands out fake connections, however many it's
+	 * asked for, and counts them.
+	 */
+	private static class FakePool implements InvocationHandler {
+		final Pool proxy = proxy( Pool.class, this );
+		volatile int connections;
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			switch ( method.getName() ) {
+				case "getConnection":
+					connections++;
+					return Future.succeededFuture( proxy( SqlConnection.class, FakePool::fakeConnection ) );
+				case "close":
+					return Future.succeededFuture();
+				default:
+					return objectMethod( proxy, method, args );
+			}
+		}
+
+		private static Object fakeConnection(Object proxy, Method method, Object[] args) {
+			return "close".equals( method.getName() )
+					? Future.succeededFuture()
+					: objectMethod( proxy, method, args );
+		}
+
+		private static Object objectMethod(Object proxy, Method method, Object[] args) {
+			switch ( method.getName() ) {
+				case "toString":
+					return "fake " + proxy.getClass().getInterfaces()[0].getSimpleName();
+				case "hashCode":
+					return System.identityHashCode( proxy );
+				case "equals":
+					return proxy == args[0];
+				default:
+					throw new UnsupportedOperationException( method.getName() );
+			}
+		}
+
+		private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+			return type.cast( Proxy.newProxyInstance( type.getClassLoader(), new Class<?>[] { type }, handler ) );
+		}
+	}
+}
@@ -0,0 +1,530 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.testing;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.common.RowMapper;
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
+/**
+ * A {@link ReactiveConnectionPool} which doesn't connect to any database,
+ * but answers every statement from in-memory {@link StatementHandler}s,
+ * after a configurable latency, so that the behavior of a session, and
+ * the number of round trips it needs, can be measured without a database.
+ * <p>
+ * When no handler answers a statement, an insert, update or delete affects
+ * one row, a query returns no rows, and the next value of a sequence is
+ * the last value plus {@link #withSequenceIncrement(int) the increment}.
+ * <p>
+ * Every round trip is recorded, and may be checked with
+ * {@link #getRoundTrips()}. Register it with:
+ * <pre>
+ * builder.addService( ReactiveConnectionPool.class, new InMemoryConnectionPool( vertx ) );
+ * </pre>
+ * It's thread-safe, so it may be used by sessions on different event loops.
+ *
+ * @see LoadScenario
+ */
+public class InMemoryConnectionPool implements ReactiveConnectionPool {
+
+	/**
+	 * Answers a statement.
+	 */
+	@FunctionalInterface
+	public interface StatementHandler {
+		/**
+		 * @return the result of the statement, or {@code null} if this
+		 *         handler doesn't handle the statement
+		 */
+		StatementResult handle(String sql, Object[] parameters);
+	}
+
+	/**
+	 * The result of a statement: a row count, and the rows returned, if any.
+	 */
+	public static class StatementResult {
+
+		private static final Pattern ALIAS = Pattern.compile( "\\s+as\\s+(\\w+)", Pattern.CASE_INSENSITIVE );
+
+		private final int rowCount;
+		private final List<String> columnNames;
+		private final List<Object[]> rows;
+
+		private StatementResult(int rowCount, List<String> columnNames, List<Object[]> rows) {
+			this.rowCount = rowCount;
+			this.columnNames = columnNames;
+			this.rows = rows;
+		}
+
+		/**
+		 * The result of an insert, update or delete statement.
+		 */
+		public static StatementResult rowCount(int rowCount) {
+			return new StatementResult( rowCount, List.of(), List.of() );
+		}
+
+		/**
+		 * The result of a query with the given columns.
+		 */
+		public static StatementResult rows(List<String> columnNames, Object[]... rows) {
+			return new StatementResult( rows.length, columnNames, Arrays.asList( rows ) );
+		}
+
+		/**
+		 * The result of a query generated by Hibernate, with the values of
+		 * each row in the same order as the columns in the select clause.
+		 * Hibernate reads the values by column alias, so the aliases are
+		 * taken from the select clause.
+		 */
+		public static StatementResult rows(String sql, Object[]... rows) {
+			final int from = sql.toLowerCase().indexOf( " from " );
+			final Matcher matcher = ALIAS.matcher( from < 0 ? sql : sql.substring( 0, from ) );
+			final List<String> columnNames = new ArrayList<>();
+			while ( matcher.find() ) {
+				columnNames.add( matcher.group( 1 ) );
+			}
+			return rows( columnNames, rows );
+		}
+
+		ResultSet toResultSet() {
+			return new ResultSetAdaptor( new InMemoryRowSet( columnNames, toRows() ) );
+		}
+
+		List<Row> toRows() {
+			final List<Row> rowList = new ArrayList<>( rows.size() );
+			for ( Object[] values : rows ) {
+				rowList.add( InMemoryRowSet.row( columnNames, values ) );
+			}
+			return rowList;
+		}
+	}
+
+	/**
+	 * A round trip to the database: one statement, or a batch of statements
+	 * with the same SQL.
+	 */
+	public static class RoundTrip {
+		private final String sql;
+		private final int batchSize;
+
+		RoundTrip(String sql, int batchSize) {
+			this.sql = sql;
+			this.batchSize = batchSize;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		/**
+		 * @return the number of statements executed, which is more than
+		 *         one only for a batch
+		 */
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		@Override
+		public String toString() {
+			return batchSize == 1 ? sql : sql + " [batch of " + batchSize + "]";
+		}
+	}
+
+	private final Vertx vertx;
+	private final List<StatementHandler> handlers = new CopyOnWriteArrayList<>();
+	private final ConcurrentLinkedQueue<RoundTrip> roundTrips = new ConcurrentLinkedQueue<>();
+	private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+	private final AtomicLong connections = new AtomicLong();
+
+	private volatile long latencyMillis;
+	private volatile long jitterMillis;
+	private volatile int sequenceIncrement = 50;
+
+	public InMemoryConnectionPool(Vertx vertx) {
+		this.vertx = vertx;
+	}
+
+	/**
+	 * Delay the result of every round trip by the given latency, plus a
+	 * random delay up to the given jitter, using a Vert.x timer, so that
+	 * the result arrives on the event loop, as it would from a database.
+	 * The precision of the delay is one millisecond.
+	 */
+	public InMemoryConnectionPool withLatency(Duration latency, Duration jitter) {
+		this.latencyMillis = latency.toMillis();
+		this.jitterMillis = jitter.toMillis();
+		return this;
+	}
+
+	/**
+	 * The increment of the sequences, which should match the allocation
+	 * size of the sequence generators. The default is 50.
+	 */
+	public InMemoryConnectionPool withSequenceIncrement(int increment) {
+		this.sequenceIncrement = increment;
+		return this;
+	}
+
+	/**
+	 * Add a handler, which is given the statements not handled by the
+	 * handlers added earlier.
+	 */
+	public InMemoryConnectionPool addHandler(StatementHandler handler) {
+		handlers.add( handler );
+		return this;
+	}
+
+	/**
+	 * Add a handler for the statements matching the given predicate.
+	 */
+	public InMemoryConnectionPool addHandler(Predicate<String> sql, StatementHandler handler) {
+		return addHandler( (statement, parameters) -> sql.test( statement ) ? handler.handle( statement, parameters ) : null );
+	}
+
+	public void removeHandlers() {
+		handlers.clear();
+	}
+
+	/**
+	 * @return every round trip since the last call to {@link #clear()},
+	 *         in the order they were received
+	 */
+	public List<RoundTrip> getRoundTrips() {
+		return new ArrayList<>( roundTrips );
+	}
+
+	/**
+	 * @return the round trips with SQL matching the given predicate
+	 */
+	public List<RoundTrip> getRoundTrips(Predicate<String> sql) {
+		return roundTrips.stream()
+				.filter( roundTrip -> sql.test( roundTrip.getSql() ) )
+				.collect( Collectors.toList() );
+	}
+
+	/**
+	 * @return the number of round trips since the last call to {@link #clear()}
+	 */
+	public int getRoundTripCount() {
+		return roundTrips.size();
+	}
+
+	/**
+	 * @return the number of statements since the last call to {@link #clear()},
+	 *         counting each statement of a batch
+	 */
+	public long getStatementCount() {
+		return roundTrips.stream().mapToLong( RoundTrip::getBatchSize ).sum();
+	}
+
+	/**
+	 * @return the number of connections obtained since the last call to {@link #clear()}
+	 */
+	public long getConnectionCount() {
+		return connections.get();
+	}
+
+	/**
+	 * Forget the recorded round trips and connections, but not the handlers
+	 * or the values of the sequences.
+	 */
+	public void clear() {
+		roundTrips.clear();
+		connections.set( 0 );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return completedFuture( getProxyConnection() );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		return getConnection();
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection() {
+		connections.incrementAndGet();
+		return new InMemoryConnection();
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection(String tenantId) {
+		return getProxyConnection();
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return completedFuture( null );
+	}
+
+	private StatementResult handle(String sql, Object[] parameters) {
+		for ( StatementHandler handler : handlers ) {
+			final StatementResult result = handler.handle( sql, parameters );
+			if ( result != null ) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	private StatementResult handleUpdate(String sql, Object[] parameters) {
+		final StatementResult result = handle( sql, parameters );
+		return result == null ? StatementResult.rowCount( 1 ) : result;
+	}
+
+	private StatementResult handleQuery(String sql, Object[] parameters) {
+		final StatementResult result = handle( sql, parameters );
+		return result == null ? StatementResult.rows( List.of() ) : result;
+	}
+
+	private long nextValue(String sql, long increment) {
+		return sequences.computeIfAbsent( sql, key -> new AtomicLong( 1 - increment ) ).addAndGet( increment );
+	}
+
+	private static <T> T identifier(Object value, Class<T> idClass) {
+		if ( value instanceof Number ) {
+			final Number number = (Number) value;
+			if ( idClass == Integer.class ) {
+				return idClass.cast( number.intValue() );
+			}
+			if ( idClass == Short.class ) {
+				return idClass.cast( number.shortValue() );
+			}
+			if ( idClass == Long.class ) {
+				return idClass.cast( number.longValue() );
+			}
+		}
+		return idClass.cast( value );
+	}
+
+	/**
+	 * Record a round trip, and complete the returned stage with the result
+	 * of the given work after the latency.
+	 */
+	private <T> CompletionStage<T> roundTrip(String sql, int batchSize, Supplier<T> work) {
+		roundTrips.add( new RoundTrip( sql, batchSize ) );
+		final T result;
+		try {
+			result = work.get();
+		}
+		catch (Throwable t) {
+			return failedFuture( t );
+		}
+		final long delay = latencyMillis
+				+ ( jitterMillis > 0 ? ThreadLocalRandom.current().nextLong( jitterMillis + 1 ) : 0 );
+		if ( delay <= 0 ) {
+			return completedFuture( result );
+		}
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		// the timer runs on the context of the caller, if any
+		vertx.setTimer( delay, id -> future.complete( result ) );
+		return future;
+	}
+
+	private class InMemoryConnection implements ReactiveConnection {
+
+		@Override
+		public CompletionStage<Void> execute(String sql) {
+			return roundTrip( sql, 1, () -> {
+				handleUpdate( sql, new Object[0] );
+				return null;
+			} );
+		}
+
+		@Override
+		public CompletionStage<Void> executeOutsideTransaction(String sql) {
+			return execute( sql );
+		}
+
+		@Override
+		public CompletionStage<Void> executeUnprepared(String sql) {
+			return execute( sql );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql) {
+			return update( sql, new Object[0] );
+		}
+
+		@Override
+		public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+			return roundTrip( sql, 1, () -> handleUpdate( sql, paramValues ).rowCount );
+		}
+
+		@Override
+		public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+			return update( sql, paramValues )
+					.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
+		}
+
+		@Override
+		public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+			return roundTrip( sql, paramValues.size(), () -> paramValues.stream()
+					.mapToInt( parameters -> handleUpdate( sql, parameters ).rowCount )
+					.toArray() );
+		}
+
+		@Override
+		public CompletionStage<Void> update(
+				String sql,
+				Object[] paramValues,
+				boolean allowBatching,
+				Expectation expectation,
+				ReturnedValues returnedValues) {
+			return roundTrip( sql, 1, () -> handleUpdate( sql, paramValues ) )
+					.thenAccept( result -> {
+						expectation.verifyOutcome( result.rowCount, -1, sql );
+						returnedValues.accept( result.toResultSet() );
+					} );
+		}
+
+		@Override
+		public CompletionStage<int[]> update(String sql, List<Object[]> paramValues, List<ReturnedValues> returnedValues) {
+			return roundTrip( sql, paramValues.size(), () -> {
+				final int[] rowCounts = new int[paramValues.size()];
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					final StatementResult result = handleUpdate( sql, paramValues.get( i ) );
+					rowCounts[i] = result.rowCount;
+					returnedValues.get( i ).accept( result.toResultSet() );
+				}
+				return rowCounts;
+			} );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql) {
+			return select( sql, new Object[0] );
+		}
+
+		@Override
+		public CompletionStage<Result> select(String sql, Object[] paramValues) {
+			return roundTrip( sql, 1, () -> {
+				final List<Object[]> rows = handleQuery( sql, paramValues ).rows;
+				final Iterator<Object[]> iterator = rows.iterator();
+				return new Result() {
+					@Override
+					public int size() {
+						return rows.size();
+					}
+
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public Object[] next() {
+						return iterator.next();
+					}
+				};
+			} );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+			return roundTrip( sql, 1, () -> handleQuery( sql, paramValues ).toResultSet() );
+		}
+
+		@Override
+		public <T> CompletionStage<List<T>> select(String sql, Object[] paramValues, RowMapper<T> rowMapper) {
+			return roundTrip( sql, 1, () -> handleQuery( sql, paramValues ).toRows().stream()
+					.map( rowMapper::map )
+					.collect( Collectors.toList() ) );
+		}
+
+		@Override
+		public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
+			return selectJdbc( sql, paramValues );
+		}
+
+		@Override
+		public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] paramValues, Class<T> idClass, String idColumnName) {
+			return roundTrip( sql, 1, () -> {
+				final StatementResult result = handle( sql, paramValues );
+				return result == null || result.rows.isEmpty()
+						? identifier( nextValue( sql, 1 ), idClass )
+						: identifier( result.rows.get( 0 )[0], idClass );
+			} );
+		}
+
+		@Override
+		public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
+			return roundTrip( sql, 1, () -> {
+				final StatementResult result = handle( sql, paramValues );
+				return result == null || result.rows.isEmpty()
+						? identifier( nextValue( sql, sequenceIncrement ), idClass )
+						: identifier( result.rows.get( 0 )[0], idClass );
+			} );
+		}
+
+		@Override
+		public CompletionStage<Void> beginTransaction() {
+			return execute( "begin" );
+		}
+
+		@Override
+		public CompletionStage<Void> commitTransaction() {
+			return execute( "commit" );
+		}
+
+		@Override
+		public CompletionStage<Void> rollbackTransaction() {
+			return execute( "rollback" );
+		}
+
+		@Override
+		public ReactiveConnection withBatchSize(int batchSize) {
+			return batchSize <= 1
+					? this
+					: new BatchingConnection( this, batchSize );
+		}
+
+		@Override
+		public CompletionStage<Void> executeBatch() {
+			return completedFuture( null );
+		}
+
+		@Override
+		public CompletionStage<Void> cancel() {
+			return completedFuture( null );
+		}
+
+		@Override
+		public CompletionStage<Void> close() {
+			return completedFuture( null );
+		}
+	}
+}
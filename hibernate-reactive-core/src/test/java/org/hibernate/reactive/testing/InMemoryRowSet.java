@@ -0,0 +1,115 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.testing;
+
+import java.util.Iterator;
+import java.util.List;
+
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import io.vertx.sqlclient.impl.ArrayTuple;
+
+/**
+ * A {@link RowSet} held in memory, standing in for the rows a
+ * driver would decode from the wire. Used by {@link InMemoryConnectionPool},
+ * and by the benchmarks module.
+ */
+public class InMemoryRowSet implements RowSet<Row> {
+
+	private final List<String> columnNames;
+	private final List<Row> rows;
+
+	public InMemoryRowSet(List<String> columnNames, List<Row> rows) {
+		this.columnNames = columnNames;
+		this.rows = rows;
+	}
+
+	/**
+	 * @return a new row of this row set, with the given values
+	 */
+	public static Row row(List<String> columnNames, Object... values) {
+		final InMemoryRow row = new InMemoryRow( columnNames );
+		for ( Object value : values ) {
+			row.addValue( value );
+		}
+		return row;
+	}
+
+	@Override
+	public RowIterator<Row> iterator() {
+		final Iterator<Row> iterator = rows.iterator();
+		return new RowIterator<>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Row next() {
+				return iterator.next();
+			}
+		};
+	}
+
+	@Override
+	public int rowCount() {
+		return rows.size();
+	}
+
+	@Override
+	public List<String> columnsNames() {
+		return columnNames;
+	}
+
+	@Override
+	public List<ColumnDescriptor> columnDescriptors() {
+		return List.of();
+	}
+
+	@Override
+	public int size() {
+		return rows.size();
+	}
+
+	@Override
+	public <V> V property(PropertyKind<V> propertyKind) {
+		return null;
+	}
+
+	@Override
+	public RowSet<Row> value() {
+		return this;
+	}
+
+	@Override
+	public RowSet<Row> next() {
+		return null;
+	}
+
+	private static class InMemoryRow extends ArrayTuple implements Row {
+
+		private final List<String> columnNames;
+
+		InMemoryRow(List<String> columnNames) {
+			super( columnNames.size() );
+			this.columnNames = columnNames;
+		}
+
+		@Override
+		public String getColumnName(int pos) {
+			return pos < 0 || pos >= columnNames.size() ? null : columnNames.get( pos );
+		}
+
+		@Override
+		public int getColumnIndex(String column) {
+			// a linear search, like the rows of the Vert.x drivers
+			return columnNames.indexOf( column );
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.testing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Runs an operation repeatedly, in a number of concurrent sessions
+ * spread over a number of event loops, against an
+ * {@link InMemoryConnectionPool}, and reports the throughput and the
+ * round trips to the database per operation.
+ * <p>
+ * Each session runs its operations one after the other, on the
+ * event loop it's assigned to, as a Vert.x application would.
+ * For example:
+ * <pre>
+ * new LoadScenario( vertx, pool )
+ *     .eventLoops( 2 )
+ *     .sessions( 8 )
+ *     .operationsPerSession( 100 )
+ *     .run( (session, operation) -> sessionFactory.withTransaction( s -> s.persist( new Book() ) ) )
+ * </pre>
+ */
+public class LoadScenario {
+
+	/**
+	 * An operation, usually opening a session and doing some work with it.
+	 */
+	@FunctionalInterface
+	public interface Operation {
+		CompletionStage<?> run(int session, int operation);
+	}
+
+	/**
+	 * The outcome of a run.
+	 */
+	public static class Report {
+		private final int operations;
+		private final long elapsedNanos;
+		private final List<InMemoryConnectionPool.RoundTrip> roundTrips;
+		private final long connections;
+
+		Report(int operations, long elapsedNanos, List<InMemoryConnectionPool.RoundTrip> roundTrips, long connections) {
+			this.operations = operations;
+			this.elapsedNanos = elapsedNanos;
+			this.roundTrips = roundTrips;
+			this.connections = connections;
+		}
+
+		public int getOperations() {
+			return operations;
+		}
+
+		public long getElapsedNanos() {
+			return elapsedNanos;
+		}
+
+		/**
+		 * @return every round trip of the run
+		 */
+		public List<InMemoryConnectionPool.RoundTrip> getRoundTrips() {
+			return roundTrips;
+		}
+
+		public double getOperationsPerSecond() {
+			return elapsedNanos == 0 ? 0 : operations * 1_000_000_000d / elapsedNanos;
+		}
+
+		public double getRoundTripsPerOperation() {
+			return (double) roundTrips.size() / operations;
+		}
+
+		public double getStatementsPerOperation() {
+			return (double) getStatementCount() / operations;
+		}
+
+		public double getConnectionsPerOperation() {
+			return (double) connections / operations;
+		}
+
+		/**
+		 * @return the average number of statements per round trip
+		 */
+		public double getAverageBatchSize() {
+			return roundTrips.isEmpty() ? 0 : (double) getStatementCount() / roundTrips.size();
+		}
+
+		private long getStatementCount() {
+			return roundTrips.stream().mapToLong( InMemoryConnectionPool.RoundTrip::getBatchSize ).sum();
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+					"%d operations in %.1f ms (%.0f/s): %.2f round trips, %.2f statements, %.2f connections per operation",
+					operations,
+					elapsedNanos / 1_000_000d,
+					getOperationsPerSecond(),
+					getRoundTripsPerOperation(),
+					getStatementsPerOperation(),
+					getConnectionsPerOperation()
+			);
+		}
+	}
+
+	private final Vertx vertx;
+	private final InMemoryConnectionPool pool;
+
+	private int eventLoops = 1;
+	private int sessions = 1;
+	private int operationsPerSession = 1;
+
+	public LoadScenario(Vertx vertx, InMemoryConnectionPool pool) {
+		this.vertx = vertx;
+		this.pool = pool;
+	}
+
+	public LoadScenario eventLoops(int eventLoops) {
+		this.eventLoops = eventLoops;
+		return this;
+	}
+
+	public LoadScenario sessions(int sessions) {
+		this.sessions = sessions;
+		return this;
+	}
+
+	public LoadScenario operationsPerSession(int operationsPerSession) {
+		this.operationsPerSession = operationsPerSession;
+		return this;
+	}
+
+	/**
+	 * Run the operation {@link #operationsPerSession(int)} times in each
+	 * session, after clearing the round trips recorded by the pool.
+	 */
+	public CompletionStage<Report> run(Operation operation) {
+		final List<Context> contexts = new ArrayList<>( eventLoops );
+		for ( int i = 0; i < eventLoops; i++ ) {
+			// each new event loop context is assigned the next event loop
+			contexts.add( ( (VertxInternal) vertx ).createEventLoopContext() );
+		}
+
+		pool.clear();
+		final long start = System.nanoTime();
+		final CompletableFuture<?>[] results = new CompletableFuture<?>[sessions];
+		for ( int i = 0; i < sessions; i++ ) {
+			final int session = i;
+			final CompletableFuture<Void> result = new CompletableFuture<>();
+			results[i] = result;
+			contexts.get( session % eventLoops ).runOnContext( v -> loop(
+					0,
+					operationsPerSession,
+					index -> operation.run( session, index )
+			).whenComplete( (ignore, error) -> {
+				if ( error == null ) {
+					result.complete( null );
+				}
+				else {
+					result.completeExceptionally( error );
+				}
+			} ) );
+		}
+		return CompletableFuture.allOf( results ).thenApply( v -> new Report(
+				sessions * operationsPerSession,
+				System.nanoTime() - start,
+				pool.getRoundTrips(),
+				pool.getConnectionCount()
+		) );
+	}
+}
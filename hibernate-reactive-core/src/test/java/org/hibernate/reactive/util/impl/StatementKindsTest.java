@@ -0,0 +1,77 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.util.impl;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check the classification of statements by {@link StatementKinds}, which
+ * determines the kind reported by the JFR statement event, and the slow
+ * statements for which an execution plan is logged.
+ * <p>
+ * This test doesn't require docker.
+ */
+public class StatementKindsTest {
+
+	@Test
+	public void testKeyword() {
+		assertThat( StatementKinds.kind( "select * from Pig" ) ).isEqualTo( "select" );
+		assertThat( StatementKinds.kind( "INSERT into Pig values ($1)" ) ).isEqualTo( "insert" );
+		assertThat( StatementKinds.kind( "  \n\tupdate Pig set name = ?" ) ).isEqualTo( "update" );
+		assertThat( StatementKinds.kind( "(select 1) union (select 2)" ) ).isEqualTo( "select" );
+	}
+
+	@Test
+	public void testBlockComment() {
+		assertThat( StatementKinds.kind( "/* insert org.hibernate.Pig */ insert into Pig values (?)" ) )
+				.isEqualTo( "insert" );
+		assertThat( StatementKinds.kind( "/* first */\n/* second */ delete from Pig" ) ).isEqualTo( "delete" );
+		assertThat( StatementKinds.kind( "/* select */ update Pig set name = ?" ) ).isEqualTo( "update" );
+	}
+
+	@Test
+	public void testLineComment() {
+		assertThat( StatementKinds.kind( "-- select\nupdate Pig set name = ?" ) ).isEqualTo( "update" );
+		assertThat( StatementKinds.kind( "  -- a comment\r\n  select 1" ) ).isEqualTo( "select" );
+	}
+
+	@Test
+	public void testNoKeyword() {
+		assertThat( StatementKinds.kind( "" ) ).isEmpty();
+		assertThat( StatementKinds.kind( "/* unterminated select" ) ).isEmpty();
+		assertThat( StatementKinds.kind( "-- select" ) ).isEmpty();
+	}
+
+	@Test
+	public void testSelect() {
+		assertThat( StatementKinds.isSelect( "select * from Pig" ) ).isTrue();
+		assertThat( StatementKinds.isSelect( "SELECT\n\tp.name\nfrom Pig p\nwhere p.id = $1" ) ).isTrue();
+		assertThat( StatementKinds.isSelect( "select\t*\tfrom Pig" ) ).isTrue();
+		assertThat( StatementKinds.isSelect( "/* load Pig */ select * from Pig" ) ).isTrue();
+		assertThat( StatementKinds.isSelect( "(select 1) union (select 2)" ) ).isTrue();
+		assertThat( StatementKinds.isSelect( "selection" ) ).isFalse();
+		assertThat( StatementKinds.isSelect( "update Pig set name = ?" ) ).isFalse();
+		assertThat( StatementKinds.isSelect( "-- select\ndelete from Pig" ) ).isFalse();
+		assertThat( StatementKinds.isSelect( "" ) ).isFalse();
+	}
+
+	@Test
+	public void testWithSelect() {
+		assertThat( StatementKinds.isSelect( "with big as (select * from Pig where weight > 10) select name from big" ) )
+				.isTrue();
+		assertThat( StatementKinds.isSelect( "WITH RECURSIVE t(n) AS (\n  values (1)\n  union all\n  select n + 1 from t\n)\nSELECT sum(n) FROM t" ) )
+				.isTrue();
+		assertThat( StatementKinds.isSelect( "with a as (select 1), b as (select ')' from a) select * from b" ) )
+				.isTrue();
+		assertThat( StatementKinds.isSelect( "with old as (select id from Pig) delete from Pig where id in (select id from old)" ) )
+				.isFalse();
+		assertThat( StatementKinds.isSelect( "with moved as (delete from Pig returning *) insert into Sty select * from moved" ) )
+				.isFalse();
+		assertThat( StatementKinds.isSelect( "with my_select as (select 1) update Pig set name = ?" ) ).isFalse();
+	}
+}